@@ -0,0 +1,43 @@
+package com.example.gateway.configwatch;
+
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.springframework.boot.BootstrapRegistry;
+import org.springframework.boot.BootstrapRegistryInitializer;
+import org.springframework.cloud.config.client.ConfigClientProperties;
+import org.springframework.cloud.config.client.ConfigClientRequestTemplateFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Fetches the environment at boot with Apache HttpClient instead of the JDK's HttpURLConnection, which
+ * never asks for a compressed response. HttpClient sends {@code Accept-Encoding: gzip} and inflates the
+ * answer, so the config server can send a fraction of the JSON. TLS setups keep Spring's own factory.
+ */
+public class CompressedConfigFetch implements BootstrapRegistryInitializer {
+
+    @Override
+    public void initialize(BootstrapRegistry registry) {
+        registry.registerIfAbsent(ConfigClientRequestTemplateFactory.class, context -> new RequestTemplateFactory(
+                context.get(ConfigClientProperties.class)));
+    }
+
+    static class RequestTemplateFactory extends ConfigClientRequestTemplateFactory {
+
+        RequestTemplateFactory(ConfigClientProperties properties) {
+            super(LogFactory.getLog(ConfigClientRequestTemplateFactory.class), properties);
+        }
+
+        @Override
+        protected ClientHttpRequestFactory createHttpRequestFactory(ConfigClientProperties properties) {
+            if (properties.getTls().isEnabled()) {
+                return super.createHttpRequestFactory(properties);
+            }
+            HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(
+                    HttpClients.custom().useSystemProperties().build());
+            factory.setConnectTimeout(properties.getRequestConnectTimeout());
+            factory.setReadTimeout(properties.getRequestReadTimeout());
+            return factory;
+        }
+    }
+}
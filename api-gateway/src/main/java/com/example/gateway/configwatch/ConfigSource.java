@@ -0,0 +1,9 @@
+package com.example.gateway.configwatch;
+
+import java.util.Map;
+
+/**
+ * One property source as downloaded from config-server.
+ */
+record ConfigSource(String name, Map<String, Object> source) {
+}
@@ -0,0 +1,26 @@
+package com.example.gateway.configwatch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "config-watch")
+public class ConfigWatchProperties {
+
+    private boolean enabled = true;
+
+    // Config server to watch; defaults to the first spring.cloud.config.uri
+    private String uri;
+
+    // Longer than the server's long-poll timeout, so an idle poll ends with 304 rather than a read timeout
+    private Duration readTimeout = Duration.ofSeconds(60);
+
+    // Wait before polling again after the config server could not be reached
+    private Duration retryDelay = Duration.ofSeconds(5);
+
+    // Instances wait a random part of this before downloading changed sources, so they do not all hit
+    // the config server in the same instant
+    private Duration maxJitter = Duration.ofSeconds(2);
+}
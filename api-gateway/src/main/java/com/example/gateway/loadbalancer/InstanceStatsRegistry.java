@@ -0,0 +1,25 @@
+package com.example.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared between the per-service load balancers and the lifecycle callback that feeds them,
+ * so it lives in the application context rather than in the per-client child contexts.
+ */
+@Component
+public class InstanceStatsRegistry {
+
+    private final ConcurrentMap<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    InstanceStats statsFor(ServiceInstance instance) {
+        return stats.computeIfAbsent(keyOf(instance), key -> new InstanceStats());
+    }
+
+    private static String keyOf(ServiceInstance instance) {
+        return instance.getServiceId() + "@" + instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.gateway.loadbalancer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LatencyAwareLoadBalancerProperties.class)
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+
+    @Bean
+    @ConditionalOnProperty(value = "loadbalancer.latency-aware.enabled", havingValue = "true", matchIfMissing = true)
+    public LatencyTrackingLifecycle latencyTrackingLifecycle(InstanceStatsRegistry statsRegistry,
+                                                             LatencyAwareLoadBalancerProperties properties) {
+        return new LatencyTrackingLifecycle(statsRegistry, properties);
+    }
+}
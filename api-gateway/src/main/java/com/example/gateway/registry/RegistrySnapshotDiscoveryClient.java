@@ -0,0 +1,106 @@
+package com.example.gateway.registry;
+
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Applications;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the last registry this instance fetched from Eureka, persisted on disk, until the Eureka
+ * client holds a registry of its own: after a restart peers resolve before the first fetch, and
+ * also when discovery-service cannot be reached. The reactive composite discovery client concatenates
+ * every client's instances, so this one stays silent once Eureka holds a registry, which Eureka keeps
+ * through fetch failures. The snapshot is rewritten whenever the
+ * registry's hash code changes.
+ */
+@Slf4j
+public class RegistrySnapshotDiscoveryClient implements ReactiveDiscoveryClient {
+
+    private final RegistrySnapshotStore store;
+    private final ObjectProvider<EurekaClient> eurekaClient;
+    private final Clock clock;
+    private final Map<String, List<ServiceInstance>> snapshotInstances;
+    private volatile String writtenHashCode;
+
+    public RegistrySnapshotDiscoveryClient(RegistrySnapshotStore store, ObjectProvider<EurekaClient> eurekaClient,
+                                           Duration maxAge, Clock clock) {
+        this.store = store;
+        this.eurekaClient = eurekaClient;
+        this.clock = clock;
+        this.snapshotInstances = store.read()
+                .filter(snapshot -> snapshot.savedAt().isAfter(clock.instant().minus(maxAge)))
+                .map(snapshot -> {
+                    writtenHashCode = snapshot.appsHashCode();
+                    log.info("Loaded registry snapshot from {} with {} instances", snapshot.savedAt(),
+                            snapshot.instances().size());
+                    return snapshot.instances().stream()
+                            .map(RegistrySnapshot.Instance::toServiceInstance)
+                            .collect(Collectors.groupingBy(ServiceInstance::getServiceId));
+                })
+                .orElse(Map.of());
+    }
+
+    @Override
+    public String description() {
+        return "Registry snapshot";
+    }
+
+    @Override
+    public Flux<ServiceInstance> getInstances(String serviceId) {
+        return Flux.defer(() -> snapshotInstances.isEmpty() || hasEurekaRegistry()
+                ? Flux.empty()
+                : Flux.fromIterable(snapshotInstances.getOrDefault(serviceId.toUpperCase(), List.of())));
+    }
+
+    @Override
+    public Flux<String> getServices() {
+        return Flux.defer(() -> snapshotInstances.isEmpty() || hasEurekaRegistry()
+                ? Flux.empty()
+                : Flux.fromIterable(List.copyOf(snapshotInstances.keySet())));
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    // The Eureka client publishes a HeartbeatEvent after every registry fetch but the initial one
+    @EventListener({ApplicationReadyEvent.class, HeartbeatEvent.class})
+    public void saveSnapshot() {
+        EurekaClient client = eurekaClient.getIfAvailable();
+        if (client == null) {
+            return;
+        }
+        Applications applications = client.getApplications();
+        if (applications == null || applications.size() == 0
+                || applications.getAppsHashCode().equals(writtenHashCode)) {
+            return;
+        }
+        try {
+            store.write(RegistrySnapshot.of(applications, Instant.now(clock)));
+            writtenHashCode = applications.getAppsHashCode();
+        } catch (IOException e) {
+            log.warn("Could not write the registry snapshot: {}", e.getMessage());
+        }
+    }
+
+    private boolean hasEurekaRegistry() {
+        EurekaClient client = eurekaClient.getIfAvailable();
+        Applications applications = client != null ? client.getApplications() : null;
+        return applications != null && applications.size() > 0;
+    }
+}
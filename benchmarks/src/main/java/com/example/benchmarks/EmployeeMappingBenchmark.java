@@ -0,0 +1,64 @@
+package com.example.benchmarks;
+
+import com.example.employee.client.DepartmentClient;
+import com.example.employee.domain.Employee;
+import com.example.employee.dto.DepartmentDTO;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.service.EmployeeService;
+import com.example.employee.service.IdempotencyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code EmployeeService.toDTO} with and without department enrichment. The department client
+ * answers from memory, so only the mapping itself (and its logging) is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeMappingBenchmark {
+
+    private static final MethodHandle TO_DTO = PrivateMethods.find(
+            EmployeeService.class, "toDTO", EmployeeDTO.class, Employee.class, boolean.class);
+
+    private EmployeeService service;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        DepartmentDTO department = new DepartmentDTO(7L, "Engineering", "Builds things");
+        DepartmentClient departmentClient = id -> department;
+        service = new EmployeeService(null, departmentClient, new IdempotencyService(), null);
+        employee = Employee.builder()
+                .id(42L)
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .email("ada.lovelace@example.com")
+                .departmentId(7L)
+                .build();
+    }
+
+    @Benchmark
+    public EmployeeDTO toDTO() throws Throwable {
+        return (EmployeeDTO) TO_DTO.invokeExact(service, employee, false);
+    }
+
+    @Benchmark
+    public EmployeeDTO toDTOEnriched() throws Throwable {
+        return (EmployeeDTO) TO_DTO.invokeExact(service, employee, true);
+    }
+}
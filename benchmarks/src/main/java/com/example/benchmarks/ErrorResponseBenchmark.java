@@ -0,0 +1,104 @@
+package com.example.benchmarks;
+
+import com.example.department.exception.DepartmentNotFoundException;
+import com.example.department.exception.DuplicateDepartmentException;
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.exception.GlobalExceptionHandler;
+import com.example.project.exception.ProjectNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throw-to-response cost of the business 4xx paths: the exception is thrown {@code stackDepth} frames
+ * down (a Spring MVC request is well over 100 deep by the time it reaches a repository) and handed to
+ * the service's {@code GlobalExceptionHandler}. {@code employeeNotFoundWithStackTrace} sends a plain
+ * {@code RuntimeException} through the same handler, i.e. what a 404 cost before the business exceptions
+ * stopped capturing stack traces. The handlers' rate-limited warnings are part of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    @Param({"10", "100"})
+    public int stackDepth;
+
+    private GlobalExceptionHandler employeeHandler;
+    private com.example.department.exception.GlobalExceptionHandler departmentHandler;
+    private com.example.project.exception.GlobalExceptionHandler projectHandler;
+    private HttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        employeeHandler = new GlobalExceptionHandler();
+        departmentHandler = new com.example.department.exception.GlobalExceptionHandler();
+        projectHandler = new com.example.project.exception.GlobalExceptionHandler();
+        request = (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(), new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> method.getName().equals("getRequestURI") ? "/api/v1/employees/42" : null);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> employeeNotFound() {
+        RuntimeException ex = thrownAt(stackDepth, () -> new EmployeeNotFoundException("42"));
+        return employeeHandler.handleNotFound(ex, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> employeeNotFoundWithStackTrace() {
+        RuntimeException ex = thrownAt(stackDepth, () -> new RuntimeException("Employee not found with id: 42"));
+        return employeeHandler.handleNotFound(ex, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> departmentNotFound() {
+        RuntimeException ex = thrownAt(stackDepth, () -> new DepartmentNotFoundException("42"));
+        return departmentHandler.handleNotFound((DepartmentNotFoundException) ex, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> departmentDuplicate() {
+        RuntimeException ex = thrownAt(stackDepth, () -> new DuplicateDepartmentException("code", "ENG"));
+        return departmentHandler.handleDuplicateDepartment((DuplicateDepartmentException) ex, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> projectNotFound() {
+        RuntimeException ex = thrownAt(stackDepth, () -> new ProjectNotFoundException(42L));
+        return projectHandler.handleProjectNotFoundException((ProjectNotFoundException) ex);
+    }
+
+    private static RuntimeException thrownAt(int depth, Supplier<RuntimeException> exception) {
+        try {
+            descend(depth, exception);
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+        throw new IllegalStateException("nothing was thrown");
+    }
+
+    private static void descend(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        descend(depth - 1, exception);
+    }
+}
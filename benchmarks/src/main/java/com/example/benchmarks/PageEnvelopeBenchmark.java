@@ -0,0 +1,159 @@
+package com.example.benchmarks;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.PageDTO;
+import com.example.employee.wireformat.PageDTOHttpMessageConverter;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.openfeign.support.PageJacksonModule;
+import org.springframework.cloud.openfeign.support.SortJacksonModule;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The page department-service reads from employee-service, as a serialized {@code PageImpl} read back
+ * with the Feign page modules against {@code PageDTO} through its converter. Both carry the same
+ * employees, as JSON, so only the envelope differs. Writes go to one reused buffer, as they would to
+ * the response's.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageEnvelopeBenchmark {
+
+    private static final Type DEPARTMENT_PAGE_DTO =
+            new ParameterizedTypeReference<com.example.department.dto.PageDTO<com.example.department.dto.EmployeeDTO>>() {}.getType();
+
+    @Param({"20", "100"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private JavaType pageType;
+    private PageDTOHttpMessageConverter writer;
+    private com.example.department.wireformat.PageDTOHttpMessageConverter reader;
+    private Page<EmployeeDTO> page;
+    private PageDTO<EmployeeDTO> pageDTO;
+    private byte[] pageJson;
+    private byte[] pageDTOJson;
+    private BodyOutput output;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new PageJacksonModule(), new SortJacksonModule())
+                .build();
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+        pageType = mapper.getTypeFactory()
+                .constructParametricType(Page.class, com.example.department.dto.EmployeeDTO.class);
+        writer = new PageDTOHttpMessageConverter(mapper, cbor);
+        reader = new com.example.department.wireformat.PageDTOHttpMessageConverter(mapper, cbor);
+
+        List<EmployeeDTO> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(EmployeeDTO.builder()
+                    .id((long) i)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("employee" + i + "@example.com")
+                    .departmentId(1L)
+                    .build());
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, size, Sort.by("lastName")), 10_000);
+        pageDTO = PageDTO.of(page);
+        output = new BodyOutput();
+        pageJson = mapper.writeValueAsBytes(page);
+        writePageDTO();
+        pageDTOJson = output.body.toByteArray();
+    }
+
+    @Benchmark
+    public int writePage() throws Exception {
+        output.body.reset();
+        mapper.writeValue(output.body, page);
+        return output.body.size();
+    }
+
+    @Benchmark
+    public int writePageDTO() throws Exception {
+        output.body.reset();
+        output.headers.clear();
+        writer.write(pageDTO, PageDTO.class, MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    @Benchmark
+    public Object readPage() throws Exception {
+        return mapper.readValue(new ByteArrayInputStream(pageJson), pageType);
+    }
+
+    @Benchmark
+    public Object readPageDTO() throws Exception {
+        return reader.read(DEPARTMENT_PAGE_DTO, null, new BodyInput(pageDTOJson));
+    }
+
+    private static final class BodyOutput implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private static final class BodyInput implements HttpInputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final byte[] body;
+
+        BodyInput(byte[] body) {
+            this.body = body;
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
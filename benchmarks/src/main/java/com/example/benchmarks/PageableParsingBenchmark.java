@@ -0,0 +1,60 @@
+package com.example.benchmarks;
+
+import com.example.department.service.impl.DepartmentServiceImpl;
+import com.example.employee.service.EmployeeService;
+import com.example.employee.service.IdempotencyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code createPageable(page, size, sort)} runs on every list request of employee-service and
+ * department-service (the two copies are identical today, so their numbers should be too).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageableParsingBenchmark {
+
+    private static final MethodHandle EMPLOYEE_CREATE_PAGEABLE = PrivateMethods.find(
+            EmployeeService.class, "createPageable", Pageable.class, int.class, int.class, String.class);
+    private static final MethodHandle DEPARTMENT_CREATE_PAGEABLE = PrivateMethods.find(
+            DepartmentServiceImpl.class, "createPageable", Pageable.class, int.class, int.class, String.class);
+
+    @Param({"", "lastName", "lastName,desc"})
+    public String sort;
+
+    private EmployeeService employeeService;
+    private DepartmentServiceImpl departmentService;
+
+    @Setup
+    public void setUp() {
+        employeeService = new EmployeeService(null, null, new IdempotencyService(), null);
+        departmentService = new DepartmentServiceImpl(null, null, null);
+    }
+
+    @Benchmark
+    public Pageable employeeService() throws Throwable {
+        return (Pageable) EMPLOYEE_CREATE_PAGEABLE.invokeExact(employeeService, 2, 20, sort);
+    }
+
+    @Benchmark
+    public Pageable departmentService() throws Throwable {
+        return (Pageable) DEPARTMENT_CREATE_PAGEABLE.invokeExact(departmentService, 2, 20, sort);
+    }
+}
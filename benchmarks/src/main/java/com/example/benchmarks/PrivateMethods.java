@@ -0,0 +1,24 @@
+package com.example.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * The hot paths worth measuring are private helpers of the services. A constant {@link MethodHandle}
+ * reaches them without widening their visibility and is inlined by the JIT like a direct call.
+ */
+final class PrivateMethods {
+
+    private PrivateMethods() {
+    }
+
+    static MethodHandle find(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+                    .findVirtual(owner, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Benchmark target " + owner.getSimpleName() + "." + name + " not found", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.benchmarks;
+
+import com.example.project.domain.Project;
+import com.example.project.domain.ProjectMember;
+import com.example.project.domain.ProjectStatus;
+import com.example.project.dto.ProjectDTO;
+import com.example.project.dto.ProjectMemberDTO;
+import com.example.project.mapper.ProjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct-generated {@code ProjectMapper}: a project with a loaded member list and a single member.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectMapperBenchmark {
+
+    @Param({"0", "10"})
+    public int members;
+
+    private ProjectMapper mapper;
+    private Project project;
+    private ProjectMember member;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(ProjectMapper.class);
+        project = Project.builder()
+                .id(1L)
+                .code("APOLLO-11")
+                .name("Apollo")
+                .description("Land a man on the moon and return him safely to the earth")
+                .status(ProjectStatus.ACTIVE)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .members(new ArrayList<>())
+                .build();
+        for (int i = 0; i < members; i++) {
+            project.addMember(member(i));
+        }
+        member = member(100);
+        member.setProject(project);
+    }
+
+    private static ProjectMember member(int i) {
+        return ProjectMember.builder()
+                .id((long) i)
+                .employeeId(1000L + i)
+                .role("ENGINEER")
+                .allocationPercent(50)
+                .assignedAt(LocalDateTime.of(2025, 1, 2, 9, 0))
+                .build();
+    }
+
+    @Benchmark
+    public ProjectDTO toDTO() {
+        return mapper.toDTO(project);
+    }
+
+    @Benchmark
+    public ProjectMemberDTO memberToDTO() {
+        return mapper.memberToDTO(member);
+    }
+}
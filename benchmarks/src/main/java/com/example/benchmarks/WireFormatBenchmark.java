@@ -0,0 +1,98 @@
+package com.example.benchmarks;
+
+import com.example.employee.dto.DepartmentDTO;
+import com.example.employee.dto.EmployeeDTO;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.openfeign.support.PageJacksonModule;
+import org.springframework.cloud.openfeign.support.SortJacksonModule;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page of employees as JSON and as CBOR, written by employee-service and read back with the Feign
+ * page modules. For the bytes on the wire see the README.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"20", "100"})
+    public int size;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private JavaType pageType;
+    private Page<EmployeeDTO> page;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setUp() throws Exception {
+        jsonMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new PageJacksonModule(), new SortJacksonModule())
+                .build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor()
+                .modulesToInstall(new PageJacksonModule(), new SortJacksonModule())
+                .build();
+        pageType = jsonMapper.getTypeFactory()
+                .constructParametricType(Page.class, com.example.department.dto.EmployeeDTO.class);
+
+        List<EmployeeDTO> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(EmployeeDTO.builder()
+                    .id((long) i)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("employee" + i + "@example.com")
+                    .departmentId(1L)
+                    .department(new DepartmentDTO(1L, "Department 1", "Description 1"))
+                    .build());
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, size, Sort.by("lastName")), 10_000);
+        json = jsonMapper.writeValueAsBytes(page);
+        cbor = cborMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeJson() throws Exception {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeCbor() throws Exception {
+        return cborMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Object readJson() throws Exception {
+        return jsonMapper.readValue(json, pageType);
+    }
+
+    @Benchmark
+    public Object readCbor() throws Exception {
+        return cborMapper.readValue(cbor, pageType);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.configserver.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Keeps the resolved {@link Environment} of recently requested applications, profiles and labels in
+ * memory, so a request no longer re-reads and re-parses the YAML files. An entry holds the fingerprint of
+ * the files it was resolved from and is only resolved again once that fingerprint changes. Concurrent
+ * requests for the same entry wait for one resolution instead of each parsing the files themselves; the
+ * resolution runs outside any lock, so other entries are not held up by it. At most
+ * {@code config-cache.max-entries} entries are kept, least recently used first out.
+ */
+public class CachingEnvironmentRepository implements EnvironmentRepository, SearchPathLocator {
+
+    private final EnvironmentRepository delegate;
+    private final SearchPathLocator locator;
+    private final SearchLocationFingerprints fingerprints;
+    private final Map<Key, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public <R extends EnvironmentRepository & SearchPathLocator> CachingEnvironmentRepository(
+            R delegate, EnvironmentCacheProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.locator = delegate;
+        this.entries = LruMap.synchronizedLru(properties.getMaxEntries());
+        this.fingerprints = new SearchLocationFingerprints(properties.getCheckInterval(), properties.getMaxEntries(),
+                System::nanoTime);
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
+        this.hits = registry.counter("config.environment.cache", "result", "hit");
+        this.misses = registry.counter("config.environment.cache", "result", "miss");
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label) {
+        return findOne(application, profile, label, false);
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+        String fingerprint = fingerprints.of(locator.getLocations(application, profile, label).getLocations());
+        Key key = new Key(application, profile, label, includeOrigin);
+        while (true) {
+            Entry current = entries.get(key);
+            if (current != null && current.fingerprint.equals(fingerprint)) {
+                hits.increment();
+                return copy(await(current));
+            }
+            Entry resolving = new Entry(fingerprint, new CompletableFuture<>());
+            boolean claimed = current == null
+                    ? entries.putIfAbsent(key, resolving) == null
+                    : entries.replace(key, current, resolving);
+            if (!claimed) {
+                // Another request started resolving this key first: use its entry
+                continue;
+            }
+            misses.increment();
+            try {
+                Environment environment = delegate.findOne(application, profile, label, includeOrigin);
+                resolving.environment.complete(environment);
+                return copy(environment);
+            } catch (RuntimeException e) {
+                // Not cached: the next request tries again
+                entries.remove(key, resolving);
+                resolving.environment.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public Locations getLocations(String application, String profile, String label) {
+        return locator.getLocations(application, profile, label);
+    }
+
+    private static Environment await(Entry entry) {
+        try {
+            return entry.environment.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // Callers such as the decrypting controller modify what they get
+    private static Environment copy(Environment environment) {
+        Environment copy = new Environment(environment.getName(), environment.getProfiles(), environment.getLabel(),
+                environment.getVersion(), environment.getState());
+        for (PropertySource source : environment.getPropertySources()) {
+            copy.add(new PropertySource(source.getName(), new LinkedHashMap<>(source.getSource())));
+        }
+        return copy;
+    }
+
+    private record Key(String application, String profile, String label, boolean includeOrigin) {
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<Environment> environment) {
+    }
+}
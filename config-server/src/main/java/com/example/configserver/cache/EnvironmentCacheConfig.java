@@ -0,0 +1,39 @@
+package com.example.configserver.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.config.server.environment.SearchPathCompositeEnvironmentRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "config-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(EnvironmentCacheProperties.class)
+public class EnvironmentCacheConfig {
+
+    // Wraps the repository the environment and resource controllers are given; static so it is
+    // registered before the repository beans are created
+    @Bean
+    public static BeanPostProcessor cachingEnvironmentRepositoryPostProcessor(
+            ObjectProvider<EnvironmentCacheProperties> properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SearchPathCompositeEnvironmentRepository repository) {
+                    return new CachingEnvironmentRepository(repository, properties.getObject(),
+                            meterRegistry.getIfAvailable());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<EnvironmentEtagFilter> environmentEtagFilter() {
+        return new FilterRegistrationBean<>(new EnvironmentEtagFilter());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.configserver.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "config-cache")
+public class EnvironmentCacheProperties {
+
+    private boolean enabled = true;
+
+    // How long a listing of the files behind the search locations is trusted before it is taken again
+    private Duration checkInterval = Duration.ofSeconds(2);
+
+    // Environments kept at once; application, profile and label come from the request, so this is the bound
+    private int maxEntries = 256;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getCheckInterval() {
+        return checkInterval;
+    }
+
+    public void setCheckInterval(Duration checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
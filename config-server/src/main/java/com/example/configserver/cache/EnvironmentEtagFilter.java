@@ -0,0 +1,23 @@
+package com.example.configserver.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * ETag and If-None-Match for what config-server serves: a client or proxy revalidating an unchanged
+ * environment gets 304 without the body. Change notification, which answers asynchronously, and the
+ * actuator endpoints are left out.
+ */
+public class EnvironmentEtagFilter extends ShallowEtagHeaderFilter {
+
+    // Tomcat does not compress a response with a strong ETag, and a gzipped body is not byte-identical anyway
+    public EnvironmentEtagFilter() {
+        setWriteWeakETag(true);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !"GET".equals(request.getMethod()) || path.startsWith("/changes/") || path.startsWith("/actuator");
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.configserver.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Access-ordered map that drops its least recently used entry beyond a fixed size. The caches are keyed
+ * by what clients send, so none of them may grow with the number of distinct requests.
+ */
+final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+    private final int maxEntries;
+
+    private LruMap(int maxEntries) {
+        super(16, 0.75f, true);
+        this.maxEntries = maxEntries;
+    }
+
+    // The lock is only held for the map operation itself, never while a value is computed
+    static <K, V> Map<K, V> synchronizedLru(int maxEntries) {
+        return Collections.synchronizedMap(new LruMap<>(maxEntries));
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxEntries;
+    }
+}
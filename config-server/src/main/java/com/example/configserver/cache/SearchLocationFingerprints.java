@@ -0,0 +1,81 @@
+package com.example.configserver.cache;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+
+/**
+ * Fingerprint of the files under a set of search locations: the URL, size and modification time of
+ * every file, so any edit, addition or removal changes it. A fingerprint is reused for the check
+ * interval, which bounds how often the locations are listed however many requests come in: one request
+ * lists them, outside any lock, and the others arriving meanwhile wait for its result.
+ */
+class SearchLocationFingerprints {
+
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    // Locations depend on the requested label, so this is bounded like the environment cache
+    private final Map<List<String>, Fingerprint> fingerprints;
+    private final long checkIntervalNanos;
+    private final LongSupplier nanoTime;
+
+    SearchLocationFingerprints(Duration checkInterval, int maxEntries, LongSupplier nanoTime) {
+        this.fingerprints = LruMap.synchronizedLru(maxEntries);
+        this.checkIntervalNanos = checkInterval.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    String of(String[] locations) {
+        List<String> key = Arrays.asList(locations);
+        long now = nanoTime.getAsLong();
+        while (true) {
+            Fingerprint current = fingerprints.get(key);
+            if (current != null && now - current.takenAt < checkIntervalNanos) {
+                return current.value.join();
+            }
+            Fingerprint taking = new Fingerprint(new CompletableFuture<>(), now);
+            boolean claimed = current == null
+                    ? fingerprints.putIfAbsent(key, taking) == null
+                    : fingerprints.replace(key, current, taking);
+            if (claimed) {
+                try {
+                    taking.value.complete(take(key));
+                } catch (RuntimeException e) {
+                    fingerprints.remove(key, taking);
+                    taking.value.completeExceptionally(e);
+                    throw e;
+                }
+                return taking.value.join();
+            }
+        }
+    }
+
+    private String take(List<String> locations) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (String location : locations) {
+            String directory = location.endsWith("/") ? location : location + "/";
+            try {
+                for (Resource resource : resolver.getResources(directory + "**")) {
+                    if (resource.isReadable()) {
+                        fingerprint.append(resource.getURL()).append(':').append(resource.contentLength())
+                                .append(':').append(resource.lastModified()).append('\n');
+                    }
+                }
+            } catch (IOException e) {
+                // A location that does not exist contributes nothing until it does
+                fingerprint.append(directory).append(":missing\n");
+            }
+        }
+        return fingerprint.toString();
+    }
+
+    private record Fingerprint(CompletableFuture<String> value, long takenAt) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.configserver.changes;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConfigChangeProperties.class)
+public class ConfigChangeConfig {
+
+    @Bean
+    public ConfigChangeNotifier configChangeNotifier(EnvironmentRepository repository, ConfigChangeProperties properties) {
+        return new ConfigChangeNotifier(repository, properties);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.configserver.changes;
+
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Change notification for config clients. A client long-polls {@code /changes/{application}/{profile}}
+ * with the version it holds and, once told which sources changed, downloads just those from
+ * {@code /changes/{application}/{profile}/sources}.
+ */
+@RestController
+@RequestMapping("/changes/{application}/{profile}")
+public class ConfigChangeController {
+
+    private final ConfigChangeNotifier notifier;
+
+    public ConfigChangeController(ConfigChangeNotifier notifier) {
+        this.notifier = notifier;
+    }
+
+    @GetMapping
+    public DeferredResult<ResponseEntity<ConfigVersion>> changes(@PathVariable String application,
+                                                                 @PathVariable String profile,
+                                                                 @RequestParam(required = false) String version) {
+        return notifier.awaitChange(application, profile, version != null ? version : "");
+    }
+
+    @GetMapping("/sources")
+    public List<PropertySource> sources(@PathVariable String application, @PathVariable String profile,
+                                        @RequestParam Set<String> name) {
+        return notifier.sources(application, profile, name);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.configserver.changes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the {@link ConfigVersion} of every application and profile a client is asking about and
+ * holds change requests open until it moves. The configuration is reloaded from the repository every
+ * {@code config-changes.scan-interval}, which is a cache hit until a file changes; clients are only woken
+ * up when a source's hash changed. An application and profile nobody has waited on for
+ * {@code config-changes.idle-timeout} is no longer watched.
+ */
+public class ConfigChangeNotifier implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfigChangeNotifier.class);
+
+    private final EnvironmentRepository repository;
+    private final ConfigChangeProperties properties;
+    private final Map<Watch, Watched> watched = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scanner;
+
+    public ConfigChangeNotifier(EnvironmentRepository repository, ConfigChangeProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("config-changes-");
+        threadFactory.setDaemon(true);
+        this.scanner = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = properties.getScanInterval().toMillis();
+        scanner.scheduleWithFixedDelay(this::scan, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Answers at once when {@code knownVersion} is not the current version, otherwise on the next
+     * change or with 304 Not Modified after the long-poll timeout.
+     */
+    DeferredResult<ResponseEntity<ConfigVersion>> awaitChange(String application, String profile, String knownVersion) {
+        DeferredResult<ResponseEntity<ConfigVersion>> result = new DeferredResult<>(
+                properties.getLongPollTimeout().toMillis(), ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        Watched entry = register(new Watch(application, profile), result);
+        result.onCompletion(() -> entry.leave(result));
+        // Checked after registering, so a change made in between is not missed
+        if (!entry.version.version().equals(knownVersion)) {
+            result.setResult(ResponseEntity.ok(entry.version));
+        }
+        return result;
+    }
+
+    List<PropertySource> sources(String application, String profile, Set<String> names) {
+        return repository.findOne(application, profile, null).getPropertySources().stream()
+                .filter(source -> names.contains(source.getName()))
+                .toList();
+    }
+
+    // An entry evicted between the lookup and the registration is replaced by a fresh one
+    private Watched register(Watch watch, DeferredResult<ResponseEntity<ConfigVersion>> result) {
+        while (true) {
+            Watched entry = watched.computeIfAbsent(watch, key -> new Watched(load(key)));
+            if (entry.join(result)) {
+                return entry;
+            }
+            watched.remove(watch, entry);
+        }
+    }
+
+    int watchedCount() {
+        return watched.size();
+    }
+
+    private ConfigVersion load(Watch watch) {
+        Environment environment = repository.findOne(watch.application(), watch.profile(), null);
+        return ConfigVersion.of(environment);
+    }
+
+    void scan() {
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        watched.forEach((watch, entry) -> {
+            if (entry.evictIfIdle(System.nanoTime(), idleNanos)) {
+                watched.remove(watch, entry);
+                log.debug("No longer watching {}/{}", watch.application(), watch.profile());
+                return;
+            }
+            try {
+                ConfigVersion current = load(watch);
+                if (current.version().equals(entry.version.version())) {
+                    return;
+                }
+                List<String> changed = current.sources().entrySet().stream()
+                        .filter(source -> !Objects.equals(entry.version.sources().get(source.getKey()), source.getValue()))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                log.info("Configuration of {}/{} changed in {}, notifying {} clients",
+                        watch.application(), watch.profile(), changed, entry.waiting.size());
+                entry.version = current;
+                for (DeferredResult<ResponseEntity<ConfigVersion>> waiting : entry.waiting) {
+                    waiting.setResult(ResponseEntity.ok(current));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not reload the configuration of {}/{}: {}", watch.application(), watch.profile(),
+                        e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        scanner.shutdownNow();
+    }
+
+    private record Watch(String application, String profile) {
+    }
+
+    private static final class Watched {
+
+        private final Set<DeferredResult<ResponseEntity<ConfigVersion>>> waiting = ConcurrentHashMap.newKeySet();
+        private volatile ConfigVersion version;
+        private long idleSince = System.nanoTime();
+        private boolean evicted;
+
+        private Watched(ConfigVersion version) {
+            this.version = version;
+        }
+
+        private synchronized boolean join(DeferredResult<ResponseEntity<ConfigVersion>> result) {
+            if (evicted) {
+                return false;
+            }
+            waiting.add(result);
+            return true;
+        }
+
+        private synchronized void leave(DeferredResult<ResponseEntity<ConfigVersion>> result) {
+            waiting.remove(result);
+            idleSince = System.nanoTime();
+        }
+
+        private synchronized boolean evictIfIdle(long now, long idleNanos) {
+            if (waiting.isEmpty() && now - idleSince >= idleNanos) {
+                evicted = true;
+            }
+            return evicted;
+        }
+    }
+}
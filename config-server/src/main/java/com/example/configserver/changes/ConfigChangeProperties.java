@@ -0,0 +1,43 @@
+package com.example.configserver.changes;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "config-changes")
+public class ConfigChangeProperties {
+
+    // How often the configuration of every watched application and profile is reloaded and compared
+    private Duration scanInterval = Duration.ofSeconds(5);
+
+    // How long a change request is held open before it is answered 304 Not Modified
+    private Duration longPollTimeout = Duration.ofSeconds(30);
+
+    // How long an application and profile stays watched after its last change request ended; longer
+    // than the long-poll timeout, so clients polling in a loop keep theirs
+    private Duration idleTimeout = Duration.ofMinutes(2);
+
+    public Duration getScanInterval() {
+        return scanInterval;
+    }
+
+    public void setScanInterval(Duration scanInterval) {
+        this.scanInterval = scanInterval;
+    }
+
+    public Duration getLongPollTimeout() {
+        return longPollTimeout;
+    }
+
+    public void setLongPollTimeout(Duration longPollTimeout) {
+        this.longPollTimeout = longPollTimeout;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.configserver.changes;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Version of the configuration served to one application and profile: a hash per property source,
+ * in precedence order, and one over all of them. A source's hash covers its sorted keys and the
+ * string form of its values, so clients compute the same hash for the copy they hold.
+ */
+public record ConfigVersion(String version, Map<String, String> sources) {
+
+    static ConfigVersion of(Environment environment) {
+        Map<String, String> sources = new LinkedHashMap<>();
+        StringBuilder all = new StringBuilder();
+        for (PropertySource source : environment.getPropertySources()) {
+            String hash = hash(source.getSource());
+            sources.put(source.getName(), hash);
+            all.append(source.getName()).append('=').append(hash).append('\n');
+        }
+        return new ConfigVersion(sha256(all.toString()), sources);
+    }
+
+    static String hash(Map<?, ?> properties) {
+        StringBuilder content = new StringBuilder();
+        new TreeMap<>(stringKeys(properties)).forEach((key, value) ->
+                content.append(key).append('=').append(value).append('\n'));
+        return sha256(content.toString());
+    }
+
+    private static Map<String, String> stringKeys(Map<?, ?> properties) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        properties.forEach((key, value) -> strings.put(String.valueOf(key), String.valueOf(value)));
+        return strings;
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.configserver.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CachingEnvironmentRepository Tests")
+class CachingEnvironmentRepositoryTest {
+
+    @TempDir
+    Path configDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger resolutions = new AtomicInteger();
+    private final EnvironmentCacheProperties properties = new EnvironmentCacheProperties();
+    private Path file;
+
+    // Resolves to the current content of one file, counting how often it is asked to
+    private class FileRepository implements EnvironmentRepository, SearchPathLocator {
+
+        volatile CountDownLatch gate;
+
+        @Override
+        public Environment findOne(String application, String profile, String label) {
+            return findOne(application, profile, label, false);
+        }
+
+        @Override
+        public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+            resolutions.incrementAndGet();
+            if ("slow".equals(application)) {
+                await(gate);
+            }
+            try {
+                Environment environment = new Environment(application, profile);
+                environment.add(new PropertySource("app.yaml", Map.of("content", Files.readString(file))));
+                return environment;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public Locations getLocations(String application, String profile, String label) {
+            return new Locations(application, profile, label, null, new String[]{"file:" + configDir + "/"});
+        }
+    }
+
+    private static void await(CountDownLatch gate) {
+        if (gate == null) {
+            return;
+        }
+        try {
+            gate.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final FileRepository delegate = new FileRepository();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties.setCheckInterval(Duration.ZERO);
+        file = configDir.resolve("app.yaml");
+        Files.writeString(file, "greeting: hello");
+    }
+
+    private CachingEnvironmentRepository repository() {
+        return new CachingEnvironmentRepository(delegate, properties, meterRegistry);
+    }
+
+    private static Object content(Environment environment) {
+        return environment.getPropertySources().get(0).getSource().get("content");
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("config.environment.cache").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should resolve once and serve repeated lookups from memory")
+        void shouldHitOnRepeatedLookup() {
+            CachingEnvironmentRepository repository = repository();
+
+            repository.findOne("employee-service", "default", null);
+            Environment second = repository.findOne("employee-service", "default", null);
+
+            assertThat(content(second)).isEqualTo("greeting: hello");
+            assertThat(resolutions).hasValue(1);
+            assertThat(count("hit")).isEqualTo(1);
+            assertThat(count("miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should resolve each application, profile and label separately")
+        void shouldMissOnOtherKey() {
+            CachingEnvironmentRepository repository = repository();
+
+            repository.findOne("employee-service", "default", null);
+            repository.findOne("employee-service", "h2c", null);
+            repository.findOne("department-service", "default", null);
+
+            assertThat(resolutions).hasValue(3);
+            assertThat(count("miss")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should hand out copies the caller may modify")
+        void shouldReturnCopies() {
+            CachingEnvironmentRepository repository = repository();
+
+            repository.findOne("employee-service", "default", null).getPropertySources().get(0)
+                    .getSource().clear();
+
+            assertThat(content(repository.findOne("employee-service", "default", null))).isEqualTo("greeting: hello");
+        }
+
+        @Test
+        @DisplayName("Should not cache a failed resolution")
+        void shouldRetryAfterFailure() throws IOException {
+            CachingEnvironmentRepository repository = repository();
+            Files.delete(file);
+
+            assertThatThrownBy(() -> repository.findOne("employee-service", "default", null))
+                    .isInstanceOf(IllegalStateException.class);
+
+            Files.writeString(file, "greeting: back");
+            assertThat(content(repository.findOne("employee-service", "default", null))).isEqualTo("greeting: back");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should resolve again when a file changes size")
+        void shouldInvalidateOnSizeChange() throws IOException {
+            CachingEnvironmentRepository repository = repository();
+            repository.findOne("employee-service", "default", null);
+
+            Files.writeString(file, "greeting: hello again");
+
+            assertThat(content(repository.findOne("employee-service", "default", null))).isEqualTo("greeting: hello again");
+            assertThat(resolutions).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should resolve again when a file is modified without changing size")
+        void shouldInvalidateOnModificationTime() throws IOException {
+            CachingEnvironmentRepository repository = repository();
+            repository.findOne("employee-service", "default", null);
+
+            Files.writeString(file, "greeting: howdy");
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+
+            assertThat(content(repository.findOne("employee-service", "default", null))).isEqualTo("greeting: howdy");
+            assertThat(resolutions).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bound and concurrency Tests")
+    class BoundTests {
+
+        @Test
+        @DisplayName("Should drop the least recently used entry beyond max-entries")
+        void shouldEvictLeastRecentlyUsed() {
+            properties.setMaxEntries(2);
+            CachingEnvironmentRepository repository = repository();
+
+            repository.findOne("a", "default", null);
+            repository.findOne("b", "default", null);
+            repository.findOne("a", "default", null);
+            repository.findOne("c", "default", null);
+            repository.findOne("a", "default", null);
+            repository.findOne("b", "default", null);
+
+            // a, b, c, then b again after c pushed it out
+            assertThat(resolutions).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("Should let concurrent requests for one entry share a resolution without blocking others")
+        void shouldShareResolution() throws Exception {
+            CachingEnvironmentRepository repository = repository();
+            delegate.gate = new CountDownLatch(1);
+
+            CompletableFuture<Environment> first =
+                    CompletableFuture.supplyAsync(() -> repository.findOne("slow", "default", null));
+            CompletableFuture<Environment> second =
+                    CompletableFuture.supplyAsync(() -> repository.findOne("slow", "default", null));
+            while (resolutions.get() == 0) {
+                Thread.onSpinWait();
+            }
+
+            // Another key resolves while "slow" is still being resolved
+            Environment other = CompletableFuture.supplyAsync(() -> repository.findOne("other", "default", null))
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(first).isNotDone();
+            delegate.gate.countDown();
+
+            assertThat(content(other)).isEqualTo("greeting: hello");
+            assertThat(content(first.get(5, TimeUnit.SECONDS))).isEqualTo("greeting: hello");
+            assertThat(content(second.get(5, TimeUnit.SECONDS))).isEqualTo("greeting: hello");
+            assertThat(resolutions).hasValue(2);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.configserver.cache;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EnvironmentEtagFilter Tests")
+class EnvironmentEtagFilterTest {
+
+    private static final String BODY = "{\"name\":\"employee-service\",\"propertySources\":[]}";
+
+    private final EnvironmentEtagFilter filter = new EnvironmentEtagFilter();
+
+    private final FilterChain chain = (request, response) -> {
+        response.setContentType("application/json");
+        response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+    };
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse get(String path, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return perform(request);
+    }
+
+    @Nested
+    @DisplayName("Environment Tests")
+    class EnvironmentTests {
+
+        @Test
+        @DisplayName("Should tag an environment with a weak ETag")
+        void shouldWriteWeakEtag() throws Exception {
+            MockHttpServletResponse response = get("/employee-service/default", null);
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("W/\"");
+            assertThat(response.getContentAsString()).isEqualTo(BODY);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 without a body when the weak ETag matches")
+        void shouldAnswerNotModified() throws Exception {
+            String etag = get("/employee-service/default", null).getHeader(HttpHeaders.ETAG);
+
+            MockHttpServletResponse response = get("/employee-service/default", etag);
+
+            assertThat(response.getStatus()).isEqualTo(304);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should send the body again when the ETag does not match")
+        void shouldAnswerChanged() throws Exception {
+            MockHttpServletResponse response = get("/employee-service/default", "W/\"0stale\"");
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentAsString()).isEqualTo(BODY);
+        }
+    }
+
+    @Nested
+    @DisplayName("Excluded request Tests")
+    class ExcludedTests {
+
+        @Test
+        @DisplayName("Should leave change notification untagged")
+        void shouldSkipChanges() throws Exception {
+            assertThat(get("/changes/employee-service/default", null).getHeader(HttpHeaders.ETAG)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should leave actuator endpoints untagged")
+        void shouldSkipActuator() throws Exception {
+            assertThat(get("/actuator/health", null).getHeader(HttpHeaders.ETAG)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should leave requests other than GET untagged")
+        void shouldSkipPost() throws Exception {
+            assertThat(perform(new MockHttpServletRequest("POST", "/encrypt")).getHeader(HttpHeaders.ETAG)).isNull();
+        }
+    }
+}
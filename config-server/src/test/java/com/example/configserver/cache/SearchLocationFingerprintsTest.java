@@ -0,0 +1,122 @@
+package com.example.configserver.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SearchLocationFingerprints Tests")
+class SearchLocationFingerprintsTest {
+
+    private static final Duration CHECK_INTERVAL = Duration.ofSeconds(2);
+
+    @TempDir
+    Path configDir;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final SearchLocationFingerprints fingerprints =
+            new SearchLocationFingerprints(CHECK_INTERVAL, 16, nanoTime::get);
+    private Path file;
+    private String[] locations;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = configDir.resolve("app.yaml");
+        Files.writeString(file, "greeting: hello");
+        locations = new String[]{"file:" + configDir + "/"};
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    @Nested
+    @DisplayName("Check interval Tests")
+    class CheckIntervalTests {
+
+        @Test
+        @DisplayName("Should reuse the fingerprint within the check interval")
+        void shouldReuseWithinInterval() throws IOException {
+            String before = fingerprints.of(locations);
+
+            Files.writeString(file, "greeting: hello again");
+            advance(CHECK_INTERVAL.minusMillis(1));
+
+            assertThat(fingerprints.of(locations)).isEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("Should keep the fingerprint when nothing changed")
+        void shouldBeStableWithoutChanges() {
+            String before = fingerprints.of(locations);
+
+            advance(CHECK_INTERVAL);
+
+            assertThat(fingerprints.of(locations)).isEqualTo(before);
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Tests")
+    class ChangeTests {
+
+        @Test
+        @DisplayName("Should change when a file changes size")
+        void shouldChangeOnSize() throws IOException {
+            String before = fingerprints.of(locations);
+
+            Files.writeString(file, "greeting: hello again");
+            advance(CHECK_INTERVAL);
+
+            assertThat(fingerprints.of(locations)).isNotEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("Should change when a file is modified without changing size")
+        void shouldChangeOnModificationTime() throws IOException {
+            String before = fingerprints.of(locations);
+
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+            advance(CHECK_INTERVAL);
+
+            assertThat(fingerprints.of(locations)).isNotEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("Should change when a file is added under a subdirectory")
+        void shouldChangeOnAddedFile() throws IOException {
+            String before = fingerprints.of(locations);
+
+            Files.createDirectories(configDir.resolve("shared"));
+            Files.writeString(configDir.resolve("shared/application.yaml"), "shared: value");
+            advance(CHECK_INTERVAL);
+
+            assertThat(fingerprints.of(locations)).isNotEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("Should fingerprint a missing location until it appears")
+        void shouldHandleMissingLocation() throws IOException {
+            String[] missing = {"file:" + configDir.resolve("later") + "/"};
+            String before = fingerprints.of(missing);
+
+            Files.createDirectories(configDir.resolve("later"));
+            Files.writeString(configDir.resolve("later/app.yaml"), "greeting: hello");
+            advance(CHECK_INTERVAL);
+
+            assertThat(before).isNotNull();
+            assertThat(fingerprints.of(missing)).isNotEqualTo(before);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.configserver.changes;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Config change notification Tests")
+class ConfigChangeIntegrationTest {
+
+    // A source as the server serves it, and the hash every client must compute for it. The same pair is
+    // checked against the client hash in employee-service's ConfigChangeApplierTest, so the two cannot drift apart.
+    static final String CONTRACT_YAML = """
+            contract:
+              name: demo
+              port: 8080
+              enabled: true
+              ratio: 0.25
+              timeout: 5s
+              hosts:
+                - a.example.com
+                - b.example.com
+            """;
+    static final String CONTRACT_JSON = """
+            {"contract.name":"demo","contract.port":8080,"contract.enabled":true,"contract.ratio":0.25,
+             "contract.timeout":"5s","contract.hosts[0]":"a.example.com","contract.hosts[1]":"b.example.com"}""";
+    static final String CONTRACT_HASH = "1fce387d086848fd3352ad8c8d13e5a1150d1813b4af2775106d3268f5f69568";
+
+    @TempDir
+    static Path configDir;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.config.server.native.search-locations", () -> "file:" + configDir + "/");
+        registry.add("config-cache.check-interval", () -> "0s");
+        registry.add("config-changes.scan-interval", () -> "100ms");
+        registry.add("config-changes.long-poll-timeout", () -> "500ms");
+        registry.add("config-changes.idle-timeout", () -> "0s");
+    }
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ConfigChangeNotifier notifier;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static void write(String application, String yaml) throws IOException {
+        Files.writeString(configDir.resolve(application + ".yaml"), yaml);
+    }
+
+    private ResponseEntity<ConfigVersion> poll(String application, String version) {
+        return rest.getForEntity("/changes/{application}/default?version={version}", ConfigVersion.class,
+                application, version);
+    }
+
+    private ConfigVersion current(String application) {
+        return poll(application, "").getBody();
+    }
+
+    @Nested
+    @DisplayName("Long-poll Tests")
+    class LongPollTests {
+
+        @Test
+        @DisplayName("Should answer at once when the client holds another version")
+        void shouldAnswerStaleVersion() throws IOException {
+            write("stale", "greeting: hello\n");
+
+            ResponseEntity<ConfigVersion> response = poll("stale", "outdated");
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().sources().keySet()).anyMatch(name -> name.endsWith("stale.yaml"));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 after the timeout when nothing changed")
+        void shouldTimeOutWithNotModified() throws IOException {
+            write("quiet", "greeting: hello\n");
+            String version = current("quiet").version();
+
+            long start = System.nanoTime();
+            ResponseEntity<ConfigVersion> response = poll("quiet", version);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+        }
+
+        @Test
+        @DisplayName("Should wake a waiting client with the changed source")
+        void shouldNotifyChange() throws Exception {
+            write("changing", "greeting: hello\n");
+            write("application", "shared: value\n");
+            ConfigVersion before = current("changing");
+
+            CompletableFuture<ResponseEntity<ConfigVersion>> waiting =
+                    CompletableFuture.supplyAsync(() -> poll("changing", before.version()));
+            write("changing", "greeting: hello again\n");
+            ResponseEntity<ConfigVersion> response = waiting.get(5, TimeUnit.SECONDS);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            ConfigVersion after = response.getBody();
+            assertThat(after.version()).isNotEqualTo(before.version());
+            List<String> changed = after.sources().keySet().stream()
+                    .filter(name -> !after.sources().get(name).equals(before.sources().get(name)))
+                    .toList();
+            assertThat(changed).singleElement().asString().endsWith("changing.yaml");
+        }
+
+        @Test
+        @DisplayName("Should stop watching an application nobody polls")
+        void shouldEvictIdleApplications() throws IOException {
+            write("idle", "greeting: hello\n");
+
+            for (int i = 0; i < 5; i++) {
+                poll("made-up-" + i, "");
+            }
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> notifier.watchedCount() == 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Hash contract Tests")
+    class HashContractTests {
+
+        @Test
+        @DisplayName("Should serve the contract source as the JSON clients hash")
+        void shouldServeContractSource() throws IOException {
+            write("contract", CONTRACT_YAML);
+
+            String body = rest.getForObject("/contract/default", String.class);
+            Map<String, Object> environment = objectMapper.readValue(body, new TypeReference<>() {});
+            @SuppressWarnings("unchecked")
+            Object source = ((List<Map<String, Object>>) environment.get("propertySources")).stream()
+                    .filter(candidate -> candidate.get("name").toString().endsWith("contract.yaml"))
+                    .findFirst().orElseThrow().get("source");
+
+            assertThat(source).isEqualTo(objectMapper.readValue(CONTRACT_JSON, new TypeReference<Map<String, Object>>() {}));
+        }
+
+        @Test
+        @DisplayName("Should version the contract source with the hash clients compute")
+        void shouldVersionWithClientHash() throws IOException {
+            write("contract", CONTRACT_YAML);
+
+            Map<String, String> sources = current("contract").sources();
+
+            assertThat(sources).hasEntrySatisfying(
+                    sources.keySet().stream().filter(name -> name.endsWith("contract.yaml")).findFirst().orElseThrow(),
+                    hash -> assertThat(hash).isEqualTo(CONTRACT_HASH));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.department.configwatch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.config.client.ConfigClientProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.env.Environment;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.Closeable;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Long-polls config-server for changes to this application's configuration. The poll carries the
+ * version last applied and returns as soon as the server's version differs; only the property
+ * sources whose hash changed are then downloaded and handed to the {@link ConfigChangeApplier}.
+ */
+@Slf4j
+public class ConfigWatcher implements Closeable {
+
+    private static final ParameterizedTypeReference<List<ConfigSource>> SOURCES = new ParameterizedTypeReference<>() {
+    };
+
+    private final ConfigChangeApplier applier;
+    private final ConfigWatchProperties properties;
+    private final String application;
+    private final String profile;
+    private final RestClient restClient;
+    private final ExecutorService executor;
+    private volatile boolean running;
+
+    public ConfigWatcher(ConfigChangeApplier applier, ConfigWatchProperties properties, ConfigClientProperties client,
+                         Environment environment) {
+        this.applier = applier;
+        this.properties = properties;
+        // Same name and profiles the config data loader asked for at startup
+        this.application = client.getName() != null
+                ? client.getName() : environment.getProperty("spring.application.name", "application");
+        this.profile = client.getProfile();
+        String uri = properties.getUri() != null ? properties.getUri() : client.getUri()[0];
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newHttpClient());
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        this.restClient = RestClient.builder().baseUrl(uri).requestFactory(requestFactory).build();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("config-watch-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        executor.execute(this::watch);
+    }
+
+    private void watch() {
+        // The version matching the sources loaded at startup, so a change made since then is reported at once
+        String known = applier.localVersion();
+        while (running) {
+            try {
+                ConfigVersion remote = poll(known);
+                if (remote != null && !remote.version().equals(known)) {
+                    sync(remote);
+                    known = remote.version();
+                }
+            } catch (RestClientException e) {
+                log.debug("Config server not reachable: {}", e.getMessage());
+                sleep(properties.getRetryDelay());
+            } catch (RuntimeException e) {
+                log.warn("Could not apply the configuration change: {}", e.getMessage(), e);
+                sleep(properties.getRetryDelay());
+            }
+        }
+    }
+
+    private ConfigVersion poll(String known) {
+        ResponseEntity<ConfigVersion> response = restClient.get()
+                .uri("/changes/{application}/{profile}?version={version}", application, profile, known)
+                .retrieve()
+                .toEntity(ConfigVersion.class);
+        return response.getStatusCode().value() == 304 ? null : response.getBody();
+    }
+
+    private void sync(ConfigVersion remote) {
+        Map<String, String> local = applier.localHashes();
+        List<String> stale = remote.sources().entrySet().stream()
+                .filter(source -> !Objects.equals(local.get(source.getKey()), source.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        List<ConfigSource> changed = List.of();
+        if (!stale.isEmpty()) {
+            sleep(Duration.ofMillis(ThreadLocalRandom.current().nextLong(properties.getMaxJitter().toMillis() + 1)));
+            changed = restClient.get()
+                    .uri(builder -> builder.path("/changes/{application}/{profile}/sources")
+                            .queryParam("name", stale.toArray())
+                            .build(application, profile))
+                    .retrieve()
+                    .body(SOURCES);
+        }
+        ConfigChangeApplier.Applied applied = applier.apply(List.copyOf(remote.sources().keySet()), changed);
+        log.info("Applied configuration version {}: sources {}, keys {}, rebound {}{}", remote.version(), stale,
+                applied.keys(), applied.reboundBeans(), applied.scopeRefreshed() ? ", refresh scope refreshed" : "");
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        executor.shutdownNow();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.department.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "departments", schema = "department")
@@ -20,4 +21,10 @@ public class Department {
     // NEW: Add unique code field
     @Column(nullable = false, unique = true, length = 20)
     private String code;
+
+    // Bumped on every update; ETags are derived from it
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
 }
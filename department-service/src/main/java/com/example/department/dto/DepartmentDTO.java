@@ -3,6 +3,7 @@
 // ========================================
 package com.example.department.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -34,4 +35,9 @@ public class DepartmentDTO {
 
     @Schema(description = "Department description", example = "Software development and engineering team")
     private String description;
+
+    // Sent as the ETag rather than in the body
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
 }
\ No newline at end of file
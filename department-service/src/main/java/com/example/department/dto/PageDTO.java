@@ -0,0 +1,32 @@
+package com.example.department.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Page envelope for calls between services. Unlike a serialized {@code PageImpl} it carries no
+ * {@code pageable} or {@code sort}, and needs no special module to read back. On the wire the
+ * metadata comes before the content, see {@code PageDTOHttpMessageConverter}.
+ */
+@Schema(description = "One page of a listing exchanged between services")
+public record PageDTO<T>(
+        @Schema(description = "Items on this page") List<T> content,
+        @Schema(description = "Page number (0-based)", example = "0") int page,
+        @Schema(description = "Requested page size", example = "20") int size,
+        @Schema(description = "Total number of items; absent when the total was not counted", example = "25")
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long totalElements,
+        @Schema(description = "Whether another page follows", example = "true") boolean hasNext
+) {
+
+    public static <T> PageDTO<T> of(Page<T> page) {
+        return new PageDTO<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(), page.hasNext());
+    }
+
+    public static <T> PageDTO<T> withoutTotal(Slice<T> slice) {
+        return new PageDTO<>(slice.getContent(), slice.getNumber(), slice.getSize(), null, slice.hasNext());
+    }
+}
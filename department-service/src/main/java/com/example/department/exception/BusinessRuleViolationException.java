@@ -1,5 +1,5 @@
 package com.example.department.exception;
-public class BusinessRuleViolationException extends RuntimeException {
+public class BusinessRuleViolationException extends BusinessException {
     private final String rule;
 
     public BusinessRuleViolationException(String rule, String message) {
@@ -3,7 +3,7 @@ package com.example.department.exception;
 import lombok.Getter;
 
 @Getter
-public class DepartmentInUseException extends RuntimeException {
+public class DepartmentInUseException extends BusinessException {
     private final Long departmentId;
     private final long employeeCount;
     private final String departmentName;
@@ -1,6 +1,6 @@
 package com.example.department.exception;
 
-public class DepartmentNotFoundException extends RuntimeException {
+public class DepartmentNotFoundException extends BusinessException {
     private final String resourceId;
 
     public DepartmentNotFoundException(String resourceId) {
@@ -1,6 +1,6 @@
 package com.example.department.exception;
 
-public class DuplicateDepartmentException extends RuntimeException {
+public class DuplicateDepartmentException extends BusinessException {
     private final String field;
     private final String value;
 
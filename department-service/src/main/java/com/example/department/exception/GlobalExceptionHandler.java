@@ -1,9 +1,11 @@
 package com.example.department.exception;
 
 import com.example.department.dto.ErrorResponse;
+import com.example.department.logging.LogRateLimiter;
 import com.example.department.util.TraceIdUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -21,8 +23,15 @@ public class GlobalExceptionHandler {
     private static final String NOT_FOUND_TYPE = "/errors/not-found";
     private static final String CONFLICT_TYPE = "/errors/conflict";
     private static final String DEPARTMENT_IN_USE_TYPE = "/errors/department-in-use";
+    private static final String PRECONDITION_FAILED_TYPE = "/errors/precondition-failed";
     private static final String INTERNAL_ERROR_TYPE = "/errors/internal-error";
 
+    // Missing ids and duplicates are normal traffic: warn about them, but not once per request
+    private static final int BUSINESS_WARNINGS_PER_SECOND = 10;
+
+    private final LogRateLimiter notFoundLog = new LogRateLimiter(BUSINESS_WARNINGS_PER_SECOND);
+    private final LogRateLimiter conflictLog = new LogRateLimiter(BUSINESS_WARNINGS_PER_SECOND);
+
     // ========================================
     // VALIDATION ERRORS (400 BAD REQUEST)
     // ========================================
@@ -56,6 +65,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFields(
+            InvalidFieldsException ex, HttpServletRequest request) {
+
+        String traceId = TraceIdUtil.getCurrentTraceId();
+        log.warn("Invalid fields on {} [traceId={}]: {}", request.getRequestURI(), traceId, ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .type(VALIDATION_ERROR_TYPE)
+                .title("Invalid Fields")
+                .status(HttpStatus.BAD_REQUEST.value())
+                .detail(ex.getMessage())
+                .instance(request.getRequestURI())
+                .traceId(traceId)
+                .guidance("Please request only the listed department properties")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     // ========================================
     // NOT FOUND ERRORS (404 NOT FOUND)
     // ========================================
@@ -64,7 +93,10 @@ public class GlobalExceptionHandler {
             DepartmentNotFoundException ex, HttpServletRequest request) {
 
         String traceId = TraceIdUtil.getCurrentTraceId();
-        log.warn("Department not found on {} [traceId={}]: {}", request.getRequestURI(), traceId, ex.getMessage());
+        if (notFoundLog.tryAcquire()) {
+            log.warn("Department not found on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getRequestURI(), traceId, ex.getMessage(), notFoundLog.takeSuppressed());
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .type(NOT_FOUND_TYPE)
@@ -87,7 +119,10 @@ public class GlobalExceptionHandler {
             DuplicateDepartmentException ex, HttpServletRequest request) {
 
         String traceId = TraceIdUtil.getCurrentTraceId();
-        log.warn("Duplicate department on {} [traceId={}]: {}", request.getRequestURI(), traceId, ex.getMessage());
+        if (conflictLog.tryAcquire()) {
+            log.warn("Duplicate department on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getRequestURI(), traceId, ex.getMessage(), conflictLog.takeSuppressed());
+        }
 
         String guidance = ex.getField().equals("name")
                 ? "Please choose a different department name"
@@ -114,7 +149,10 @@ public class GlobalExceptionHandler {
             DepartmentInUseException ex, HttpServletRequest request) {
 
         String traceId = TraceIdUtil.getCurrentTraceId();
-        log.warn("Department deletion blocked [traceId={}]: {}", traceId, ex.getMessage());
+        if (conflictLog.tryAcquire()) {
+            log.warn("Department deletion blocked [traceId={}]: {} ({} similar suppressed)",
+                    traceId, ex.getMessage(), conflictLog.takeSuppressed());
+        }
 
         String guidance = String.format(
                 "To delete this department: " +
@@ -147,7 +185,10 @@ public class GlobalExceptionHandler {
             BusinessRuleViolationException ex, HttpServletRequest request) {
 
         String traceId = TraceIdUtil.getCurrentTraceId();
-        log.warn("Business rule violation on {} [traceId={}]: {}", request.getRequestURI(), traceId, ex.getMessage());
+        if (conflictLog.tryAcquire()) {
+            log.warn("Business rule violation on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getRequestURI(), traceId, ex.getMessage(), conflictLog.takeSuppressed());
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .type(CONFLICT_TYPE)
@@ -162,6 +203,56 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    // ========================================
+    // STALE WRITES (412 PRECONDITION FAILED, 409 CONFLICT)
+    // ========================================
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(
+            PreconditionFailedException ex, HttpServletRequest request) {
+
+        String traceId = TraceIdUtil.getCurrentTraceId();
+        if (conflictLog.tryAcquire()) {
+            log.warn("Precondition failed on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getRequestURI(), traceId, ex.getMessage(), conflictLog.takeSuppressed());
+        }
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .type(PRECONDITION_FAILED_TYPE)
+                .title("Department Changed")
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .detail(ex.getMessage())
+                .instance(request.getRequestURI())
+                .traceId(traceId)
+                .guidance("Please fetch the department again and retry with its current ETag")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    // Another write committed between our read and our flush
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdate(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+
+        String traceId = TraceIdUtil.getCurrentTraceId();
+        if (conflictLog.tryAcquire()) {
+            log.warn("Concurrent update on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getRequestURI(), traceId, ex.getMessage(), conflictLog.takeSuppressed());
+        }
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .type(CONFLICT_TYPE)
+                .title("Concurrent Update")
+                .status(HttpStatus.CONFLICT.value())
+                .detail("The department was changed by another request")
+                .instance(request.getRequestURI())
+                .traceId(traceId)
+                .guidance("Please fetch the department again and retry the update")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     // ========================================
     // GENERIC ERRORS (500 INTERNAL SERVER ERROR)
     // ========================================
@@ -185,4 +276,3 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 }
-
@@ -0,0 +1,11 @@
+package com.example.department.exception;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+public class InvalidFieldsException extends BusinessException {
+
+    public InvalidFieldsException(String field, Collection<String> known) {
+        super("Unknown field '" + field + "', expected any of " + new TreeSet<>(known));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.department.fields;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler whose response honours the {@code fields} request parameter: properties of the
+ * filtered DTOs that were not asked for are left out of the JSON, see {@link SparseFieldsResponseAdvice}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SparseFields {
+}
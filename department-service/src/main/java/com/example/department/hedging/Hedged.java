@@ -0,0 +1,18 @@
+package com.example.department.hedging;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an idempotent Feign read as safe to hedge: if the first attempt is slower than the
+ * method's recent p95, a second attempt is sent to another instance and the first response wins.
+ * Never put this on calls that change state.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Hedged {
+}
@@ -0,0 +1,53 @@
+package com.example.department.hedging;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring buffer of recent latencies. The percentile is recomputed every tenth of a
+ * window instead of on every call, which keeps the hot path to a single array write.
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+    private final int minSamples;
+    private final int recomputeInterval;
+
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private double cachedPercentile = -1;
+    private long cachedValue = -1;
+
+    LatencyWindow(int size, int minSamples) {
+        this.samples = new long[size];
+        this.minSamples = Math.min(minSamples, size);
+        this.recomputeInterval = Math.max(size / 10, 1);
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        sinceRecompute++;
+    }
+
+    /**
+     * @return the requested percentile in nanoseconds, or -1 while there are too few samples
+     */
+    synchronized long percentile(double percentile) {
+        if (count < minSamples) {
+            return -1;
+        }
+        if (cachedValue < 0 || cachedPercentile != percentile || sinceRecompute >= recomputeInterval) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            cachedValue = sorted[Math.min(Math.max(index, 0), count - 1)];
+            cachedPercentile = percentile;
+            sinceRecompute = 0;
+        }
+        return cachedValue;
+    }
+}
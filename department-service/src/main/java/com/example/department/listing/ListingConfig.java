@@ -0,0 +1,18 @@
+package com.example.department.listing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(TotalEstimateProperties.class)
+public class ListingConfig {
+
+    // Without a JdbcTemplate (no DataSource) every total is a cached count
+    @Bean
+    public TotalEstimator totalEstimator(TotalEstimateProperties properties, ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        return new TotalEstimator(properties, jdbcTemplate.getIfAvailable());
+    }
+}
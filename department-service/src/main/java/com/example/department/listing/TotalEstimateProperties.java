@@ -0,0 +1,22 @@
+package com.example.department.listing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "listing.total-estimate")
+public class TotalEstimateProperties {
+
+    private boolean enabled = true;
+
+    // How long the count of a filter combination is reused
+    private Duration ttl = Duration.ofSeconds(30);
+
+    // Filter combinations kept at once; expired entries are dropped first, then all of them
+    private int maxEntries = 1000;
+
+    // Counts running at once; each holds a connection, and a count beyond this is skipped until a later request
+    private int countThreads = 2;
+}
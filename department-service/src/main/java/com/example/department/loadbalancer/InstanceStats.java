@@ -0,0 +1,74 @@
+package com.example.department.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live load signal of a single service instance: peak-EWMA latency, in-flight requests
+ * and the consecutive-failure counter that drives temporary ejection.
+ */
+class InstanceStats {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private double ewmaNanos;
+    private long lastUpdateNanos;
+    private int consecutiveFailures;
+    private int ejectionCount;
+    private volatile long ejectedUntilNanos;
+
+    void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    synchronized void requestFinished(long latencyNanos, boolean failed, long nowNanos,
+                                      LatencyAwareLoadBalancerProperties properties) {
+        inFlight.updateAndGet(current -> Math.max(current - 1, 0));
+
+        if (latencyNanos > 0) {
+            // Peak-EWMA: a slow response is taken immediately, fast ones pull the average down gradually
+            if (ewmaNanos == 0 || latencyNanos > ewmaNanos) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double elapsed = Math.max(nowNanos - lastUpdateNanos, 0);
+                double weight = Math.exp(-elapsed / properties.getDecayTime().toNanos());
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastUpdateNanos = nowNanos;
+        }
+
+        if (!failed) {
+            consecutiveFailures = 0;
+            if (!isEjected(nowNanos)) {
+                ejectionCount = 0;
+            }
+            return;
+        }
+
+        consecutiveFailures++;
+        if (consecutiveFailures >= properties.getFailureThreshold() && !isEjected(nowNanos)) {
+            ejectionCount++;
+            long ejectionNanos = Math.min(
+                    properties.getBaseEjectionTime().toNanos() * ejectionCount,
+                    properties.getMaxEjectionTime().toNanos());
+            ejectedUntilNanos = nowNanos + ejectionNanos;
+            consecutiveFailures = 0;
+        }
+    }
+
+    boolean isEjected(long nowNanos) {
+        return ejectedUntilNanos != 0 && nowNanos - ejectedUntilNanos < 0;
+    }
+
+    /**
+     * Expected cost of sending one more request here: the latency estimate scaled by the queue
+     * the request would join.
+     */
+    synchronized double cost(LatencyAwareLoadBalancerProperties properties) {
+        double latency = ewmaNanos > 0 ? ewmaNanos : properties.getInitialLatency().toNanos();
+        return latency * (inFlight.get() + 1);
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
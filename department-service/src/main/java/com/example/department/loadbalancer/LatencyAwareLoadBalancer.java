@@ -0,0 +1,133 @@
+package com.example.department.loadbalancer;
+
+import com.example.department.hedging.HedgedAttempts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power-of-two-choices balancer: samples two healthy instances and sends the request to the one
+ * with the lower expected cost (EWMA latency x in-flight requests). Instances that keep failing
+ * are ejected for a while, so a single slow or broken replica stops attracting traffic. The hedge
+ * of a {@code @Hedged} call avoids the instance its primary attempt went to.
+ */
+@Slf4j
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final InstanceStatsRegistry statsRegistry;
+    private final LatencyAwareLoadBalancerProperties properties;
+    private final HedgedAttempts hedgedAttempts;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                    String serviceId,
+                                    InstanceStatsRegistry statsRegistry,
+                                    LatencyAwareLoadBalancerProperties properties,
+                                    HedgedAttempts hedgedAttempts) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.statsRegistry = statsRegistry;
+        this.properties = properties;
+        this.hedgedAttempts = hedgedAttempts;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        ServiceInstance hedgedPrimary = hedgedPrimary(request);
+        return supplier.get(request).next()
+                .map(serviceInstances -> processInstanceResponse(supplier, serviceInstances, hedgedPrimary));
+    }
+
+    private ServiceInstance hedgedPrimary(Request request) {
+        if (request.getContext() instanceof RequestDataContext context && context.getClientRequest() != null
+                && context.getClientRequest().getHeaders() != null) {
+            return hedgedAttempts.primaryInstance(
+                    context.getClientRequest().getHeaders().getFirst(HedgedAttempts.HEDGE_ID_HEADER));
+        }
+        return null;
+    }
+
+    private Response<ServiceInstance> processInstanceResponse(ServiceInstanceListSupplier supplier,
+                                                              List<ServiceInstance> serviceInstances,
+                                                              ServiceInstance hedgedPrimary) {
+        Response<ServiceInstance> response = getInstanceResponse(serviceInstances, hedgedPrimary);
+        if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+            callback.selectedServiceInstance(response.getServer());
+        }
+        return response;
+    }
+
+    private Response<ServiceInstance> getInstanceResponse(List<ServiceInstance> instances,
+                                                          ServiceInstance hedgedPrimary) {
+        if (instances.isEmpty()) {
+            log.warn("No servers available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+
+        List<ServiceInstance> candidates = eligibleInstances(instances);
+        if (hedgedPrimary != null) {
+            List<ServiceInstance> others = candidates.stream()
+                    .filter(instance -> !isSameInstance(instance, hedgedPrimary))
+                    .toList();
+            if (!others.isEmpty()) {
+                candidates = others;
+            }
+        }
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        double costA = statsRegistry.statsFor(a).cost(properties);
+        double costB = statsRegistry.statsFor(b).cost(properties);
+        return new DefaultResponse(costA <= costB ? a : b);
+    }
+
+    private List<ServiceInstance> eligibleInstances(List<ServiceInstance> instances) {
+        long now = System.nanoTime();
+        List<ServiceInstance> healthy = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (!statsRegistry.statsFor(instance).isEjected(now)) {
+                healthy.add(instance);
+            }
+        }
+
+        // Ejection is a latency optimisation, not a circuit breaker: if too much of the fleet
+        // looks broken, keep spreading load over all of it instead of piling onto the survivors
+        int maxEjected = instances.size() * properties.getMaxEjectionPercent() / 100;
+        if (healthy.isEmpty() || instances.size() - healthy.size() > maxEjected) {
+            log.debug("Too many ejected instances for service {}, ignoring ejection", serviceId);
+            return instances;
+        }
+        return healthy;
+    }
+
+    private static boolean isSameInstance(ServiceInstance a, ServiceInstance b) {
+        return a.getHost().equals(b.getHost()) && a.getPort() == b.getPort();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.department.loadbalancer;
+
+import com.example.department.hedging.HedgedAttempts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+
+/**
+ * Feeds the outcome of every load-balanced call back into {@link InstanceStatsRegistry}.
+ */
+@RequiredArgsConstructor
+public class LatencyTrackingLifecycle
+        implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private final InstanceStatsRegistry statsRegistry;
+    private final LatencyAwareLoadBalancerProperties properties;
+    private final HedgedAttempts hedgedAttempts;
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        request.getContext().setRequestStartTime(System.nanoTime());
+        statsRegistry.statsFor(lbResponse.getServer()).requestStarted();
+
+        if (request.getContext().getClientRequest() != null
+                && request.getContext().getClientRequest().getHeaders() != null) {
+            String hedgeId = request.getContext().getClientRequest().getHeaders()
+                    .getFirst(HedgedAttempts.HEDGE_ID_HEADER);
+            if (hedgeId != null) {
+                hedgedAttempts.attemptStarted(hedgeId, lbResponse.getServer());
+            }
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.DISCARD
+                || completionContext.getLoadBalancerResponse() == null
+                || !completionContext.getLoadBalancerResponse().hasServer()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long startTime = completionContext.getLoadBalancerRequest().getContext().getRequestStartTime();
+        long latency = startTime != 0 ? now - startTime : 0;
+
+        statsRegistry.statsFor(completionContext.getLoadBalancerResponse().getServer())
+                .requestFinished(latency, isFailure(completionContext), now, properties);
+    }
+
+    private static boolean isFailure(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> context) {
+        if (context.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        ResponseData response = context.getClientResponse();
+        return response != null && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError();
+    }
+}
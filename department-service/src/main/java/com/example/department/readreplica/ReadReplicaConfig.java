@@ -0,0 +1,86 @@
+package com.example.department.readreplica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource with a primary pool plus one pool per replica. Every pool
+ * takes the {@code spring.datasource.hikari.*} settings and reports {@code hikaricp.*} metrics under
+ * its own pool name ({@code <service>-primary}, {@code <service>-replica-<n>}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "read-replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties dataSourceProperties, ReadReplicaProperties properties,
+                                                 Environment environment, MeterRegistry meterRegistry) {
+        String service = environment.getProperty("spring.application.name", "application");
+        List<HikariDataSource> pools = new ArrayList<>();
+        HikariDataSource primary = pool(service + "-primary", dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(),
+                dataSourceProperties, environment, meterRegistry);
+        pools.add(primary);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+            String name = service + "-replica-" + (i + 1);
+            HikariDataSource pool = pool(name, replica.getUrl(),
+                    replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername(),
+                    replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword(),
+                    dataSourceProperties, environment, meterRegistry);
+            pools.add(pool);
+            replicas.put(name, pool);
+        }
+        ReplicaRoutingDataSource readOnlyRouting = new ReplicaRoutingDataSource(primary, replicas, properties, meterRegistry);
+        return new ReadWriteRoutingDataSource(primary, readOnlyRouting, pools);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         DataSourceProperties dataSourceProperties, Environment environment,
+                                         MeterRegistry meterRegistry) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+
+    // Registered with the transaction manager by Boot, like every TransactionExecutionListener bean
+    @Bean
+    public ReadOnlyRoutingListener readOnlyRoutingListener() {
+        return new ReadOnlyRoutingListener();
+    }
+
+    @Bean
+    public ReadYourWritesListener readYourWritesListener(ReadReplicaProperties properties) {
+        return new ReadYourWritesListener(properties);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadReplicaProperties properties) {
+        return new ReadYourWritesFilter(properties);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.department.readreplica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+/**
+ * The service's DataSource when read replicas are enabled. Connections fetched while a read-only
+ * transaction begins come from {@link ReplicaRoutingDataSource}; writes, and anything running outside
+ * a read-only transaction, use the primary.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final HikariDataSource primary;
+    private final ReplicaRoutingDataSource readOnlyRouting;
+    private final List<HikariDataSource> pools;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, ReplicaRoutingDataSource readOnlyRouting,
+                                      List<HikariDataSource> pools) {
+        this.primary = primary;
+        this.readOnlyRouting = readOnlyRouting;
+        this.pools = pools;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return ReadOnlyRoutingListener.isBeginningReadOnly() ? readOnlyRouting.getConnection() : primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Routed pools use their configured credentials");
+    }
+
+    @Override
+    public void close() {
+        readOnlyRouting.close();
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.department.registry;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.netflix.eureka.EurekaServiceInstance;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The UP instances of a Eureka registry as written to disk, with the registry's hash code so an
+ * unchanged registry is not written again.
+ */
+record RegistrySnapshot(Instant savedAt, String appsHashCode, List<Instance> instances) {
+
+    static RegistrySnapshot of(Applications applications, Instant now) {
+        List<Instance> instances = applications.getRegisteredApplications().stream()
+                .map(Application::getInstances)
+                .flatMap(List::stream)
+                .filter(instance -> instance.getStatus() == InstanceInfo.InstanceStatus.UP)
+                .map(EurekaServiceInstance::new)
+                .map(Instance::of)
+                .toList();
+        return new RegistrySnapshot(now, applications.getAppsHashCode(), instances);
+    }
+
+    record Instance(String serviceId, String instanceId, String host, int port, boolean secure,
+                    Map<String, String> metadata) {
+
+        static Instance of(ServiceInstance instance) {
+            return new Instance(instance.getServiceId(), instance.getInstanceId(), instance.getHost(),
+                    instance.getPort(), instance.isSecure(), Map.copyOf(instance.getMetadata()));
+        }
+
+        ServiceInstance toServiceInstance() {
+            return new DefaultServiceInstance(instanceId, serviceId, host, port, secure, metadata);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.department.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.discovery.EurekaClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnClass(EurekaClient.class)
+@ConditionalOnProperty(prefix = "registry-snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RegistrySnapshotProperties.class)
+public class RegistrySnapshotConfig {
+
+    // Picked up by the composite discovery client next to the Eureka and simple ones
+    @Bean
+    public RegistrySnapshotDiscoveryClient registrySnapshotDiscoveryClient(RegistrySnapshotProperties properties,
+                                                                           ObjectMapper objectMapper,
+                                                                           ObjectProvider<EurekaClient> eurekaClient) {
+        return new RegistrySnapshotDiscoveryClient(new RegistrySnapshotStore(properties.getPath(), objectMapper),
+                eurekaClient, properties.getMaxAge(), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.department.registry;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "registry-snapshot")
+public class RegistrySnapshotProperties {
+
+    private boolean enabled = true;
+
+    // Where the last registry fetched from Eureka is kept across restarts
+    private Path path = Path.of(System.getProperty("java.io.tmpdir"), "registry-snapshot.json");
+
+    // Older snapshots are ignored at startup, their instances are most likely gone
+    private Duration maxAge = Duration.ofHours(24);
+}
@@ -0,0 +1,47 @@
+package com.example.department.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Reads and writes the registry snapshot file. A write goes to a temporary file that replaces the
+ * snapshot in one move, so a crash mid-write never leaves a truncated snapshot behind.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RegistrySnapshotStore {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    Optional<RegistrySnapshot> read() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(path.toFile(), RegistrySnapshot.class));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable registry snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void write(RegistrySnapshot snapshot) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writeValue(temporary.toFile(), snapshot);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
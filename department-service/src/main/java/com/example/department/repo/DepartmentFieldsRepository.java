@@ -0,0 +1,28 @@
+package com.example.department.repo;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads only the given attributes of {@code Department}, for requests that name their fields. Each tuple
+ * element is aliased with its attribute name.
+ */
+public interface DepartmentFieldsRepository {
+
+    // The attributes a select list may name; nothing else is ever concatenated into the query
+    Set<String> ATTRIBUTES = Set.of("id", "name", "code", "description");
+
+    Page<Tuple> findFieldsWithFilters(Set<String> attributes, String nameContains, String codeContains,
+                                      Pageable pageable);
+
+    // Fetches one row past the page to fill hasNext; no count query
+    Slice<Tuple> findFieldSliceWithFilters(Set<String> attributes, String nameContains, String codeContains,
+                                           Pageable pageable);
+
+    Optional<Tuple> findFieldsById(Set<String> attributes, Long id);
+}
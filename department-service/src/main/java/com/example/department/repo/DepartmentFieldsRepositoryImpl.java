@@ -0,0 +1,78 @@
+package com.example.department.repo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class DepartmentFieldsRepositoryImpl implements DepartmentFieldsRepository {
+
+    private static final String COUNT = "SELECT COUNT(d) FROM Department d";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Tuple> findFieldsWithFilters(Set<String> attributes, String nameContains, String codeContains,
+                                             Pageable pageable) {
+        List<Tuple> rows = page(attributes, nameContains, codeContains, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(rows, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery(COUNT + DepartmentRepository.FILTERS, Long.class);
+            return bindFilters(count, nameContains, codeContains).getSingleResult();
+        });
+    }
+
+    @Override
+    public Slice<Tuple> findFieldSliceWithFilters(Set<String> attributes, String nameContains, String codeContains,
+                                                  Pageable pageable) {
+        List<Tuple> rows = page(attributes, nameContains, codeContains, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public Optional<Tuple> findFieldsById(Set<String> attributes, Long id) {
+        return entityManager.createQuery(select(attributes) + " WHERE d.id = :id", Tuple.class)
+                .setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    private List<Tuple> page(Set<String> attributes, String nameContains, String codeContains,
+                             Pageable pageable, int rows) {
+        String jpql = QueryUtils.applySorting(select(attributes) + DepartmentRepository.FILTERS, pageable.getSort(), "d");
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        return bindFilters(query, nameContains, codeContains)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(rows)
+                .getResultList();
+    }
+
+    private static String select(Set<String> attributes) {
+        if (attributes.isEmpty() || !ATTRIBUTES.containsAll(attributes)) {
+            throw new IllegalArgumentException("Cannot select " + attributes + ", known attributes are " + ATTRIBUTES);
+        }
+        return attributes.stream()
+                .map(attribute -> "d." + attribute + " AS " + attribute)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM Department d"));
+    }
+
+    private static <Q extends Query> Q bindFilters(Q query, String nameContains, String codeContains) {
+        query.setParameter("nameContains", nameContains);
+        query.setParameter("codeContains", codeContains);
+        return query;
+    }
+}
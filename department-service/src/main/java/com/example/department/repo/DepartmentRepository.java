@@ -3,6 +3,7 @@ package com.example.department.repo;
 import com.example.department.domain.Department;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,7 +12,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface DepartmentRepository extends JpaRepository<Department, Long> {
+public interface DepartmentRepository extends JpaRepository<Department, Long>, DepartmentFieldsRepository {
     boolean existsByName(String name);
 
     boolean existsByCode(String code);
@@ -21,13 +22,41 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     boolean existsByCodeAndIdNot(String code, Long id);
 
     // NEW: Advanced filtering with pagination
-    @Query("SELECT d FROM Department d WHERE " +
-            "(:nameContains IS NULL OR LOWER(d.name) LIKE LOWER(CONCAT('%', :nameContains, '%'))) AND " +
-            "(:codeContains IS NULL OR LOWER(d.code) LIKE LOWER(CONCAT('%', :codeContains, '%')))")
-    Page<Department> findWithFilters(
+    // Shared by the paged, slice and count variants so they always agree on what matches
+    String FILTERS = " WHERE " +
+            "(:nameContains IS NULL OR LOWER(d.name) LIKE LOWER(CONCAT('%', CAST(:nameContains AS string), '%'))) AND " +
+            "(:codeContains IS NULL OR LOWER(d.code) LIKE LOWER(CONCAT('%', CAST(:codeContains AS string), '%')))";
+
+    // Listings select straight into records instead of loading managed entities
+    String SUMMARY = "SELECT new com.example.department.repo.DepartmentSummary(" +
+            "d.id, d.name, d.code, d.description) FROM Department d";
+
+    @Query(value = SUMMARY + FILTERS, countQuery = "SELECT COUNT(d) FROM Department d" + FILTERS)
+    Page<DepartmentSummary> findWithFilters(
+            @Param("nameContains") String nameContains,
+            @Param("codeContains") String codeContains,
+            Pageable pageable
+    );
+
+    // Fetches one row past the page to fill hasNext; no count query
+    @Query(SUMMARY + FILTERS)
+    Slice<DepartmentSummary> findSliceWithFilters(
             @Param("nameContains") String nameContains,
             @Param("codeContains") String codeContains,
             Pageable pageable
     );
+
+    @Query("SELECT COUNT(d) FROM Department d" + FILTERS)
+    long countWithFilters(
+            @Param("nameContains") String nameContains,
+            @Param("codeContains") String codeContains
+    );
     Optional<Department> findByCode(String code);
+
+    // Version-only lookups answer If-None-Match without reading the row's text columns
+    @Query("SELECT d.version FROM Department d WHERE d.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT d.version FROM Department d WHERE d.code = :code")
+    Optional<Long> findVersionByCode(@Param("code") String code);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.example.department.repo;
+
+/**
+ * Read model of a listed department, selected column by column with a JPQL constructor expression.
+ * Hibernate hands back plain records: nothing enters the persistence context.
+ */
+public record DepartmentSummary(Long id, String name, String code, String description) {
+}
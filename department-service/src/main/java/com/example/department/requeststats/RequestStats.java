@@ -0,0 +1,96 @@
+package com.example.department.requeststats;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Work done on behalf of the current request: JDBC statements, entities materialised by Hibernate and
+ * outbound HTTP calls. Bound to the request thread by {@link RequestStatsFilter}; work outside a request
+ * (startup, schedulers, hedged attempts on their own threads) is not counted.
+ */
+public final class RequestStats {
+
+    private static final ThreadLocal<RequestStats> CURRENT = new ThreadLocal<>();
+
+    private int jdbcStatements;
+    private int entityLoads;
+    private int httpCalls;
+    private boolean budgetChecked;
+    private String budgetViolation;
+
+    // Same SQL or the same Feign method over and over within one request is the N+1 signature
+    private final Map<String, Integer> statementRepeats = new HashMap<>();
+    private final Map<String, Integer> httpCallRepeats = new HashMap<>();
+
+    static RequestStats begin() {
+        RequestStats stats = new RequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestStats current() {
+        return CURRENT.get();
+    }
+
+    static void statementPrepared(String sql) {
+        RequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.jdbcStatements++;
+            stats.statementRepeats.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void entityLoaded() {
+        RequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void httpCallStarted(String method) {
+        RequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.httpCalls++;
+            stats.httpCallRepeats.merge(method, 1, Integer::sum);
+        }
+    }
+
+    public int getJdbcStatements() {
+        return jdbcStatements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getHttpCalls() {
+        return httpCalls;
+    }
+
+    Map<String, Integer> getStatementRepeats() {
+        return statementRepeats;
+    }
+
+    Map<String, Integer> getHttpCallRepeats() {
+        return httpCallRepeats;
+    }
+
+    String getBudgetViolation() {
+        return budgetViolation;
+    }
+
+    void setBudgetViolation(String budgetViolation) {
+        this.budgetViolation = budgetViolation;
+    }
+
+    // The budget is checked once per request, not again for the error body that a violation produces
+    boolean markBudgetChecked() {
+        boolean first = !budgetChecked;
+        budgetChecked = true;
+        return first;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.department.requeststats;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "request-stats")
+public class RequestStatsProperties {
+
+    private boolean enabled = true;
+
+    // Adds X-Request-Jdbc-Statements / -Entity-Loads / -Http-Calls to every response; meant for non-prod
+    private boolean responseHeaders = false;
+
+    // Turns a budget violation into a 500 instead of a warning, so integration tests fail on regressions
+    private boolean failOnBudgetExceeded = false;
+
+    // The same SQL or Feign method this many times in one request is reported as a suspected N+1
+    private int repeatThreshold = 5;
+
+    private List<Budget> budgets = new ArrayList<>();
+
+    @Data
+    public static class Budget {
+
+        // HTTP method and route pattern, e.g. "GET /api/v1/departments/{id}"
+        private String endpoint;
+
+        private Integer jdbcStatements;
+
+        private Integer entityLoads;
+
+        private Integer httpCalls;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.department.requeststats;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checks the request against its budget right before the body is written: all of the handler's
+ * queries and remote calls have happened by then, and a violation can still change the response.
+ * Properties are enabled here as well because {@code @WebMvcTest} slices pick up advice but not
+ * {@link RequestStatsConfig}.
+ */
+@ControllerAdvice
+@EnableConfigurationProperties(RequestStatsProperties.class)
+public class RequestStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String JDBC_STATEMENTS_HEADER = "X-Request-Jdbc-Statements";
+    static final String ENTITY_LOADS_HEADER = "X-Request-Entity-Loads";
+    static final String HTTP_CALLS_HEADER = "X-Request-Http-Calls";
+
+    private final RequestStatsProperties properties;
+    private final Map<String, RequestStatsProperties.Budget> budgets = new HashMap<>();
+
+    public RequestStatsResponseAdvice(RequestStatsProperties properties) {
+        this.properties = properties;
+        properties.getBudgets().forEach(budget -> budgets.put(budget.getEndpoint(), budget));
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestStats stats = RequestStats.current();
+        if (stats == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        if (properties.isResponseHeaders()) {
+            response.getHeaders().set(JDBC_STATEMENTS_HEADER, Integer.toString(stats.getJdbcStatements()));
+            response.getHeaders().set(ENTITY_LOADS_HEADER, Integer.toString(stats.getEntityLoads()));
+            response.getHeaders().set(HTTP_CALLS_HEADER, Integer.toString(stats.getHttpCalls()));
+        }
+        if (stats.markBudgetChecked()) {
+            checkBudget(servletRequest.getServletRequest(), stats);
+        }
+        return body;
+    }
+
+    private void checkBudget(HttpServletRequest request, RequestStats stats) {
+        String uri = RequestStatsFilter.routeOf(request);
+        RequestStatsProperties.Budget budget = budgets.get(request.getMethod() + " " + uri);
+        if (budget == null) {
+            return;
+        }
+        StringBuilder violations = new StringBuilder();
+        exceeds(violations, "JDBC statements", stats.getJdbcStatements(), budget.getJdbcStatements());
+        exceeds(violations, "entity loads", stats.getEntityLoads(), budget.getEntityLoads());
+        exceeds(violations, "HTTP calls", stats.getHttpCalls(), budget.getHttpCalls());
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        String message = "Request budget exceeded on " + budget.getEndpoint() + ":" + violations;
+        stats.setBudgetViolation(message);
+        if (properties.isFailOnBudgetExceeded()) {
+            throw new RequestBudgetExceededException(message);
+        }
+    }
+
+    private static void exceeds(StringBuilder violations, String what, int actual, Integer limit) {
+        if (limit != null && actual > limit) {
+            violations.append(' ').append(what).append(' ').append(actual).append(" > ").append(limit).append(';');
+        }
+    }
+}
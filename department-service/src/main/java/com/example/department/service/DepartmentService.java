@@ -4,25 +4,57 @@ import com.example.department.domain.Department;
 import com.example.department.dto.DepartmentDTO;
 import com.example.department.dto.DepartmentEmployeesDTO;
 import com.example.department.dto.DepartmentPatchDTO;
+import com.example.department.fields.FieldSet;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 public interface DepartmentService {
+
+    // Properties of DepartmentDTO a request may name in fields=
+    Set<String> FIELDS = Set.of("id", "name", "code", "description");
+
     List<Department> findAll();
     DepartmentDTO findById(Long id);
+
+    DepartmentDTO findById(Long id, FieldSet fields);
     DepartmentDTO create(DepartmentDTO createDto);
 
     DepartmentDTO updateDepartment(Long id, @Valid DepartmentDTO updateDto);
 
+    // ifMatch is the raw If-Match header; null writes unconditionally
+    DepartmentDTO updateDepartment(Long id, @Valid DepartmentDTO updateDto, String ifMatch);
+
     DepartmentDTO patchDepartment(Long id, DepartmentPatchDTO patchDto);
 
+    DepartmentDTO patchDepartment(Long id, DepartmentPatchDTO patchDto, String ifMatch);
+
     Page<DepartmentDTO> findAll(int page, int size, String sort, String nameContains, String codeContains);
 
+    Slice<DepartmentDTO> findSlice(int page, int size, String sort, String nameContains, String codeContains);
+
+    // Select only the requested columns
+    Page<DepartmentDTO> findAll(int page, int size, String sort, String nameContains, String codeContains,
+                                FieldSet fields);
+
+    Slice<DepartmentDTO> findSlice(int page, int size, String sort, String nameContains, String codeContains,
+                                   FieldSet fields);
+
+    OptionalLong estimateTotal(String nameContains, String codeContains);
+
     void deleteDepartment(Long id);
 
     DepartmentDTO findByCode(String code);
 
+    // Row versions behind the ETags; empty when there is no such department
+    Optional<Long> findVersionById(Long id);
+
+    Optional<Long> findVersionByCode(String code);
+
     DepartmentEmployeesDTO getDepartmentWithEmployees(Long id, int page, int size, String sort);
 }
\ No newline at end of file
@@ -1,26 +1,41 @@
 package com.example.department.service.impl;
 
 import com.example.department.client.EmployeeClient;
+import com.example.department.conditional.VersionTags;
 import com.example.department.domain.Department;
 import com.example.department.dto.DepartmentDTO;
 import com.example.department.dto.DepartmentEmployeesDTO;
 import com.example.department.dto.DepartmentPatchDTO;
 import com.example.department.dto.EmployeeDTO;
+import com.example.department.dto.PageDTO;
 import com.example.department.exception.DepartmentInUseException;
 import com.example.department.exception.DepartmentNotFoundException;
 import com.example.department.exception.DuplicateDepartmentException;
+import com.example.department.exception.PreconditionFailedException;
+import com.example.department.fields.FieldSet;
+import com.example.department.listing.TotalEstimator;
+import com.example.department.repo.DepartmentFieldsRepository;
 import com.example.department.repo.DepartmentRepository;
+import com.example.department.repo.DepartmentSummary;
 import com.example.department.service.DepartmentService;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -29,7 +44,9 @@ import java.util.List;
 public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentRepository repository;
+    @Lazy // built on the first call, see LazyInitBeanFactoryPostProcessor
     private final EmployeeClient employeeClient; // NEW: Add this dependency
+    private final TotalEstimator totalEstimator;
 
 
     public Page<DepartmentDTO> findAll(int page, int size, String sort,
@@ -39,13 +56,52 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         Pageable pageable = createPageable(page, size, sort);
 
-        Page<Department> departmentPage = repository.findWithFilters(
+        // Rows come back as records, so nothing is attached to the persistence context
+        Page<DepartmentSummary> departmentPage = repository.findWithFilters(
                 nameContains, codeContains, pageable
         );
 
         return departmentPage.map(this::toDTO);
     }
 
+    @Override
+    public Slice<DepartmentDTO> findSlice(int page, int size, String sort,
+                                          String nameContains, String codeContains) {
+        log.debug("Finding department slice: page={}, size={}, sort={}, nameContains={}, codeContains={}",
+                page, size, sort, nameContains, codeContains);
+
+        return repository.findSliceWithFilters(nameContains, codeContains, createPageable(page, size, sort))
+                .map(this::toDTO);
+    }
+
+    @Override
+    public Page<DepartmentDTO> findAll(int page, int size, String sort,
+                                       String nameContains, String codeContains, FieldSet fields) {
+        log.debug("Finding departments: page={}, size={}, sort={}, nameContains={}, codeContains={}, fields={}",
+                page, size, sort, nameContains, codeContains, fields);
+
+        Set<String> columns = columns(fields);
+        return repository.findFieldsWithFilters(columns, nameContains, codeContains, createPageable(page, size, sort))
+                .map(row -> toDTO(row, columns));
+    }
+
+    @Override
+    public Slice<DepartmentDTO> findSlice(int page, int size, String sort,
+                                          String nameContains, String codeContains, FieldSet fields) {
+        log.debug("Finding department slice: page={}, size={}, sort={}, nameContains={}, codeContains={}, fields={}",
+                page, size, sort, nameContains, codeContains, fields);
+
+        Set<String> columns = columns(fields);
+        return repository.findFieldSliceWithFilters(columns, nameContains, codeContains, createPageable(page, size, sort))
+                .map(row -> toDTO(row, columns));
+    }
+
+    @Override
+    public OptionalLong estimateTotal(String nameContains, String codeContains) {
+        return totalEstimator.estimate("department.departments", Arrays.asList(nameContains, codeContains),
+                () -> repository.countWithFilters(nameContains, codeContains));
+    }
+
     // EXISTING: Backward compatibility
     @Override
     public List<Department> findAll() {
@@ -62,6 +118,15 @@ public class DepartmentServiceImpl implements DepartmentService {
         return toDTO(department);
     }
 
+    @Override
+    public DepartmentDTO findById(Long id, FieldSet fields) {
+        log.debug("Finding department with id: {}, fields: {}", id, fields);
+        Set<String> columns = columns(fields);
+        Tuple row = repository.findFieldsById(columns, id)
+                .orElseThrow(() -> new DepartmentNotFoundException(id.toString()));
+        return toDTO(row, columns);
+    }
+
 
     @Transactional
     public DepartmentDTO create(DepartmentDTO createDto) {
@@ -91,10 +156,17 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Transactional
     public DepartmentDTO updateDepartment(Long id, DepartmentDTO updateDto) {
+        return updateDepartment(id, updateDto, null);
+    }
+
+    @Override
+    @Transactional
+    public DepartmentDTO updateDepartment(Long id, DepartmentDTO updateDto, String ifMatch) {
         log.debug("Updating department with id: {}", id);
 
         Department existingDepartment = repository.findById(id)
                 .orElseThrow(() -> new DepartmentNotFoundException(id.toString()));
+        checkIfMatch(ifMatch, existingDepartment);
 
         // Check name uniqueness (excluding current department)
         if (!updateDto.getName().equals(existingDepartment.getName()) &&
@@ -113,7 +185,8 @@ public class DepartmentServiceImpl implements DepartmentService {
         existingDepartment.setCode(updateDto.getCode());
         existingDepartment.setDescription(updateDto.getDescription());
 
-        Department saved = repository.save(existingDepartment);
+        // Flushed here so the returned version, and with it the ETag, is the new one
+        Department saved = repository.saveAndFlush(existingDepartment);
         log.info("Department {} fully updated", id);
 
         return toDTO(saved);
@@ -121,11 +194,18 @@ public class DepartmentServiceImpl implements DepartmentService {
     @Override
     @Transactional
     public DepartmentDTO patchDepartment(Long id, DepartmentPatchDTO patchDto) {
+        return patchDepartment(id, patchDto, null);
+    }
+
+    @Override
+    @Transactional
+    public DepartmentDTO patchDepartment(Long id, DepartmentPatchDTO patchDto, String ifMatch) {
         log.debug("Patching department with id: {}", id);
 
         // Find existing department
         Department existingDepartment = repository.findById(id)
                 .orElseThrow(() -> new DepartmentNotFoundException(id.toString()));
+        checkIfMatch(ifMatch, existingDepartment);
 
         // Update only provided fields with uniqueness checks
         if (patchDto.getName() != null) {
@@ -151,7 +231,7 @@ public class DepartmentServiceImpl implements DepartmentService {
             existingDepartment.setDescription(patchDto.getDescription());
         }
 
-        Department saved = repository.save(existingDepartment);
+        Department saved = repository.saveAndFlush(existingDepartment);
         log.info("Department {} partially updated", id);
 
         return toDTO(saved);
@@ -200,7 +280,7 @@ public class DepartmentServiceImpl implements DepartmentService {
             throw new IllegalArgumentException("Department code cannot be null or empty");
         }
 
-        String trimmedCode = code.trim().toUpperCase(); // Normalize to uppercase
+        String trimmedCode = normalizeCode(code);
         log.debug("Normalized code: {}", trimmedCode);
 
         // Find department by code
@@ -210,6 +290,20 @@ public class DepartmentServiceImpl implements DepartmentService {
         log.debug("Found department: {} (ID: {})", department.getName(), department.getId());
         return toDTO(department);
     }
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return repository.findVersionById(id);
+    }
+
+    // Blank codes come back empty; findByCode then reports them
+    @Override
+    public Optional<Long> findVersionByCode(String code) {
+        if (code == null || code.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        return repository.findVersionByCode(normalizeCode(code));
+    }
+
     @Transactional(readOnly = true)
     public DepartmentEmployeesDTO getDepartmentWithEmployees(Long departmentId, int page, int size, String sort) {
         log.debug("Getting department {} with employees: page={}, size={}, sort={}",
@@ -224,7 +318,9 @@ public class DepartmentServiceImpl implements DepartmentService {
         // STEP 2: Get employees via Employee service (with pagination)
         Page<EmployeeDTO> employees;
         try {
-            employees = employeeClient.getEmployeesByDepartment(departmentId, page, size, sort);
+            PageDTO<EmployeeDTO> employeePage = employeeClient.getEmployeesByDepartment(departmentId, page, size, sort, true);
+            // The response keeps its Page shape; only the call between the services got leaner
+            employees = new PageImpl<>(employeePage.content(), createPageable(page, size, sort), employeePage.totalElements());
             log.debug("Retrieved {} employees for department {}",
                     employees.getNumberOfElements(), department.getName());
 
@@ -263,13 +359,51 @@ public class DepartmentServiceImpl implements DepartmentService {
         return PageRequest.of(page, size);
     }
 
+    private static String normalizeCode(String code) {
+        return code.trim().toUpperCase();
+    }
+
+    // The version check runs against the row as read here; a write committed after that read
+    // still fails at flush, on the @Version column
+    private static void checkIfMatch(String ifMatch, Department department) {
+        if (!VersionTags.matchHolds(ifMatch, department.getVersion())) {
+            throw new PreconditionFailedException(ifMatch, department.getVersion());
+        }
+    }
+
+    private DepartmentDTO toDTO(DepartmentSummary department) {
+        return DepartmentDTO.builder()
+                .id(department.id())
+                .name(department.name())
+                .code(department.code())
+                .description(department.description())
+                .build();
+    }
+
     private DepartmentDTO toDTO(Department department) {
         return DepartmentDTO.builder()
                 .id(department.getId())
                 .name(department.getName())
                 .code(department.getCode())
                 .description(department.getDescription())
+                .version(department.getVersion())
                 .build();
     }
-}
 
+    private DepartmentDTO toDTO(Tuple row, Set<String> columns) {
+        return DepartmentDTO.builder()
+                .id(column(row, columns, "id", Long.class))
+                .name(column(row, columns, "name", String.class))
+                .code(column(row, columns, "code", String.class))
+                .description(column(row, columns, "description", String.class))
+                .build();
+    }
+
+    private static Set<String> columns(FieldSet fields) {
+        return fields.isAll() ? DepartmentFieldsRepository.ATTRIBUTES : fields.names();
+    }
+
+    private static <T> T column(Tuple row, Set<String> columns, String attribute, Class<T> type) {
+        return columns.contains(attribute) ? row.get(attribute, type) : null;
+    }
+}
@@ -2,24 +2,29 @@ package com.example.department.util;
 
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
-import java.util.UUID;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Reads the W3C trace id that Micrometer Tracing puts in the MDC for the current span, so error
+ * responses and logs carry the id of the distributed trace. The generated fallback is only used
+ * outside of a traced request and is not stored, so it cannot leak into the next request on the thread.
+ */
 @Component
 public class TraceIdUtil {
 
     private static final String TRACE_ID_MDC_KEY = "traceId";
+    private static final HexFormat HEX = HexFormat.of();
 
     public static String getCurrentTraceId() {
         String traceId = MDC.get(TRACE_ID_MDC_KEY);
-        if (traceId == null) {
-            traceId = generateTraceId();
-            MDC.put(TRACE_ID_MDC_KEY, traceId);
-        }
-        return traceId;
+        return traceId != null ? traceId : generateTraceId();
     }
 
+    // 32 hex chars like a W3C trace id; ThreadLocalRandom, as UUID.randomUUID() goes through SecureRandom
     private static String generateTraceId() {
-        return UUID.randomUUID().toString().replace("-", "");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(random.nextLong());
     }
 
     public static void setTraceId(String traceId) {
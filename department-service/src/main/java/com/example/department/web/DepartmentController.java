@@ -1,12 +1,17 @@
 package com.example.department.web;
 
 
+import com.example.department.conditional.VersionTags;
 import com.example.department.dto.DepartmentDTO;
 import com.example.department.dto.DepartmentEmployeesDTO;
 import com.example.department.dto.DepartmentPatchDTO;
 import com.example.department.dto.ErrorResponse;
+import com.example.department.dto.SliceDTO;
 import com.example.department.exception.DepartmentInUseException;
 import com.example.department.exception.DepartmentNotFoundException;
+import com.example.department.fields.FieldSet;
+import com.example.department.fields.SparseFields;
+import com.example.department.listing.TotalEstimator;
 import com.example.department.service.DepartmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,11 +23,15 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+import java.util.OptionalLong;
+
 
 
 @RestController
@@ -37,6 +46,7 @@ public class DepartmentController {
     // GET /departments - ENHANCED WITH PAGINATION, SORTING, FILTERING
     // ========================================
     @GetMapping
+    @SparseFields
     @Operation(summary = "Get all departments with pagination",
             description = "Retrieve a paginated list of departments with optional filtering by name and code")
     @ApiResponses(value = {
@@ -53,12 +63,17 @@ public class DepartmentController {
             @Parameter(description = "Filter by department name containing text")
             @RequestParam(required = false) String nameContains,
             @Parameter(description = "Filter by department code containing text")
-            @RequestParam(required = false) String codeContains
+            @RequestParam(required = false) String codeContains,
+            @Parameter(description = "Comma-separated properties to return, e.g. 'id,name'", example = "id,name,code")
+            @RequestParam(required = false) String fields
     ) {
-        log.info("Fetching departments: page={}, size={}, sort={}, nameContains={}, codeContains={}",
-                page, size, sort, nameContains, codeContains);
+        log.info("Fetching departments: page={}, size={}, sort={}, nameContains={}, codeContains={}, fields={}",
+                page, size, sort, nameContains, codeContains, fields);
 
-        Page<DepartmentDTO> departments = departmentService.findAll(page, size, sort, nameContains, codeContains);
+        FieldSet selected = FieldSet.parse(fields, DepartmentService.FIELDS);
+        Page<DepartmentDTO> departments = selected.isAll()
+                ? departmentService.findAll(page, size, sort, nameContains, codeContains)
+                : departmentService.findAll(page, size, sort, nameContains, codeContains, selected);
 
         log.info("Returning {} departments on page {} of {}",
                 departments.getNumberOfElements(), departments.getNumber() + 1, departments.getTotalPages());
@@ -66,24 +81,79 @@ public class DepartmentController {
         return ResponseEntity.ok(departments);
     }
 
+    @GetMapping(params = "count=false")
+    @SparseFields
+    @Operation(summary = "Get departments without a total count",
+            description = "Same filters as the paged listing, but skips the COUNT query and reports hasNext instead. "
+                    + "An approximate total, when available, is returned in the " + TotalEstimator.HEADER + " header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved departments"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    })
+    public ResponseEntity<SliceDTO<DepartmentDTO>> allSliced(
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort criteria (e.g., 'name,asc')", example = "name,asc")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Filter by department name containing text")
+            @RequestParam(required = false) String nameContains,
+            @Parameter(description = "Filter by department code containing text")
+            @RequestParam(required = false) String codeContains,
+            @Parameter(description = "Set to false to skip the total count", example = "false")
+            @RequestParam boolean count,
+            @Parameter(description = "Comma-separated properties to return, e.g. 'id,name'", example = "id,name,code")
+            @RequestParam(required = false) String fields
+    ) {
+        log.info("Fetching department slice: page={}, size={}, sort={}, nameContains={}, codeContains={}, fields={}",
+                page, size, sort, nameContains, codeContains, fields);
+
+        FieldSet selected = FieldSet.parse(fields, DepartmentService.FIELDS);
+        SliceDTO<DepartmentDTO> departments = SliceDTO.of(selected.isAll()
+                ? departmentService.findSlice(page, size, sort, nameContains, codeContains)
+                : departmentService.findSlice(page, size, sort, nameContains, codeContains, selected));
+        OptionalLong total = departmentService.estimateTotal(nameContains, codeContains);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        total.ifPresent(estimate -> response.header(TotalEstimator.HEADER, Long.toString(estimate)));
+        return response.body(departments);
+    }
+
 
 
     // ========================================
     // GET /departments/{id} - SINGLE DEPARTMENT
     // ========================================
     @GetMapping("/{id}")
+    @SparseFields
     @Operation(summary = "Get department by ID", description = "Retrieve a specific department by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved department"),
+            @ApiResponse(responseCode = "304", description = "Department unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Department not found")
     })
     public ResponseEntity<DepartmentDTO> byId(
             @Parameter(description = "Department ID", required = true, example = "1")
-            @PathVariable Long id
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to return, e.g. 'id,name'", example = "id,name,code")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "ETag of a copy the client holds; answered with 304 while it is current")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        log.info("Fetching department with id: {}", id);
-        DepartmentDTO department = departmentService.findById(id);
-        return ResponseEntity.ok(department);
+        log.info("Fetching department with id: {}, fields: {}", id, fields);
+        FieldSet selected = FieldSet.parse(fields, DepartmentService.FIELDS);
+        // Only the full representation is tagged; a sparse one is a different body for the same version
+        if (!selected.isAll()) {
+            return ResponseEntity.ok(departmentService.findById(id, selected));
+        }
+        if (ifNoneMatch != null) {
+            Optional<Long> version = departmentService.findVersionById(id);
+            if (version.isPresent() && VersionTags.noneMatchHits(ifNoneMatch, version.get())) {
+                return notModified(version.get());
+            }
+        }
+        return tagged(departmentService.findById(id));
     }
 
     // ========================================
@@ -115,21 +185,24 @@ public class DepartmentController {
             @ApiResponse(responseCode = "200", description = "Department updated successfully"),
             @ApiResponse(responseCode = "404", description = "Department not found"),
             @ApiResponse(responseCode = "400", description = "Invalid department data"),
-            @ApiResponse(responseCode = "409", description = "Department name or code conflicts with existing department")
+            @ApiResponse(responseCode = "409", description = "Department name or code conflicts with existing department"),
+            @ApiResponse(responseCode = "412", description = "Department changed since the ETag in If-Match")
     })
     public ResponseEntity<DepartmentDTO> updateDepartment(
             @Parameter(description = "Department ID", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "Updated department data", required = true)
-            @Valid @RequestBody DepartmentDTO updateDto
+            @Valid @RequestBody DepartmentDTO updateDto,
+            @Parameter(description = "ETag the update is based on; without it the update is unconditional")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ){
         log.info("Full update of department {}: name={}, code={}, description={}",
                 id, updateDto.getName(), updateDto.getCode(), updateDto.getDescription());
 
-        DepartmentDTO updatedDepartment = departmentService.updateDepartment(id, updateDto);
+        DepartmentDTO updatedDepartment = departmentService.updateDepartment(id, updateDto, ifMatch);
 
         log.info("Department {} fully updated", id);
-        return ResponseEntity.ok(updatedDepartment);
+        return tagged(updatedDepartment);
     }
 
     // ========================================
@@ -141,20 +214,23 @@ public class DepartmentController {
             @ApiResponse(responseCode = "200", description = "Department updated successfully"),
             @ApiResponse(responseCode = "404", description = "Department not found"),
             @ApiResponse(responseCode = "400", description = "Invalid data"),
-            @ApiResponse(responseCode = "409", description = "Department name or code conflicts")
+            @ApiResponse(responseCode = "409", description = "Department name or code conflicts"),
+            @ApiResponse(responseCode = "412", description = "Department changed since the ETag in If-Match")
     })
     public ResponseEntity<DepartmentDTO> patchDepartment(
             @Parameter(description = "Department ID", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "Fields to update (null values are ignored)", required = true)
-            @Valid @RequestBody DepartmentPatchDTO patchDto
+            @Valid @RequestBody DepartmentPatchDTO patchDto,
+            @Parameter(description = "ETag the update is based on; without it the update is unconditional")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     )  {
         log.info("Partial update of department {}: {}", id, patchDto);
 
-        DepartmentDTO patchedDepartment = departmentService.patchDepartment(id, patchDto);
+        DepartmentDTO patchedDepartment = departmentService.patchDepartment(id, patchDto, ifMatch);
 
         log.info("Department {} partially updated", id);
-        return ResponseEntity.ok(patchedDepartment);
+        return tagged(patchedDepartment);
     }
     @DeleteMapping("/{id}")
     @ApiResponses(value = {
@@ -195,18 +271,28 @@ public class DepartmentController {
     @Operation(summary = "Get department by code", description = "Retrieve a department using its unique code")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved department"),
+            @ApiResponse(responseCode = "304", description = "Department unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Department not found")
     })
     public ResponseEntity<DepartmentDTO> findByCode(
             @Parameter(description = "Department code", required = true, example = "ENG")
-            @PathVariable String code
+            @PathVariable String code,
+            @Parameter(description = "ETag of a copy the client holds; answered with 304 while it is current")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     )  {
         log.info("Fetching department with code: {}", code);
 
+        if (ifNoneMatch != null) {
+            Optional<Long> version = departmentService.findVersionByCode(code);
+            if (version.isPresent() && VersionTags.noneMatchHits(ifNoneMatch, version.get())) {
+                return notModified(version.get());
+            }
+        }
+
         DepartmentDTO department = departmentService.findByCode(code);
 
         log.info("Found department: {} (ID: {})", department.getName(), department.getId());
-        return ResponseEntity.ok(department);
+        return tagged(department);
     }
     @GetMapping("/{id}/employees")
     @Operation(summary = "Get department with employees",
@@ -237,4 +323,16 @@ public class DepartmentController {
 
         return ResponseEntity.ok(departmentWithEmployees);
     }
+
+    // The version-derived ETag goes on every full representation of a single department
+    private static ResponseEntity<DepartmentDTO> tagged(DepartmentDTO department) {
+        if (department.getVersion() == null) {
+            return ResponseEntity.ok(department);
+        }
+        return ResponseEntity.ok().eTag(VersionTags.of(department.getVersion())).varyBy(HttpHeaders.ACCEPT).body(department);
+    }
+
+    private static ResponseEntity<DepartmentDTO> notModified(long version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(VersionTags.of(version)).varyBy(HttpHeaders.ACCEPT).build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.department.wireformat;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "wire-format")
+public class WireFormatProperties {
+
+    // Feign clients ask for CBOR; callees without it still answer JSON
+    private boolean cbor = true;
+}
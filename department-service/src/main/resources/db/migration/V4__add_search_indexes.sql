@@ -0,0 +1,13 @@
+-- Indexes for the repository queries (checked by the query-plans module)
+
+-- Trigram indexes serve the LOWER(...) LIKE '%term%' filters; pg_trgm is a trusted extension
+-- The services share the database and migrate at the same time, so only one of them may create it at once
+SELECT pg_advisory_xact_lock(hashtext('pg_trgm'));
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+-- Duplicate name checks and listings sorted by name
+CREATE INDEX IF NOT EXISTS idx_departments_name ON department.departments (name);
+
+-- Name and code filters
+CREATE INDEX IF NOT EXISTS idx_departments_name_trgm ON department.departments USING gin (LOWER(name) public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_departments_code_trgm ON department.departments USING gin (LOWER(code) public.gin_trgm_ops);
@@ -0,0 +1,4 @@
+-- Row version for optimistic locking; the API derives ETags from it
+-- With a constant default PostgreSQL adds the column without rewriting the table
+ALTER TABLE department.departments
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
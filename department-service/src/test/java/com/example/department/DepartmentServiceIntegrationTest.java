@@ -6,7 +6,9 @@ import com.example.department.dto.DepartmentDTO;
 import com.example.department.dto.DepartmentEmployeesDTO;
 import com.example.department.dto.DepartmentPatchDTO;
 import com.example.department.dto.EmployeeDTO;
+import com.example.department.dto.PageDTO;
 import com.example.department.repo.DepartmentRepository;
+import com.example.department.repo.DepartmentSummary;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -104,6 +106,13 @@ class DepartmentServiceIntegrationTest {
                 .build();
     }
 
+    // Listings read records, not entities
+    private static List<DepartmentSummary> summaries(List<Department> departments) {
+        return departments.stream()
+                .map(d -> new DepartmentSummary(d.getId(), d.getName(), d.getCode(), d.getDescription()))
+                .toList();
+    }
+
     // ========================================
     // GET ALL DEPARTMENTS TESTS
     // ========================================
@@ -113,7 +122,7 @@ class DepartmentServiceIntegrationTest {
     void getAllDepartments_ShouldReturnPaginatedResults() {
         // Arrange
         List<Department> departments = List.of(sampleDepartment1, sampleDepartment2);
-        Page<Department> departmentPage = new PageImpl<>(departments, PageRequest.of(0, 10), 2);
+        Page<DepartmentSummary> departmentPage = new PageImpl<>(summaries(departments), PageRequest.of(0, 10), 2);
 
         when(departmentRepository.findWithFilters(isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(departmentPage);
@@ -154,7 +163,7 @@ class DepartmentServiceIntegrationTest {
     void getAllDepartments_WithNameFilter_ShouldReturnFilteredResults() {
         // Arrange
         List<Department> filteredDepartments = List.of(sampleDepartment1);
-        Page<Department> departmentPage = new PageImpl<>(filteredDepartments, PageRequest.of(0, 10), 1);
+        Page<DepartmentSummary> departmentPage = new PageImpl<>(summaries(filteredDepartments), PageRequest.of(0, 10), 1);
 
         when(departmentRepository.findWithFilters(eq("Eng"), isNull(), any(Pageable.class)))
                 .thenReturn(departmentPage);
@@ -181,7 +190,7 @@ class DepartmentServiceIntegrationTest {
     void getAllDepartments_WithSorting_ShouldReturnSortedResults() {
         // Arrange
         List<Department> sortedDepartments = List.of(sampleDepartment1, sampleDepartment2);
-        Page<Department> departmentPage = new PageImpl<>(sortedDepartments,
+        Page<DepartmentSummary> departmentPage = new PageImpl<>(summaries(sortedDepartments),
                 PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name")), 2);
 
         when(departmentRepository.findWithFilters(isNull(), isNull(), any(Pageable.class)))
@@ -400,7 +409,7 @@ class DepartmentServiceIntegrationTest {
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(sampleDepartment1));
         when(departmentRepository.existsByNameAndIdNot("Updated Engineering", 1L)).thenReturn(false);
         when(departmentRepository.existsByCodeAndIdNot("UENG", 1L)).thenReturn(false);
-        when(departmentRepository.save(any(Department.class))).thenReturn(updatedDepartment);
+        when(departmentRepository.saveAndFlush(any(Department.class))).thenReturn(updatedDepartment);
 
         DepartmentDTO updateDto = DepartmentDTO.builder()
                 .name("Updated Engineering")
@@ -466,7 +475,7 @@ class DepartmentServiceIntegrationTest {
                 .build();
 
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(sampleDepartment1));
-        when(departmentRepository.save(any(Department.class))).thenReturn(updatedDepartment);
+        when(departmentRepository.saveAndFlush(any(Department.class))).thenReturn(updatedDepartment);
 
         DepartmentPatchDTO patchDto = DepartmentPatchDTO.builder()
                 .description("Updated description only")
@@ -562,10 +571,10 @@ class DepartmentServiceIntegrationTest {
     void getDepartmentWithEmployees_ShouldReturnDepartmentAndEmployees() {
         // Arrange
         List<EmployeeDTO> employees = List.of(sampleEmployee);
-        Page<EmployeeDTO> employeePage = new PageImpl<>(employees, PageRequest.of(0, 20), 1);
+        PageDTO<EmployeeDTO> employeePage = new PageDTO<>(employees, 0, 20, 1L, false);
 
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(sampleDepartment1));
-        when(employeeClient.getEmployeesByDepartment(eq(1L), eq(0), eq(20), isNull()))
+        when(employeeClient.getEmployeesByDepartment(eq(1L), eq(0), eq(20), isNull(), eq(true)))
                 .thenReturn(employeePage);
 
         // Act
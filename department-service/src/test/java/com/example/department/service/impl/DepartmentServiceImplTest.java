@@ -6,10 +6,13 @@ import com.example.department.dto.DepartmentDTO;
 import com.example.department.dto.DepartmentEmployeesDTO;
 import com.example.department.dto.DepartmentPatchDTO;
 import com.example.department.dto.EmployeeDTO;
+import com.example.department.dto.PageDTO;
 import com.example.department.exception.DepartmentInUseException;
 import com.example.department.exception.DepartmentNotFoundException;
 import com.example.department.exception.DuplicateDepartmentException;
+import com.example.department.exception.PreconditionFailedException;
 import com.example.department.repo.DepartmentRepository;
+import com.example.department.repo.DepartmentSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -61,6 +64,11 @@ class DepartmentServiceImplTest {
                 .build();
     }
 
+    // Listings read records, not entities
+    private static DepartmentSummary summary(Department d) {
+        return new DepartmentSummary(d.getId(), d.getName(), d.getCode(), d.getDescription());
+    }
+
     // ========================================
     // FIND ALL TESTS (Paginated)
     // ========================================
@@ -72,8 +80,8 @@ class DepartmentServiceImplTest {
         @DisplayName("Should return paginated departments with filters")
         void shouldReturnPaginatedDepartmentsWithFilters() {
             // Arrange
-            Page<Department> departmentPage = new PageImpl<>(
-                    List.of(sampleDepartment),
+            Page<DepartmentSummary> departmentPage = new PageImpl<>(
+                    List.of(summary(sampleDepartment)),
                     PageRequest.of(0, 10),
                     1
             );
@@ -97,7 +105,7 @@ class DepartmentServiceImplTest {
         @DisplayName("Should handle sorting parameters correctly")
         void shouldHandleSortingParametersCorrectly() {
             // Arrange
-            Page<Department> departmentPage = new PageImpl<>(List.of(sampleDepartment));
+            Page<DepartmentSummary> departmentPage = new PageImpl<>(List.of(summary(sampleDepartment)));
             when(repository.findWithFilters(any(), any(), any(Pageable.class))).thenReturn(departmentPage);
 
             // Act
@@ -283,7 +291,7 @@ class DepartmentServiceImplTest {
             when(repository.findById(1L)).thenReturn(Optional.of(sampleDepartment));
             when(repository.existsByNameAndIdNot("Software Engineering", 1L)).thenReturn(false);
             when(repository.existsByCodeAndIdNot("SENG", 1L)).thenReturn(false);
-            when(repository.save(any(Department.class))).thenReturn(updatedDepartment);
+            when(repository.saveAndFlush(any(Department.class))).thenReturn(updatedDepartment);
 
             // Act
             DepartmentDTO result = departmentService.updateDepartment(1L, updateDto);
@@ -293,7 +301,7 @@ class DepartmentServiceImplTest {
             assertThat(result.getCode()).isEqualTo("SENG");
 
             verify(repository).findById(1L);
-            verify(repository).save(any(Department.class));
+            verify(repository).saveAndFlush(any(Department.class));
         }
 
         @Test
@@ -306,7 +314,38 @@ class DepartmentServiceImplTest {
             assertThatThrownBy(() -> departmentService.updateDepartment(999L, sampleDepartmentDTO))
                     .isInstanceOf(DepartmentNotFoundException.class);
 
-            verify(repository, never()).save(any());
+            verify(repository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("Should update when If-Match names the current version")
+        void shouldUpdateWhenIfMatchIsCurrent() {
+            // Arrange
+            sampleDepartment.setVersion(3L);
+            when(repository.findById(1L)).thenReturn(Optional.of(sampleDepartment));
+            when(repository.saveAndFlush(sampleDepartment)).thenReturn(sampleDepartment);
+
+            // Act
+            DepartmentDTO result = departmentService.updateDepartment(1L, sampleDepartmentDTO, "\"3\"");
+
+            // Assert
+            assertThat(result.getVersion()).isEqualTo(3L);
+            verify(repository).saveAndFlush(sampleDepartment);
+        }
+
+        @Test
+        @DisplayName("Should refuse the update when If-Match names an older version")
+        void shouldRefuseStaleIfMatch() {
+            // Arrange
+            sampleDepartment.setVersion(3L);
+            when(repository.findById(1L)).thenReturn(Optional.of(sampleDepartment));
+
+            // Act & Assert
+            assertThatThrownBy(() -> departmentService.updateDepartment(1L, sampleDepartmentDTO, "\"2\""))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasMessageContaining("\"3\"");
+
+            verify(repository, never()).saveAndFlush(any());
         }
     }
 
@@ -334,7 +373,7 @@ class DepartmentServiceImplTest {
 
             when(repository.findById(1L)).thenReturn(Optional.of(sampleDepartment));
             when(repository.existsByNameAndIdNot("Updated Engineering", 1L)).thenReturn(false);
-            when(repository.save(any(Department.class))).thenReturn(patchedDepartment);
+            when(repository.saveAndFlush(any(Department.class))).thenReturn(patchedDepartment);
 
             // Act
             DepartmentDTO result = departmentService.patchDepartment(1L, patchDto);
@@ -356,7 +395,7 @@ class DepartmentServiceImplTest {
             DepartmentPatchDTO patchDto = DepartmentPatchDTO.builder().build(); // All fields null
 
             when(repository.findById(1L)).thenReturn(Optional.of(sampleDepartment));
-            when(repository.save(sampleDepartment)).thenReturn(sampleDepartment);
+            when(repository.saveAndFlush(sampleDepartment)).thenReturn(sampleDepartment);
 
             // Act
             DepartmentDTO result = departmentService.patchDepartment(1L, patchDto);
@@ -364,11 +403,25 @@ class DepartmentServiceImplTest {
             // Assert
             assertThat(result.getName()).isEqualTo("Engineering"); // unchanged
             verify(repository).findById(1L);
-            verify(repository).save(sampleDepartment);
+            verify(repository).saveAndFlush(sampleDepartment);
             // No uniqueness checks should be called
             verify(repository, never()).existsByNameAndIdNot(any(), any());
             verify(repository, never()).existsByCodeAndIdNot(any(), any());
         }
+
+        @Test
+        @DisplayName("Should refuse a weak If-Match, which never matches for writes")
+        void shouldRefuseWeakIfMatch() {
+            // Arrange
+            DepartmentPatchDTO patchDto = DepartmentPatchDTO.builder().name("Renamed").build();
+            when(repository.findById(1L)).thenReturn(Optional.of(sampleDepartment));
+
+            // Act & Assert
+            assertThatThrownBy(() -> departmentService.patchDepartment(1L, patchDto, "W/\"0\""))
+                    .isInstanceOf(PreconditionFailedException.class);
+
+            assertThat(sampleDepartment.getName()).isEqualTo("Engineering");
+        }
     }
 
     // ========================================
@@ -489,6 +542,18 @@ class DepartmentServiceImplTest {
 
             verify(repository, never()).findByCode(any());
         }
+
+        @Test
+        @DisplayName("Should look the version up by the normalized code")
+        void shouldFindVersionByNormalizedCode() {
+            // Arrange
+            when(repository.findVersionByCode("ENG")).thenReturn(Optional.of(5L));
+
+            // Act & Assert
+            assertThat(departmentService.findVersionByCode(" eng ")).contains(5L);
+            assertThat(departmentService.findVersionByCode("  ")).isEmpty();
+            verify(repository).findVersionByCode("ENG");
+        }
     }
 
     // ========================================
@@ -518,14 +583,12 @@ class DepartmentServiceImplTest {
                     .departmentId(1L)
                     .build();
 
-            Page<EmployeeDTO> employeePage = new PageImpl<>(
-                    Arrays.asList(employee1, employee2),
-                    PageRequest.of(0, 10),
-                    2
+            PageDTO<EmployeeDTO> employeePage = new PageDTO<>(
+                    Arrays.asList(employee1, employee2), 0, 10, 2L, false
             );
 
             when(repository.findById(1L)).thenReturn(Optional.of(sampleDepartment));
-            when(employeeClient.getEmployeesByDepartment(1L, 0, 10, "firstName,asc"))
+            when(employeeClient.getEmployeesByDepartment(1L, 0, 10, "firstName,asc", true))
                     .thenReturn(employeePage);
 
             // Act
@@ -535,11 +598,12 @@ class DepartmentServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(result.getDepartment().getName()).isEqualTo("Engineering");
             assertThat(result.getEmployees().getContent()).hasSize(2);
+            assertThat(result.getEmployees().getSort()).isEqualTo(Sort.by("firstName"));
             assertThat(result.getTotalEmployees()).isEqualTo(2);
             assertThat(result.getSummary()).contains("Engineering").contains("2 employees");
 
             verify(repository).findById(1L);
-            verify(employeeClient).getEmployeesByDepartment(1L, 0, 10, "firstName,asc");
+            verify(employeeClient).getEmployeesByDepartment(1L, 0, 10, "firstName,asc", true);
         }
 
         @Test
@@ -552,7 +616,7 @@ class DepartmentServiceImplTest {
             assertThatThrownBy(() -> departmentService.getDepartmentWithEmployees(999L, 0, 10, null))
                     .isInstanceOf(DepartmentNotFoundException.class);
 
-            verify(employeeClient, never()).getEmployeesByDepartment(any(), anyInt(), anyInt(), any());
+            verify(employeeClient, never()).getEmployeesByDepartment(any(), anyInt(), anyInt(), any(), anyBoolean());
         }
 
         @Test
@@ -560,7 +624,7 @@ class DepartmentServiceImplTest {
         void shouldHandleEmployeeServiceFailure() {
             // Arrange
             when(repository.findById(1L)).thenReturn(Optional.of(sampleDepartment));
-            when(employeeClient.getEmployeesByDepartment(1L, 0, 10, null))
+            when(employeeClient.getEmployeesByDepartment(1L, 0, 10, null, true))
                     .thenThrow(new RuntimeException("Employee service unavailable"));
 
             // Act & Assert
@@ -569,7 +633,7 @@ class DepartmentServiceImplTest {
                     .hasMessageContaining("Employee service");
 
             verify(repository).findById(1L);
-            verify(employeeClient).getEmployeesByDepartment(1L, 0, 10, null);
+            verify(employeeClient).getEmployeesByDepartment(1L, 0, 10, null, true);
         }
     }
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.example.department.web;
 
+import com.example.department.domain.Department;
 import com.example.department.dto.DepartmentDTO;
 import com.example.department.dto.DepartmentEmployeesDTO;
 import com.example.department.dto.DepartmentPatchDTO;
 import com.example.department.dto.EmployeeDTO;
 import com.example.department.exception.DepartmentInUseException;
 import com.example.department.exception.DepartmentNotFoundException;
+import com.example.department.exception.PreconditionFailedException;
+import com.example.department.fields.FieldSet;
+import com.example.department.fields.SparseFieldsConfig;
 import com.example.department.service.DepartmentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,20 +19,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
@@ -37,6 +46,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(DepartmentController.class)
+@Import(SparseFieldsConfig.class)
 @DisplayName("Department Controller Tests")
 class DepartmentControllerTest {
 
@@ -221,6 +231,97 @@ class DepartmentControllerTest {
 
             verify(departmentService).findById(999L);
         }
+
+        @Test
+        @DisplayName("Should return only the requested fields")
+        void shouldReturnRequestedFieldsOnly() throws Exception {
+            // Given
+            DepartmentDTO named = DepartmentDTO.builder().id(1L).name("Engineering").build();
+            when(departmentService.findById(eq(1L), any(FieldSet.class))).thenReturn(named);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/departments/{id}", 1L).param("fields", "id,name"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is(1)))
+                    .andExpect(jsonPath("$.name", is("Engineering")))
+                    .andExpect(jsonPath("$.code").doesNotExist())
+                    .andExpect(jsonPath("$.description").doesNotExist());
+
+            verify(departmentService).findById(eq(1L), argThat((FieldSet fields) ->
+                    fields.names().equals(Set.of("id", "name"))));
+        }
+
+        @Test
+        @DisplayName("Should tag the department with its version")
+        void shouldReturnVersionETag() throws Exception {
+            // Given
+            sampleDepartment.setVersion(3L);
+            when(departmentService.findById(1L)).thenReturn(sampleDepartment);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/departments/{id}", 1L))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"3\""))
+                    .andExpect(header().string("Vary", "Accept"))
+                    .andExpect(jsonPath("$.version").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should answer a current If-None-Match with 304 from the version alone")
+        void shouldReturn304ForCurrentETag() throws Exception {
+            // Given
+            when(departmentService.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/departments/{id}", 1L).header("If-None-Match", "\"3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"3\""))
+                    .andExpect(header().string("Vary", "Accept"))
+                    .andExpect(content().string(""));
+
+            verify(departmentService, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return the department when If-None-Match is stale")
+        void shouldReturnDepartmentForStaleETag() throws Exception {
+            // Given
+            sampleDepartment.setVersion(4L);
+            when(departmentService.findVersionById(1L)).thenReturn(Optional.of(4L));
+            when(departmentService.findById(1L)).thenReturn(sampleDepartment);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/departments/{id}", 1L).header("If-None-Match", "\"3\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"4\""))
+                    .andExpect(jsonPath("$.name", is("Engineering")));
+        }
+
+        @Test
+        @DisplayName("Should neither tag nor revalidate a sparse representation")
+        void shouldNotTagSparseRepresentation() throws Exception {
+            // Given
+            DepartmentDTO named = DepartmentDTO.builder().id(1L).name("Engineering").build();
+            when(departmentService.findById(eq(1L), any(FieldSet.class))).thenReturn(named);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/departments/{id}", 1L)
+                            .param("fields", "id,name")
+                            .header("If-None-Match", "\"3\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("ETag"));
+
+            verify(departmentService, never()).findVersionById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown field")
+        void shouldReturn400ForUnknownField() throws Exception {
+            mockMvc.perform(get("/api/v1/departments/{id}", 1L).param("fields", "id,budget"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title", is("Invalid Fields")))
+                    .andExpect(jsonPath("$.detail", containsString("budget")));
+        }
     }
 
     @Nested
@@ -256,6 +357,20 @@ class DepartmentControllerTest {
 
             verify(departmentService).findByCode("INVALID");
         }
+
+        @Test
+        @DisplayName("Should answer a current If-None-Match with 304")
+        void shouldReturn304ForCurrentETag() throws Exception {
+            // Given
+            when(departmentService.findVersionByCode("ENG")).thenReturn(Optional.of(2L));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/departments/by-code/{code}", "ENG").header("If-None-Match", "W/\"2\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"2\""));
+
+            verify(departmentService, never()).findByCode(anyString());
+        }
     }
 
     @Nested
@@ -350,7 +465,7 @@ class DepartmentControllerTest {
                     .description("Updated description")
                     .build();
 
-            when(departmentService.updateDepartment(eq(1L), any(DepartmentDTO.class)))
+            when(departmentService.updateDepartment(eq(1L), any(DepartmentDTO.class), isNull()))
                     .thenReturn(updatedDepartment);
 
             // When & Then
@@ -363,7 +478,7 @@ class DepartmentControllerTest {
                     .andExpect(jsonPath("$.code", is("UEG")))
                     .andExpect(jsonPath("$.description", is("Updated description")));
 
-            verify(departmentService).updateDepartment(eq(1L), any(DepartmentDTO.class));
+            verify(departmentService).updateDepartment(eq(1L), any(DepartmentDTO.class), isNull());
         }
 
         @Test
@@ -375,7 +490,7 @@ class DepartmentControllerTest {
                     .code("UPD")
                     .build();
 
-            when(departmentService.updateDepartment(eq(999L), any(DepartmentDTO.class)))
+            when(departmentService.updateDepartment(eq(999L), any(DepartmentDTO.class), isNull()))
                     .thenThrow(new DepartmentNotFoundException("Department not found"));
 
             // When & Then
@@ -384,7 +499,60 @@ class DepartmentControllerTest {
                             .content(objectMapper.writeValueAsString(updateRequest)))
                     .andExpect(status().isNotFound());
 
-            verify(departmentService).updateDepartment(eq(999L), any(DepartmentDTO.class));
+            verify(departmentService).updateDepartment(eq(999L), any(DepartmentDTO.class), isNull());
+        }
+
+        @Test
+        @DisplayName("Should pass If-Match on and tag the response with the new version")
+        void shouldUpdateConditionally() throws Exception {
+            // Given
+            DepartmentDTO updated = DepartmentDTO.builder()
+                    .id(1L)
+                    .name("Engineering")
+                    .code("ENG")
+                    .version(4L)
+                    .build();
+            when(departmentService.updateDepartment(eq(1L), any(DepartmentDTO.class), eq("\"3\"")))
+                    .thenReturn(updated);
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/departments/{id}", 1L)
+                            .header("If-Match", "\"3\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(sampleDepartment)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"4\""));
+        }
+
+        @Test
+        @DisplayName("Should return 412 when If-Match names an older version")
+        void shouldReturn412ForStaleIfMatch() throws Exception {
+            // Given
+            when(departmentService.updateDepartment(eq(1L), any(DepartmentDTO.class), eq("\"2\"")))
+                    .thenThrow(new PreconditionFailedException("\"2\"", 3L));
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/departments/{id}", 1L)
+                            .header("If-Match", "\"2\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(sampleDepartment)))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.title", is("Department Changed")));
+        }
+
+        @Test
+        @DisplayName("Should return 409 when a concurrent update wins")
+        void shouldReturn409ForConcurrentUpdate() throws Exception {
+            // Given
+            when(departmentService.updateDepartment(eq(1L), any(DepartmentDTO.class), isNull()))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(Department.class, 1L));
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/departments/{id}", 1L)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(sampleDepartment)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.title", is("Concurrent Update")));
         }
     }
 
@@ -407,7 +575,7 @@ class DepartmentControllerTest {
                     .description("Software development team") // unchanged
                     .build();
 
-            when(departmentService.patchDepartment(eq(1L), any(DepartmentPatchDTO.class)))
+            when(departmentService.patchDepartment(eq(1L), any(DepartmentPatchDTO.class), isNull()))
                     .thenReturn(patchedDepartment);
 
             // When & Then
@@ -420,7 +588,7 @@ class DepartmentControllerTest {
                     .andExpect(jsonPath("$.code", is("ENG")))
                     .andExpect(jsonPath("$.description", is("Software development team")));
 
-            verify(departmentService).patchDepartment(eq(1L), any(DepartmentPatchDTO.class));
+            verify(departmentService).patchDepartment(eq(1L), any(DepartmentPatchDTO.class), isNull());
         }
 
         @Test
@@ -0,0 +1,131 @@
+package com.example.discovery.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts the registry fetches clients make and the bytes each one is answered with, by fetch type:
+ * {@code full} for {@code GET /eureka/apps}, {@code delta} for {@code GET /eureka/apps/delta} and
+ * {@code application} or {@code instance} for a single application or instance. Heartbeats and
+ * registrations, which use the same paths with other methods, pass through uncounted.
+ */
+@RequiredArgsConstructor
+public class RegistryFetchMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CountingResponse counting = new CountingResponse(response);
+        try {
+            chain.doFilter(request, counting);
+        } finally {
+            String type = fetchType(request.getRequestURI().substring(request.getContextPath().length()));
+            Counter.builder("eureka.registry.fetches")
+                    .description("Registry fetches served to Eureka clients")
+                    .tag("type", type)
+                    .tag("status", String.valueOf(counting.getStatus()))
+                    .register(meterRegistry)
+                    .increment();
+            DistributionSummary.builder("eureka.registry.fetch.size")
+                    .description("Bytes written in answer to a registry fetch")
+                    .baseUnit("bytes")
+                    .tag("type", type)
+                    .register(meterRegistry)
+                    .record(counting.bytesWritten());
+        }
+    }
+
+    // Paths below /eureka/apps: "", "/delta", "/{app}" or "/{app}/{instanceId}"
+    static String fetchType(String path) {
+        String rest = path.substring(path.indexOf("/apps") + "/apps".length());
+        if (rest.isEmpty() || rest.equals("/")) {
+            return "full";
+        }
+        if (rest.equals("/delta")) {
+            return "delta";
+        }
+        return rest.indexOf('/', 1) < 0 ? "application" : "instance";
+    }
+
+    private static class CountingResponse extends HttpServletResponseWrapper {
+
+        private CountingOutputStream outputStream;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        long bytesWritten() {
+            return outputStream != null ? outputStream.count : 0;
+        }
+    }
+
+    private static class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private long count;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
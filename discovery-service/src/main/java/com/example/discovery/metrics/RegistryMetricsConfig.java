@@ -0,0 +1,39 @@
+package com.example.discovery.metrics;
+
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class RegistryMetricsConfig {
+
+    // Registered for the fetch paths only, so heartbeats and the dashboard never reach the filter
+    @Bean
+    public FilterRegistrationBean<RegistryFetchMetricsFilter> registryFetchMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RegistryFetchMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RegistryFetchMetricsFilter(meterRegistry));
+        registration.addUrlPatterns("/eureka/apps", "/eureka/apps/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // Registry size as clients see it in a full fetch; read on every scrape
+    @Bean
+    public MeterBinder registrySizeMetrics(PeerAwareInstanceRegistry registry) {
+        return meterRegistry -> {
+            Gauge.builder("eureka.registry.applications", registry,
+                            eureka -> eureka.getApplications().getRegisteredApplications().size())
+                    .description("Applications in the Eureka registry")
+                    .register(meterRegistry);
+            Gauge.builder("eureka.registry.instances", registry,
+                            eureka -> eureka.getApplications().size())
+                    .description("Instances in the Eureka registry")
+                    .register(meterRegistry);
+        };
+    }
+}
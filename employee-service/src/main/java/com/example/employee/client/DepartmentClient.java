@@ -1,6 +1,7 @@
 package com.example.employee.client;
 
 import com.example.employee.dto.DepartmentDTO;
+import com.example.employee.hedging.Hedged;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 @FeignClient(name = "DEPARTMENT-SERVICE", path = "/api/v1/departments")
 public interface DepartmentClient {
 
+    @Hedged
     @GetMapping("/{id}")
     DepartmentDTO getDepartment(@PathVariable("id") Long id);
 }
@@ -0,0 +1,63 @@
+package com.example.employee.conditional;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Entity tags derived from the {@code @Version} column: {@code "3"} for version 3. The tag names a
+ * version of the stored row, so JSON and CBOR responses for it carry the same one. Tagged responses
+ * therefore send {@code Vary: Accept}, which keeps a shared cache from answering one format with the other.
+ */
+public final class VersionTags {
+
+    private VersionTags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Tag for a body that also carries data from another service, such as an employee enriched with its
+     * department: {@code W/"3-<digest>"}. That data has no version here, so the tag covers a digest of it
+     * and is weak, which keeps it out of If-Match.
+     */
+    public static String of(long version, Object related) {
+        String digest = DigestUtils.md5DigestAsHex(String.valueOf(related).getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + version + "-" + digest + "\"";
+    }
+
+    // If-None-Match uses the weak comparison: W/"3" still means version 3
+    public static boolean noneMatchHits(String ifNoneMatch, long version) {
+        return matches(ifNoneMatch, of(version), true);
+    }
+
+    public static boolean noneMatchHits(String ifNoneMatch, String tag) {
+        return matches(ifNoneMatch, tag.startsWith("W/") ? tag.substring(2) : tag, true);
+    }
+
+    // If-Match uses the strong comparison, and a missing header lets the write through
+    public static boolean matchHolds(String ifMatch, long version) {
+        return ifMatch == null || matches(ifMatch, of(version), false);
+    }
+
+    private static boolean matches(String header, String current, boolean weak) {
+        for (String tag : header.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                if (!weak) {
+                    continue;
+                }
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.employee.configwatch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBean;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.env.OriginTrackedMapPropertySource;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.properties.ConfigurationPropertiesRebinder;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Swaps changed config-server property sources into the running environment and refreshes only what
+ * depends on them: the {@code @ConfigurationProperties} beans whose prefix covers a changed key are
+ * rebound, and refresh-scoped beans are recreated only for keys no such bean owns. Unlike
+ * {@code /actuator/refresh}, nothing is reloaded from the config server and unaffected beans are left alone.
+ */
+@Slf4j
+public class ConfigChangeApplier {
+
+    // Prefix Spring Cloud Config gives the property sources it loads through spring.config.import
+    static final String SOURCE_PREFIX = "configserver:";
+
+    private final ConfigurableApplicationContext context;
+    private final ConfigurationPropertiesRebinder rebinder;
+    private final ObjectProvider<RefreshScope> refreshScope;
+
+    public ConfigChangeApplier(ConfigurableApplicationContext context, ConfigurationPropertiesRebinder rebinder,
+                               ObjectProvider<RefreshScope> refreshScope) {
+        this.context = context;
+        this.rebinder = rebinder;
+        this.refreshScope = refreshScope;
+    }
+
+    record Applied(Set<String> keys, Set<String> reboundBeans, boolean scopeRefreshed) {
+    }
+
+    /** Hash per config-server source currently in the environment, in precedence order. */
+    Map<String, String> localHashes() {
+        Map<String, String> hashes = new LinkedHashMap<>();
+        for (PropertySource<?> source : context.getEnvironment().getPropertySources()) {
+            if (source.getName().startsWith(SOURCE_PREFIX) && source instanceof EnumerablePropertySource<?> enumerable) {
+                hashes.put(source.getName().substring(SOURCE_PREFIX.length()), hash(properties(enumerable)));
+            }
+        }
+        return hashes;
+    }
+
+    String localVersion() {
+        StringBuilder all = new StringBuilder();
+        localHashes().forEach((name, hash) -> all.append(name).append('=').append(hash).append('\n'));
+        return sha256(all.toString());
+    }
+
+    /**
+     * Brings the environment's config-server sources in line with {@code order}: {@code changed} sources
+     * are replaced or added, sources missing from {@code order} are removed.
+     */
+    Applied apply(List<String> order, List<ConfigSource> changed) {
+        ConfigurableEnvironment environment = context.getEnvironment();
+        MutablePropertySources sources = environment.getPropertySources();
+
+        Set<String> candidates = new LinkedHashSet<>();
+        Set<String> removed = new LinkedHashSet<>(localHashes().keySet());
+        order.forEach(removed::remove);
+        for (String name : removed) {
+            if (sources.get(SOURCE_PREFIX + name) instanceof EnumerablePropertySource<?> enumerable) {
+                candidates.addAll(List.of(enumerable.getPropertyNames()));
+            }
+        }
+        for (ConfigSource source : changed) {
+            candidates.addAll(source.source().keySet());
+            if (sources.get(SOURCE_PREFIX + source.name()) instanceof EnumerablePropertySource<?> enumerable) {
+                candidates.addAll(List.of(enumerable.getPropertyNames()));
+            }
+        }
+        Map<String, String> before = values(environment, candidates);
+
+        removed.forEach(name -> sources.remove(SOURCE_PREFIX + name));
+        for (ConfigSource source : changed) {
+            insert(sources, order, new OriginTrackedMapPropertySource(SOURCE_PREFIX + source.name(), source.source(), true));
+        }
+
+        Map<String, String> after = values(environment, candidates);
+        Set<String> keys = new LinkedHashSet<>();
+        candidates.forEach(key -> {
+            if (!Objects.equals(before.get(key), after.get(key))) {
+                keys.add(key);
+            }
+        });
+        if (keys.isEmpty()) {
+            return new Applied(keys, Set.of(), false);
+        }
+        return refresh(keys);
+    }
+
+    private Applied refresh(Set<String> keys) {
+        Set<String> rebound = new LinkedHashSet<>();
+        Set<String> owned = new LinkedHashSet<>();
+        for (String beanName : rebinder.getBeanNames()) {
+            ConfigurationPropertyName prefix = prefixOf(beanName);
+            if (prefix == null) {
+                continue;
+            }
+            List<String> beanKeys = keys.stream().filter(key -> covers(prefix, key)).toList();
+            if (!beanKeys.isEmpty() && rebinder.rebind(beanName)) {
+                rebound.add(beanName);
+                owned.addAll(beanKeys);
+            }
+        }
+        // Logging levels are applied by the LoggingRebinder on the change event itself
+        List<String> unowned = keys.stream()
+                .filter(key -> !owned.contains(key) && !key.startsWith("logging.level."))
+                .toList();
+        RefreshScope scope = refreshScope.getIfAvailable();
+        boolean scopeRefreshed = !unowned.isEmpty() && scope != null;
+        if (scopeRefreshed) {
+            scope.refreshAll();
+        }
+        // Not sourced from the context, so the rebinder does not rebind every bean again
+        context.publishEvent(new EnvironmentChangeEvent(this, keys));
+        return new Applied(keys, rebound, scopeRefreshed);
+    }
+
+    private ConfigurationPropertyName prefixOf(String beanName) {
+        try {
+            ConfigurationPropertiesBean bean =
+                    ConfigurationPropertiesBean.get(context, context.getBean(beanName), beanName);
+            String prefix = bean != null ? bean.getAnnotation().prefix() : "";
+            return prefix.isEmpty() ? null : ConfigurationPropertyName.of(prefix);
+        } catch (RuntimeException e) {
+            log.debug("Cannot determine the prefix of {}: {}", beanName, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean covers(ConfigurationPropertyName prefix, String key) {
+        ConfigurationPropertyName name = ConfigurationPropertyName.adapt(key, '.');
+        return prefix.equals(name) || prefix.isAncestorOf(name);
+    }
+
+    // Where the source goes relative to its neighbours in the server's precedence order
+    private static void insert(MutablePropertySources sources, List<String> order, PropertySource<?> source) {
+        if (sources.contains(source.getName())) {
+            sources.replace(source.getName(), source);
+            return;
+        }
+        int index = order.indexOf(source.getName().substring(SOURCE_PREFIX.length()));
+        for (int i = index + 1; i < order.size(); i++) {
+            if (sources.contains(SOURCE_PREFIX + order.get(i))) {
+                sources.addBefore(SOURCE_PREFIX + order.get(i), source);
+                return;
+            }
+        }
+        for (int i = index - 1; i >= 0; i--) {
+            if (sources.contains(SOURCE_PREFIX + order.get(i))) {
+                sources.addAfter(SOURCE_PREFIX + order.get(i), source);
+                return;
+            }
+        }
+        sources.addLast(source);
+    }
+
+    private static Map<String, String> values(ConfigurableEnvironment environment, Set<String> keys) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : keys) {
+            try {
+                values.put(key, environment.getProperty(key));
+            } catch (IllegalArgumentException e) {
+                // Unresolvable placeholder: counts as changed whenever the raw value changed
+                values.put(key, "!" + e.getMessage());
+            }
+        }
+        return values;
+    }
+
+    private static Map<String, Object> properties(EnumerablePropertySource<?> source) {
+        Map<String, Object> properties = new HashMap<>();
+        for (String name : source.getPropertyNames()) {
+            properties.put(name, source.getProperty(name));
+        }
+        return properties;
+    }
+
+    // Same as config-server: sorted keys with the string form of their values
+    static String hash(Map<String, ?> properties) {
+        StringBuilder content = new StringBuilder();
+        new TreeMap<>(properties).forEach((key, value) -> content.append(key).append('=').append(value).append('\n'));
+        return sha256(content.toString());
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
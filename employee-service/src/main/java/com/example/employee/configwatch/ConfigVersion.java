@@ -0,0 +1,10 @@
+package com.example.employee.configwatch;
+
+import java.util.Map;
+
+/**
+ * Configuration version as announced by config-server: a hash per property source in precedence
+ * order, and one over all of them.
+ */
+record ConfigVersion(String version, Map<String, String> sources) {
+}
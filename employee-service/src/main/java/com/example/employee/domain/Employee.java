@@ -2,6 +2,7 @@ package com.example.employee.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "employees", schema = "employee")
@@ -18,4 +19,9 @@ public class Employee {
     private String email;
     @Column(name = "department_id")
     private Long departmentId;
+    // Bumped on every update; ETags are derived from it
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
 }
@@ -1,4 +1,5 @@
 package com.example.employee.dto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -35,4 +36,9 @@ public class EmployeeDTO {
 
     @Schema(description = "Department details (included when enriched)")
     private DepartmentDTO department;
+
+    // Sent as the ETag rather than in the body
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Schema(description = "One page of a listing served without a total count")
+public record SliceDTO<T>(
+        @Schema(description = "Items on this page") List<T> content,
+        @Schema(description = "Page number (0-based)", example = "0") int page,
+        @Schema(description = "Requested page size", example = "20") int size,
+        @Schema(description = "Whether another page follows", example = "true") boolean hasNext
+) {
+
+    public static <T> SliceDTO<T> of(Slice<T> slice) {
+        return new SliceDTO<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.employee.exception;
+
+/**
+ * Base for the exceptions the API answers with a 4xx as part of normal traffic (missing ids, duplicates,
+ * rule violations). They carry no stack trace and no suppressed list: the handler only needs the message,
+ * and filling in the frames of a deep MVC call stack is most of the cost of throwing.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
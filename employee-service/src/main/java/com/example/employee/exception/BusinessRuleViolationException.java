@@ -3,7 +3,7 @@ package com.example.employee.exception;
 import java.util.HashMap;
 import java.util.Map;
 
-public class BusinessRuleViolationException extends RuntimeException {
+public class BusinessRuleViolationException extends BusinessException {
     private final String rule;
     private final Map<String, Object> context;
 
@@ -1,6 +1,6 @@
 package com.example.employee.exception;
 
-public class DuplicateEmployeeException extends RuntimeException {
+public class DuplicateEmployeeException extends BusinessException {
     private final String field;
     private final String value;
 
@@ -1,7 +1,7 @@
 package com.example.employee.exception;
 
 
-public class EmployeeNotFoundException extends RuntimeException {
+public class EmployeeNotFoundException extends BusinessException {
     private final String resourceId;
 
     public EmployeeNotFoundException(String resourceId) {
@@ -1,9 +1,12 @@
 package com.example.employee.exception;
 
 import com.example.employee.dto.ErrorResponse;
+import com.example.employee.logging.LogRateLimiter;
 import com.example.employee.util.TraceIdUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -15,14 +18,22 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Slf4j
 public class GlobalExceptionHandler {
 
     private static final String VALIDATION_ERROR_TYPE = "/errors/validation-error";
     private static final String NOT_FOUND_TYPE = "/errors/not-found";
     private static final String CONFLICT_TYPE = "/errors/conflict";
+    private static final String PRECONDITION_FAILED_TYPE = "/errors/precondition-failed";
     private static final String INTERNAL_ERROR_TYPE = "/errors/internal-error";
 
+    // Missing ids and duplicates are normal traffic: warn about them, but not once per request
+    private static final int BUSINESS_WARNINGS_PER_SECOND = 10;
+
+    private final LogRateLimiter notFoundLog = new LogRateLimiter(BUSINESS_WARNINGS_PER_SECOND);
+    private final LogRateLimiter conflictLog = new LogRateLimiter(BUSINESS_WARNINGS_PER_SECOND);
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponse> handleValidationErrors(
@@ -50,13 +61,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidFieldsException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleInvalidFields(
+            InvalidFieldsException ex, HttpServletRequest request) {
+
+        String traceId = TraceIdUtil.getCurrentTraceId();
+        log.warn("Invalid fields on {} [traceId={}]: {}", request.getRequestURI(), traceId, ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                VALIDATION_ERROR_TYPE,
+                "Invalid Fields",
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                traceId
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler({EmployeeNotFoundException.class})
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResponseEntity<ErrorResponse> handleNotFound(
             RuntimeException ex, HttpServletRequest request) {
 
         String traceId = TraceIdUtil.getCurrentTraceId();
-        log.warn("Resource not found on {} [traceId={}]: {}", request.getRequestURI(), traceId, ex.getMessage());
+        if (notFoundLog.tryAcquire()) {
+            log.warn("Resource not found on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getRequestURI(), traceId, ex.getMessage(), notFoundLog.takeSuppressed());
+        }
 
         ErrorResponse errorResponse = new ErrorResponse(
                 NOT_FOUND_TYPE,
@@ -76,7 +110,10 @@ public class GlobalExceptionHandler {
             RuntimeException ex, HttpServletRequest request) {
 
         String traceId = TraceIdUtil.getCurrentTraceId();
-        log.warn("Business rule violation on {} [traceId={}]: {}", request.getRequestURI(), traceId, ex.getMessage());
+        if (conflictLog.tryAcquire()) {
+            log.warn("Business rule violation on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getRequestURI(), traceId, ex.getMessage(), conflictLog.takeSuppressed());
+        }
 
         ErrorResponse errorResponse = new ErrorResponse(
                 CONFLICT_TYPE,
@@ -90,6 +127,53 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(
+            PreconditionFailedException ex, HttpServletRequest request) {
+
+        String traceId = TraceIdUtil.getCurrentTraceId();
+        if (conflictLog.tryAcquire()) {
+            log.warn("Precondition failed on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getRequestURI(), traceId, ex.getMessage(), conflictLog.takeSuppressed());
+        }
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                PRECONDITION_FAILED_TYPE,
+                "Employee Changed",
+                HttpStatus.PRECONDITION_FAILED.value(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                traceId
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    // Another write committed between our read and our flush
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdate(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+
+        String traceId = TraceIdUtil.getCurrentTraceId();
+        if (conflictLog.tryAcquire()) {
+            log.warn("Concurrent update on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getRequestURI(), traceId, ex.getMessage(), conflictLog.takeSuppressed());
+        }
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                CONFLICT_TYPE,
+                "Concurrent Update",
+                HttpStatus.CONFLICT.value(),
+                "The employee was changed by another request",
+                request.getRequestURI(),
+                traceId
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseEntity<ErrorResponse> handleGenericException(
@@ -109,4 +193,4 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.example.employee.fields;
+
+import com.example.employee.exception.InvalidFieldsException;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The DTO properties a client asked for with {@code fields=id,lastName}. Without the parameter every
+ * property is included, which keeps responses as they were.
+ */
+public final class FieldSet {
+
+    public static final String PARAMETER = "fields";
+
+    private static final FieldSet ALL = new FieldSet(null);
+
+    private final Set<String> names;
+
+    private FieldSet(Set<String> names) {
+        this.names = names;
+    }
+
+    public static FieldSet all() {
+        return ALL;
+    }
+
+    public static FieldSet parse(String fields, Set<String> known) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!known.contains(name)) {
+                throw new InvalidFieldsException(name, known);
+            }
+            names.add(name);
+        }
+        return names.isEmpty() ? ALL : new FieldSet(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    // Only meaningful when not isAll()
+    public Set<String> names() {
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return names == null ? "*" : String.join(",", names);
+    }
+}
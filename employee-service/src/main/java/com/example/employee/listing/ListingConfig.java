@@ -0,0 +1,20 @@
+package com.example.employee.listing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(TotalEstimateProperties.class)
+public class ListingConfig {
+
+    // Without a JdbcTemplate (no DataSource) every total is a cached count
+    @Bean
+    public TotalEstimator totalEstimator(TotalEstimateProperties properties, ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        return new TotalEstimator(properties, jdbcTemplate.getIfAvailable());
+    }
+}
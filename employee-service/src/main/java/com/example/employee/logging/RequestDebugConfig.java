@@ -0,0 +1,29 @@
+package com.example.employee.logging;
+
+import feign.RequestInterceptor;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(RequestDebugProperties.class)
+public class RequestDebugConfig {
+
+    @Bean
+    public RequestDebugFilter requestDebugFilter(RequestDebugProperties properties) {
+        return new RequestDebugFilter(properties);
+    }
+
+    // Passes the flag on, so one header debugs the whole call tree of a request
+    @Bean
+    public RequestInterceptor requestDebugFeignInterceptor(RequestDebugProperties properties) {
+        return template -> {
+            if (MDC.get(RequestDebugTurboFilter.MDC_KEY) != null) {
+                template.header(properties.getHeader(), "true");
+            }
+        };
+    }
+}
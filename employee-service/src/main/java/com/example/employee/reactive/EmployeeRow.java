@@ -0,0 +1,19 @@
+package com.example.employee.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC read model of {@code employee.employees}. The JPA entity stays the write model;
+ * this one is only ever loaded by the reactive read stack.
+ */
+@Table(name = "employees", schema = "employee")
+public record EmployeeRow(
+        @Id Long id,
+        @Column("first_name") String firstName,
+        @Column("last_name") String lastName,
+        @Column("email") String email,
+        @Column("department_id") Long departmentId
+) {
+}
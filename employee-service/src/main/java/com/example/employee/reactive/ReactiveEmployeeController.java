@@ -0,0 +1,98 @@
+package com.example.employee.reactive;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.PageDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only endpoints of a reactive deployment. Paths and JSON shapes match {@code EmployeeController};
+ * clients that send {@code Accept: application/x-ndjson} get the results streamed instead.
+ */
+@RestController
+@RequestMapping("/api/v1/employees")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Employer Management (reactive reads)", description = "Read operations served by the reactive stack")
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService service;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get all employees with pagination", description = "Retrieve a paginated list of employees with optional filtering")
+    public Mono<Page<EmployeeDTO>> allPaged(
+            @Parameter(description = "Page number (0-based)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort criteria (e.g., 'firstName,asc')", example = "firstName,asc") @RequestParam(required = false) String sort,
+            @Parameter(description = "Filter by email") @RequestParam(required = false) String email,
+            @Parameter(description = "Filter by last name containing") @RequestParam(required = false) String lastNameContains,
+            @Parameter(description = "Filter by department ID") @RequestParam(required = false) Long departmentId
+    ) {
+        log.info("Fetching employees: page={}, size={}, sort={}, email={}, lastNameContains={}, departmentId={}",
+                page, size, sort, email, lastNameContains, departmentId);
+        return service.getAll(page, size, sort, email, lastNameContains, departmentId);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all employees", description = "Stream every matching employee as newline-delimited JSON")
+    public Flux<EmployeeDTO> stream(
+            @Parameter(description = "Sort criteria (e.g., 'firstName,asc')", example = "firstName,asc") @RequestParam(required = false) String sort,
+            @Parameter(description = "Filter by email") @RequestParam(required = false) String email,
+            @Parameter(description = "Filter by last name containing") @RequestParam(required = false) String lastNameContains,
+            @Parameter(description = "Filter by department ID") @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "Include department details", example = "true") @RequestParam(defaultValue = "true") boolean enrichWithDepartment
+    ) {
+        log.info("Streaming employees: sort={}, email={}, lastNameContains={}, departmentId={}",
+                sort, email, lastNameContains, departmentId);
+        return service.streamAll(sort, email, lastNameContains, departmentId, enrichWithDepartment);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get employee by ID", description = "Retrieve a specific employee by their ID")
+    public Mono<EmployeeDTO> byId(
+            @Parameter(description = "Employee ID", required = true, example = "1") @PathVariable Long id,
+            @Parameter(description = "Include department details", example = "true") @RequestParam(defaultValue = "true") boolean enrichWithDepartment
+    ) {
+        log.info("Fetching employee with id: {}, enrichWithDepartment: {}", id, enrichWithDepartment);
+        return service.getById(id, enrichWithDepartment);
+    }
+
+    @GetMapping("/by-department/{departmentId}")
+    @Operation(summary = "Get one page of a department's employees",
+            description = "Used by department-service. Returns a page envelope without pageable or sort, and employees "
+                    + "without department details. With count=false the COUNT query is skipped and totalElements is left out")
+    public Mono<PageDTO<EmployeeDTO>> byDepartment(
+            @Parameter(description = "Department ID", required = true, example = "1") @PathVariable Long departmentId,
+            @Parameter(description = "Page number (0-based)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort criteria (e.g., 'firstName,asc')", example = "firstName,asc") @RequestParam(required = false) String sort,
+            @Parameter(description = "Set to false to skip the total count", example = "true") @RequestParam(defaultValue = "true") boolean count
+    ) {
+        log.info("Fetching employee page for department {}: page={}, size={}, sort={}, count={}",
+                departmentId, page, size, sort, count);
+        return service.getDepartmentPage(departmentId, page, size, sort, count);
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Search employees", description = "Search employees by query string")
+    public Flux<EmployeeDTO> searchEmployees(
+            @Parameter(description = "Search query", required = true, example = "john") @RequestParam String q
+    ) {
+        log.info("Searching employees with query: '{}'", q);
+        return service.searchEmployees(q);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.employee.reactive;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveEmployeeRepository
+        extends R2dbcRepository<EmployeeRow, Long>, ReactiveEmployeeRepositoryCustom {
+
+    @Query("SELECT * FROM employee.employees WHERE " +
+            "LOWER(first_name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(last_name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    Flux<EmployeeRow> searchByNameOrEmail(@Param("searchTerm") String searchTerm);
+}
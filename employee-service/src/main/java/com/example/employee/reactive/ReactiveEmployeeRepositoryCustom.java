@@ -0,0 +1,22 @@
+package com.example.employee.reactive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Optional filters can't be expressed as one static SQL string with R2DBC paging and sorting,
+ * so the reactive {@code findWithFilters} builds its criteria at runtime.
+ */
+public interface ReactiveEmployeeRepositoryCustom {
+
+    Flux<EmployeeRow> findWithFilters(String email, String lastNameContains, Long departmentId, Pageable pageable);
+
+    Flux<EmployeeRow> findWithFilters(String email, String lastNameContains, Long departmentId, Sort sort);
+
+    // Fetches one row past the page to fill hasNext; no count query
+    Flux<EmployeeRow> findSliceWithFilters(String email, String lastNameContains, Long departmentId, Pageable pageable);
+
+    Mono<Long> countWithFilters(String email, String lastNameContains, Long departmentId);
+}
@@ -0,0 +1,59 @@
+package com.example.employee.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+class ReactiveEmployeeRepositoryCustomImpl implements ReactiveEmployeeRepositoryCustom {
+
+    private final R2dbcEntityTemplate template;
+
+    @Override
+    public Flux<EmployeeRow> findWithFilters(String email, String lastNameContains, Long departmentId,
+                                             Pageable pageable) {
+        Query query = Query.query(filters(email, lastNameContains, departmentId)).with(pageable);
+        return template.select(query, EmployeeRow.class);
+    }
+
+    @Override
+    public Flux<EmployeeRow> findWithFilters(String email, String lastNameContains, Long departmentId, Sort sort) {
+        Query query = Query.query(filters(email, lastNameContains, departmentId)).sort(sort);
+        return template.select(query, EmployeeRow.class);
+    }
+
+    @Override
+    public Flux<EmployeeRow> findSliceWithFilters(String email, String lastNameContains, Long departmentId,
+                                                  Pageable pageable) {
+        Query query = Query.query(filters(email, lastNameContains, departmentId))
+                .sort(pageable.getSort())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+        return template.select(query, EmployeeRow.class);
+    }
+
+    @Override
+    public Mono<Long> countWithFilters(String email, String lastNameContains, Long departmentId) {
+        return template.count(Query.query(filters(email, lastNameContains, departmentId)), EmployeeRow.class);
+    }
+
+    // Same semantics as the JPQL in EmployeeRepository.findWithFilters: a null filter matches everything
+    private static Criteria filters(String email, String lastNameContains, Long departmentId) {
+        Criteria criteria = Criteria.empty();
+        if (email != null) {
+            criteria = criteria.and(Criteria.where("email").is(email).ignoreCase(true));
+        }
+        if (lastNameContains != null) {
+            criteria = criteria.and(Criteria.where("lastName").like("%" + lastNameContains + "%").ignoreCase(true));
+        }
+        if (departmentId != null) {
+            criteria = criteria.and(Criteria.where("departmentId").is(departmentId));
+        }
+        return criteria;
+    }
+}
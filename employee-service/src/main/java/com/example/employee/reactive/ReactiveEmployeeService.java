@@ -0,0 +1,158 @@
+package com.example.employee.reactive;
+
+import com.example.employee.dto.DepartmentDTO;
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.PageDTO;
+import com.example.employee.exception.EmployeeNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-blocking counterpart of the read side of {@code EmployeeService}: R2DBC for the rows and a
+ * load-balanced {@link WebClient} for the department enrichment.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveEmployeeService {
+
+    private final ReactiveEmployeeRepository repository;
+    private final WebClient departmentClient;
+    private final ReactiveReadProperties properties;
+
+    public ReactiveEmployeeService(ReactiveEmployeeRepository repository,
+                                   WebClient.Builder loadBalancedWebClientBuilder,
+                                   ReactiveReadProperties properties) {
+        this.repository = repository;
+        this.departmentClient = loadBalancedWebClientBuilder
+                .baseUrl("http://DEPARTMENT-SERVICE/api/v1/departments")
+                .build();
+        this.properties = properties;
+    }
+
+    public Mono<Page<EmployeeDTO>> getAll(int page, int size, String sort,
+                                          String email, String lastNameContains, Long departmentId) {
+        log.debug("Fetching employees: page={}, size={}, sort={}, email={}, lastNameContains={}, departmentId={}",
+                page, size, sort, email, lastNameContains, departmentId);
+
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
+        Flux<EmployeeRow> rows = repository.findWithFilters(email, lastNameContains, departmentId, pageable);
+
+        return Mono.zip(
+                        enrich(rows, true).collectList(),
+                        repository.countWithFilters(email, lastNameContains, departmentId))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    // Same contract as EmployeeService.getDepartmentPage: no department lookups, and no COUNT without count
+    public Mono<PageDTO<EmployeeDTO>> getDepartmentPage(Long departmentId, int page, int size, String sort,
+                                                        boolean count) {
+        log.debug("Getting employee page for department {}: page={}, size={}, sort={}, count={}",
+                departmentId, page, size, sort, count);
+
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
+        if (count) {
+            return Mono.zip(
+                            enrich(repository.findWithFilters(null, null, departmentId, pageable), false).collectList(),
+                            repository.countWithFilters(null, null, departmentId))
+                    .map(result -> PageDTO.of(new PageImpl<>(result.getT1(), pageable, result.getT2())));
+        }
+        return enrich(repository.findSliceWithFilters(null, null, departmentId, pageable), false)
+                .collectList()
+                .map(rows -> {
+                    boolean hasNext = rows.size() > size;
+                    return PageDTO.withoutTotal(new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext));
+                });
+    }
+
+    /**
+     * Every matching employee, in order, without a page boundary. Rows are pulled from the
+     * database only as fast as the client consumes them.
+     */
+    public Flux<EmployeeDTO> streamAll(String sort, String email, String lastNameContains, Long departmentId,
+                                       boolean enrichWithDepartment) {
+        log.debug("Streaming employees: sort={}, email={}, lastNameContains={}, departmentId={}",
+                sort, email, lastNameContains, departmentId);
+        return enrich(repository.findWithFilters(email, lastNameContains, departmentId, parseSort(sort)),
+                enrichWithDepartment);
+    }
+
+    public Mono<EmployeeDTO> getById(Long id, boolean enrichWithDepartment) {
+        log.debug("Fetching employee with id: {}, enrichWithDepartment: {}", id, enrichWithDepartment);
+        return enrich(repository.findById(id).flux(), enrichWithDepartment)
+                .next()
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException(id.toString())));
+    }
+
+    public Flux<EmployeeDTO> searchEmployees(String searchTerm) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return Flux.empty();
+        }
+        return enrich(repository.searchByNameOrEmail(searchTerm.trim()), true);
+    }
+
+    private Flux<EmployeeDTO> enrich(Flux<EmployeeRow> rows, boolean enrichWithDepartment) {
+        if (!enrichWithDepartment) {
+            return rows.map(row -> toDTO(row, null));
+        }
+        // A page usually holds many employees of the same few departments: look each one up once
+        // per response, and keep the original row order while the lookups run concurrently
+        return Flux.defer(() -> {
+            Map<Long, Mono<DepartmentDTO>> departments = new ConcurrentHashMap<>();
+            return rows.flatMapSequential(row -> department(row, departments)
+                            .map(department -> toDTO(row, department))
+                            .defaultIfEmpty(toDTO(row, null)),
+                    properties.getEnrichmentConcurrency(), 1);
+        });
+    }
+
+    private Mono<DepartmentDTO> department(EmployeeRow row, Map<Long, Mono<DepartmentDTO>> departments) {
+        if (row.departmentId() == null) {
+            return Mono.empty();
+        }
+        return departments.computeIfAbsent(row.departmentId(), id -> departmentClient.get()
+                .uri("/{id}", id)
+                .retrieve()
+                .bodyToMono(DepartmentDTO.class)
+                .timeout(properties.getDepartmentTimeout())
+                .onErrorResume(ex -> {
+                    log.warn("Failed to fetch department {} for employee {}: {}", id, row.id(), ex.getMessage());
+                    return Mono.empty();
+                })
+                .cache());
+    }
+
+    private static EmployeeDTO toDTO(EmployeeRow row, DepartmentDTO department) {
+        return EmployeeDTO.builder()
+                .id(row.id())
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .email(row.email())
+                .departmentId(row.departmentId())
+                .department(department)
+                .build();
+    }
+
+    private static Sort parseSort(String sort) {
+        if (sort == null || sort.isEmpty()) {
+            return Sort.unsorted();
+        }
+        String[] sortParams = sort.split(",");
+        Sort.Direction direction = sortParams.length > 1 && "desc".equalsIgnoreCase(sortParams[1])
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(direction, sortParams[0]);
+    }
+}
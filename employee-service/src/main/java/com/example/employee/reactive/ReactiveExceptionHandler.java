@@ -0,0 +1,61 @@
+package com.example.employee.reactive;
+
+import com.example.employee.dto.ErrorResponse;
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.logging.LogRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Same error body as {@code GlobalExceptionHandler}, for the endpoints the reactive stack serves.
+ * The MDC is thread-bound and event-loop threads are shared, so the trace id is the request's own log id.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    private static final String VALIDATION_ERROR_TYPE = "/errors/validation-error";
+    private static final String NOT_FOUND_TYPE = "/errors/not-found";
+    private static final String INTERNAL_ERROR_TYPE = "/errors/internal-error";
+
+    private final LogRateLimiter notFoundLog = new LogRateLimiter(10);
+
+    @ExceptionHandler(EmployeeNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(EmployeeNotFoundException ex, ServerHttpRequest request) {
+        String traceId = request.getId();
+        if (notFoundLog.tryAcquire()) {
+            log.warn("Resource not found on {} [traceId={}]: {} ({} similar suppressed)",
+                    request.getPath(), traceId, ex.getMessage(), notFoundLog.takeSuppressed());
+        }
+        return error(HttpStatus.NOT_FOUND, NOT_FOUND_TYPE, "Resource Not Found", ex.getMessage(), request, traceId);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleBadInput(ServerWebInputException ex, ServerHttpRequest request) {
+        String traceId = request.getId();
+        log.warn("Invalid request on {} [traceId={}]: {}", request.getPath(), traceId, ex.getReason());
+        return error(HttpStatus.BAD_REQUEST, VALIDATION_ERROR_TYPE, "Bad Request", ex.getReason(), request, traceId);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, ServerHttpRequest request) {
+        String traceId = request.getId();
+        log.error("Unexpected error on {} [traceId={}]", request.getPath(), traceId, ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_ERROR_TYPE, "Internal Server Error",
+                "An unexpected error occurred. Please try again later.", request, traceId);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String type, String title, String detail,
+                                                       ServerHttpRequest request, String traceId) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                type, title, status.value(), detail, request.getPath().value(), traceId);
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.employee.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Wires the reactive read stack when the service runs with {@code spring.main.web-application-type=reactive}.
+ * R2DBC auto-configuration is excluded on the application class: an R2DBC ConnectionFactory would make
+ * the JDBC DataSource back off, so it may only exist in reactive deployments.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableR2dbcRepositories
+@EnableConfigurationProperties({R2dbcProperties.class, ReactiveReadProperties.class})
+public class ReactiveReadConfig extends AbstractR2dbcConfiguration {
+
+    private final R2dbcProperties r2dbcProperties;
+
+    public ReactiveReadConfig(R2dbcProperties r2dbcProperties) {
+        this.r2dbcProperties = r2dbcProperties;
+    }
+
+    // Pooling is chosen through the URL, e.g. r2dbc:pool:postgresql://host/db?maxSize=20
+    @Bean
+    @Override
+    public ConnectionFactory connectionFactory() {
+        return ConnectionFactoryBuilder.withUrl(r2dbcProperties.getUrl())
+                .username(r2dbcProperties.getUsername())
+                .password(r2dbcProperties.getPassword())
+                .build();
+    }
+
+    // Tomcat is on the classpath for the servlet stack and Boot would prefer it, but the reactive
+    // read path is meant to run on Netty's event loops
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(ObjectProvider<NettyServerCustomizer> customizers) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.getServerCustomizers().addAll(customizers.orderedStream().toList());
+        return factory;
+    }
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(ObjectProvider<WebClientCustomizer> customizers) {
+        WebClient.Builder builder = WebClient.builder();
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.employee.reactive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "employee.reactive")
+public class ReactiveReadProperties {
+
+    // Department lookups in flight per response; rows behind them wait instead of piling up requests
+    private int enrichmentConcurrency = 16;
+
+    private Duration departmentTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,30 @@
+package com.example.employee.readreplica;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Tells {@link ReadWriteRoutingDataSource} whether the transaction that is acquiring a connection is
+ * read-only. The transaction manager fetches the connection between {@code beforeBegin} and
+ * {@code afterBegin}, before the read-only flag is visible anywhere else.
+ */
+public class ReadOnlyRoutingListener implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Boolean> BEGINNING_READ_ONLY = new ThreadLocal<>();
+
+    static boolean isBeginningReadOnly() {
+        return Boolean.TRUE.equals(BEGINNING_READ_ONLY.get());
+    }
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        if (transaction.isReadOnly()) {
+            BEGINNING_READ_ONLY.set(Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        BEGINNING_READ_ONLY.remove();
+    }
+}
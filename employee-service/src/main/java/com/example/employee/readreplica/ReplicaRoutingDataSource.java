@@ -0,0 +1,151 @@
+package com.example.employee.readreplica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connections for read-only transactions: round-robin over the replicas whose last measured lag is
+ * within {@code read-replica.max-lag}. Reads go to the primary when no replica qualifies, or when the
+ * request has to see its own writes. Lag is measured in the background with {@code read-replica.lag-query}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final String READS_METRIC = "datasource.reads";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadReplicaProperties properties;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter readYourWritesReads;
+    private final Counter lagFallbackReads;
+    private final ScheduledExecutorService lagChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.properties = properties;
+        this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource, readCounter(meterRegistry, name, "replica"));
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            this.replicas.add(replica);
+        });
+        this.readYourWritesReads = readCounter(meterRegistry, "primary", "read-your-writes");
+        this.lagFallbackReads = readCounter(meterRegistry, "primary", "replica-lag");
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-lag-");
+        threadFactory.setDaemon(true);
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = properties.getLagCheckInterval().toMillis();
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder(READS_METRIC)
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadYourWrites.isPinned()) {
+            readYourWritesReads.increment();
+            return primary.getConnection();
+        }
+        Replica replica = nextAvailable();
+        if (replica == null) {
+            lagFallbackReads.increment();
+            return primary.getConnection();
+        }
+        replica.reads.increment();
+        return replica.dataSource.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica pools use their configured credentials");
+    }
+
+    private Replica nextAvailable() {
+        int size = replicas.size();
+        // Enabled with no replicas listed: every read stays on the primary
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.lagSeconds <= maxLagSeconds) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    void checkLag() {
+        for (Replica replica : replicas) {
+            double lag;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+                lag = resultSet.next() ? resultSet.getDouble(1) : Double.POSITIVE_INFINITY;
+            } catch (SQLException ex) {
+                log.debug("Lag check failed for replica {}: {}", replica.name, ex.getMessage());
+                lag = Double.POSITIVE_INFINITY;
+            }
+            boolean wasAvailable = replica.lagSeconds <= maxLagSeconds;
+            replica.lagSeconds = lag;
+            if (wasAvailable && lag > maxLagSeconds) {
+                log.warn("Replica {} is {}s behind (max {}s), reading from the primary until it catches up",
+                        replica.name, lag, maxLagSeconds);
+            } else if (!wasAvailable && lag <= maxLagSeconds) {
+                log.info("Replica {} is back within {}s of the primary", replica.name, maxLagSeconds);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter reads;
+        // Unknown until the first check, so a replica gets no reads before it has been measured
+        private volatile double lagSeconds = Double.POSITIVE_INFINITY;
+
+        Replica(String name, DataSource dataSource, Counter reads) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.reads = reads;
+        }
+    }
+}
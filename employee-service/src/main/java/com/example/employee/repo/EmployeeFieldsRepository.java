@@ -0,0 +1,28 @@
+package com.example.employee.repo;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads only the given attributes of {@code Employee}, for requests that name their fields. Each tuple
+ * element is aliased with its attribute name.
+ */
+public interface EmployeeFieldsRepository {
+
+    // The attributes a select list may name; nothing else is ever concatenated into the query
+    Set<String> ATTRIBUTES = Set.of("id", "firstName", "lastName", "email", "departmentId");
+
+    Page<Tuple> findFieldsWithFilters(Set<String> attributes, String email, String lastNameContains,
+                                      Long departmentId, Pageable pageable);
+
+    // Fetches one row past the page to fill hasNext; no count query
+    Slice<Tuple> findFieldSliceWithFilters(Set<String> attributes, String email, String lastNameContains,
+                                           Long departmentId, Pageable pageable);
+
+    Optional<Tuple> findFieldsById(Set<String> attributes, Long id);
+}
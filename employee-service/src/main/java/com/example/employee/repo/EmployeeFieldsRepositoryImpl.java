@@ -0,0 +1,79 @@
+package com.example.employee.repo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class EmployeeFieldsRepositoryImpl implements EmployeeFieldsRepository {
+
+    private static final String COUNT = "SELECT COUNT(e) FROM Employee e";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Tuple> findFieldsWithFilters(Set<String> attributes, String email, String lastNameContains,
+                                             Long departmentId, Pageable pageable) {
+        List<Tuple> rows = page(attributes, email, lastNameContains, departmentId, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(rows, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery(COUNT + EmployeeRepository.FILTERS, Long.class);
+            return bindFilters(count, email, lastNameContains, departmentId).getSingleResult();
+        });
+    }
+
+    @Override
+    public Slice<Tuple> findFieldSliceWithFilters(Set<String> attributes, String email, String lastNameContains,
+                                                  Long departmentId, Pageable pageable) {
+        List<Tuple> rows = page(attributes, email, lastNameContains, departmentId, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public Optional<Tuple> findFieldsById(Set<String> attributes, Long id) {
+        return entityManager.createQuery(select(attributes) + " WHERE e.id = :id", Tuple.class)
+                .setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    private List<Tuple> page(Set<String> attributes, String email, String lastNameContains, Long departmentId,
+                             Pageable pageable, int rows) {
+        String jpql = QueryUtils.applySorting(select(attributes) + EmployeeRepository.FILTERS, pageable.getSort(), "e");
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        return bindFilters(query, email, lastNameContains, departmentId)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(rows)
+                .getResultList();
+    }
+
+    private static String select(Set<String> attributes) {
+        if (attributes.isEmpty() || !ATTRIBUTES.containsAll(attributes)) {
+            throw new IllegalArgumentException("Cannot select " + attributes + ", known attributes are " + ATTRIBUTES);
+        }
+        return attributes.stream()
+                .map(attribute -> "e." + attribute + " AS " + attribute)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM Employee e"));
+    }
+
+    private static <Q extends Query> Q bindFilters(Q query, String email, String lastNameContains, Long departmentId) {
+        query.setParameter("email", email);
+        query.setParameter("lastNameContains", lastNameContains);
+        query.setParameter("departmentId", departmentId);
+        return query;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.employee.repo;
 import com.example.employee.domain.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,20 +12,43 @@ import java.util.List;
 import java.util.Optional;
 
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeFieldsRepository {
     boolean existsByEmail(String email);
 
-    @Query("SELECT e FROM Employee e WHERE " +
-            "(:email IS NULL OR LOWER(e.email) = LOWER(:email)) AND " +
-            "(:lastNameContains IS NULL OR LOWER(e.lastName) LIKE LOWER(CONCAT('%', :lastNameContains, '%'))) AND " +
-            "(:departmentId IS NULL OR e.departmentId = :departmentId)")
-    Page<Employee> findWithFilters(
+    // Shared by the paged, slice and count variants so they always agree on what matches
+    String FILTERS = " WHERE " +
+            "(:email IS NULL OR LOWER(e.email) = LOWER(CAST(:email AS string))) AND " +
+            "(:lastNameContains IS NULL OR LOWER(e.lastName) LIKE LOWER(CONCAT('%', CAST(:lastNameContains AS string), '%'))) AND " +
+            "(:departmentId IS NULL OR e.departmentId = :departmentId)";
+
+    // Listings select straight into records instead of loading managed entities
+    String SUMMARY = "SELECT new com.example.employee.repo.EmployeeSummary(" +
+            "e.id, e.firstName, e.lastName, e.email, e.departmentId) FROM Employee e";
+
+    @Query(value = SUMMARY + FILTERS, countQuery = "SELECT COUNT(e) FROM Employee e" + FILTERS)
+    Page<EmployeeSummary> findWithFilters(
             @Param("email") String email,
             @Param("lastNameContains") String lastNameContains,
             @Param("departmentId") Long departmentId,
             Pageable pageable
     );
 
+    // Fetches one row past the page to fill hasNext; no count query
+    @Query(SUMMARY + FILTERS)
+    Slice<EmployeeSummary> findSliceWithFilters(
+            @Param("email") String email,
+            @Param("lastNameContains") String lastNameContains,
+            @Param("departmentId") Long departmentId,
+            Pageable pageable
+    );
+
+    @Query("SELECT COUNT(e) FROM Employee e" + FILTERS)
+    long countWithFilters(
+            @Param("email") String email,
+            @Param("lastNameContains") String lastNameContains,
+            @Param("departmentId") Long departmentId
+    );
+
     @Query("SELECT e FROM Employee e WHERE " +
             "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -44,4 +68,7 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     long countByDepartmentId(Long departmentId);
 
+    // Answers If-None-Match without loading the employee
+    @Query("SELECT e.version FROM Employee e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
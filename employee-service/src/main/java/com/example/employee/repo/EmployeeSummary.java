@@ -0,0 +1,8 @@
+package com.example.employee.repo;
+
+/**
+ * Read model of a listed employee, selected column by column with a JPQL constructor expression.
+ * Hibernate hands back plain records: nothing enters the persistence context.
+ */
+public record EmployeeSummary(Long id, String firstName, String lastName, String email, Long departmentId) {
+}
@@ -0,0 +1,8 @@
+package com.example.employee.requeststats;
+
+public class RequestBudgetExceededException extends RuntimeException {
+
+    public RequestBudgetExceededException(String message) {
+        super(message);
+    }
+}
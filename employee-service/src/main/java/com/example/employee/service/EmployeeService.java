@@ -1,37 +1,59 @@
 package com.example.employee.service;
 
 import com.example.employee.client.DepartmentClient;
+import com.example.employee.conditional.VersionTags;
 import com.example.employee.domain.Employee;
 import com.example.employee.dto.DepartmentDTO;
 import com.example.employee.dto.EmployeeDTO;
 import com.example.employee.dto.EmployeePatchDTO;
 import com.example.employee.dto.EmployeeStatsDTO;
+import com.example.employee.dto.PageDTO;
 import com.example.employee.exception.DuplicateEmployeeException;
 import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.fields.FieldSet;
+import com.example.employee.listing.TotalEstimator;
+import com.example.employee.repo.EmployeeFieldsRepository;
 import com.example.employee.repo.EmployeeRepository;
+import com.example.employee.repo.EmployeeSummary;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class EmployeeService {
 
+    // Properties of EmployeeDTO a request may name in fields=
+    public static final Set<String> FIELDS = Set.of("id", "firstName", "lastName", "email", "departmentId", "department");
+
     private final EmployeeRepository repository;
+    @Lazy // built on the first call, see LazyInitBeanFactoryPostProcessor
     private final DepartmentClient departmentClient;
     private final IdempotencyService idempotencyService; // NEW: Add this dependency
+    private final TotalEstimator totalEstimator;
 
 
     public List<EmployeeDTO> getAll() {
@@ -48,13 +70,47 @@ public class EmployeeService {
         // Create Pageable object with sorting
         Pageable pageable = createPageable(page, size, sort);
 
-        // Use new filtering method
-        Page<Employee> employeePage = repository.findWithFilters(
+        // Rows come back as records, so nothing is attached to the persistence context
+        Page<EmployeeSummary> employeePage = repository.findWithFilters(
                 email, lastNameContains, departmentId, pageable
         );
 
-        // Convert Page<Employee> to Page<EmployeeDTO>
-        return employeePage.map(this::toDTO);
+        return employeePage.map(summary -> toDTO(summary, true));
+    }
+
+    public Slice<EmployeeDTO> getSlice(int page, int size, String sort,
+                                       String email, String lastNameContains, Long departmentId) {
+        log.debug("Fetching employee slice: page={}, size={}, sort={}, email={}, lastNameContains={}, departmentId={}",
+                page, size, sort, email, lastNameContains, departmentId);
+
+        return repository.findSliceWithFilters(email, lastNameContains, departmentId, createPageable(page, size, sort))
+                .map(summary -> toDTO(summary, true));
+    }
+
+    // Selects only the requested columns; the department is fetched only if it was asked for
+    public Page<EmployeeDTO> getAll(int page, int size, String sort,
+                                    String email, String lastNameContains, Long departmentId, FieldSet fields) {
+        log.debug("Fetching employees: page={}, size={}, sort={}, email={}, lastNameContains={}, departmentId={}, fields={}",
+                page, size, sort, email, lastNameContains, departmentId, fields);
+
+        Set<String> columns = columns(fields);
+        return repository.findFieldsWithFilters(columns, email, lastNameContains, departmentId, createPageable(page, size, sort))
+                .map(row -> toDTO(row, columns, fields.includes("department")));
+    }
+
+    public Slice<EmployeeDTO> getSlice(int page, int size, String sort,
+                                       String email, String lastNameContains, Long departmentId, FieldSet fields) {
+        log.debug("Fetching employee slice: page={}, size={}, sort={}, email={}, lastNameContains={}, departmentId={}, fields={}",
+                page, size, sort, email, lastNameContains, departmentId, fields);
+
+        Set<String> columns = columns(fields);
+        return repository.findFieldSliceWithFilters(columns, email, lastNameContains, departmentId, createPageable(page, size, sort))
+                .map(row -> toDTO(row, columns, fields.includes("department")));
+    }
+
+    public OptionalLong estimateTotal(String email, String lastNameContains, Long departmentId) {
+        return totalEstimator.estimate("employee.employees", Arrays.asList(email, lastNameContains, departmentId),
+                () -> repository.countWithFilters(email, lastNameContains, departmentId));
     }
     public EmployeeDTO getById(Long id, boolean enrichWithDepartment) {
         log.debug("Fetching employee with id: {}, enrichWithDepartment: {}", id, enrichWithDepartment);
@@ -65,6 +121,21 @@ public class EmployeeService {
         return toDTO(employee, enrichWithDepartment);
     }
 
+    public EmployeeDTO getById(Long id, boolean enrichWithDepartment, FieldSet fields) {
+        log.debug("Fetching employee with id: {}, enrichWithDepartment: {}, fields: {}", id, enrichWithDepartment, fields);
+
+        Set<String> columns = columns(fields);
+        Tuple row = repository.findFieldsById(columns, id)
+                .orElseThrow(() -> new EmployeeNotFoundException(id.toString()));
+
+        return toDTO(row, columns, enrichWithDepartment && fields.includes("department"));
+    }
+
+    // The row version behind the ETag; empty when there is no such employee
+    public Optional<Long> getVersion(Long id) {
+        return repository.findVersionById(id);
+    }
+
     public EmployeeDTO getById(Long id) {
         log.debug("Fetching employee with id: {}", id);
         Employee e = repository.findById(id)
@@ -119,11 +190,18 @@ public class EmployeeService {
 
     @Transactional
     public EmployeeDTO updateEmployee(Long id, EmployeeDTO dto) {
+        return updateEmployee(id, dto, null);
+    }
+
+    // ifMatch is the raw If-Match header; null updates unconditionally
+    @Transactional
+    public EmployeeDTO updateEmployee(Long id, EmployeeDTO dto, String ifMatch) {
         log.debug("Updating employee with id: {}, new email: {}", id, dto.getEmail());
 
-        // STEP 1: Check if employee exists
+        // STEP 1: Check if employee exists, in the version the client based its update on
         Employee existingEmployee = repository.findById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException(id.toString()));
+        checkIfMatch(ifMatch, existingEmployee);
 
         log.debug("Found existing employee: {} {}", existingEmployee.getFirstName(), existingEmployee.getLastName());
 
@@ -139,8 +217,8 @@ public class EmployeeService {
         existingEmployee.setEmail(dto.getEmail());
         existingEmployee.setDepartmentId(dto.getDepartmentId());
 
-        // STEP 4: Save updated employee
-        Employee updatedEmployee = repository.save(existingEmployee);
+        // STEP 4: Save updated employee; flushed so the returned version is the new one
+        Employee updatedEmployee = repository.saveAndFlush(existingEmployee);
         log.info("Employee updated successfully with id: {}", updatedEmployee.getId());
 
         return toDTO(updatedEmployee);
@@ -148,8 +226,14 @@ public class EmployeeService {
 
     @Transactional
     public EmployeeDTO patchEmployee(Long id, EmployeePatchDTO patchDto) {
+        return patchEmployee(id, patchDto, null);
+    }
+
+    @Transactional
+    public EmployeeDTO patchEmployee(Long id, EmployeePatchDTO patchDto, String ifMatch) {
         Employee existing = repository.findById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException(id.toString()));
+        checkIfMatch(ifMatch, existing);
 
         // Only update provided fields
         if (patchDto.getFirstName() != null) {
@@ -169,7 +253,7 @@ public class EmployeeService {
             existing.setDepartmentId(patchDto.getDepartmentId());
         }
 
-        return toDTO(repository.save(existing));
+        return toDTO(repository.saveAndFlush(existing));
     }
     @Transactional
     public void deleteEmployee(Long id) {
@@ -273,31 +357,98 @@ public class EmployeeService {
         return employees;
     }
 
-    private EmployeeDTO toDTO(Employee e, boolean enrichWithDepartment) {
-        DepartmentDTO dept = null;
+    // For department-service, which already has the department, so rows go out without it.
+    // Without count the slice query fetches one extra row for hasNext instead of running COUNT.
+    public PageDTO<EmployeeDTO> getDepartmentPage(Long departmentId, int page, int size, String sort, boolean count) {
+        log.debug("Getting employee page for department {}: page={}, size={}, sort={}, count={}",
+                departmentId, page, size, sort, count);
 
-        if (enrichWithDepartment && e.getDepartmentId() != null) {
-            try {
-                dept = departmentClient.getDepartment(e.getDepartmentId());
-                log.debug("Successfully enriched employee {} with department {}", e.getId(), dept.getName());
-            } catch (Exception ex) {
-                log.warn("Failed to fetch department {} for employee {}: {}",
-                        e.getDepartmentId(), e.getId(), ex.getMessage());
-            }
-        } else if (!enrichWithDepartment) {
-            log.debug("Skipping department enrichment for employee {}", e.getId());
+        Pageable pageable = createPageable(page, size, sort);
+        return count
+                ? PageDTO.of(repository.findWithFilters(null, null, departmentId, pageable)
+                        .map(summary -> toDTO(summary, false)))
+                : PageDTO.withoutTotal(repository.findSliceWithFilters(null, null, departmentId, pageable)
+                        .map(summary -> toDTO(summary, false)));
+    }
+
+    // Checked against the row as read; a write committed after that read fails at flush instead
+    private static void checkIfMatch(String ifMatch, Employee employee) {
+        if (!VersionTags.matchHolds(ifMatch, employee.getVersion())) {
+            throw new PreconditionFailedException(ifMatch, employee.getVersion());
         }
+    }
 
+    private EmployeeDTO toDTO(Employee e, boolean enrichWithDepartment) {
         return EmployeeDTO.builder()
                 .id(e.getId())
                 .firstName(e.getFirstName())
                 .lastName(e.getLastName())
                 .email(e.getEmail())
                 .departmentId(e.getDepartmentId())
-                .department(dept) // Will be null if not enriched or if enrichment failed
+                .department(department(e.getId(), e.getDepartmentId(), enrichWithDepartment))
+                .version(e.getVersion())
                 .build();
     }
 
+    private EmployeeDTO toDTO(EmployeeSummary e, boolean enrichWithDepartment) {
+        return EmployeeDTO.builder()
+                .id(e.id())
+                .firstName(e.firstName())
+                .lastName(e.lastName())
+                .email(e.email())
+                .departmentId(e.departmentId())
+                .department(department(e.id(), e.departmentId(), enrichWithDepartment))
+                .build();
+    }
+
+    private EmployeeDTO toDTO(Tuple row, Set<String> columns, boolean enrichWithDepartment) {
+        Long id = column(row, columns, "id", Long.class);
+        Long departmentId = column(row, columns, "departmentId", Long.class);
+        return EmployeeDTO.builder()
+                .id(id)
+                .firstName(column(row, columns, "firstName", String.class))
+                .lastName(column(row, columns, "lastName", String.class))
+                .email(column(row, columns, "email", String.class))
+                .departmentId(departmentId)
+                .department(department(id, departmentId, enrichWithDepartment))
+                .build();
+    }
+
+    // The requested attributes, plus the department id when the department is to be fetched
+    private static Set<String> columns(FieldSet fields) {
+        if (fields.isAll()) {
+            return EmployeeFieldsRepository.ATTRIBUTES;
+        }
+        Set<String> columns = new HashSet<>();
+        for (String field : fields.names()) {
+            columns.add(field.equals("department") ? "departmentId" : field);
+        }
+        return columns;
+    }
+
+    private static <T> T column(Tuple row, Set<String> columns, String attribute, Class<T> type) {
+        return columns.contains(attribute) ? row.get(attribute, type) : null;
+    }
+
+    // Null if not enriched or if enrichment failed
+    private DepartmentDTO department(Long employeeId, Long departmentId, boolean enrichWithDepartment) {
+        if (!enrichWithDepartment) {
+            log.debug("Skipping department enrichment for employee {}", employeeId);
+            return null;
+        }
+        if (departmentId == null) {
+            return null;
+        }
+        try {
+            DepartmentDTO dept = departmentClient.getDepartment(departmentId);
+            log.debug("Successfully enriched employee {} with department {}", employeeId, dept.getName());
+            return dept;
+        } catch (Exception ex) {
+            log.warn("Failed to fetch department {} for employee {}: {}", departmentId, employeeId, ex.getMessage());
+            return null;
+        }
+    }
+
     private EmployeeDTO toDTO(Employee e) {
         return toDTO(e, true); // Default: always enrich
     }
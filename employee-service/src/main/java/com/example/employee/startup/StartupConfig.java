@@ -0,0 +1,16 @@
+package com.example.employee.startup;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "startup.lazy-init", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StartupConfig {
+
+    // Static, so registering it does not instantiate this configuration before the other definitions are read
+    @Bean
+    public static LazyInitBeanFactoryPostProcessor lazyInitBeanFactoryPostProcessor() {
+        return new LazyInitBeanFactoryPostProcessor();
+    }
+}
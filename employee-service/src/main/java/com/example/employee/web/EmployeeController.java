@@ -1,8 +1,14 @@
 package com.example.employee.web;
 
+import com.example.employee.conditional.VersionTags;
 import com.example.employee.dto.EmployeeDTO;
 import com.example.employee.dto.EmployeePatchDTO;
 import com.example.employee.dto.EmployeeStatsDTO;
+import com.example.employee.dto.PageDTO;
+import com.example.employee.dto.SliceDTO;
+import com.example.employee.fields.FieldSet;
+import com.example.employee.fields.SparseFields;
+import com.example.employee.listing.TotalEstimator;
 import com.example.employee.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,16 +18,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/employees")
 @RequiredArgsConstructor
 @Validated
@@ -32,6 +43,7 @@ public class EmployeeController {
     private final EmployeeService service;
 
     @GetMapping
+    @SparseFields
     @Operation(summary = "Get all employees with pagination", description = "Retrieve a paginated list of employees with optional filtering")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved employees"),
@@ -43,29 +55,91 @@ public class EmployeeController {
             @Parameter(description = "Sort criteria (e.g., 'firstName,asc')", example = "firstName,asc") @RequestParam(required = false) String sort,
             @Parameter(description = "Filter by email") @RequestParam(required = false) String email,
             @Parameter(description = "Filter by last name containing") @RequestParam(required = false) String lastNameContains,
-            @Parameter(description = "Filter by department ID") @RequestParam(required = false) Long departmentId
+            @Parameter(description = "Filter by department ID") @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "Comma-separated properties to return, e.g. 'id,lastName'; the department is only fetched when listed", example = "id,firstName,lastName") @RequestParam(required = false) String fields
     ) {
-        log.info("Fetching employees: page={}, size={}, sort={}, email={}, lastNameContains={}, departmentId={}",
-                page, size, sort, email, lastNameContains, departmentId);
+        log.info("Fetching employees: page={}, size={}, sort={}, email={}, lastNameContains={}, departmentId={}, fields={}",
+                page, size, sort, email, lastNameContains, departmentId, fields);
 
-        Page<EmployeeDTO> employees = service.getAll(page, size, sort, email, lastNameContains, departmentId);
+        FieldSet selected = FieldSet.parse(fields, EmployeeService.FIELDS);
+        Page<EmployeeDTO> employees = selected.isAll()
+                ? service.getAll(page, size, sort, email, lastNameContains, departmentId)
+                : service.getAll(page, size, sort, email, lastNameContains, departmentId, selected);
 
         return ResponseEntity.ok(employees);
     }
 
+    @GetMapping(params = "count=false")
+    @SparseFields
+    @Operation(summary = "Get employees without a total count",
+            description = "Same filters as the paged listing, but skips the COUNT query and reports hasNext instead. "
+                    + "An approximate total, when available, is returned in the " + TotalEstimator.HEADER + " header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved employees"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    })
+    public ResponseEntity<SliceDTO<EmployeeDTO>> allSliced(
+            @Parameter(description = "Page number (0-based)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort criteria (e.g., 'firstName,asc')", example = "firstName,asc") @RequestParam(required = false) String sort,
+            @Parameter(description = "Filter by email") @RequestParam(required = false) String email,
+            @Parameter(description = "Filter by last name containing") @RequestParam(required = false) String lastNameContains,
+            @Parameter(description = "Filter by department ID") @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "Set to false to skip the total count", example = "false") @RequestParam boolean count,
+            @Parameter(description = "Comma-separated properties to return, e.g. 'id,lastName'; the department is only fetched when listed", example = "id,firstName,lastName") @RequestParam(required = false) String fields
+    ) {
+        log.info("Fetching employee slice: page={}, size={}, sort={}, email={}, lastNameContains={}, departmentId={}, fields={}",
+                page, size, sort, email, lastNameContains, departmentId, fields);
+
+        FieldSet selected = FieldSet.parse(fields, EmployeeService.FIELDS);
+        SliceDTO<EmployeeDTO> employees = SliceDTO.of(selected.isAll()
+                ? service.getSlice(page, size, sort, email, lastNameContains, departmentId)
+                : service.getSlice(page, size, sort, email, lastNameContains, departmentId, selected));
+        OptionalLong total = service.estimateTotal(email, lastNameContains, departmentId);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        total.ifPresent(estimate -> response.header(TotalEstimator.HEADER, Long.toString(estimate)));
+        return response.body(employees);
+    }
+
     @GetMapping("/{id}")
+    @SparseFields
     @Operation(summary = "Get employee by ID", description = "Retrieve a specific employee by their ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved employee"),
+            @ApiResponse(responseCode = "304", description = "Employee unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Employee not found")
     })
     public ResponseEntity<EmployeeDTO> byId(
             @Parameter(description = "Employee ID", required = true, example = "1") @PathVariable Long id,
-            @Parameter(description = "Include department details", example = "true") @RequestParam(defaultValue = "true") boolean enrichWithDepartment
+            @Parameter(description = "Include department details", example = "true") @RequestParam(defaultValue = "true") boolean enrichWithDepartment,
+            @Parameter(description = "Comma-separated properties to return, e.g. 'id,lastName'; the department is only fetched when listed", example = "id,firstName,lastName") @RequestParam(required = false) String fields,
+            @Parameter(description = "ETag of a copy the client holds; answered with 304 while it is current") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        log.info("Fetching employee with id: {}, enrichWithDepartment: {}", id, enrichWithDepartment);
-        EmployeeDTO employee = service.getById(id, enrichWithDepartment);
-        return ResponseEntity.ok(employee);
+        log.info("Fetching employee with id: {}, enrichWithDepartment: {}, fields: {}", id, enrichWithDepartment, fields);
+        FieldSet selected = FieldSet.parse(fields, EmployeeService.FIELDS);
+        if (!selected.isAll()) {
+            return ResponseEntity.ok(service.getById(id, enrichWithDepartment, selected));
+        }
+        // The department comes from department-service on every request, so only the body transfer is saved
+        if (enrichWithDepartment) {
+            EmployeeDTO employee = service.getById(id, true);
+            if (employee.getVersion() == null) {
+                return ResponseEntity.ok(employee);
+            }
+            String etag = VersionTags.of(employee.getVersion(), employee.getDepartment());
+            if (ifNoneMatch != null && VersionTags.noneMatchHits(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+            }
+            return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(employee);
+        }
+        if (ifNoneMatch != null) {
+            Optional<Long> version = service.getVersion(id);
+            if (version.isPresent() && VersionTags.noneMatchHits(ifNoneMatch, version.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(VersionTags.of(version.get())).varyBy(HttpHeaders.ACCEPT).build();
+            }
+        }
+        return tagged(service.getById(id, false));
     }
 
     @PostMapping
@@ -92,17 +166,19 @@ public class EmployeeController {
             @ApiResponse(responseCode = "200", description = "Employee updated successfully"),
             @ApiResponse(responseCode = "404", description = "Employee not found"),
             @ApiResponse(responseCode = "400", description = "Invalid employee data"),
-            @ApiResponse(responseCode = "409", description = "Business rule violation")
+            @ApiResponse(responseCode = "409", description = "Business rule violation"),
+            @ApiResponse(responseCode = "412", description = "Employee changed since the ETag in If-Match")
     })
     public ResponseEntity<EmployeeDTO> updateEmployee(
             @Parameter(description = "Employee ID", required = true, example = "1") @PathVariable Long id,
-            @Parameter(description = "Updated employee data", required = true) @Valid @RequestBody EmployeeDTO dto
+            @Parameter(description = "Updated employee data", required = true) @Valid @RequestBody EmployeeDTO dto,
+            @Parameter(description = "ETag the update is based on; without it the update is unconditional") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         log.info("Updating employee with id: {}, new email: {}", id, dto.getEmail());
 
-        EmployeeDTO updatedEmployee = service.updateEmployee(id, dto);
+        EmployeeDTO updatedEmployee = service.updateEmployee(id, dto, ifMatch);
 
-        return ResponseEntity.ok(updatedEmployee);
+        return tagged(updatedEmployee);
     }
 
     @PatchMapping("/{id}")
@@ -110,15 +186,17 @@ public class EmployeeController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee updated successfully"),
             @ApiResponse(responseCode = "404", description = "Employee not found"),
-            @ApiResponse(responseCode = "400", description = "Invalid data")
+            @ApiResponse(responseCode = "400", description = "Invalid data"),
+            @ApiResponse(responseCode = "412", description = "Employee changed since the ETag in If-Match")
     })
     public ResponseEntity<EmployeeDTO> patchEmployee(
             @Parameter(description = "Employee ID", required = true, example = "1") @PathVariable Long id,
-            @Parameter(description = "Fields to update", required = true) @Valid @RequestBody EmployeePatchDTO patchDto
+            @Parameter(description = "Fields to update", required = true) @Valid @RequestBody EmployeePatchDTO patchDto,
+            @Parameter(description = "ETag the update is based on; without it the update is unconditional") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ){
         log.info("Partially updating employee {}", id);
-        EmployeeDTO updated = service.patchEmployee(id, patchDto);
-        return ResponseEntity.ok(updated);
+        EmployeeDTO updated = service.patchEmployee(id, patchDto, ifMatch);
+        return tagged(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -178,6 +256,28 @@ public class EmployeeController {
         return ResponseEntity.ok(count);
     }
 
+    @GetMapping("/by-department/{departmentId}")
+    @Operation(summary = "Get one page of a department's employees",
+            description = "Used by department-service. Returns a page envelope without pageable or sort, and employees "
+                    + "without department details. With count=false the COUNT query is skipped and totalElements is left out")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved employees")
+    public ResponseEntity<PageDTO<EmployeeDTO>> byDepartment(
+            @Parameter(description = "Department ID", required = true, example = "1") @PathVariable Long departmentId,
+            @Parameter(description = "Page number (0-based)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort criteria (e.g., 'firstName,asc')", example = "firstName,asc") @RequestParam(required = false) String sort,
+            @Parameter(description = "Set to false to skip the total count", example = "true") @RequestParam(defaultValue = "true") boolean count
+    ) {
+        log.info("Fetching employee page for department {}: page={}, size={}, sort={}, count={}",
+                departmentId, page, size, sort, count);
+        return ResponseEntity.ok(service.getDepartmentPage(departmentId, page, size, sort, count));
+    }
 
-
+    // On PUT and PATCH the tag is what the client's next If-Match has to name
+    private static ResponseEntity<EmployeeDTO> tagged(EmployeeDTO employee) {
+        if (employee.getVersion() == null) {
+            return ResponseEntity.ok(employee);
+        }
+        return ResponseEntity.ok().eTag(VersionTags.of(employee.getVersion())).varyBy(HttpHeaders.ACCEPT).body(employee);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.example.employee.wireformat;
+
+import com.example.employee.dto.PageDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes {@link PageDTO} as JSON or CBOR straight from the parser, without a tree, a bean
+ * deserializer for the envelope or the Feign page modules. The writer puts {@code page}, {@code size},
+ * {@code totalElements} and {@code hasNext} ahead of {@code content}; the reader takes the fields in
+ * any order, hands {@code content} to Jackson as a list and skips anything it does not know.
+ */
+public class PageDTOHttpMessageConverter extends AbstractGenericHttpMessageConverter<PageDTO<?>> {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    // Content readers by declared page type, one map per format
+    private final Map<Type, ObjectReader> jsonReaders = new ConcurrentHashMap<>();
+    private final Map<Type, ObjectReader> cborReaders = new ConcurrentHashMap<>();
+
+    public PageDTOHttpMessageConverter(ObjectMapper jsonMapper, ObjectMapper cborMapper) {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = cborMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PageDTO.class.isAssignableFrom(clazz);
+    }
+
+    // The inherited checks only look at the media type when given a parameterized type
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return supports(ResolvableType.forType(type).toClass()) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return supports(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public PageDTO<?> read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        ObjectMapper mapper = mapperFor(inputMessage.getHeaders().getContentType());
+        Type pageType = contextClass != null ? GenericTypeResolver.resolveType(type, contextClass) : type;
+        ObjectReader reader = (mapper == cborMapper ? cborReaders : jsonReaders)
+                .computeIfAbsent(pageType, key -> mapper.readerFor(contentType(mapper, key)));
+        try (JsonParser parser = mapper.createParser(StreamUtils.nonClosing(inputMessage.getBody()))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new HttpMessageNotReadableException("Expected a page object", inputMessage);
+            }
+            List<Object> content = List.of();
+            int page = 0;
+            int size = 0;
+            Long totalElements = null;
+            boolean hasNext = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "page" -> page = parser.getIntValue();
+                    case "size" -> size = parser.getIntValue();
+                    case "totalElements" -> totalElements = value == JsonToken.VALUE_NULL ? null : parser.getLongValue();
+                    case "hasNext" -> hasNext = parser.getBooleanValue();
+                    case "content" -> content = readContent(parser, reader, inputMessage);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new PageDTO<>(content, page, size, totalElements, hasNext);
+        } catch (HttpMessageNotReadableException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            throw new HttpMessageNotReadableException("Could not read page: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected PageDTO<?> readInternal(Class<? extends PageDTO<?>> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PageDTO<?> page, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        ObjectMapper mapper = mapperFor(outputMessage.getHeaders().getContentType());
+        try (JsonGenerator generator = mapper.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()))) {
+            generator.writeStartObject();
+            generator.writeNumberField("page", page.page());
+            generator.writeNumberField("size", page.size());
+            if (page.totalElements() != null) {
+                generator.writeNumberField("totalElements", page.totalElements());
+            }
+            generator.writeBooleanField("hasNext", page.hasNext());
+            generator.writeFieldName("content");
+            // One call for the whole list: items go by their runtime type, and CBOR gets a sized array
+            mapper.writeValue(generator, page.content() != null ? page.content() : List.of());
+            generator.writeEndObject();
+        } catch (IOException ex) {
+            throw new HttpMessageNotWritableException("Could not write page: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static List<Object> readContent(JsonParser parser, ObjectReader reader,
+                                            HttpInputMessage inputMessage) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return List.of();
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new HttpMessageNotReadableException("Expected the page content to be an array", inputMessage);
+        }
+        return reader.readValue(parser);
+    }
+
+    // List<T> for PageDTO<T>, with Object when the declared type does not say what T is
+    private static JavaType contentType(ObjectMapper mapper, Type pageType) {
+        ResolvableType element = ResolvableType.forType(pageType).as(PageDTO.class).getGeneric(0);
+        JavaType elementType = mapper.constructType(element.resolve() != null ? element.getType() : Object.class);
+        return mapper.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    private ObjectMapper mapperFor(@Nullable MediaType contentType) {
+        return contentType != null && MediaType.APPLICATION_CBOR.isCompatibleWith(contentType) ? cborMapper : jsonMapper;
+    }
+}
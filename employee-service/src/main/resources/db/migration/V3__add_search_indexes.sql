@@ -0,0 +1,20 @@
+-- Indexes for the repository queries (checked by the query-plans module)
+
+-- Trigram indexes serve the LOWER(...) LIKE '%term%' searches; pg_trgm is a trusted extension
+-- The services share the database and migrate at the same time, so only one of them may create it at once
+SELECT pg_advisory_xact_lock(hashtext('pg_trgm'));
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+-- Department filter and per-department counts
+CREATE INDEX IF NOT EXISTS idx_employees_department_id ON employee.employees (department_id);
+
+-- Listings sorted by last name
+CREATE INDEX IF NOT EXISTS idx_employees_last_name ON employee.employees (last_name);
+
+-- Case-insensitive email lookup
+CREATE INDEX IF NOT EXISTS idx_employees_email_lower ON employee.employees (LOWER(email));
+
+-- Last name filter and the name/email search
+CREATE INDEX IF NOT EXISTS idx_employees_last_name_trgm ON employee.employees USING gin (LOWER(last_name) public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_employees_first_name_trgm ON employee.employees USING gin (LOWER(first_name) public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_employees_email_trgm ON employee.employees USING gin (LOWER(email) public.gin_trgm_ops);
@@ -0,0 +1,3 @@
+-- Optimistic-locking version, also the source of the ETags on GET /api/v1/employees/{id}
+ALTER TABLE employee.employees
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -6,6 +6,7 @@ import com.example.employee.dto.DepartmentDTO;
 import com.example.employee.dto.EmployeeDTO;
 import com.example.employee.dto.EmployeePatchDTO;
 import com.example.employee.repo.EmployeeRepository;
+import com.example.employee.repo.EmployeeSummary;
 import com.example.employee.service.IdempotencyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -127,6 +128,13 @@ class EmployeeServiceIntegrationTest {
                 .build();
     }
 
+    // Listings read records, not entities
+    private static List<EmployeeSummary> summaries(List<Employee> employees) {
+        return employees.stream()
+                .map(e -> new EmployeeSummary(e.getId(), e.getFirstName(), e.getLastName(), e.getEmail(), e.getDepartmentId()))
+                .toList();
+    }
+
     // ========================================
     // GET ALL EMPLOYEES TESTS (PAGINATED)
     // ========================================
@@ -136,7 +144,7 @@ class EmployeeServiceIntegrationTest {
     void getAllEmployees_ShouldReturnPaginatedResultsWithDepartments() {
         // Arrange
         List<Employee> employees = List.of(sampleEmployee1, sampleEmployee2, sampleEmployee3);
-        Page<Employee> employeePage = new PageImpl<>(employees, PageRequest.of(0, 20), 3);
+        Page<EmployeeSummary> employeePage = new PageImpl<>(summaries(employees), PageRequest.of(0, 20), 3);
 
         when(employeeRepository.findWithFilters(isNull(), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(employeePage);
@@ -178,7 +186,7 @@ class EmployeeServiceIntegrationTest {
     void getAllEmployees_WithEmailFilter_ShouldReturnFilteredResults() {
         // Arrange
         List<Employee> filteredEmployees = List.of(sampleEmployee1);
-        Page<Employee> employeePage = new PageImpl<>(filteredEmployees, PageRequest.of(0, 20), 1);
+        Page<EmployeeSummary> employeePage = new PageImpl<>(summaries(filteredEmployees), PageRequest.of(0, 20), 1);
 
         when(employeeRepository.findWithFilters(eq("alice@example.com"), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(employeePage);
@@ -205,7 +213,7 @@ class EmployeeServiceIntegrationTest {
     void getAllEmployees_WithDepartmentFilter_ShouldReturnFilteredResults() {
         // Arrange
         List<Employee> filteredEmployees = List.of(sampleEmployee1, sampleEmployee2);
-        Page<Employee> employeePage = new PageImpl<>(filteredEmployees, PageRequest.of(0, 20), 2);
+        Page<EmployeeSummary> employeePage = new PageImpl<>(summaries(filteredEmployees), PageRequest.of(0, 20), 2);
 
         when(employeeRepository.findWithFilters(isNull(), isNull(), eq(1L), any(Pageable.class)))
                 .thenReturn(employeePage);
@@ -471,7 +479,7 @@ class EmployeeServiceIntegrationTest {
 
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(sampleEmployee1));
         when(employeeRepository.existsByEmailAndIdNot("alice.updated@example.com", 1L)).thenReturn(false);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(updatedEmployee);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(updatedEmployee);
         when(departmentClient.getDepartment(2L)).thenReturn(sampleDepartment2);
 
         EmployeeDTO updateDto = EmployeeDTO.builder()
@@ -540,7 +548,7 @@ class EmployeeServiceIntegrationTest {
                 .build();
 
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(sampleEmployee1));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(updatedEmployee);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(updatedEmployee);
         when(departmentClient.getDepartment(2L)).thenReturn(sampleDepartment2);
 
         EmployeePatchDTO patchDto = EmployeePatchDTO.builder()
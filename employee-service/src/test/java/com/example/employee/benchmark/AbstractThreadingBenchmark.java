@@ -0,0 +1,211 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.client.DepartmentClient;
+import com.example.employee.domain.Employee;
+import com.example.employee.dto.DepartmentDTO;
+import com.example.employee.repo.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop load benchmark for {@code GET /api/v1/employees/{id}?enrichWithDepartment=true}.
+ * Each query holds one of {@code benchmark.poolSize} simulated Hikari connections for
+ * {@code benchmark.queryMillis}, and the department lookup blocks for {@code benchmark.remoteMillis}
+ * the way a Feign call does. Only the threading mode differs between the subclasses.
+ *
+ * <p>Disabled by default, run with:
+ * <pre>
+ * mvn -pl employee-service -am test -Dbenchmark=true -Dtest='*ThreadsBenchmarkTest' -Dsurefire.failIfNoSpecifiedTests=false
+ * </pre>
+ * Results are printed and written to {@code target/benchmarks/}.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                        "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                        "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration",
+                "spring.cloud.discovery.enabled=false",
+                "eureka.client.enabled=false",
+                "logging.level.com.example.employee=WARN"
+        }
+)
+abstract class AbstractThreadingBenchmark {
+
+    static final int POOL_SIZE = Integer.getInteger("benchmark.poolSize", 20);
+    static final long QUERY_MILLIS = Long.getLong("benchmark.queryMillis", 2);
+    static final long REMOTE_MILLIS = Long.getLong("benchmark.remoteMillis", 50);
+    static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 200);
+    static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmupSeconds", 5));
+    static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("benchmark.measurementSeconds", 20));
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @TestBean
+    private EmployeeRepository employeeRepository;
+
+    @TestBean
+    private DepartmentClient departmentClient;
+
+    // Simulated JDBC: every query holds one of POOL_SIZE connections, like a Hikari pool would
+    static EmployeeRepository employeeRepository() {
+        Semaphore connections = new Semaphore(POOL_SIZE, true);
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .departmentId(100L)
+                .build();
+
+        return (EmployeeRepository) Proxy.newProxyInstance(
+                EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> {
+                        // same contract as Hikari: wait up to connection-timeout for a free connection
+                        if (!connections.tryAcquire(2, TimeUnit.SECONDS)) {
+                            throw new CannotGetJdbcConnectionException("Connection is not available");
+                        }
+                        try {
+                            Thread.sleep(QUERY_MILLIS);
+                        } finally {
+                            connections.release();
+                        }
+                        yield Optional.of(employee);
+                    }
+                    case "toString" -> "SimulatedEmployeeRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    // Simulated Feign call: blocks the calling thread for the remote latency
+    static DepartmentClient departmentClient() {
+        return id -> {
+            try {
+                Thread.sleep(REMOTE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            DepartmentDTO department = new DepartmentDTO();
+            department.setId(id);
+            department.setName("Engineering");
+            return department;
+        };
+    }
+
+    @Test
+    void benchmark() throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/employees/1?enrichWithDepartment=true");
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        run(httpClient, uri, WARMUP);
+        Result result = run(httpClient, uri, MEASUREMENT);
+
+        String mode = virtualThreads ? "virtual" : "platform";
+        String report = String.format(
+                "threads=%s concurrency=%d poolSize=%d queryMs=%d remoteMs=%d requests=%d errors=%d "
+                        + "throughput=%.1f req/s p50=%.1f ms p99=%.1f ms max=%.1f ms",
+                mode, CONCURRENCY, POOL_SIZE, QUERY_MILLIS, REMOTE_MILLIS, result.requests(), result.errors(),
+                result.requests() / (double) MEASUREMENT.toSeconds(),
+                result.percentileMillis(50), result.percentileMillis(99), result.percentileMillis(100));
+        System.out.println(report);
+
+        Path output = Path.of("target", "benchmarks", "threading-" + mode + ".txt");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report + System.lineSeparator());
+
+        assertThat(result.requests()).isPositive();
+    }
+
+    private Result run(HttpClient httpClient, URI uri, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        AtomicLong errors = new AtomicLong();
+
+        // Platform threads on the client side, so the load generator never shares carriers with the server
+        try (ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<long[]>> futures = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(workers.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            List<long[]> perWorker = new ArrayList<>(CONCURRENCY);
+            for (Future<long[]> future : futures) {
+                perWorker.add(future.get());
+            }
+            long[] all = perWorker.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(all, errors.get());
+        }
+    }
+
+    private record Result(long[] sortedLatencies, long errors) {
+
+        long requests() {
+            return sortedLatencies.length;
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.employee.conditional;
+
+import com.example.employee.domain.Employee;
+import com.example.employee.repo.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ETags, If-None-Match and If-Match end to end, with the version column maintained by real JPA on H2.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:conditional;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS employee",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "eureka.client.enabled=false"
+        }
+)
+@DisplayName("Conditional requests Integration Tests")
+class ConditionalRequestIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee alice;
+
+    // No department, so the enriched PUT and PATCH responses make no remote call
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        alice = employeeRepository.save(Employee.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice@example.com")
+                .build());
+    }
+
+    private ResponseEntity<String> get(String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange("/api/v1/employees/{id}?enrichWithDepartment=false", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class, alice.getId());
+    }
+
+    private ResponseEntity<String> patch(String ifMatch, String firstName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch(ifMatch);
+        return restTemplate.exchange("/api/v1/employees/{id}", HttpMethod.PATCH,
+                new HttpEntity<>(Map.of("firstName", firstName), headers), String.class, alice.getId());
+    }
+
+    @Nested
+    @DisplayName("If-None-Match")
+    class IfNoneMatchTests {
+
+        @Test
+        @DisplayName("Should answer 304 until the employee changes")
+        void shouldRevalidateUntilChanged() {
+            ResponseEntity<String> first = get(null);
+            String etag = first.getHeaders().getETag();
+            assertThat(etag).isEqualTo("\"0\"");
+
+            ResponseEntity<String> unchanged = get(etag);
+            assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(unchanged.getBody()).isNull();
+
+            alice.setLastName("Jones");
+            employeeRepository.save(alice);
+
+            ResponseEntity<String> changed = get(etag);
+            assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(changed.getHeaders().getETag()).isEqualTo("\"1\"");
+            assertThat(changed.getBody()).contains("Jones");
+        }
+    }
+
+    @Nested
+    @DisplayName("If-Match")
+    class IfMatchTests {
+
+        @Test
+        @DisplayName("Should let the first of two writers based on the same version through and refuse the second")
+        void shouldRefuseLostUpdate() {
+            String etag = get(null).getHeaders().getETag();
+
+            ResponseEntity<String> first = patch(etag, "Alicia");
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(first.getHeaders().getETag()).isEqualTo("\"1\"");
+
+            ResponseEntity<String> second = patch(etag, "Ally");
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+            Employee stored = employeeRepository.findById(alice.getId()).orElseThrow();
+            assertThat(stored.getFirstName()).isEqualTo("Alicia");
+            assertThat(stored.getVersion()).isEqualTo(1L);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.employee.configwatch;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.config.client.ConfigClientProperties;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompressedConfigFetch Tests")
+class CompressedConfigFetchTest {
+
+    private static final String ENVIRONMENT = """
+            {"name":"employee-service","profiles":["default"],"label":null,"version":null,"state":null,
+             "propertySources":[{"name":"classpath:/config/services/employee-service.yaml",
+                                 "source":{"listing.page-size":20}}]}""";
+
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+
+    private HttpServer configServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        configServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        configServer.createContext("/employee-service/default", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write(ENVIRONMENT.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        configServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        configServer.stop(0);
+    }
+
+    private ConfigClientProperties properties() {
+        ConfigClientProperties properties = new ConfigClientProperties(new MockEnvironment());
+        properties.setUri(new String[]{"http://localhost:" + configServer.getAddress().getPort()});
+        return properties;
+    }
+
+    @Nested
+    @DisplayName("Boot fetch Tests")
+    class BootFetchTests {
+
+        @Test
+        @DisplayName("Should ask for a gzipped environment and inflate the answer")
+        void shouldFetchCompressedEnvironment() {
+            ConfigClientProperties properties = properties();
+            var restTemplate = new CompressedConfigFetch.RequestTemplateFactory(properties).create();
+
+            Environment environment = restTemplate.getForObject(
+                    properties.getUri()[0] + "/employee-service/default", Environment.class);
+
+            assertThat(acceptEncoding.get()).contains("gzip");
+            assertThat(environment).isNotNull();
+            assertThat(environment.getPropertySources()).singleElement()
+                    .satisfies(source -> assertThat(source.getSource().get("listing.page-size")).isEqualTo(20));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.employee.configwatch;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.env.OriginTrackedMapPropertySource;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.autoconfigure.ConfigurationPropertiesRebinderAutoConfiguration;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.cloud.context.properties.ConfigurationPropertiesRebinder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConfigChangeApplier Tests")
+class ConfigChangeApplierTest {
+
+    private static final String SERVICE = "classpath:/config/services/employee-service.yaml";
+    private static final String SHARED = "classpath:/config/shared/application.yaml";
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    RefreshAutoConfiguration.class, ConfigurationPropertiesRebinderAutoConfiguration.class))
+            .withUserConfiguration(TestConfig.class)
+            .withInitializer(context -> {
+                var sources = context.getEnvironment().getPropertySources();
+                sources.addLast(configServerSource(SERVICE, Map.of("listing.page-size", 20)));
+                sources.addLast(configServerSource(SHARED, Map.of(
+                        "listing.page-size", 50, "cache.ttl", "10s", "greeting", "hello")));
+            });
+
+    private static PropertySource<?> configServerSource(String name, Map<String, Object> properties) {
+        return new OriginTrackedMapPropertySource(ConfigChangeApplier.SOURCE_PREFIX + name, properties);
+    }
+
+    private static ConfigChangeApplier applier(ConfigurableApplicationContext context) {
+        return new ConfigChangeApplier(context, context.getBean(ConfigurationPropertiesRebinder.class),
+                context.getBeanProvider(org.springframework.cloud.context.scope.refresh.RefreshScope.class));
+    }
+
+    @Nested
+    @DisplayName("Targeted refresh Tests")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Should rebind only the properties beans whose prefix covers a changed key")
+        void shouldRebindAffectedBeans() {
+            runner.run(context -> {
+                ConfigChangeApplier.Applied applied = applier(context).apply(List.of(SERVICE, SHARED),
+                        List.of(new ConfigSource(SHARED, Map.of("listing.page-size", 50, "cache.ttl", "30s",
+                                "greeting", "hello"))));
+
+                assertThat(applied.keys()).containsExactly("cache.ttl");
+                assertThat(applied.reboundBeans()).hasSize(1).allMatch(name -> name.startsWith("cache"));
+                assertThat(applied.scopeRefreshed()).isFalse();
+                assertThat(context.getBean(CacheProperties.class).getTtl()).isEqualTo("30s");
+            });
+        }
+
+        @Test
+        @DisplayName("Should ignore a change hidden by a source of higher precedence")
+        void shouldIgnoreOverriddenChange() {
+            runner.run(context -> {
+                ConfigChangeApplier.Applied applied = applier(context).apply(List.of(SERVICE, SHARED),
+                        List.of(new ConfigSource(SHARED, Map.of("listing.page-size", 100, "cache.ttl", "10s",
+                                "greeting", "hello"))));
+
+                assertThat(applied.keys()).isEmpty();
+                assertThat(applied.reboundBeans()).isEmpty();
+                assertThat(context.getBean(ListingProperties.class).getPageSize()).isEqualTo(20);
+            });
+        }
+
+        @Test
+        @DisplayName("Should refresh the refresh scope for keys no properties bean owns")
+        void shouldRefreshScopeForUnownedKeys() {
+            runner.run(context -> {
+                Greeter greeter = context.getBean(Greeter.class);
+                assertThat(greeter.greeting()).isEqualTo("hello");
+
+                ConfigChangeApplier.Applied applied = applier(context).apply(List.of(SERVICE, SHARED),
+                        List.of(new ConfigSource(SHARED, Map.of("listing.page-size", 50, "cache.ttl", "10s",
+                                "greeting", "hi"))));
+
+                assertThat(applied.scopeRefreshed()).isTrue();
+                assertThat(greeter.greeting()).isEqualTo("hi");
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Property source Tests")
+    class SourceTests {
+
+        @Test
+        @DisplayName("Should remove sources the server no longer serves and add new ones in order")
+        void shouldFollowServerOrder() {
+            runner.run(context -> {
+                String profile = "classpath:/config/services/employee-service-h2c.yaml";
+                ConfigChangeApplier applier = applier(context);
+
+                ConfigChangeApplier.Applied applied = applier.apply(List.of(profile, SHARED),
+                        List.of(new ConfigSource(profile, Map.of("listing.page-size", 10))));
+
+                assertThat(applier.localHashes()).containsOnlyKeys(profile, SHARED);
+                assertThat(applier.localHashes().keySet()).containsExactly(profile, SHARED);
+                assertThat(applied.keys()).containsExactly("listing.page-size");
+                assertThat(context.getBean(ListingProperties.class).getPageSize()).isEqualTo(10);
+            });
+        }
+
+        @Test
+        @DisplayName("Should hash a source the same whether values are typed or strings")
+        void shouldHashStringForm() {
+            assertThat(ConfigChangeApplier.hash(Map.of("a", 1, "b", true)))
+                    .isEqualTo(ConfigChangeApplier.hash(Map.of("b", "true", "a", "1")));
+        }
+
+        // Source JSON and hash pinned on the server side by config-server's ConfigChangeIntegrationTest
+        @Test
+        @DisplayName("Should hash a source served by config-server as the server versions it")
+        void shouldMatchServerHash() throws Exception {
+            String served = """
+                    {"contract.name":"demo","contract.port":8080,"contract.enabled":true,"contract.ratio":0.25,
+                     "contract.timeout":"5s","contract.hosts[0]":"a.example.com","contract.hosts[1]":"b.example.com"}""";
+            Map<String, Object> source = new ObjectMapper().readValue(served, new TypeReference<>() {});
+
+            runner.withInitializer(context -> context.getEnvironment().getPropertySources()
+                            .addFirst(configServerSource("contract.yaml", source)))
+                    .run(context -> assertThat(applier(context).localHashes())
+                            .containsEntry("contract.yaml", "1fce387d086848fd3352ad8c8d13e5a1150d1813b4af2775106d3268f5f69568"));
+        }
+    }
+
+    @Configuration
+    @EnableConfigurationProperties({ListingProperties.class, CacheProperties.class})
+    static class TestConfig {
+
+        @Bean
+        @RefreshScope
+        Greeter greeter(Environment environment) {
+            return new Greeter(environment.getProperty("greeting"));
+        }
+    }
+
+    @Data
+    @ConfigurationProperties(prefix = "listing")
+    static class ListingProperties {
+        private int pageSize;
+    }
+
+    @Data
+    @ConfigurationProperties(prefix = "cache")
+    static class CacheProperties {
+        private String ttl;
+    }
+
+    static class Greeter {
+
+        private final String greeting;
+
+        Greeter(String greeting) {
+            this.greeting = greeting;
+        }
+
+        public String greeting() {
+            return greeting;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.employee.fields;
+
+import com.example.employee.domain.Employee;
+import com.example.employee.repo.EmployeeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * The {@code fields} parameter end to end: real JPA on H2, the real Feign client against a stub
+ * department-service, and the request-stats headers to count statements and remote calls.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:sparse-fields;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS employee",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "eureka.client.enabled=false",
+                "request-stats.response-headers=true"
+        }
+)
+@DisplayName("Sparse fieldsets Integration Tests")
+class SparseFieldsIntegrationTest {
+
+    private static final String JDBC_STATEMENTS = "X-Request-Jdbc-Statements";
+    private static final String HTTP_CALLS = "X-Request-Http-Calls";
+
+    private static final AtomicInteger departmentCalls = new AtomicInteger();
+    private static HttpServer departmentService;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee alice;
+
+    @DynamicPropertySource
+    static void departmentService(DynamicPropertyRegistry registry) throws IOException {
+        departmentService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        departmentService.createContext("/api/v1/departments/", exchange -> {
+            departmentCalls.incrementAndGet();
+            String id = exchange.getRequestURI().getPath().replaceAll(".*/", "");
+            byte[] body = ("{\"id\":" + id + ",\"name\":\"Department " + id + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        departmentService.start();
+        registry.add("spring.cloud.discovery.client.simple.instances.DEPARTMENT-SERVICE[0].uri",
+                () -> "http://localhost:" + departmentService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopDepartmentService() {
+        departmentService.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        alice = employeeRepository.save(employee("Alice", "Smith", 1L));
+        employeeRepository.save(employee("Bob", "Jones", 2L));
+        employeeRepository.save(employee("Carol", "Brown", 1L));
+        departmentCalls.set(0);
+    }
+
+    private static Employee employee(String firstName, String lastName, Long departmentId) {
+        return Employee.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(firstName.toLowerCase() + "@example.com")
+                .departmentId(departmentId)
+                .build();
+    }
+
+    private static List<String> names(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static int header(ResponseEntity<?> response, String name) {
+        return Integer.parseInt(response.getHeaders().getFirst(name));
+    }
+
+    @Nested
+    @DisplayName("Listing Tests")
+    class ListingTests {
+
+        @Test
+        @DisplayName("Should return only the requested properties and skip the department calls")
+        void shouldReturnRequestedPropertiesOnly() {
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                    "/api/v1/employees?fields=id,lastName&sort=lastName", JsonNode.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            JsonNode content = response.getBody().get("content");
+            assertThat(content).hasSize(3);
+            assertThat(names(content.get(0))).containsExactlyInAnyOrder("id", "lastName");
+            assertThat(content.get(0).get("lastName").asText()).isEqualTo("Brown");
+            assertThat(header(response, HTTP_CALLS)).isZero();
+            assertThat(header(response, JDBC_STATEMENTS)).isEqualTo(1);
+            assertThat(departmentCalls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Should fetch the department only when it is requested, without its id")
+        void shouldEnrichWhenDepartmentRequested() {
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                    "/api/v1/employees?fields=firstName,department", JsonNode.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            JsonNode first = response.getBody().get("content").get(0);
+            assertThat(names(first)).containsExactlyInAnyOrder("firstName", "department");
+            assertThat(first.get("department").get("name").asText()).startsWith("Department ");
+            assertThat(header(response, HTTP_CALLS)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should apply the fields to the count-free listing")
+        void shouldApplyFieldsToSlice() {
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                    "/api/v1/employees?count=false&size=2&fields=email", JsonNode.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().get("hasNext").asBoolean()).isTrue();
+            JsonNode content = response.getBody().get("content");
+            assertThat(content).hasSize(2);
+            assertThat(names(content.get(0))).containsExactly("email");
+        }
+
+        @Test
+        @DisplayName("Should keep the full representation without the parameter")
+        void shouldReturnEverythingByDefault() {
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity("/api/v1/employees", JsonNode.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(names(response.getBody().get("content").get(0)))
+                    .containsExactlyInAnyOrder("id", "firstName", "lastName", "email", "departmentId", "department");
+        }
+
+        @Test
+        @DisplayName("Should reject unknown fields with 400")
+        void shouldRejectUnknownFields() {
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                    "/api/v1/employees?fields=id,salary", JsonNode.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody().get("detail").asText()).contains("salary");
+        }
+    }
+
+    @Nested
+    @DisplayName("Detail Tests")
+    class DetailTests {
+
+        @Test
+        @DisplayName("Should return only the requested properties of one employee")
+        void shouldReturnRequestedProperties() {
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                    "/api/v1/employees/" + alice.getId() + "?fields=firstName", JsonNode.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(names(response.getBody())).containsExactly("firstName");
+            assertThat(response.getBody().get("firstName").asText()).isEqualTo("Alice");
+            assertThat(header(response, HTTP_CALLS)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should answer 404 for a missing employee")
+        void shouldReturnNotFound() {
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                    "/api/v1/employees/999999?fields=firstName", JsonNode.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("Repository Tests")
+    class RepositoryTests {
+
+        @Test
+        @DisplayName("Should select only the requested attributes")
+        void shouldSelectRequestedAttributes() {
+            Tuple row = employeeRepository.findFieldsById(Set.of("lastName"), alice.getId()).orElseThrow();
+
+            assertThat(row.getElements()).hasSize(1);
+            assertThat(row.get("lastName", String.class)).isEqualTo("Smith");
+        }
+
+        @Test
+        @DisplayName("Should refuse attributes outside the known set")
+        void shouldRefuseUnknownAttributes() {
+            assertThatThrownBy(() -> employeeRepository.findFieldsWithFilters(
+                    Set.of("lastName", "1 = 1 OR e.id"), null, null, null, PageRequest.of(0, 20, Sort.by("id"))))
+                    .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                    .hasMessageContaining("Cannot select");
+        }
+    }
+}
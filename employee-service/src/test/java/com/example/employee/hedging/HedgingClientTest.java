@@ -0,0 +1,202 @@
+package com.example.employee.hedging;
+
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+class HedgingClientTest {
+
+    interface TestApi {
+
+        @Hedged
+        @RequestLine("GET /departments/1")
+        String hedgedRead();
+
+        @RequestLine("GET /departments/2")
+        String plainRead();
+    }
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Request> sentRequests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private HedgingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new HedgingProperties();
+        properties.setInitialDelay(Duration.ofMillis(20));
+        properties.setBudgetPercent(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // First attempt takes firstAttemptMillis, every later attempt answers immediately
+    private TestApi client(long firstAttemptMillis) {
+        return client(firstAttemptMillis, executor);
+    }
+
+    private TestApi client(long firstAttemptMillis, ExecutorService attemptExecutor) {
+        Client delegate = (request, options) -> {
+            sentRequests.add(request);
+            int attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                sleep(firstAttemptMillis);
+            }
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .body("attempt-" + attempt, StandardCharsets.UTF_8)
+                    .build();
+        };
+        HedgingClient hedgingClient = new HedgingClient(delegate, properties, new HedgedAttempts(),
+                attemptExecutor, meterRegistry);
+        return Feign.builder().client(hedgingClient).target(TestApi.class, "http://DEPARTMENT-SERVICE");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double count(String name) {
+        return meterRegistry.find(name).counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+
+    @Nested
+    @DisplayName("Hedged method Tests")
+    class HedgedMethodTests {
+
+        @Test
+        @DisplayName("Should return hedge response when primary is slow")
+        void shouldReturnHedgeWhenPrimaryIsSlow() {
+            String result = client(1000).hedgedRead();
+
+            assertThat(result).isEqualTo("attempt-2");
+            assertThat(count("feign.hedging.hedges")).isEqualTo(1);
+            assertThat(count("feign.hedging.wins")).isEqualTo(1);
+            assertThat(sentRequests).extracting(r -> r.headers().get(HedgedAttempts.HEDGE_ID_HEADER))
+                    .doesNotContainNull()
+                    .containsOnly(sentRequests.get(0).headers().get(HedgedAttempts.HEDGE_ID_HEADER));
+        }
+
+        @Test
+        @DisplayName("Should not hedge when primary answers in time")
+        void shouldNotHedgeFastPrimary() {
+            String result = client(0).hedgedRead();
+
+            assertThat(result).isEqualTo("attempt-1");
+            assertThat(attempts).hasValue(1);
+            assertThat(count("feign.hedging.calls")).isEqualTo(1);
+            assertThat(count("feign.hedging.hedges")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should wait for primary when hedge budget is exhausted")
+        void shouldRespectBudget() {
+            properties.setBudgetPercent(0);
+
+            String result = client(100).hedgedRead();
+
+            assertThat(result).isEqualTo("attempt-1");
+            assertThat(attempts).hasValue(1);
+            assertThat(count("feign.hedging.budget.exhausted")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Interrupt Tests")
+    class InterruptTests {
+
+        @Test
+        @DisplayName("Should stop waiting and keep the interrupt when the caller is interrupted")
+        void shouldGiveUpWhenInterrupted() throws InterruptedException {
+            properties.setInitialDelay(Duration.ofSeconds(10));
+            TestApi api = client(10_000);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            AtomicBoolean interrupted = new AtomicBoolean();
+
+            Thread caller = new Thread(() -> {
+                try {
+                    api.hedgedRead();
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+                interrupted.set(Thread.currentThread().isInterrupted());
+            });
+            caller.start();
+            await().until(() -> attempts.get() == 1);
+            caller.interrupt();
+            caller.join(2000);
+
+            assertThat(caller.isAlive()).isFalse();
+            assertThat(interrupted).isTrue();
+            assertThat(failure.get()).hasRootCauseInstanceOf(InterruptedIOException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Saturation Tests")
+    class SaturationTests {
+
+        @Test
+        @DisplayName("Should make the call unhedged when no attempt thread is free")
+        void shouldCallDirectlyWhenSaturated() {
+            ExecutorService saturated = Executors.newSingleThreadExecutor();
+            saturated.shutdown();
+
+            String result = client(100, saturated).hedgedRead();
+
+            assertThat(result).isEqualTo("attempt-1");
+            assertThat(attempts).hasValue(1);
+            assertThat(count("feign.hedging.saturated")).isEqualTo(1);
+            assertThat(count("feign.hedging.hedges")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Plain method Tests")
+    class PlainMethodTests {
+
+        @Test
+        @DisplayName("Should pass non-hedged calls straight through")
+        void shouldPassThrough() {
+            String result = client(100).plainRead();
+
+            assertThat(result).isEqualTo("attempt-1");
+            assertThat(sentRequests).singleElement()
+                    .satisfies(r -> assertThat(r.headers()).doesNotContainKey(HedgedAttempts.HEDGE_ID_HEADER));
+            assertThat(count("feign.hedging.calls")).isZero();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.employee.listing;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TotalEstimator Tests")
+class TotalEstimatorTest {
+
+    private final TotalEstimateProperties properties = new TotalEstimateProperties();
+    private final AtomicLong counts = new AtomicLong();
+    // Background counts are held here until the test runs them
+    private final List<Runnable> pending = new ArrayList<>();
+    private final Executor background = pending::add;
+
+    private final LongSupplier count = () -> {
+        counts.incrementAndGet();
+        return 7;
+    };
+
+    private static JdbcTemplate h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:total-estimator");
+        return new JdbcTemplate(dataSource);
+    }
+
+    private static JdbcTemplate postgres(Long reltuples) throws Exception {
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("employee.employees")))
+                .thenReturn(reltuples == null ? List.of() : List.of(reltuples));
+        return jdbcTemplate;
+    }
+
+    private TotalEstimator estimator(JdbcTemplate jdbcTemplate) {
+        return new TotalEstimator(properties, jdbcTemplate, background);
+    }
+
+    private void runCounts() {
+        List<Runnable> counts = new ArrayList<>(pending);
+        pending.clear();
+        counts.forEach(Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("Filtered listings")
+    class Filtered {
+
+        @Test
+        @DisplayName("Should answer a miss without a total and count in the background")
+        void shouldNotCountOnMiss() {
+            TotalEstimator estimator = estimator(h2());
+
+            assertThat(estimator.estimate("employee.employees", Arrays.asList(null, "smith", null), count)).isEmpty();
+            assertThat(counts).hasValue(0);
+
+            runCounts();
+            assertThat(counts).hasValue(1);
+            assertThat(estimator.estimate("employee.employees", Arrays.asList(null, "smith", null), count))
+                    .hasValue(7);
+        }
+
+        @Test
+        @DisplayName("Should count once per filter combination within the TTL")
+        void shouldReuseCountWithinTtl() {
+            TotalEstimator estimator = estimator(h2());
+
+            estimator.estimate("employee.employees", Arrays.asList("a@example.com", null, 1L), count);
+            estimator.estimate("employee.employees", Arrays.asList("a@example.com", null, 1L), count);
+            runCounts();
+            assertThat(estimator.estimate("employee.employees", Arrays.asList("a@example.com", null, 1L), count))
+                    .hasValue(7);
+            runCounts();
+            assertThat(counts).hasValue(1);
+
+            estimator.estimate("employee.employees", Arrays.asList("a@example.com", null, 2L), count);
+            runCounts();
+            assertThat(counts).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should keep answering with the expired total while it is counted again")
+        void shouldRecountAfterTtl() {
+            properties.setTtl(Duration.ZERO);
+            TotalEstimator estimator = estimator(h2());
+
+            estimator.estimate("employee.employees", Arrays.asList(null, "smith", null), count);
+            runCounts();
+
+            assertThat(estimator.estimate("employee.employees", Arrays.asList(null, "smith", null), count))
+                    .hasValue(7);
+            assertThat(counts).hasValue(1);
+            runCounts();
+            assertThat(counts).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should keep at most max-entries filter combinations")
+        void shouldBoundCache() {
+            properties.setMaxEntries(2);
+            TotalEstimator estimator = new TotalEstimator(properties, h2(), Runnable::run);
+
+            for (long departmentId = 1; departmentId <= 3; departmentId++) {
+                estimator.estimate("employee.employees", Arrays.asList(null, null, departmentId), count);
+            }
+            estimator.estimate("employee.employees", Arrays.asList(null, null, 1L), count);
+
+            assertThat(counts).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("Should ask again when the count pool was busy")
+        void shouldRetryRejectedCount() {
+            AtomicLong rejections = new AtomicLong();
+            TotalEstimator estimator = new TotalEstimator(properties, h2(), task -> {
+                if (rejections.getAndIncrement() == 0) {
+                    throw new RejectedExecutionException("busy");
+                }
+                pending.add(task);
+            });
+
+            assertThat(estimator.estimate("employee.employees", Arrays.asList(null, null, 1L), count)).isEmpty();
+            assertThat(pending).isEmpty();
+
+            estimator.estimate("employee.employees", Arrays.asList(null, null, 1L), count);
+            assertThat(pending).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should return nothing when disabled")
+        void shouldReturnNothingWhenDisabled() {
+            properties.setEnabled(false);
+            TotalEstimator estimator = estimator(h2());
+
+            assertThat(estimator.estimate("employee.employees", Arrays.asList(null, null, 1L), count)).isEmpty();
+            runCounts();
+            assertThat(counts).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Unfiltered listings")
+    class Unfiltered {
+
+        @Test
+        @DisplayName("Should use the planner row estimate on PostgreSQL")
+        void shouldUsePlannerEstimate() throws Exception {
+            TotalEstimator estimator = estimator(postgres(100_000L));
+
+            assertThat(estimator.estimate("employee.employees", Arrays.asList(null, null, null), count))
+                    .hasValue(100_000);
+            assertThat(pending).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should count when the table was never analyzed")
+        void shouldCountWithoutStatistics() throws Exception {
+            TotalEstimator estimator = new TotalEstimator(properties, postgres(-1L), Runnable::run);
+
+            estimator.estimate("employee.employees", Arrays.asList(null, null, null), count);
+
+            assertThat(estimator.estimate("employee.employees", Arrays.asList(null, null, null), count))
+                    .hasValue(7);
+            assertThat(counts).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Should count on databases without planner statistics")
+        void shouldCountOnOtherDatabases() {
+            TotalEstimator estimator = new TotalEstimator(properties, h2(), Runnable::run);
+
+            estimator.estimate("employee.employees", Arrays.asList(null, null, null), count);
+
+            assertThat(estimator.estimate("employee.employees", Arrays.asList(null, null, null), count))
+                    .hasValue(7);
+            assertThat(counts).hasValue(1);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.employee.loadbalancer;
+
+import com.example.employee.hedging.HedgedAttempts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LatencyAwareLoadBalancerTest {
+
+    private static final String SERVICE_ID = "DEPARTMENT-SERVICE";
+
+    private final ServiceInstance fast = new DefaultServiceInstance("dept-1", SERVICE_ID, "10.0.0.1", 8082, false);
+    private final ServiceInstance slow = new DefaultServiceInstance("dept-2", SERVICE_ID, "10.0.0.2", 8082, false);
+    private final ServiceInstance other = new DefaultServiceInstance("dept-3", SERVICE_ID, "10.0.0.3", 8082, false);
+
+    private InstanceStatsRegistry statsRegistry;
+    private LatencyAwareLoadBalancerProperties properties;
+    private HedgedAttempts hedgedAttempts;
+
+    @BeforeEach
+    void setUp() {
+        statsRegistry = new InstanceStatsRegistry();
+        properties = new LatencyAwareLoadBalancerProperties();
+        hedgedAttempts = new HedgedAttempts();
+    }
+
+    private LatencyAwareLoadBalancer loadBalancer(ServiceInstance... instances) {
+        return new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances),
+                SERVICE_ID, statsRegistry, properties, hedgedAttempts);
+    }
+
+    private ServiceInstance choose(LatencyAwareLoadBalancer loadBalancer) {
+        Response<ServiceInstance> response = loadBalancer.choose(new DefaultRequest<>()).block();
+        assertThat(response).isNotNull();
+        return response.getServer();
+    }
+
+    private void record(ServiceInstance instance, Duration latency, boolean failed) {
+        InstanceStats stats = statsRegistry.statsFor(instance);
+        stats.requestStarted();
+        stats.requestFinished(latency.toNanos(), failed, System.nanoTime(), properties);
+    }
+
+    @Nested
+    @DisplayName("Instance selection Tests")
+    class SelectionTests {
+
+        @Test
+        @DisplayName("Should prefer the instance with lower latency")
+        void shouldPreferLowerLatency() {
+            record(fast, Duration.ofMillis(5), false);
+            record(slow, Duration.ofMillis(500), false);
+            LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow);
+
+            for (int i = 0; i < 20; i++) {
+                assertThat(choose(loadBalancer)).isEqualTo(fast);
+            }
+        }
+
+        @Test
+        @DisplayName("Should avoid the instance with more requests in flight")
+        void shouldAvoidBusyInstance() {
+            record(fast, Duration.ofMillis(10), false);
+            record(slow, Duration.ofMillis(10), false);
+            for (int i = 0; i < 5; i++) {
+                statsRegistry.statsFor(fast).requestStarted();
+            }
+
+            assertThat(choose(loadBalancer(fast, slow))).isEqualTo(slow);
+        }
+
+        @Test
+        @DisplayName("Should spread load over unobserved instances")
+        void shouldSpreadLoadOverUnobservedInstances() {
+            LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow, other);
+            Map<ServiceInstance, Integer> picks = new HashMap<>();
+
+            for (int i = 0; i < 300; i++) {
+                picks.merge(choose(loadBalancer), 1, Integer::sum);
+            }
+
+            assertThat(picks).containsOnlyKeys(fast, slow, other);
+        }
+
+        @Test
+        @DisplayName("Should return empty response when no instances are available")
+        void shouldReturnEmptyResponse() {
+            Response<ServiceInstance> response = loadBalancer().choose(new DefaultRequest<>()).block();
+
+            assertThat(response).isNotNull();
+            assertThat(response.hasServer()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Ejection Tests")
+    class EjectionTests {
+
+        @Test
+        @DisplayName("Should eject instance after consecutive failures")
+        void shouldEjectFailingInstance() {
+            for (int i = 0; i < properties.getFailureThreshold(); i++) {
+                record(slow, Duration.ofMillis(1), true);
+            }
+            LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow);
+
+            assertThat(statsRegistry.statsFor(slow).isEjected(System.nanoTime())).isTrue();
+            for (int i = 0; i < 20; i++) {
+                assertThat(choose(loadBalancer)).isEqualTo(fast);
+            }
+        }
+
+        @Test
+        @DisplayName("Should not eject on failures below threshold")
+        void shouldNotEjectBelowThreshold() {
+            for (int i = 0; i < properties.getFailureThreshold() - 1; i++) {
+                record(slow, Duration.ofMillis(1), true);
+            }
+            record(slow, Duration.ofMillis(1), false);
+            record(slow, Duration.ofMillis(1), true);
+
+            assertThat(statsRegistry.statsFor(slow).isEjected(System.nanoTime())).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should ignore ejection when too many instances are ejected")
+        void shouldRespectMaxEjectionPercent() {
+            for (int i = 0; i < properties.getFailureThreshold(); i++) {
+                record(fast, Duration.ofMillis(1), true);
+                record(slow, Duration.ofMillis(1), true);
+            }
+
+            assertThat(choose(loadBalancer(fast, slow))).isIn(fast, slow);
+        }
+    }
+
+    @Nested
+    @DisplayName("Hedging Tests")
+    class HedgingTests {
+
+        @Test
+        @DisplayName("Should send the hedge to a different instance than the primary")
+        void shouldAvoidPrimaryInstanceForHedge() {
+            record(fast, Duration.ofMillis(5), false);
+            record(slow, Duration.ofMillis(500), false);
+            hedgedAttempts.attemptStarted("hedge-1", fast);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HedgedAttempts.HEDGE_ID_HEADER, "hedge-1");
+            RequestData requestData = new RequestData(HttpMethod.GET,
+                    URI.create("http://DEPARTMENT-SERVICE/api/v1/departments/1"), headers, new HttpHeaders(), Map.of());
+            LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow);
+
+            for (int i = 0; i < 20; i++) {
+                Response<ServiceInstance> response = loadBalancer
+                        .choose(new DefaultRequest<>(new RequestDataContext(requestData))).block();
+                assertThat(response).isNotNull();
+                assertThat(response.getServer()).isEqualTo(slow);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.employee.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LogRateLimiterTest {
+
+    @Test
+    @DisplayName("lets the first N lines of a second through and counts the rest")
+    void limitsPerSecond() {
+        LogRateLimiter limiter = new LogRateLimiter(3);
+
+        long allowed = IntStream.range(0, 10).filter(i -> limiter.tryAcquire()).count();
+
+        assertThat(allowed).isEqualTo(3);
+        assertThat(limiter.takeSuppressed()).isEqualTo(7);
+        assertThat(limiter.takeSuppressed()).isZero();
+    }
+
+    @Test
+    @DisplayName("starts a new window after a second")
+    void newWindow() throws InterruptedException {
+        LogRateLimiter limiter = new LogRateLimiter(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        Thread.sleep(1_050);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.employee.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoggingTurboFiltersTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger controller = context.getLogger("com.example.employee.web.EmployeeController");
+    private final Logger service = context.getLogger("com.example.employee.service.EmployeeService");
+    private final Logger framework = context.getLogger("org.springframework.web.servlet.DispatcherServlet");
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("LogSamplingTurboFilter")
+    class Sampling {
+
+        private final LogSamplingTurboFilter filter = new LogSamplingTurboFilter();
+
+        private FilterReply decide(Logger logger, Level level, String format) {
+            return filter.decide(null, logger, level, format, null, null);
+        }
+
+        @Test
+        @DisplayName("keeps one in N INFO events of a sampled logger")
+        void keepsOneInN() {
+            filter.setRates("com.example.employee.web.EmployeeController=10");
+
+            long kept = IntStream.range(0, 100)
+                    .mapToObj(i -> decide(controller, Level.INFO, "Fetching employee with id: {}"))
+                    .filter(reply -> reply == FilterReply.NEUTRAL)
+                    .count();
+
+            assertThat(kept).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("never samples other levels, other loggers or isInfoEnabled checks")
+        void leavesEverythingElse() {
+            filter.setRates("com.example.employee.web.EmployeeController=1000");
+            decide(controller, Level.INFO, "first event is kept");
+
+            assertThat(decide(controller, Level.WARN, "warn")).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(controller, Level.ERROR, "error")).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(controller, Level.INFO, null)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(service, Level.INFO, "info")).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(controller, Level.INFO, "second event")).isEqualTo(FilterReply.DENY);
+        }
+
+        @Test
+        @DisplayName("an empty rate list samples nothing")
+        void emptyRates() {
+            filter.setRates("");
+
+            assertThat(decide(controller, Level.INFO, "info")).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(controller, Level.INFO, "info")).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Nested
+    @DisplayName("RequestDebugTurboFilter")
+    class RequestDebug {
+
+        private final RequestDebugTurboFilter filter = new RequestDebugTurboFilter();
+
+        private FilterReply decide(Logger logger, Level level) {
+            return filter.decide(null, logger, level, "message", null, null);
+        }
+
+        @Test
+        @DisplayName("accepts DEBUG of application loggers while the request is flagged")
+        void acceptsFlaggedRequest() {
+            filter.setLoggerPrefix("com.example.employee");
+            MDC.put(RequestDebugTurboFilter.MDC_KEY, "true");
+
+            assertThat(decide(service, Level.DEBUG)).isEqualTo(FilterReply.ACCEPT);
+            assertThat(decide(framework, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(service, Level.TRACE)).isEqualTo(FilterReply.NEUTRAL);
+        }
+
+        @Test
+        @DisplayName("leaves DEBUG to the configured level for other requests")
+        void neutralWithoutFlag() {
+            assertThat(decide(service, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        }
+
+        @Test
+        @DisplayName("flagged requests pass a logger configured at INFO")
+        void overridesLevel() {
+            filter.setLoggerPrefix("com.example.employee");
+            context.addTurboFilter(filter);
+            service.setLevel(Level.INFO);
+
+            assertThat(service.isDebugEnabled()).isFalse();
+            MDC.put(RequestDebugTurboFilter.MDC_KEY, "true");
+            assertThat(service.isDebugEnabled()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.employee.reactive;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.PageDTO;
+import com.example.employee.exception.EmployeeNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveEmployeeServiceTest {
+
+    private final ReactiveEmployeeRepository repository = mock(ReactiveEmployeeRepository.class);
+    private final Map<Long, AtomicInteger> lookupsPerDepartment = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private ReactiveReadProperties properties;
+    private ReactiveEmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReactiveReadProperties();
+        properties.setEnrichmentConcurrency(4);
+        service = new ReactiveEmployeeService(repository, WebClient.builder().exchangeFunction(departmentService()),
+                properties);
+    }
+
+    // Answers /api/v1/departments/{id} after 20ms; department 13 is broken
+    private ExchangeFunction departmentService() {
+        return request -> {
+            String path = request.url().getPath();
+            long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+            lookupsPerDepartment.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            ClientResponse response = id == 13
+                    ? ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()
+                    : ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("{\"id\":" + id + ",\"name\":\"Dept " + id + "\"}")
+                    .build();
+            return Mono.delay(Duration.ofMillis(20))
+                    .doOnNext(tick -> inFlight.decrementAndGet())
+                    .thenReturn(response);
+        };
+    }
+
+    private static EmployeeRow row(long id, Long departmentId) {
+        return new EmployeeRow(id, "First" + id, "Last" + id, "e" + id + "@example.com", departmentId);
+    }
+
+    @Nested
+    @DisplayName("Department enrichment")
+    class Enrichment {
+
+        @Test
+        @DisplayName("keeps row order and looks up each department once per response")
+        void keepsOrderAndDeduplicatesLookups() {
+            List<EmployeeRow> rows = List.of(row(1, 10L), row(2, 20L), row(3, 10L), row(4, null), row(5, 20L));
+            when(repository.searchByNameOrEmail("e")).thenReturn(Flux.fromIterable(rows));
+
+            List<EmployeeDTO> result = service.searchEmployees(" e ").collectList().block();
+
+            assertThat(result).extracting(EmployeeDTO::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+            assertThat(result).extracting(dto -> dto.getDepartment() == null ? null : dto.getDepartment().getName())
+                    .containsExactly("Dept 10", "Dept 20", "Dept 10", null, "Dept 20");
+            assertThat(lookupsPerDepartment).containsOnlyKeys(10L, 20L);
+            assertThat(lookupsPerDepartment.values()).allMatch(count -> count.get() == 1);
+        }
+
+        @Test
+        @DisplayName("never has more lookups in flight than the configured concurrency")
+        void limitsConcurrentLookups() {
+            Flux<EmployeeRow> rows = Flux.fromStream(LongStream.rangeClosed(101, 140).mapToObj(id -> row(id, id)));
+            when(repository.findWithFilters(isNull(), isNull(), isNull(), any(Sort.class)))
+                    .thenReturn(rows);
+
+            List<EmployeeDTO> result = service.streamAll(null, null, null, null, true).collectList().block();
+
+            assertThat(result).hasSize(40);
+            assertThat(result).allMatch(dto -> dto.getDepartment() != null);
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("returns the employee without department when the lookup fails")
+        void failedLookupIsNotFatal() {
+            when(repository.findById(1L)).thenReturn(Mono.just(row(1, 13L)));
+
+            EmployeeDTO result = service.getById(1L, true).block();
+
+            assertThat(result.getId()).isEqualTo(1L);
+            assertThat(result.getDepartmentId()).isEqualTo(13L);
+            assertThat(result.getDepartment()).isNull();
+        }
+
+        @Test
+        @DisplayName("skips the department service when enrichment is off")
+        void noEnrichment() {
+            when(repository.findById(1L)).thenReturn(Mono.just(row(1, 10L)));
+
+            EmployeeDTO result = service.getById(1L, false).block();
+
+            assertThat(result.getDepartment()).isNull();
+            assertThat(lookupsPerDepartment).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reads")
+    class Reads {
+
+        @Test
+        @DisplayName("builds a page from the filtered rows and the filtered count")
+        void pagedRead() {
+            when(repository.findWithFilters(isNull(), eq("ast"), eq(10L), any(Pageable.class)))
+                    .thenReturn(Flux.just(row(3, 10L), row(4, 10L)));
+            when(repository.countWithFilters(null, "ast", 10L)).thenReturn(Mono.just(7L));
+
+            Page<EmployeeDTO> page = service.getAll(1, 2, "lastName,desc", null, "ast", 10L).block();
+
+            assertThat(page.getContent()).extracting(EmployeeDTO::getId).containsExactly(3L, 4L);
+            assertThat(page.getTotalElements()).isEqualTo(7);
+            assertThat(page.getNumber()).isEqualTo(1);
+            assertThat(page.getSort().getOrderFor("lastName").isDescending()).isTrue();
+        }
+
+        @Test
+        @DisplayName("reads a department page without department lookups or a count when count is false")
+        void departmentPageWithoutCount() {
+            when(repository.findSliceWithFilters(isNull(), isNull(), eq(10L), any(Pageable.class)))
+                    .thenReturn(Flux.just(row(3, 10L), row(4, 10L), row(5, 10L)));
+
+            PageDTO<EmployeeDTO> page = service.getDepartmentPage(10L, 1, 2, null, false).block();
+
+            assertThat(page.content()).extracting(EmployeeDTO::getId).containsExactly(3L, 4L);
+            assertThat(page.content()).extracting(EmployeeDTO::getDepartment).containsOnlyNulls();
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.totalElements()).isNull();
+            assertThat(lookupsPerDepartment).isEmpty();
+            verify(repository, never()).countWithFilters(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("signals EmployeeNotFoundException for an unknown id")
+        void unknownId() {
+            when(repository.findById(99L)).thenReturn(Mono.empty());
+
+            assertThatThrownBy(() -> service.getById(99L, true).block())
+                    .isInstanceOf(EmployeeNotFoundException.class)
+                    .hasMessageContaining("99");
+        }
+
+        @Test
+        @DisplayName("returns nothing for a blank search term")
+        void blankSearch() {
+            assertThat(service.searchEmployees("  ").collectList().block()).isEmpty();
+            assertThat(lookupsPerDepartment).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.employee.readreplica;
+
+import com.example.employee.domain.Employee;
+import com.example.employee.repo.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs the real JPA stack against two unrelated H2 databases, one as primary and one as replica. Nothing
+ * replicates between them, so which database a row is found in shows where a query was routed.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=" + ReadReplicaRoutingIntegrationTest.PRIMARY_URL,
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "eureka.client.enabled=false",
+                "read-replica.enabled=true",
+                "read-replica.replicas[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+                "read-replica.lag-query=SELECT seconds FROM employee.replica_lag",
+                "read-replica.lag-check-interval=50ms",
+                "read-replica.max-lag=2s"
+        }
+)
+@DisplayName("Read replica routing Integration Tests")
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:rr-primary;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS employee";
+    static final String REPLICA_URL = "jdbc:h2:mem:rr-replica;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS employee";
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        copySchemaToReplica();
+        execute(REPLICA_URL, "DELETE FROM employee.employees");
+        execute(REPLICA_URL, "INSERT INTO employee.employees (id, first_name, last_name, email, department_id) "
+                + "VALUES (1000, 'Rita', 'Replica', 'rita@example.com', 1)");
+        setReplicaLag(0);
+        employeeRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    private static void copySchemaToReplica() throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+            while (script.next()) {
+                String sql = script.getString(1);
+                if (sql.startsWith("CREATE") && !sql.startsWith("CREATE USER") && !sql.startsWith("CREATE SCHEMA")) {
+                    ddl.add(sql.replaceFirst("^CREATE (CACHED |MEMORY )?TABLE ", "CREATE $1TABLE IF NOT EXISTS ")
+                            .replaceFirst("^CREATE SEQUENCE ", "CREATE SEQUENCE IF NOT EXISTS "));
+                }
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            for (String sql : ddl) {
+                if (!sql.startsWith("ALTER")) {
+                    statement.execute(sql);
+                }
+            }
+            statement.execute("CREATE TABLE IF NOT EXISTS employee.replica_lag (seconds DOUBLE)");
+        }
+    }
+
+    private static void setReplicaLag(double seconds) throws SQLException {
+        execute(REPLICA_URL, "DELETE FROM employee.replica_lag");
+        execute(REPLICA_URL, "INSERT INTO employee.replica_lag VALUES (" + seconds + ")");
+    }
+
+    private static void execute(String url, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Employee employee(String firstName) {
+        return Employee.builder()
+                .firstName(firstName)
+                .lastName("Primary")
+                .email(firstName.toLowerCase() + "@example.com")
+                .departmentId(1L)
+                .build();
+    }
+
+    private double reads(String target, String reason) {
+        return meterRegistry.get("datasource.reads").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should send writes to the primary and read-only transactions to the replica")
+        void shouldSplitReadsAndWrites() {
+            await().atMost(Duration.ofSeconds(5)).until(() -> employeeRepository.findById(1000L).isPresent());
+
+            Employee saved = employeeRepository.save(employee("Paul"));
+
+            assertThat(employeeRepository.findById(saved.getId())).isEmpty();
+            Optional<Employee> inReadWriteTransaction =
+                    transactionTemplate.execute(status -> employeeRepository.findById(saved.getId()));
+            assertThat(inReadWriteTransaction).isPresent();
+        }
+
+        @Test
+        @DisplayName("Should read from the primary while the replica lags behind")
+        void shouldFallBackWhenReplicaLags() throws SQLException {
+            Employee saved = employeeRepository.save(employee("Lara"));
+            double fallbacks = reads("primary", "replica-lag");
+
+            setReplicaLag(30);
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> employeeRepository.findById(saved.getId()).isPresent());
+            assertThat(employeeRepository.findById(1000L)).isEmpty();
+            assertThat(reads("primary", "replica-lag")).isGreaterThan(fallbacks);
+
+            setReplicaLag(0);
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> employeeRepository.findById(1000L).isPresent());
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-your-writes Tests")
+    class ReadYourWritesTests {
+
+        @Test
+        @DisplayName("Should read from the primary after a write committed in the same request")
+        void shouldPinAfterWrite() {
+            await().atMost(Duration.ofSeconds(5)).until(() -> employeeRepository.findById(1000L).isPresent());
+            ReadYourWrites.begin(false);
+
+            Employee saved = employeeRepository.save(employee("Wanda"));
+
+            assertThat(ReadYourWrites.isPinned()).isTrue();
+            assertThat(employeeRepository.findById(saved.getId())).isPresent();
+            assertThat(reads("primary", "read-your-writes")).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should keep reading from the replica when no write happened")
+        void shouldNotPinWithoutWrite() {
+            await().atMost(Duration.ofSeconds(5)).until(() -> employeeRepository.findById(1000L).isPresent());
+            ReadYourWrites.begin(false);
+
+            assertThat(employeeRepository.findById(1000L)).isPresent();
+            assertThat(ReadYourWrites.isPinned()).isFalse();
+        }
+    }
+}
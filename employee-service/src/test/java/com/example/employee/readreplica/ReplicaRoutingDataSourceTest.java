@@ -0,0 +1,30 @@
+package com.example.employee.readreplica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Test
+    @DisplayName("Should read from the primary when enabled without any replica")
+    void shouldFallBackToPrimaryWithoutReplicas() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(connection);
+
+        try (ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, Map.of(),
+                new ReadReplicaProperties(), new SimpleMeterRegistry())) {
+            assertThat(routing.getConnection()).isSameAs(connection);
+            assertThat(routing.getConnection()).isSameAs(connection);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.employee.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RegistrySnapshotDiscoveryClient Tests")
+class RegistrySnapshotDiscoveryClientTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private RegistrySnapshotStore store;
+    private EurekaClient eurekaClient;
+    private ObjectProvider<EurekaClient> eurekaClientProvider;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        store = new RegistrySnapshotStore(directory.resolve("registry.json"),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        eurekaClient = mock(EurekaClient.class);
+        eurekaClientProvider = mock(ObjectProvider.class);
+        when(eurekaClientProvider.getIfAvailable()).thenReturn(eurekaClient);
+        when(eurekaClient.getApplications()).thenReturn(new Applications());
+    }
+
+    private RegistrySnapshotDiscoveryClient client(Instant now) {
+        return new RegistrySnapshotDiscoveryClient(store, eurekaClientProvider, Duration.ofHours(24),
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static Applications registry(InstanceInfo... instances) {
+        Applications applications = new Applications();
+        for (InstanceInfo instance : instances) {
+            Application application = applications.getRegisteredApplications(instance.getAppName());
+            if (application == null) {
+                application = new Application(instance.getAppName());
+                applications.addApplication(application);
+            }
+            application.addInstance(instance);
+        }
+        applications.setAppsHashCode(applications.getReconcileHashCode());
+        return applications;
+    }
+
+    private static InstanceInfo instance(String app, String host, InstanceInfo.InstanceStatus status) {
+        return InstanceInfo.Builder.newBuilder()
+                .setAppName(app)
+                .setInstanceId(host + ":" + app.toLowerCase())
+                .setHostName(host)
+                .setIPAddr(host)
+                .setPort(8082)
+                .setStatus(status)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Snapshot persistence Tests")
+    class PersistenceTests {
+
+        @Test
+        @DisplayName("Should write the UP instances of the fetched registry")
+        void shouldWriteUpInstances() {
+            when(eurekaClient.getApplications()).thenReturn(registry(
+                    instance("DEPARTMENT-SERVICE", "10.0.0.1", InstanceInfo.InstanceStatus.UP),
+                    instance("DEPARTMENT-SERVICE", "10.0.0.2", InstanceInfo.InstanceStatus.DOWN)));
+
+            client(NOW).saveSnapshot();
+
+            RegistrySnapshot snapshot = store.read().orElseThrow();
+            assertThat(snapshot.savedAt()).isEqualTo(NOW);
+            assertThat(snapshot.instances()).extracting(RegistrySnapshot.Instance::host).containsExactly("10.0.0.1");
+        }
+
+        @Test
+        @DisplayName("Should not rewrite the snapshot while the registry hash code is unchanged")
+        void shouldSkipUnchangedRegistry() throws Exception {
+            when(eurekaClient.getApplications()).thenReturn(registry(
+                    instance("DEPARTMENT-SERVICE", "10.0.0.1", InstanceInfo.InstanceStatus.UP)));
+            RegistrySnapshotDiscoveryClient client = client(NOW);
+            client.saveSnapshot();
+            Path file = directory.resolve("registry.json");
+            Files.writeString(file, Files.readString(file).replace("10.0.0.1", "10.0.0.9"));
+
+            client.saveSnapshot();
+
+            assertThat(store.read().orElseThrow().instances()).extracting(RegistrySnapshot.Instance::host)
+                    .containsExactly("10.0.0.9");
+        }
+
+        @Test
+        @DisplayName("Should not overwrite the snapshot with an empty registry")
+        void shouldKeepSnapshotWhenRegistryEmpty() {
+            client(NOW).saveSnapshot();
+
+            assertThat(store.read()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Instance resolution Tests")
+    class ResolutionTests {
+
+        @BeforeEach
+        void saveSnapshot() {
+            when(eurekaClient.getApplications()).thenReturn(registry(
+                    instance("DEPARTMENT-SERVICE", "10.0.0.1", InstanceInfo.InstanceStatus.UP)));
+            client(NOW).saveSnapshot();
+            when(eurekaClient.getApplications()).thenReturn(new Applications());
+        }
+
+        @Test
+        @DisplayName("Should resolve instances from the snapshot until Eureka has fetched a registry")
+        void shouldResolveFromSnapshot() {
+            RegistrySnapshotDiscoveryClient client = client(NOW.plus(Duration.ofMinutes(5)));
+
+            assertThat(client.getServices()).containsExactly("DEPARTMENT-SERVICE");
+            assertThat(client.getInstances("department-service"))
+                    .extracting(ServiceInstance::getHost, ServiceInstance::getPort)
+                    .containsExactly(tuple("10.0.0.1", 8082));
+        }
+
+        @Test
+        @DisplayName("Should stay silent once Eureka holds a registry")
+        void shouldDeferToEureka() {
+            RegistrySnapshotDiscoveryClient client = client(NOW.plus(Duration.ofMinutes(5)));
+            when(eurekaClient.getApplications()).thenReturn(registry(
+                    instance("EMPLOYEE-SERVICE", "10.0.0.5", InstanceInfo.InstanceStatus.UP)));
+
+            assertThat(client.getInstances("DEPARTMENT-SERVICE")).isEmpty();
+            assertThat(client.getServices()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should ignore a snapshot older than the maximum age")
+        void shouldIgnoreStaleSnapshot() {
+            RegistrySnapshotDiscoveryClient client = client(NOW.plus(Duration.ofHours(25)));
+
+            assertThat(client.getInstances("DEPARTMENT-SERVICE")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should ignore an unreadable snapshot")
+        void shouldIgnoreCorruptSnapshot() throws Exception {
+            Files.writeString(directory.resolve("registry.json"), "{\"savedAt\":");
+
+            assertThat(client(NOW).getInstances("DEPARTMENT-SERVICE")).isEmpty();
+        }
+    }
+}
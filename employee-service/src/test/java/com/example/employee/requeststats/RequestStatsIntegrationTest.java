@@ -0,0 +1,188 @@
+package com.example.employee.requeststats;
+
+import com.example.employee.domain.Employee;
+import com.example.employee.repo.EmployeeRepository;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs the real JPA stack on H2 and the real Feign client against a stub department-service, so the
+ * counters see every statement, entity load and remote call a request makes.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:request-stats;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS employee",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "eureka.client.enabled=false",
+                "request-stats.response-headers=true",
+                "request-stats.fail-on-budget-exceeded=true",
+                "request-stats.budgets[0].endpoint=GET /api/v1/employees/{id}",
+                "request-stats.budgets[0].jdbc-statements=1",
+                "request-stats.budgets[0].http-calls=1",
+                "request-stats.budgets[1].endpoint=GET /api/v1/employees/search",
+                "request-stats.budgets[1].http-calls=1"
+        }
+)
+@DisplayName("Request stats Integration Tests")
+class RequestStatsIntegrationTest {
+
+    private static final AtomicInteger departmentCalls = new AtomicInteger();
+    private static HttpServer departmentService;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Employee alice;
+
+    @DynamicPropertySource
+    static void departmentService(DynamicPropertyRegistry registry) throws IOException {
+        departmentService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        departmentService.createContext("/api/v1/departments/", exchange -> {
+            departmentCalls.incrementAndGet();
+            String id = exchange.getRequestURI().getPath().replaceAll(".*/", "");
+            byte[] body = ("{\"id\":" + id + ",\"name\":\"Department " + id + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        departmentService.start();
+        registry.add("spring.cloud.discovery.client.simple.instances.DEPARTMENT-SERVICE[0].uri",
+                () -> "http://localhost:" + departmentService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopDepartmentService() {
+        departmentService.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        alice = employeeRepository.save(employee("Alice", "Smith", 1L));
+        employeeRepository.save(employee("Bob", "Smith", 2L));
+        employeeRepository.save(employee("Carol", "Smith", 1L));
+        employeeRepository.save(employee("Dan", "Jones", 2L));
+        employeeRepository.save(employee("Eve", "Jones", 1L));
+        employeeRepository.save(employee("Frank", "Jones", 2L));
+        departmentCalls.set(0);
+    }
+
+    private static Employee employee(String firstName, String lastName, Long departmentId) {
+        return Employee.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(firstName.toLowerCase() + "@example.com")
+                .departmentId(departmentId)
+                .build();
+    }
+
+    private static int header(ResponseEntity<?> response, String name) {
+        return Integer.parseInt(response.getHeaders().getFirst(name));
+    }
+
+    @Nested
+    @DisplayName("Response header Tests")
+    class ResponseHeaderTests {
+
+        @Test
+        @DisplayName("Should report one query, one entity and one remote call for a single employee")
+        void shouldCountSingleEmployeeRead() {
+            ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/employees/" + alice.getId(), String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(header(response, RequestStatsResponseAdvice.JDBC_STATEMENTS_HEADER)).isEqualTo(1);
+            assertThat(header(response, RequestStatsResponseAdvice.ENTITY_LOADS_HEADER)).isEqualTo(1);
+            assertThat(header(response, RequestStatsResponseAdvice.HTTP_CALLS_HEADER)).isEqualTo(1);
+            assertThat(departmentCalls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Should count one remote call per row of a page, which is read as a projection")
+        void shouldCountCallsPerRow() {
+            ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/employees?size=20", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(header(response, RequestStatsResponseAdvice.JDBC_STATEMENTS_HEADER)).isEqualTo(1);
+            assertThat(header(response, RequestStatsResponseAdvice.ENTITY_LOADS_HEADER)).isZero();
+            assertThat(header(response, RequestStatsResponseAdvice.HTTP_CALLS_HEADER)).isEqualTo(6);
+        }
+    }
+
+    @Nested
+    @DisplayName("N+1 detection Tests")
+    class NPlusOneTests {
+
+        @Test
+        @DisplayName("Should report a Feign method repeated within one request")
+        void shouldReportRepeatedRemoteCalls() {
+            double before = nPlusOneCount();
+
+            restTemplate.getForEntity("/api/v1/employees?size=20", String.class);
+
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(nPlusOneCount()).isEqualTo(before + 1));
+            assertThat(meterRegistry.get("request.http.calls").tag("uri", "/api/v1/employees").summary().max())
+                    .isEqualTo(6);
+        }
+
+        private double nPlusOneCount() {
+            return meterRegistry.find("request.n-plus-one").tag("uri", "/api/v1/employees").tag("kind", "http")
+                    .counters().stream().mapToDouble(counter -> counter.count()).sum();
+        }
+    }
+
+    @Nested
+    @DisplayName("Budget Tests")
+    class BudgetTests {
+
+        @Test
+        @DisplayName("Should fail a request that exceeds its budget")
+        void shouldFailRequestOverBudget() {
+            ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/employees/search?q=smith", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(
+                    meterRegistry.find("request.budget.exceeded").tag("uri", "/api/v1/employees/search").counter())
+                    .isNotNull());
+        }
+
+        @Test
+        @DisplayName("Should leave requests without a budget alone")
+        void shouldIgnoreEndpointsWithoutBudget() {
+            ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/employees?size=20", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+    }
+}
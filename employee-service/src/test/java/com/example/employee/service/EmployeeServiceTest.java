@@ -6,9 +6,12 @@ import com.example.employee.dto.DepartmentDTO;
 import com.example.employee.dto.EmployeeDTO;
 import com.example.employee.dto.EmployeePatchDTO;
 import com.example.employee.dto.EmployeeStatsDTO;
+import com.example.employee.dto.PageDTO;
 import com.example.employee.exception.DuplicateEmployeeException;
 import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.exception.PreconditionFailedException;
 import com.example.employee.repo.EmployeeRepository;
+import com.example.employee.repo.EmployeeSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +24,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import java.util.Arrays;
@@ -74,6 +78,11 @@ class EmployeeServiceTest {
         testDepartmentDTO.setDescription("Software Engineering Department");
     }
 
+    // Listings read records, not entities
+    private static EmployeeSummary summary(Employee e) {
+        return new EmployeeSummary(e.getId(), e.getFirstName(), e.getLastName(), e.getEmail(), e.getDepartmentId());
+    }
+
     @Nested
     @DisplayName("getAll() Tests")
     class GetAllTests {
@@ -99,7 +108,7 @@ class EmployeeServiceTest {
         @DisplayName("Should return paginated employees with filters")
         void shouldReturnPaginatedEmployeesWithFilters() {
             // Given
-            Page<Employee> employeePage = new PageImpl<>(List.of(testEmployee));
+            Page<EmployeeSummary> employeePage = new PageImpl<>(List.of(summary(testEmployee)));
             when(repository.findWithFilters(anyString(), anyString(), anyLong(), any(Pageable.class)))
                     .thenReturn(employeePage);
             when(departmentClient.getDepartment(100L)).thenReturn(testDepartmentDTO);
@@ -326,7 +335,7 @@ class EmployeeServiceTest {
 
             when(repository.findById(1L)).thenReturn(Optional.of(testEmployee));
             when(repository.existsByEmailAndIdNot("john.updated@example.com", 1L)).thenReturn(false);
-            when(repository.save(any(Employee.class))).thenReturn(updatedEmployee);
+            when(repository.saveAndFlush(any(Employee.class))).thenReturn(updatedEmployee);
             when(departmentClient.getDepartment(300L)).thenReturn(testDepartmentDTO);
 
             // When
@@ -338,7 +347,7 @@ class EmployeeServiceTest {
             assertThat(result.getEmail()).isEqualTo("john.updated@example.com");
             verify(repository).findById(1L);
             verify(repository).existsByEmailAndIdNot("john.updated@example.com", 1L);
-            verify(repository).save(any(Employee.class));
+            verify(repository).saveAndFlush(any(Employee.class));
         }
 
         @Test
@@ -352,7 +361,7 @@ class EmployeeServiceTest {
                     .isInstanceOf(EmployeeNotFoundException.class)
                     .hasMessageContaining("999");
             verify(repository).findById(999L);
-            verify(repository, never()).save(any(Employee.class));
+            verify(repository, never()).saveAndFlush(any(Employee.class));
         }
 
         @Test
@@ -375,7 +384,37 @@ class EmployeeServiceTest {
                     .hasMessageContaining("existing@example.com");
             verify(repository).findById(1L);
             verify(repository).existsByEmailAndIdNot("existing@example.com", 1L);
-            verify(repository, never()).save(any(Employee.class));
+            verify(repository, never()).saveAndFlush(any(Employee.class));
+        }
+
+        @Test
+        @DisplayName("Should refuse the update when If-Match names another version")
+        void shouldRefuseStaleIfMatch() {
+            // Given
+            testEmployee.setVersion(4L);
+            when(repository.findById(1L)).thenReturn(Optional.of(testEmployee));
+
+            // When & Then
+            assertThatThrownBy(() -> employeeService.updateEmployee(1L, testEmployeeDTO, "\"3\""))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasMessageContaining("\"4\"");
+            verify(repository, never()).existsByEmailAndIdNot(any(), any());
+            verify(repository, never()).saveAndFlush(any(Employee.class));
+        }
+
+        @Test
+        @DisplayName("Should return the version written by the flush")
+        void shouldReturnFlushedVersion() {
+            // Given
+            Employee flushed = Employee.builder().id(1L).firstName("John").version(5L).build();
+            when(repository.findById(1L)).thenReturn(Optional.of(testEmployee));
+            when(repository.saveAndFlush(testEmployee)).thenReturn(flushed);
+
+            // When
+            EmployeeDTO result = employeeService.updateEmployee(1L, testEmployeeDTO, "*");
+
+            // Then
+            assertThat(result.getVersion()).isEqualTo(5L);
         }
     }
 
@@ -402,7 +441,7 @@ class EmployeeServiceTest {
 
             when(repository.findById(1L)).thenReturn(Optional.of(testEmployee));
             when(repository.existsByEmailAndIdNot("john.patched@example.com", 1L)).thenReturn(false);
-            when(repository.save(any(Employee.class))).thenReturn(patchedEmployee);
+            when(repository.saveAndFlush(any(Employee.class))).thenReturn(patchedEmployee);
             when(departmentClient.getDepartment(100L)).thenReturn(testDepartmentDTO);
 
             // When
@@ -414,7 +453,7 @@ class EmployeeServiceTest {
             assertThat(result.getLastName()).isEqualTo("Doe"); // unchanged
             assertThat(result.getEmail()).isEqualTo("john.patched@example.com");
             verify(repository).findById(1L);
-            verify(repository).save(any(Employee.class));
+            verify(repository).saveAndFlush(any(Employee.class));
         }
 
         @Test
@@ -622,7 +661,7 @@ class EmployeeServiceTest {
         @DisplayName("Should return employees by department with pagination")
         void shouldReturnEmployeesByDepartmentWithPagination() {
             // Given
-            Page<Employee> employeePage = new PageImpl<>(List.of(testEmployee));
+            Page<EmployeeSummary> employeePage = new PageImpl<>(List.of(summary(testEmployee)));
             when(repository.findWithFilters(isNull(), isNull(), eq(100L), any(Pageable.class)))
                     .thenReturn(employeePage);
             when(departmentClient.getDepartment(100L)).thenReturn(testDepartmentDTO);
@@ -636,4 +675,46 @@ class EmployeeServiceTest {
             verify(repository).findWithFilters(isNull(), isNull(), eq(100L), any(Pageable.class));
         }
     }
+
+    @Nested
+    @DisplayName("getDepartmentPage() Tests")
+    class GetDepartmentPageTests {
+
+        @Test
+        @DisplayName("Should return a counted page without looking up the department")
+        void shouldReturnCountedPageWithoutDepartment() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("lastName"));
+            when(repository.findWithFilters(null, null, 100L, pageable))
+                    .thenReturn(new PageImpl<>(List.of(summary(testEmployee)), pageable, 11));
+
+            // When
+            PageDTO<EmployeeDTO> result = employeeService.getDepartmentPage(100L, 0, 10, "lastName", true);
+
+            // Then
+            assertThat(result.content()).extracting(EmployeeDTO::getEmail).containsExactly("john.doe@example.com");
+            assertThat(result.content().get(0).getDepartment()).isNull();
+            assertThat(result.totalElements()).isEqualTo(11L);
+            assertThat(result.hasNext()).isTrue();
+            verifyNoInteractions(departmentClient);
+        }
+
+        @Test
+        @DisplayName("Should skip the count and leave the total out when count is false")
+        void shouldSkipCount() {
+            // Given
+            Pageable pageable = PageRequest.of(1, 10);
+            when(repository.findSliceWithFilters(null, null, 100L, pageable))
+                    .thenReturn(new SliceImpl<>(List.of(summary(testEmployee)), pageable, false));
+
+            // When
+            PageDTO<EmployeeDTO> result = employeeService.getDepartmentPage(100L, 1, 10, null, false);
+
+            // Then
+            assertThat(result.page()).isEqualTo(1);
+            assertThat(result.totalElements()).isNull();
+            assertThat(result.hasNext()).isFalse();
+            verify(repository, never()).findWithFilters(any(), any(), any(), any());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.example.employee.startup;
+
+import com.example.employee.client.DepartmentClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LazyInitBeanFactoryPostProcessor Tests")
+class LazyInitBeanFactoryPostProcessorTest {
+
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+    @BeforeEach
+    void setUp() {
+        beanFactory.registerBeanDefinition("departmentClient", new RootBeanDefinition(DepartmentClient.class));
+        beanFactory.registerBeanDefinition("openApiResource",
+                new RootBeanDefinition("org.springdoc.webmvc.api.OpenApiWebMvcResource"));
+        RootBeanDefinition eagerSpringdoc = new RootBeanDefinition("org.springdoc.core.properties.SpringDocConfigProperties");
+        eagerSpringdoc.setLazyInit(false);
+        beanFactory.registerBeanDefinition("springDocConfigProperties", eagerSpringdoc);
+        beanFactory.registerBeanDefinition("employeeService", new RootBeanDefinition(Object.class));
+
+        new LazyInitBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+    }
+
+    @Test
+    @DisplayName("Should make Feign clients and springdoc beans lazy")
+    void shouldDeferFeignClientsAndSpringdoc() {
+        assertThat(beanFactory.getBeanDefinition("departmentClient").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("openApiResource").isLazyInit()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave other beans and explicit @Lazy(false) eager")
+    void shouldKeepOtherBeansEager() {
+        assertThat(beanFactory.getBeanDefinition("employeeService").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("springDocConfigProperties").isLazyInit()).isFalse();
+    }
+}
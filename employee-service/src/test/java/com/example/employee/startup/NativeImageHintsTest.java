@@ -0,0 +1,87 @@
+package com.example.employee.startup;
+
+import com.example.employee.client.DepartmentClient;
+import com.example.employee.hedging.HedgingCapability;
+import com.example.employee.logging.LogSamplingTurboFilter;
+import com.example.employee.logging.RequestDebugTurboFilter;
+import com.example.employee.repo.EmployeeSummary;
+import feign.Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("NativeImageHints Tests")
+class NativeImageHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Nested
+    @DisplayName("Reflection and proxies")
+    class ReflectionTests {
+
+        @Test
+        @DisplayName("Should register the lazy-resolution proxy of the Feign client")
+        void shouldRegisterLazyClientProxy() {
+            assertThat(RuntimeHintsPredicates.proxies().forInterfaces(
+                    DepartmentClient.class, SpringProxy.class, Advised.class, DecoratingProxy.class)).accepts(hints);
+        }
+
+        @Test
+        @DisplayName("Should register the reflectively invoked Feign capability and Logback turbo filters")
+        void shouldRegisterReflectiveTypes() throws NoSuchMethodException {
+            assertThat(RuntimeHintsPredicates.reflection().onMethod(
+                    HedgingCapability.class.getMethod("enrich", Client.class))).accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onType(LogSamplingTurboFilter.class)
+                    .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS))
+                    .accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onMethod(
+                    RequestDebugTurboFilter.class.getMethod("setLoggerPrefix", String.class))).accepts(hints);
+        }
+
+        @Test
+        @DisplayName("Should register the constructor of the listing projection")
+        void shouldRegisterListingProjection() throws NoSuchMethodException {
+            assertThat(RuntimeHintsPredicates.reflection().onConstructor(EmployeeSummary.class.getConstructor(
+                    Long.class, String.class, String.class, String.class, Long.class))).accepts(hints);
+        }
+    }
+
+    @Nested
+    @DisplayName("Flyway")
+    class FlywayTests {
+
+        @Test
+        @DisplayName("Should register every Flyway plugin on the classpath, including PostgreSQL support")
+        void shouldRegisterFlywayPlugins() {
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onType(org.flywaydb.database.postgresql.PostgreSQLConfigurationExtension.class)
+                    .withMemberCategories(MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS))
+                    .accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onType(org.flywaydb.core.internal.database.h2.H2DatabaseType.class)).accepts(hints);
+        }
+
+        @Test
+        @DisplayName("Should include the plugin list and Flyway's version resource")
+        void shouldRegisterFlywayResources() {
+            assertThat(RuntimeHintsPredicates.resource()
+                    .forResource("META-INF/services/org.flywaydb.core.extensibility.Plugin")).accepts(hints);
+            assertThat(RuntimeHintsPredicates.resource()
+                    .forResource("org/flywaydb/core/internal/version.txt")).accepts(hints);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.employee.web;
 
+import com.example.employee.conditional.VersionTags;
 import com.example.employee.dto.DepartmentDTO;
 import com.example.employee.dto.EmployeeDTO;
 import com.example.employee.dto.EmployeePatchDTO;
 import com.example.employee.dto.EmployeeStatsDTO;
+import com.example.employee.dto.PageDTO;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.listing.TotalEstimator;
 import com.example.employee.service.EmployeeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +20,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,10 +29,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -265,6 +274,93 @@ class EmployeeControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/employees?count=false - Employees without total count")
+    class GetAllSlicedTests {
+
+        @Test
+        @DisplayName("Should return hasNext instead of totals and the estimate in a header")
+        void shouldReturnSliceWithEstimateHeader() throws Exception {
+            // Given
+            Slice<EmployeeDTO> slice = new SliceImpl<>(List.of(alice, bob), PageRequest.of(0, 2), true);
+            when(employeeService.getSlice(0, 2, null, null, null, 1L)).thenReturn(slice);
+            when(employeeService.estimateTotal(null, null, 1L)).thenReturn(OptionalLong.of(42));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees")
+                            .param("count", "false")
+                            .param("size", "2")
+                            .param("departmentId", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(TotalEstimator.HEADER, "42"))
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.page", is(0)))
+                    .andExpect(jsonPath("$.size", is(2)))
+                    .andExpect(jsonPath("$.hasNext", is(true)))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+            verify(employeeService, never()).getAll(anyInt(), anyInt(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should omit the header when no estimate is available")
+        void shouldOmitHeaderWithoutEstimate() throws Exception {
+            // Given
+            Slice<EmployeeDTO> slice = new SliceImpl<>(List.of(carla), PageRequest.of(1, 2), false);
+            when(employeeService.getSlice(1, 2, null, null, null, null)).thenReturn(slice);
+            when(employeeService.estimateTotal(null, null, null)).thenReturn(OptionalLong.empty());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees")
+                            .param("count", "false")
+                            .param("page", "1")
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(TotalEstimator.HEADER))
+                    .andExpect(jsonPath("$.hasNext", is(false)));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/employees/by-department/{departmentId} - Page for department-service")
+    class GetByDepartmentTests {
+
+        @Test
+        @DisplayName("Should return the lean page envelope, counted by default")
+        void shouldReturnCountedPage() throws Exception {
+            // Given
+            when(employeeService.getDepartmentPage(1L, 0, 20, null, true))
+                    .thenReturn(new PageDTO<>(List.of(alice, bob), 0, 20, 2L, false));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees/by-department/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.totalElements", is(2)))
+                    .andExpect(jsonPath("$.hasNext", is(false)))
+                    .andExpect(jsonPath("$.pageable").doesNotExist())
+                    .andExpect(jsonPath("$.sort").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should leave totalElements out when count is false")
+        void shouldOmitTotalWithoutCount() throws Exception {
+            // Given
+            when(employeeService.getDepartmentPage(1L, 1, 2, "lastName", false))
+                    .thenReturn(new PageDTO<>(List.of(carla), 1, 2, null, true));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees/by-department/1")
+                            .param("page", "1")
+                            .param("size", "2")
+                            .param("sort", "lastName")
+                            .param("count", "false"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext", is(true)))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/employees/{id} - Get Employee by ID")
     class GetEmployeeByIdTests {
@@ -311,6 +407,99 @@ class EmployeeControllerTest {
 
             verify(employeeService).getById(1L, false);
         }
+
+        @Test
+        @DisplayName("Should tag the unenriched employee with its version")
+        void shouldTagUnenrichedEmployee() throws Exception {
+            // Given
+            EmployeeDTO aliceWithoutDept = EmployeeDTO.builder().id(1L).firstName("Alice").version(2L).build();
+            when(employeeService.getById(1L, false)).thenReturn(aliceWithoutDept);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees/1").param("enrichWithDepartment", "false"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"2\""))
+                    .andExpect(header().string("Vary", "Accept"))
+                    .andExpect(jsonPath("$.version").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should answer a current If-None-Match with 304 from the version alone")
+        void shouldReturn304ForCurrentETag() throws Exception {
+            // Given
+            when(employeeService.getVersion(1L)).thenReturn(Optional.of(2L));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees/1")
+                            .param("enrichWithDepartment", "false")
+                            .header("If-None-Match", "\"1\", \"2\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"2\""))
+                    .andExpect(header().string("Vary", "Accept"));
+
+            verify(employeeService, never()).getById(anyLong(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Should tag an enriched employee with its version and department")
+        void shouldTagEnrichedEmployee() throws Exception {
+            // Given
+            alice.setVersion(2L);
+            when(employeeService.getById(1L, true)).thenReturn(alice);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", VersionTags.of(2L, alice.getDepartment())))
+                    .andExpect(header().string("ETag", org.hamcrest.Matchers.startsWith("W/\"2-")));
+        }
+
+        @Test
+        @DisplayName("Should answer a current If-None-Match with 304 on the default enriched path")
+        void shouldReturn304ForCurrentEnrichedETag() throws Exception {
+            // Given
+            alice.setVersion(2L);
+            when(employeeService.getById(1L, true)).thenReturn(alice);
+            String etag = mockMvc.perform(get("/api/v1/employees/1"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees/1").header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag))
+                    .andExpect(header().string("Vary", "Accept"))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should send the body again when the department changed under the same employee version")
+        void shouldReturn200WhenDepartmentChanged() throws Exception {
+            // Given
+            alice.setVersion(2L);
+            when(employeeService.getById(1L, true)).thenReturn(alice);
+            String etag = mockMvc.perform(get("/api/v1/employees/1"))
+                    .andReturn().getResponse().getHeader("ETag");
+            alice.getDepartment().setName("Platform Engineering");
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees/1").header("If-None-Match", etag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.department.name", is("Platform Engineering")));
+        }
+
+        @Test
+        @DisplayName("Should not take the unenriched version tag for an enriched employee")
+        void shouldNotMatchUnenrichedTag() throws Exception {
+            // Given
+            alice.setVersion(2L);
+            when(employeeService.getById(1L, true)).thenReturn(alice);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/employees/1").header("If-None-Match", "\"2\""))
+                    .andExpect(status().isOk());
+
+            verify(employeeService, never()).getVersion(anyLong());
+        }
     }
 
     @Nested
@@ -410,7 +599,7 @@ class EmployeeControllerTest {
                     .departmentId(2L)
                     .build();
 
-            when(employeeService.updateEmployee(eq(1L), any(EmployeeDTO.class))).thenReturn(updatedEmployee);
+            when(employeeService.updateEmployee(eq(1L), any(EmployeeDTO.class), isNull())).thenReturn(updatedEmployee);
 
             // When & Then
             mockMvc.perform(put("/api/v1/employees/1")
@@ -423,7 +612,39 @@ class EmployeeControllerTest {
                     .andExpect(jsonPath("$.email", is("alice.updated@example.com")))
                     .andExpect(jsonPath("$.departmentId", is(2)));
 
-            verify(employeeService).updateEmployee(eq(1L), any(EmployeeDTO.class));
+            verify(employeeService).updateEmployee(eq(1L), any(EmployeeDTO.class), isNull());
+        }
+
+        @Test
+        @DisplayName("Should pass If-Match on and return the new version as the ETag")
+        void shouldUpdateConditionally() throws Exception {
+            // Given
+            alice.setVersion(3L);
+            when(employeeService.updateEmployee(eq(1L), any(EmployeeDTO.class), eq("\"2\""))).thenReturn(alice);
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/employees/1")
+                            .header("If-Match", "\"2\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(alice)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"3\""));
+        }
+
+        @Test
+        @DisplayName("Should return 412 when If-Match names an older version")
+        void shouldReturn412ForStaleIfMatch() throws Exception {
+            // Given
+            when(employeeService.updateEmployee(eq(1L), any(EmployeeDTO.class), eq("\"1\"")))
+                    .thenThrow(new PreconditionFailedException("\"1\"", 3L));
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/employees/1")
+                            .header("If-Match", "\"1\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(alice)))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.title", is("Employee Changed")));
         }
     }
 
@@ -448,7 +669,7 @@ class EmployeeControllerTest {
                     .departmentId(1L)
                     .build();
 
-            when(employeeService.patchEmployee(eq(1L), any(EmployeePatchDTO.class))).thenReturn(patchedEmployee);
+            when(employeeService.patchEmployee(eq(1L), any(EmployeePatchDTO.class), isNull())).thenReturn(patchedEmployee);
 
             // When & Then
             mockMvc.perform(patch("/api/v1/employees/1")
@@ -460,7 +681,7 @@ class EmployeeControllerTest {
                     .andExpect(jsonPath("$.lastName", is("Nguyen")))
                     .andExpect(jsonPath("$.email", is("alice.patched@example.com")));
 
-            verify(employeeService).patchEmployee(eq(1L), any(EmployeePatchDTO.class));
+            verify(employeeService).patchEmployee(eq(1L), any(EmployeePatchDTO.class), isNull());
         }
     }
 
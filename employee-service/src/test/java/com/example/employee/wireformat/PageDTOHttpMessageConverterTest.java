@@ -0,0 +1,165 @@
+package com.example.employee.wireformat;
+
+import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.PageDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PageDTOHttpMessageConverter Tests")
+class PageDTOHttpMessageConverterTest {
+
+    private static final Type EMPLOYEE_PAGE = new ParameterizedTypeReference<PageDTO<EmployeeDTO>>() {}.getType();
+    private static final Type EMPLOYEE_LIST = new ParameterizedTypeReference<List<EmployeeDTO>>() {}.getType();
+
+    // Configured like Boot's mappers, which tolerate unknown properties
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+    private final PageDTOHttpMessageConverter converter = new PageDTOHttpMessageConverter(json, cbor);
+
+    private static EmployeeDTO employee(long id) {
+        return EmployeeDTO.builder()
+                .id(id)
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .email("employee" + id + "@example.com")
+                .departmentId(1L)
+                .build();
+    }
+
+    private byte[] write(PageDTO<EmployeeDTO> page, MediaType mediaType) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(page, EMPLOYEE_PAGE, mediaType, output);
+        return output.getBodyAsBytes();
+    }
+
+    @SuppressWarnings("unchecked")
+    private PageDTO<EmployeeDTO> read(byte[] body, MediaType mediaType) throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(body);
+        input.getHeaders().setContentType(mediaType);
+        return (PageDTO<EmployeeDTO>) converter.read(EMPLOYEE_PAGE, null, input);
+    }
+
+    private static List<String> names(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should write the metadata ahead of the content")
+        void shouldWriteMetadataFirst() throws IOException {
+            byte[] body = write(new PageDTO<>(List.of(employee(1), employee(2)), 0, 2, 5L, true), MediaType.APPLICATION_JSON);
+
+            JsonNode page = json.readTree(body);
+            assertThat(names(page)).containsExactly("page", "size", "totalElements", "hasNext", "content");
+            assertThat(page.get("content").get(1).get("lastName").asText()).isEqualTo("Last2");
+        }
+
+        @Test
+        @DisplayName("Should leave totalElements out when it was not counted")
+        void shouldOmitMissingTotal() throws IOException {
+            byte[] body = write(new PageDTO<>(List.of(employee(1)), 3, 1, null, false), MediaType.APPLICATION_JSON);
+
+            assertThat(names(json.readTree(body))).containsExactly("page", "size", "hasNext", "content");
+        }
+
+        @Test
+        @DisplayName("Should write CBOR when CBOR was negotiated")
+        void shouldWriteCbor() throws IOException {
+            byte[] body = write(new PageDTO<>(List.of(employee(1)), 0, 20, 1L, false), MediaType.APPLICATION_CBOR);
+
+            assertThat(cbor.readTree(body).get("content").get(0).get("id").asLong()).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should read back what it wrote, in both formats")
+        void shouldRoundTrip() throws IOException {
+            PageDTO<EmployeeDTO> page = new PageDTO<>(List.of(employee(1), employee(2)), 4, 2, 42L, true);
+
+            for (MediaType mediaType : List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR)) {
+                assertThat(read(write(page, mediaType), mediaType)).as(mediaType.toString()).isEqualTo(page);
+            }
+        }
+
+        @Test
+        @DisplayName("Should skip unknown fields, including a serialized PageImpl's pageable and sort")
+        void shouldSkipUnknownFields() throws IOException {
+            String body = """
+                    {"content":[{"id":7,"lastName":"Seven","nickname":"S"}],
+                     "pageable":{"pageNumber":0,"pageSize":20,"sort":{"sorted":false}},
+                     "totalElements":1,"number":0,"size":20,"sort":[],"hasNext":false}""";
+
+            PageDTO<EmployeeDTO> page = read(body.getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON);
+
+            assertThat(page.content()).extracting(EmployeeDTO::getLastName).containsExactly("Seven");
+            assertThat(page.size()).isEqualTo(20);
+            assertThat(page.totalElements()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Should read a missing total as null")
+        void shouldReadMissingTotalAsNull() throws IOException {
+            byte[] body = write(new PageDTO<>(List.of(), 0, 20, null, false), MediaType.APPLICATION_CBOR);
+
+            assertThat(read(body, MediaType.APPLICATION_CBOR).totalElements()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject a body that is not a page object")
+        void shouldRejectNonObject() {
+            byte[] body = "[1,2]".getBytes(StandardCharsets.UTF_8);
+
+            assertThatThrownBy(() -> read(body, MediaType.APPLICATION_JSON))
+                    .isInstanceOf(HttpMessageNotReadableException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject a truncated body")
+        void shouldRejectTruncatedBody() {
+            byte[] body = "{\"size\":2,\"content\":[{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+            assertThatThrownBy(() -> read(body, MediaType.APPLICATION_JSON))
+                    .isInstanceOf(HttpMessageNotReadableException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Matching Tests")
+    class MatchingTests {
+
+        @Test
+        @DisplayName("Should only claim PageDTO types")
+        void shouldOnlyClaimPages() {
+            assertThat(converter.canRead(EMPLOYEE_PAGE, null, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canRead(EMPLOYEE_LIST, null, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canWrite(EMPLOYEE_LIST, List.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canRead(EMPLOYEE_PAGE, null, MediaType.APPLICATION_XML)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.employee.wireformat;
+
+import com.example.employee.domain.Employee;
+import com.example.employee.dto.DepartmentDTO;
+import com.example.employee.repo.EmployeeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CBOR between services: the employee endpoints negotiate it, and the Feign client to a stub
+ * department-service asks for it and decodes whichever format comes back.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:wire-format;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS employee",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "eureka.client.enabled=false"
+        }
+)
+@DisplayName("Wire format Integration Tests")
+class WireFormatIntegrationTest {
+
+    private static final ObjectMapper CBOR = new CBORMapper();
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static final Queue<String> acceptHeaders = new ConcurrentLinkedQueue<>();
+    private static volatile boolean departmentAnswersCbor = true;
+    private static HttpServer departmentService;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee alice;
+
+    @DynamicPropertySource
+    static void departmentService(DynamicPropertyRegistry registry) throws IOException {
+        departmentService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        departmentService.createContext("/api/v1/departments/", exchange -> {
+            acceptHeaders.add(String.valueOf(exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT)));
+            long id = Long.parseLong(exchange.getRequestURI().getPath().replaceAll(".*/", ""));
+            DepartmentDTO department = new DepartmentDTO(id, "Department " + id, "Stub");
+            ObjectMapper mapper = departmentAnswersCbor ? CBOR : JSON;
+            byte[] body = mapper.writeValueAsBytes(department);
+            exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, departmentAnswersCbor
+                    ? MediaType.APPLICATION_CBOR_VALUE : MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        departmentService.start();
+        registry.add("spring.cloud.discovery.client.simple.instances.DEPARTMENT-SERVICE[0].uri",
+                () -> "http://localhost:" + departmentService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopDepartmentService() {
+        departmentService.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        alice = employeeRepository.save(Employee.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice@example.com")
+                .departmentId(1L)
+                .build());
+        acceptHeaders.clear();
+        departmentAnswersCbor = true;
+    }
+
+    private ResponseEntity<byte[]> get(String path, String accept) {
+        HttpHeaders headers = new HttpHeaders();
+        if (accept != null) {
+            headers.set(HttpHeaders.ACCEPT, accept);
+        }
+        return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    }
+
+    @Nested
+    @DisplayName("Server Tests")
+    class ServerTests {
+
+        @Test
+        @DisplayName("Should answer CBOR when the caller asks for it")
+        void shouldAnswerCborWhenAsked() throws IOException {
+            ResponseEntity<byte[]> response = get("/api/v1/employees/" + alice.getId() + "?enrichWithDepartment=false",
+                    WireFormatConfig.ACCEPT);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+            JsonNode body = CBOR.readTree(response.getBody());
+            assertThat(body.get("lastName").asText()).isEqualTo("Smith");
+        }
+
+        @Test
+        @DisplayName("Should keep answering JSON to clients that do not ask for CBOR")
+        void shouldAnswerJsonByDefault() throws IOException {
+            for (String accept : new String[]{null, "*/*", MediaType.APPLICATION_JSON_VALUE}) {
+                ResponseEntity<byte[]> response = get("/api/v1/employees?enrichWithDepartment=false", accept);
+
+                assertThat(response.getHeaders().getContentType()).as(accept)
+                        .isEqualTo(MediaType.APPLICATION_JSON);
+                assertThat(JSON.readTree(response.getBody()).get("content")).hasSize(1);
+            }
+        }
+
+        @Test
+        @DisplayName("Should serve the department page through the page converter, without department lookups")
+        void shouldServeDepartmentPage() throws IOException {
+            ResponseEntity<byte[]> response = get("/api/v1/employees/by-department/1?count=false", WireFormatConfig.ACCEPT);
+
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+            JsonNode body = CBOR.readTree(response.getBody());
+            List<String> names = new ArrayList<>();
+            body.fieldNames().forEachRemaining(names::add);
+            assertThat(names).containsExactly("page", "size", "hasNext", "content");
+            assertThat(body.get("content").get(0).get("lastName").asText()).isEqualTo("Smith");
+            assertThat(acceptHeaders).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should encode errors in the negotiated format too")
+        void shouldAnswerErrorsInCbor() throws IOException {
+            ResponseEntity<byte[]> response = get("/api/v1/employees/999999", WireFormatConfig.ACCEPT);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+            assertThat(CBOR.readTree(response.getBody()).get("status").asInt()).isEqualTo(404);
+        }
+    }
+
+    @Nested
+    @DisplayName("Feign Client Tests")
+    class FeignClientTests {
+
+        @Test
+        @DisplayName("Should ask the department service for CBOR and decode it")
+        void shouldRequestAndDecodeCbor() throws IOException {
+            ResponseEntity<byte[]> response = get("/api/v1/employees/" + alice.getId(), null);
+
+            assertThat(JSON.readTree(response.getBody()).get("department").get("name").asText())
+                    .isEqualTo("Department 1");
+            assertThat(List.copyOf(acceptHeaders)).containsExactly(WireFormatConfig.ACCEPT);
+        }
+
+        @Test
+        @DisplayName("Should fall back to JSON when the department service answers JSON")
+        void shouldDecodeJsonFallback() throws IOException {
+            departmentAnswersCbor = false;
+
+            ResponseEntity<byte[]> response = get("/api/v1/employees/" + alice.getId(), null);
+
+            assertThat(JSON.readTree(response.getBody()).get("department").get("name").asText())
+                    .isEqualTo("Department 1");
+        }
+    }
+}
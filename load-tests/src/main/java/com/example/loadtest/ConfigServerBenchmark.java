@@ -0,0 +1,149 @@
+package com.example.loadtest;
+
+import com.example.loadtest.LoadGenerator.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent client boots against the config server: {@code loadtest.concurrency} virtual users fetch
+ * {@code /{application}/default} for a random one of the four clients, as a fleet restarting at once does.
+ * The server runs from {@code config-server/target/config-server-0.0.1-SNAPSHOT.jar} (the module is not
+ * part of the reactor, build it with {@code mvn -f config-server package} first), once with the environment
+ * cache off and once with it on. Per mode the report has throughput and latency, the payload size with and
+ * without gzip and whether a repeated fetch with the ETag is answered 304.
+ */
+public final class ConfigServerBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfigServerBenchmark.class);
+
+    private static final List<String> APPLICATIONS = List.of(
+            "employee-service", "department-service", "project-service", "api-gateway");
+
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    private ConfigServerBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Path jar = settings.modulesDir().resolve("config-server").resolve("target").resolve("config-server-0.0.1-SNAPSHOT.jar");
+        if (!Files.exists(jar)) {
+            throw new IllegalStateException(jar + " not found, build it with mvn -f config-server package");
+        }
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("# %s, %d virtual users, %ds warmup + %ds measurement, server JVM %s; %d CPUs",
+                Instant.now(), settings.concurrency(), settings.warmup().toSeconds(), settings.measurement().toSeconds(),
+                String.join(" ", settings.serviceJvmArgs()), Runtime.getRuntime().availableProcessors()));
+        for (boolean cached : List.of(false, true)) {
+            report.add(measure(settings, jar, cached));
+        }
+
+        Path output = settings.outputDir().resolve("config-server-report.txt");
+        Files.createDirectories(output.getParent());
+        Files.write(output, report);
+        report.forEach(System.out::println);
+        log.info("Report written to {}", output);
+    }
+
+    private static String measure(LoadTestSettings settings, Path jar, boolean cached) throws Exception {
+        String mode = cached ? "cached" : "uncached";
+        int port = freePort();
+        Process server = start(settings, jar, port, cached, settings.outputDir().resolve("config-server-" + mode + ".log"));
+        try {
+            awaitHealthy(server, port, Duration.ofMinutes(2));
+            URI employees = uri(port, "/employee-service/default");
+            Workload boots = new Workload("config-boot", "GET /{application}/default for one of " + APPLICATIONS,
+                    random -> uri(port, "/" + APPLICATIONS.get(random.nextInt(APPLICATIONS.size())) + "/default"));
+
+            LoadGenerator generator = new LoadGenerator();
+            log.info("config-server [{}]: warming up for {}s", mode, settings.warmup().toSeconds());
+            generator.run(boots, settings.concurrency(), settings.warmup());
+            log.info("config-server [{}]: measuring for {}s", mode, settings.measurement().toSeconds());
+            Result result = generator.run(boots, settings.concurrency(), settings.measurement());
+
+            // The JDK client does not inflate, so the body length is what went over the wire
+            HttpResponse<byte[]> plain = HTTP.send(HttpRequest.newBuilder(employees).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            HttpResponse<byte[]> gzipped = HTTP.send(HttpRequest.newBuilder(employees)
+                    .header("Accept-Encoding", "gzip").GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+            String etag = plain.headers().firstValue("ETag").orElse("");
+            HttpResponse<Void> conditional = HTTP.send(HttpRequest.newBuilder(employees)
+                    .header("If-None-Match", etag).GET().build(), HttpResponse.BodyHandlers.discarding());
+
+            String line = String.format("config-server %-8s requests=%d errors=%d throughput=%.1f req/s p50=%.2fms p99=%.2fms "
+                            + "employee-service payload=%dB gzip=%dB (%s) if-none-match=%d",
+                    mode, result.requests(), result.errors(), result.throughput(),
+                    result.percentileMillis(50), result.percentileMillis(99), plain.body().length, gzipped.body().length,
+                    gzipped.headers().firstValue("Content-Encoding").orElse("identity"), conditional.statusCode());
+            log.info(line);
+            return line;
+        } finally {
+            server.destroy();
+            if (!server.waitFor(20, TimeUnit.SECONDS)) {
+                server.destroyForcibly();
+            }
+        }
+    }
+
+    private static Process start(LoadTestSettings settings, Path jar, int port, boolean cached, Path logFile)
+            throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(settings.serviceJvmArgs());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.add("--config-cache.enabled=" + cached);
+        Files.createDirectories(logFile.getParent());
+        log.info("Starting config-server on port {}, cache {} (log: {})", port, cached ? "on" : "off", logFile);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+    }
+
+    private static void awaitHealthy(Process server, int port, Duration timeout) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(uri(port, "/actuator/health")).GET().build();
+        while (System.nanoTime() < deadline) {
+            if (!server.isAlive()) {
+                throw new IllegalStateException("config-server exited with code " + server.exitValue() + ", see its log");
+            }
+            try {
+                if (HTTP.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("config-server did not become healthy within " + timeout);
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bulk data on top of the Flyway seeds, generated from a fixed seed so every run sees the same
+ * dataset. Runs after the services are up, i.e. after their migrations created the schemas.
+ */
+final class DatasetSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    private static final String[] FIRST_NAMES = {
+            "Alice", "Bob", "Carla", "David", "Elena", "Farid", "Grace", "Hiro", "Ines", "Jonas",
+            "Kemal", "Lena", "Marco", "Nadia", "Oscar", "Priya", "Quinn", "Rosa", "Sven", "Tara"};
+    private static final String[] SURNAME_STEMS = {
+            "Nguyen", "Martinez", "Singh", "Kowalski", "Okafor", "Tanaka", "Schmidt", "Rossi", "Dubois", "Silva",
+            "Novak", "Haddad", "Larsen", "Moreau", "Petrov", "Yilmaz", "Costa", "Fischer", "Ito", "Brennan"};
+    private static final String[] SURNAME_SUFFIXES = {
+            "berg", "field", "ley", "man", "ova", "stone", "ton", "wood", "worth",
+            "ford", "hill", "lund", "mark", "quist", "rud", "sen", "shaw", "well", "win", "dale", "gard", "holm", "ridge", "by"};
+    private static final String[] ROLES = {"Developer", "Tester", "Architect", "Analyst", "Designer", "Manager"};
+    private static final String[] STATUSES = {"PLANNED", "ACTIVE", "ACTIVE", "ACTIVE", "ON_HOLD", "COMPLETED"};
+
+    private final DataSource dataSource;
+    private final LoadTestSettings settings;
+    private final Random random = new Random(42);
+
+    DatasetSeeder(DataSource dataSource, LoadTestSettings settings) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+    }
+
+    Dataset seed() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            insertDepartments(connection);
+            List<Long> departmentIds = ids(connection, "SELECT id FROM department.departments");
+            List<String> lastNames = insertEmployees(connection, departmentIds);
+            List<Long> employeeIds = ids(connection, "SELECT id FROM employee.employees");
+            insertProjects(connection);
+            List<Long> projectIds = ids(connection, "SELECT id FROM project.projects");
+            insertMembers(connection, projectIds, employeeIds);
+            connection.commit();
+
+            try (Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                statement.execute("ANALYZE");
+            }
+            log.info("Seeded {} departments, {} employees, {} projects", departmentIds.size(), employeeIds.size(),
+                    projectIds.size());
+            return new Dataset(departmentIds.size(), employeeIds.size(), projectIds, lastNames);
+        }
+    }
+
+    private void insertDepartments(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO department.departments (name, description, code) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= settings.departments(); i++) {
+                insert.setString(1, "Department " + i);
+                insert.setString(2, "Load test department " + i);
+                insert.setString(3, String.format("LT%03d", i));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private List<String> insertEmployees(Connection connection, List<Long> departmentIds) throws SQLException {
+        List<String> lastNames = new ArrayList<>(SURNAME_STEMS.length * SURNAME_SUFFIXES.length);
+        for (String stem : SURNAME_STEMS) {
+            for (String suffix : SURNAME_SUFFIXES) {
+                lastNames.add(stem + suffix);
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO employee.employees (first_name, last_name, email, department_id) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= settings.employees(); i++) {
+                String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String lastName = lastNames.get(random.nextInt(lastNames.size()));
+                insert.setString(1, firstName);
+                insert.setString(2, lastName);
+                insert.setString(3, (firstName + "." + lastName + "." + i + "@loadtest.example.com").toLowerCase());
+                insert.setLong(4, departmentIds.get(random.nextInt(departmentIds.size())));
+                insert.addBatch();
+                if (i % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        return lastNames;
+    }
+
+    private void insertProjects(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO project.projects (code, name, description, status, start_date, end_date) VALUES (?, ?, ?, ?, ?, ?)")) {
+            LocalDate start = LocalDate.of(2024, 1, 1);
+            for (int i = 1; i <= settings.projects(); i++) {
+                LocalDate startDate = start.plusDays(random.nextInt(365));
+                insert.setString(1, String.format("LT-%04d", i));
+                insert.setString(2, "Load test project " + i);
+                insert.setString(3, "Generated project " + i);
+                insert.setString(4, STATUSES[random.nextInt(STATUSES.length)]);
+                insert.setDate(5, Date.valueOf(startDate));
+                insert.setDate(6, Date.valueOf(startDate.plusDays(30 + random.nextInt(365))));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void insertMembers(Connection connection, List<Long> projectIds, List<Long> employeeIds) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO project.project_members (project_id, employee_id, role, allocation_percent) "
+                        + "VALUES (?, ?, ?, ?) ON CONFLICT DO NOTHING")) {
+            for (Long projectId : projectIds) {
+                for (int i = 0; i < settings.membersPerProject(); i++) {
+                    insert.setLong(1, projectId);
+                    insert.setLong(2, employeeIds.get(random.nextInt(employeeIds.size())));
+                    insert.setString(3, ROLES[random.nextInt(ROLES.length)]);
+                    insert.setInt(4, 10 + random.nextInt(10) * 10);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private static List<Long> ids(Connection connection, String query) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery(query)) {
+            while (rows.next()) {
+                ids.add(rows.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    record Dataset(int departments, int employees, List<Long> projectIds, List<String> lastNames) {
+    }
+}
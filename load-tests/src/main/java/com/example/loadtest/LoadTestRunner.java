@@ -0,0 +1,127 @@
+package com.example.loadtest;
+
+import com.example.loadtest.DatasetSeeder.Dataset;
+import com.example.loadtest.LoadGenerator.Result;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots employee-, department- and project-service against an embedded Postgres, seeds a dataset and
+ * runs the selected workloads one after another. Reports throughput, latency percentiles and the
+ * allocation rate of every service per workload.
+ */
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    // Micrometer's view of allocation: bytes allocated in the young generation, counted at each GC
+    private static final String ALLOCATED_METER = "jvm.gc.memory.allocated";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        ServiceProcess employees = new ServiceProcess("employee-service", "EMPLOYEE-SERVICE", freePort());
+        ServiceProcess departments = new ServiceProcess("department-service", "DEPARTMENT-SERVICE", freePort());
+        ServiceProcess projects = new ServiceProcess("project-service", "PROJECT-SERVICE", freePort());
+        List<ServiceProcess> services = List.of(employees, departments, projects);
+        Map<String, Integer> servicePorts = new LinkedHashMap<>();
+        services.forEach(service -> servicePorts.put(service.serviceId(), service.port()));
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            String jdbcUrl = "jdbc:postgresql://localhost:" + postgres.getPort() + "/postgres";
+            log.info("Embedded Postgres listening on port {}", postgres.getPort());
+            try {
+                for (ServiceProcess service : services) {
+                    service.start(settings, jdbcUrl, servicePorts);
+                }
+                for (ServiceProcess service : services) {
+                    service.awaitHealthy(Duration.ofMinutes(3));
+                }
+
+                Dataset dataset = new DatasetSeeder(postgres.getPostgresDatabase(), settings).seed();
+                Map<String, Workload> catalogue = Workload.catalogue(dataset, employees, projects);
+
+                List<String> report = new ArrayList<>();
+                report.add(String.format("# %s, %d virtual users, %ds warmup + %ds measurement, profiles=[%s], service JVM %s",
+                        Instant.now(), settings.concurrency(), settings.warmup().toSeconds(),
+                        settings.measurement().toSeconds(), settings.profiles(), String.join(" ", settings.serviceJvmArgs())));
+                report.add(String.format("# dataset: %d employees, %d departments, %d projects x %d members; %d CPUs",
+                        dataset.employees(), dataset.departments(), dataset.projectIds().size(),
+                        settings.membersPerProject(), Runtime.getRuntime().availableProcessors()));
+
+                LoadGenerator generator = new LoadGenerator();
+                for (String name : settings.workloads()) {
+                    Workload workload = catalogue.get(name);
+                    if (workload == null) {
+                        throw new IllegalArgumentException("Unknown workload " + name + ", known: " + catalogue.keySet());
+                    }
+                    report.add(run(generator, workload, settings, services));
+                }
+
+                Path output = settings.outputDir().resolve("report.txt");
+                Files.createDirectories(output.getParent());
+                Files.write(output, report);
+                report.forEach(System.out::println);
+                log.info("Report written to {}", output);
+            } finally {
+                for (ServiceProcess service : services) {
+                    service.close();
+                }
+            }
+        }
+    }
+
+    private static String run(LoadGenerator generator, Workload workload, LoadTestSettings settings,
+                              List<ServiceProcess> services) throws Exception {
+        log.info("{}: warming up for {}s", workload.name(), settings.warmup().toSeconds());
+        generator.run(workload, settings.concurrency(), settings.warmup());
+
+        Map<ServiceProcess, Double> allocatedBefore = allocated(services);
+        log.info("{}: measuring for {}s", workload.name(), settings.measurement().toSeconds());
+        Result result = generator.run(workload, settings.concurrency(), settings.measurement());
+        Map<ServiceProcess, Double> allocatedAfter = allocated(services);
+
+        double seconds = result.elapsedNanos() / 1e9;
+        StringBuilder allocation = new StringBuilder();
+        for (ServiceProcess service : services) {
+            double bytes = allocatedAfter.get(service) - allocatedBefore.get(service);
+            allocation.append(String.format(" %s=%.1fMB/s(%.1fKB/req)", service.name(), bytes / seconds / 1e6,
+                    result.requests() == 0 ? 0 : bytes / result.requests() / 1e3));
+        }
+        return String.format("%-16s requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p90=%.1fms p99=%.1fms "
+                        + "p99.9=%.1fms max=%.1fms alloc:%s",
+                workload.name(), result.requests(), result.errors(), result.throughput(),
+                result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+                result.percentileMillis(99.9), result.percentileMillis(100), allocation);
+    }
+
+    private static Map<ServiceProcess, Double> allocated(List<ServiceProcess> services) throws Exception {
+        Map<ServiceProcess, Double> allocated = new LinkedHashMap<>();
+        for (ServiceProcess service : services) {
+            service.collectGarbage();
+            allocated.put(service, service.metric(ALLOCATED_METER));
+        }
+        return allocated;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything the harness can be tuned with, read from {@code loadtest.*} system properties
+ * (the load-test profile in the module pom passes them through).
+ */
+record LoadTestSettings(
+        Path serviceDir,
+        Path configDir,
+        Path outputDir,
+        List<String> workloads,
+        int concurrency,
+        Duration warmup,
+        Duration measurement,
+        int employees,
+        int departments,
+        int projects,
+        int membersPerProject,
+        String profiles,
+        List<String> serviceJvmArgs,
+        Path modulesDir,
+        int startupRuns,
+        List<String> startupModes,
+        List<String> nativeServices
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Path.of(System.getProperty("loadtest.serviceDir", "target/services")),
+                Path.of(System.getProperty("loadtest.configDir", "../config-server/src/main/resources/config")),
+                Path.of(System.getProperty("loadtest.outputDir", "target/load-test")),
+                split(System.getProperty("loadtest.workloads", "employees-paged,employees-search,project-members,stats"), ","),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.measurementSeconds", 30)),
+                Integer.getInteger("loadtest.employees", 10_000),
+                Integer.getInteger("loadtest.departments", 20),
+                Integer.getInteger("loadtest.projects", 200),
+                Integer.getInteger("loadtest.membersPerProject", 20),
+                System.getProperty("loadtest.profiles", ""),
+                split(System.getProperty("loadtest.serviceJvmArgs", "-Xms512m -Xmx512m"), " "),
+                Path.of(System.getProperty("loadtest.modulesDir", "..")),
+                Integer.getInteger("loadtest.startupRuns", 5),
+                split(System.getProperty("loadtest.startupModes", "eager,lazy,aot-cds"), ","),
+                split(System.getProperty("loadtest.nativeServices", "department-service,employee-service,project-service"), ","));
+    }
+
+    private static List<String> split(String value, String separator) {
+        return Arrays.stream(value.split(separator))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toList();
+    }
+}
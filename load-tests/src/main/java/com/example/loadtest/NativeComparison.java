@@ -0,0 +1,172 @@
+package com.example.loadtest;
+
+import com.example.loadtest.DatasetSeeder.Dataset;
+import com.example.loadtest.LoadGenerator.Result;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM build against native executable, per service in {@code loadtest.nativeServices}: time to the first
+ * answered listing request, resident set size once started and after the load, and steady-state
+ * throughput of the service's listing endpoint. The measured service runs in each mode in turn while
+ * the other two run on the JVM. The native executables are expected at
+ * {@code <module>/target/<artifactId>}, as the native profile writes them.
+ */
+public final class NativeComparison {
+
+    private static final Logger log = LoggerFactory.getLogger(NativeComparison.class);
+
+    private static final Map<String, String> LISTINGS = Map.of(
+            "employee-service", "/api/v1/employees",
+            "department-service", "/api/v1/departments",
+            "project-service", "/api/v1/projects");
+
+    private NativeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        List<ServiceProcess> services = List.of(
+                new ServiceProcess("employee-service", "EMPLOYEE-SERVICE", freePort()),
+                new ServiceProcess("department-service", "DEPARTMENT-SERVICE", freePort()),
+                new ServiceProcess("project-service", "PROJECT-SERVICE", freePort()));
+        Map<String, Integer> servicePorts = new LinkedHashMap<>();
+        services.forEach(service -> servicePorts.put(service.serviceId(), service.port()));
+
+        for (String name : settings.nativeServices()) {
+            Path executable = nativeExecutable(settings, name);
+            if (!Files.isExecutable(executable)) {
+                throw new IllegalStateException(executable + " not found, build the services with -Pnative");
+            }
+        }
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            String jdbcUrl = "jdbc:postgresql://localhost:" + postgres.getPort() + "/postgres";
+            log.info("Embedded Postgres listening on port {}", postgres.getPort());
+
+            Dataset dataset = prepareDatabase(settings, postgres, servicePorts, services, jdbcUrl);
+
+            List<String> report = new ArrayList<>();
+            report.add(String.format("# %s, %d virtual users, %ds warmup + %ds measurement, profiles=[%s], heap %s; %d CPUs",
+                    Instant.now(), settings.concurrency(), settings.warmup().toSeconds(), settings.measurement().toSeconds(),
+                    settings.profiles(), String.join(" ", settings.serviceJvmArgs()), Runtime.getRuntime().availableProcessors()));
+            for (String name : settings.nativeServices()) {
+                ServiceProcess measured = services.stream()
+                        .filter(service -> service.name().equals(name))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown service " + name));
+                report.addAll(compare(settings, jdbcUrl, servicePorts, services, measured, dataset));
+            }
+
+            Path output = settings.outputDir().resolve("native-report.txt");
+            Files.createDirectories(output.getParent());
+            Files.write(output, report);
+            report.forEach(System.out::println);
+            log.info("Report written to {}", output);
+        }
+    }
+
+    // One untimed start of every service runs the Flyway migrations
+    private static Dataset prepareDatabase(LoadTestSettings settings, EmbeddedPostgres postgres,
+                                           Map<String, Integer> servicePorts, List<ServiceProcess> services,
+                                           String jdbcUrl) throws Exception {
+        try {
+            for (ServiceProcess service : services) {
+                service.start(settings, jdbcUrl, servicePorts);
+            }
+            for (ServiceProcess service : services) {
+                service.awaitHealthy(Duration.ofMinutes(3));
+            }
+            return new DatasetSeeder(postgres.getPostgresDatabase(), settings).seed();
+        } finally {
+            for (ServiceProcess service : services) {
+                service.close();
+            }
+        }
+    }
+
+    private static List<String> compare(LoadTestSettings settings, String jdbcUrl, Map<String, Integer> servicePorts,
+                                        List<ServiceProcess> services, ServiceProcess measured,
+                                        Dataset dataset) throws Exception {
+        List<ServiceProcess> others = services.stream().filter(service -> service != measured).toList();
+        Workload listing = listing(measured, dataset);
+        LoadGenerator generator = new LoadGenerator();
+        List<String> lines = new ArrayList<>();
+        try {
+            for (ServiceProcess other : others) {
+                other.start(settings, jdbcUrl, servicePorts);
+            }
+            for (ServiceProcess other : others) {
+                other.awaitHealthy(Duration.ofMinutes(3));
+            }
+            for (String mode : List.of("jvm", "native")) {
+                try {
+                    if (mode.equals("jvm")) {
+                        measured.start(settings, jdbcUrl, servicePorts);
+                    } else {
+                        measured.startNative(settings, jdbcUrl, servicePorts, nativeExecutable(settings, measured.name()));
+                    }
+                    Duration firstRequest = measured.awaitFirstResponse(
+                            LISTINGS.get(measured.name()) + "?page=0&size=20", Duration.ofMinutes(3));
+                    long startedRss = measured.residentSetBytes();
+
+                    log.info("{} [{}]: warming up for {}s", measured.name(), mode, settings.warmup().toSeconds());
+                    generator.run(listing, settings.concurrency(), settings.warmup());
+                    log.info("{} [{}]: measuring for {}s", measured.name(), mode, settings.measurement().toSeconds());
+                    Result result = generator.run(listing, settings.concurrency(), settings.measurement());
+                    long loadedRss = measured.residentSetBytes();
+
+                    lines.add(String.format("%-20s %-6s first-request=%dms rss-started=%dMB rss-loaded=%dMB "
+                                    + "requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms",
+                            measured.name(), mode, firstRequest.toMillis(), startedRss >> 20, loadedRss >> 20,
+                            result.requests(), result.errors(), result.throughput(),
+                            result.percentileMillis(50), result.percentileMillis(99)));
+                    log.info(lines.get(lines.size() - 1));
+                } finally {
+                    measured.close();
+                }
+            }
+        } finally {
+            for (ServiceProcess other : others) {
+                other.close();
+            }
+        }
+        return lines;
+    }
+
+    // Random pages of the service's own listing, 20 per page
+    private static Workload listing(ServiceProcess service, Dataset dataset) {
+        int rows = switch (service.name()) {
+            case "employee-service" -> dataset.employees();
+            case "department-service" -> dataset.departments();
+            default -> dataset.projectIds().size();
+        };
+        int pages = Math.max(rows / 20, 1);
+        String path = LISTINGS.get(service.name());
+        return new Workload(service.name() + "-listing", "GET " + path + ", a random page of 20",
+                random -> service.uri(path + "?page=" + random.nextInt(pages) + "&size=20"));
+    }
+
+    private static Path nativeExecutable(LoadTestSettings settings, String name) {
+        return settings.modulesDir().resolve(name).resolve("target").resolve(name);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One service running from its executable jar in a forked JVM, or as a native executable. Each service
+ * gets its own process, as in production: the three jars ship clashing {@code db/migration} scripts and
+ * auto-configuration.
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceProcess.class);
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final String name;
+    private final String serviceId;
+    private final int port;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private Process process;
+    private long startedAt;
+
+    ServiceProcess(String name, String serviceId, int port) {
+        this.name = name;
+        this.serviceId = serviceId;
+        this.port = port;
+    }
+
+    String name() {
+        return name;
+    }
+
+    String serviceId() {
+        return serviceId;
+    }
+
+    int port() {
+        return port;
+    }
+
+    URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + port + pathAndQuery);
+    }
+
+    /**
+     * Starts the service with the config-server files as its local config source, the embedded
+     * database and static discovery, so neither the config server nor Eureka has to run.
+     */
+    void start(LoadTestSettings settings, String jdbcUrl, Map<String, Integer> servicePorts) throws IOException {
+        start(settings, jdbcUrl, servicePorts, settings.serviceDir().resolve(name + "-exec.jar"), List.of(), List.of());
+    }
+
+    /**
+     * Starts the given jar with extra JVM options and application arguments on top of the settings' ones.
+     */
+    void start(LoadTestSettings settings, String jdbcUrl, Map<String, Integer> servicePorts,
+               Path jar, List<String> jvmArgs, List<String> args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(settings.serviceJvmArgs());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        launch(settings, jdbcUrl, servicePorts, command, args);
+    }
+
+    /**
+     * Starts a native executable of the service. Of the settings' JVM options only the heap sizes
+     * apply; a native image takes {@code -Xms}/{@code -Xmx} at runtime but no other JVM flags.
+     */
+    void startNative(LoadTestSettings settings, String jdbcUrl, Map<String, Integer> servicePorts,
+                     Path executable) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(executable.toString());
+        settings.serviceJvmArgs().stream().filter(arg -> arg.startsWith("-Xm")).forEach(command::add);
+        launch(settings, jdbcUrl, servicePorts, command, List.of());
+    }
+
+    private void launch(LoadTestSettings settings, String jdbcUrl, Map<String, Integer> servicePorts,
+                        List<String> command, List<String> args) throws IOException {
+        Path configDir = settings.configDir().toAbsolutePath().normalize();
+        command.add("--spring.config.location=file:" + configDir.resolve("shared") + "/,file:" + configDir.resolve("services") + "/");
+        command.add("--spring.config.name=application," + name);
+        command.add("--spring.cloud.config.enabled=false");
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=" + jdbcUrl);
+        command.add("--spring.datasource.username=postgres");
+        command.add("--spring.datasource.password=postgres");
+        command.add("--eureka.client.enabled=false");
+        servicePorts.forEach((id, servicePort) -> command.add(
+                "--spring.cloud.discovery.client.simple.instances." + id + "[0].uri=http://localhost:" + servicePort));
+        command.add("--management.endpoints.web.exposure.include=health,metrics,prometheus");
+        if (!settings.profiles().isBlank()) {
+            command.add("--spring.profiles.active=" + settings.profiles());
+        }
+        command.addAll(args);
+
+        Path logFile = settings.outputDir().resolve(name + ".log");
+        Files.createDirectories(logFile.getParent());
+        log.info("Starting {} on port {} (log: {})", name, port, logFile);
+        startedAt = System.nanoTime();
+        process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+    }
+
+    /**
+     * Polls the path until it answers 200 and returns the time since the process was launched.
+     */
+    Duration awaitFirstResponse(String pathAndQuery, Duration timeout) throws IOException, InterruptedException {
+        long deadline = startedAt + timeout.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(uri(pathAndQuery)).GET().build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see its log");
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - startedAt);
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException(name + " did not answer " + pathAndQuery + " within " + timeout);
+    }
+
+    /**
+     * Resident set size of the service process, from {@code /proc} (Linux only).
+     */
+    long residentSetBytes() throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", Long.toString(process.pid()), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+            }
+        }
+        throw new IllegalStateException("No VmRSS for " + name + " (pid " + process.pid() + ")");
+    }
+
+    void awaitHealthy(Duration timeout) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(uri("/actuator/health")).GET().build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see its log");
+            }
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    log.info("{} is up", name);
+                    return;
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " did not become healthy within " + timeout);
+    }
+
+    /**
+     * Runs a full collection in the service JVM. The allocation counter only moves when a GC reports
+     * how much of the young generation was used, so it is flushed this way around each measurement.
+     */
+    void collectGarbage() throws IOException, InterruptedException {
+        Process jcmd = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "jcmd").toString(),
+                Long.toString(process.pid()), "GC.run")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (!jcmd.waitFor(30, TimeUnit.SECONDS)) {
+            jcmd.destroyForcibly();
+        }
+    }
+
+    /**
+     * Current value of a Micrometer meter from the actuator metrics endpoint: the COUNT of a counter,
+     * the TOTAL_TIME of a timer or the VALUE of a gauge.
+     */
+    double metric(String meter) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/actuator/metrics/" + meter)).GET().build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return Double.NaN;
+        }
+        for (JsonNode measurement : JSON.readTree(response.body()).path("measurements")) {
+            String statistic = measurement.path("statistic").asText();
+            if (statistic.equals("COUNT") || statistic.equals("TOTAL_TIME") || statistic.equals("VALUE")) {
+                return measurement.path("value").asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (process == null || !process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        if (!process.waitFor(20, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
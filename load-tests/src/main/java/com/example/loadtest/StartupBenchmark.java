@@ -0,0 +1,156 @@
+package com.example.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time-to-first-request of employee-, department- and project-service: from launching the JVM until the
+ * service's listing endpoint first answers 200. Each service is cold-started {@code loadtest.startupRuns}
+ * times per mode while the other two keep running, as when one service scales out. The schema is migrated
+ * and seeded beforehand, so a timed start only validates it. Modes:
+ * <ul>
+ *   <li>{@code eager} - the executable jar with {@code startup.lazy-init.enabled=false}</li>
+ *   <li>{@code lazy} - the executable jar as configured (springdoc and Feign clients lazy)</li>
+ *   <li>{@code aot-cds} - the fast-startup artifacts: AOT initializers plus the module's CDS archive</li>
+ * </ul>
+ */
+public final class StartupBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupBenchmark.class);
+
+    private static final Map<String, String> FIRST_REQUESTS = Map.of(
+            "employee-service", "/api/v1/employees?page=0&size=20",
+            "department-service", "/api/v1/departments?page=0&size=20",
+            "project-service", "/api/v1/projects?page=0&size=20");
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        List<ServiceProcess> services = List.of(
+                new ServiceProcess("employee-service", "EMPLOYEE-SERVICE", freePort()),
+                new ServiceProcess("department-service", "DEPARTMENT-SERVICE", freePort()),
+                new ServiceProcess("project-service", "PROJECT-SERVICE", freePort()));
+        Map<String, Integer> servicePorts = new LinkedHashMap<>();
+        services.forEach(service -> servicePorts.put(service.serviceId(), service.port()));
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            String jdbcUrl = "jdbc:postgresql://localhost:" + postgres.getPort() + "/postgres";
+            log.info("Embedded Postgres listening on port {}", postgres.getPort());
+
+            prepareDatabase(settings, postgres, jdbcUrl, servicePorts, services);
+
+            List<String> report = new ArrayList<>();
+            report.add(String.format("# %s, time to first request over %d cold starts per mode, profiles=[%s], service JVM %s; %d CPUs",
+                    Instant.now(), settings.startupRuns(), settings.profiles(), String.join(" ", settings.serviceJvmArgs()),
+                    Runtime.getRuntime().availableProcessors()));
+            for (ServiceProcess service : services) {
+                report.addAll(measure(settings, jdbcUrl, servicePorts, services, service));
+            }
+
+            Path output = settings.outputDir().resolve("startup-report.txt");
+            Files.createDirectories(output.getParent());
+            Files.write(output, report);
+            report.forEach(System.out::println);
+            log.info("Report written to {}", output);
+        }
+    }
+
+    // One untimed start of every service runs the Flyway migrations
+    private static void prepareDatabase(LoadTestSettings settings, EmbeddedPostgres postgres, String jdbcUrl,
+                                        Map<String, Integer> servicePorts, List<ServiceProcess> services) throws Exception {
+        try {
+            for (ServiceProcess service : services) {
+                service.start(settings, jdbcUrl, servicePorts);
+            }
+            for (ServiceProcess service : services) {
+                service.awaitHealthy(Duration.ofMinutes(3));
+            }
+            new DatasetSeeder(postgres.getPostgresDatabase(), settings).seed();
+        } finally {
+            for (ServiceProcess service : services) {
+                service.close();
+            }
+        }
+    }
+
+    private static List<String> measure(LoadTestSettings settings, String jdbcUrl, Map<String, Integer> servicePorts,
+                                        List<ServiceProcess> services, ServiceProcess measured) throws Exception {
+        List<ServiceProcess> others = services.stream().filter(service -> service != measured).toList();
+        Map<String, List<Duration>> timings = new LinkedHashMap<>();
+        settings.startupModes().forEach(mode -> timings.put(mode, new ArrayList<>()));
+        try {
+            for (ServiceProcess other : others) {
+                other.start(settings, jdbcUrl, servicePorts);
+            }
+            for (ServiceProcess other : others) {
+                other.awaitHealthy(Duration.ofMinutes(3));
+            }
+            // Modes take turns, so drift on the machine spreads over all of them
+            for (int run = 1; run <= settings.startupRuns(); run++) {
+                for (String mode : settings.startupModes()) {
+                    try {
+                        start(settings, jdbcUrl, servicePorts, measured, mode);
+                        Duration elapsed = measured.awaitFirstResponse(FIRST_REQUESTS.get(measured.name()), Duration.ofMinutes(3));
+                        log.info("{} [{}] run {}: first request after {} ms", measured.name(), mode, run, elapsed.toMillis());
+                        timings.get(mode).add(elapsed);
+                    } finally {
+                        measured.close();
+                    }
+                }
+            }
+        } finally {
+            for (ServiceProcess other : others) {
+                other.close();
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        timings.forEach((mode, runs) -> {
+            List<Long> millis = runs.stream().map(Duration::toMillis).sorted().toList();
+            lines.add(String.format("%-20s %-8s min=%dms median=%dms max=%dms", measured.name(), mode,
+                    millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1)));
+        });
+        return lines;
+    }
+
+    private static void start(LoadTestSettings settings, String jdbcUrl, Map<String, Integer> servicePorts,
+                              ServiceProcess service, String mode) throws IOException {
+        switch (mode) {
+            case "eager" -> service.start(settings, jdbcUrl, servicePorts,
+                    settings.serviceDir().resolve(service.name() + "-exec.jar"), List.of(),
+                    List.of("--startup.lazy-init.enabled=false"));
+            case "lazy" -> service.start(settings, jdbcUrl, servicePorts);
+            case "aot-cds" -> {
+                Path cds = settings.modulesDir().resolve(service.name()).resolve("target").resolve("cds");
+                Path archive = cds.resolve("application.jsa");
+                if (!Files.exists(archive)) {
+                    throw new IllegalStateException(archive + " not found, build the services with -Pfast-startup");
+                }
+                service.start(settings, jdbcUrl, servicePorts, cds.resolve(service.name() + ".jar"),
+                        List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true"), List.of());
+            }
+            default -> throw new IllegalArgumentException("Unknown startup mode " + mode + ", known: eager, lazy, aot-cds");
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
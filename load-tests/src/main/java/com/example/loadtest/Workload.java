@@ -0,0 +1,42 @@
+package com.example.loadtest;
+
+import com.example.loadtest.DatasetSeeder.Dataset;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * A scripted request mix: every call of {@link #nextRequest} picks the next URI a virtual user sends.
+ */
+record Workload(String name, String description, Function<ThreadLocalRandom, URI> nextRequest) {
+
+    static Map<String, Workload> catalogue(Dataset dataset, ServiceProcess employees, ServiceProcess projects) {
+        int pages = Math.max(dataset.employees() / 20, 1);
+        Map<String, Workload> workloads = new LinkedHashMap<>();
+        add(workloads, new Workload("employees-paged",
+                "GET /api/v1/employees, 20 per page sorted by lastName, each enriched with its department",
+                random -> employees.uri("/api/v1/employees?page=" + random.nextInt(pages) + "&size=20&sort=lastName,asc")));
+        add(workloads, new Workload("employees-search",
+                "GET /api/v1/employees/search by a last name (~" + dataset.employees() / dataset.lastNames().size() + " hits)",
+                random -> employees.uri("/api/v1/employees/search?q="
+                        + dataset.lastNames().get(random.nextInt(dataset.lastNames().size())))));
+        add(workloads, new Workload("project-members",
+                "GET /api/v1/projects/{id}/members?enrich=true, employee details fetched from employee-service",
+                random -> projects.uri("/api/v1/projects/"
+                        + dataset.projectIds().get(random.nextInt(dataset.projectIds().size()))
+                        + "/members?enrich=true&size=20")));
+        add(workloads, new Workload("stats",
+                "GET /api/v1/employees/stats and /api/v1/projects/stats, half each",
+                random -> random.nextBoolean()
+                        ? employees.uri("/api/v1/employees/stats")
+                        : projects.uri("/api/v1/projects/stats")));
+        return workloads;
+    }
+
+    private static void add(Map<String, Workload> workloads, Workload workload) {
+        workloads.put(workload.name(), workload);
+    }
+}
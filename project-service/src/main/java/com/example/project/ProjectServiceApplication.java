@@ -1,13 +1,16 @@
 package com.example.project;
 
+import com.example.project.startup.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
+@ImportRuntimeHints(NativeImageHints.class)
 public class ProjectServiceApplication {
 
     public static void main(String[] args) {
@@ -2,6 +2,7 @@
 package com.example.project.client;
 
 import com.example.project.dto.EmployeeDTO;
+import com.example.project.hedging.Hedged;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,8 +24,11 @@ public interface EmployeeServiceClient {
      * @GetMapping("/{id}")
      * public ResponseEntity<EmployeeDTO> byId(@PathVariable Long id,
      *                                        @RequestParam(defaultValue = "true") boolean enrichWithDepartment)
+     *
+     * Idempotent and on the critical path of project reads, so slow calls are hedged
      */
-    @GetMapping("/api/v1/employees/{id}")
+    @Hedged
+    @GetMapping("/{id}")
     EmployeeDTO getEmployee(@PathVariable("id") Long id,
                             @RequestParam("enrichWithDepartment") boolean enrichWithDepartment);
 
@@ -51,7 +55,7 @@ public interface EmployeeServiceClient {
      * @GetMapping("/search")
      * public ResponseEntity<List<EmployeeDTO>> searchEmployees(@RequestParam String q)
      */
-    @GetMapping("/api/v1/employees/search")
+    @GetMapping("/search")
     List<EmployeeDTO> searchEmployees(@RequestParam("q") String query);
 
 }
\ No newline at end of file
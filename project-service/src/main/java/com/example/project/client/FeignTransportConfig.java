@@ -0,0 +1,30 @@
+package com.example.project.client;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import okhttp3.ConnectionPool;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The pooled OkHttp transport behind all Feign clients is switched on and tuned through the
+ * spring.cloud.openfeign.okhttp / httpclient properties; this only exposes its pool as metrics.
+ */
+@Configuration
+@ConditionalOnClass(ConnectionPool.class)
+public class FeignTransportConfig {
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<ConnectionPool> connectionPool,
+                                                  ObjectProvider<FeignHttpClientProperties> httpClientProperties) {
+        return registry -> connectionPool.ifAvailable(pool -> {
+            FeignHttpClientProperties properties = httpClientProperties.getIfAvailable(FeignHttpClientProperties::new);
+            new OkHttpConnectionPoolMetrics(pool, "feign.okhttp.pool", Tags.empty(), properties.getMaxConnections())
+                    .bindTo(registry);
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.project.conditional;
+
+/**
+ * Entity tags derived from the {@code @Version} column: {@code "3"} for version 3. The tag names a
+ * version of the stored row, so JSON and CBOR responses for it carry the same one. Tagged responses
+ * therefore send {@code Vary: Accept}, which keeps a shared cache from answering one format with the other.
+ */
+public final class VersionTags {
+
+    private VersionTags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-None-Match uses the weak comparison: W/"3" still means version 3
+    public static boolean noneMatchHits(String ifNoneMatch, long version) {
+        return matches(ifNoneMatch, version, true);
+    }
+
+    // If-Match uses the strong comparison, and a missing header lets the write through
+    public static boolean matchHolds(String ifMatch, long version) {
+        return ifMatch == null || matches(ifMatch, version, false);
+    }
+
+    private static boolean matches(String header, long version, boolean weak) {
+        String current = of(version);
+        for (String tag : header.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                if (!weak) {
+                    continue;
+                }
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.project.configwatch;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.config.client.ConfigClientProperties;
+import org.springframework.cloud.context.properties.ConfigurationPropertiesRebinder;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@ConditionalOnProperty(name = {"spring.cloud.config.enabled", "config-watch.enabled"}, havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ConfigWatchProperties.class)
+public class ConfigWatchConfig {
+
+    @Bean
+    public ConfigChangeApplier configChangeApplier(ConfigurableApplicationContext context,
+                                                   ConfigurationPropertiesRebinder rebinder,
+                                                   ObjectProvider<RefreshScope> refreshScope) {
+        return new ConfigChangeApplier(context, rebinder, refreshScope);
+    }
+
+    @Bean
+    public ConfigWatcher configWatcher(ConfigChangeApplier applier, ConfigWatchProperties properties,
+                                       ConfigClientProperties configClientProperties, Environment environment) {
+        return new ConfigWatcher(applier, properties, configClientProperties, environment);
+    }
+}
@@ -10,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -55,6 +56,11 @@ public class Project {
     @Column(name = "end_date")
     private LocalDate endDate;
 
+    // Bumped on every update and member change; ETags are derived from it
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private long version;
 
     // Custom validation method
     @AssertTrue(message = "End date must be on or after start date")
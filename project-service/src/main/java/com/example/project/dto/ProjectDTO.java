@@ -1,6 +1,7 @@
 package com.example.project.dto;
 
 import com.example.project.domain.ProjectStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -71,6 +72,11 @@ public class ProjectDTO {
             accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDateTime updatedAt;
 
+    // Sent as the ETag rather than in the body
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
+
     // Custom validation method
     @AssertTrue(message = "End date must be on or after start date")
     private boolean isEndDateValid() {
@@ -12,7 +12,7 @@ import java.util.Map;
  * - Status transition not allowed
  */
 @Getter
-public class BusinessConflictException extends RuntimeException {
+public class BusinessConflictException extends BusinessException {
     private final Map<String, Object> conflictDetails;
     private final List<String> suggestedActions;
 
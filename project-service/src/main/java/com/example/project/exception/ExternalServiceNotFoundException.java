@@ -7,7 +7,7 @@ import lombok.Getter;
  * Used when Employee API returns 404 for an employeeId
  */
 @Getter
-public class ExternalServiceNotFoundException extends RuntimeException {
+public class ExternalServiceNotFoundException extends BusinessException {
     private final String serviceName;
 
     public ExternalServiceNotFoundException(String message, String serviceName) {
@@ -1,10 +1,12 @@
 package com.example.project.exception;
 
+import com.example.project.logging.LogRateLimiter;
 import jakarta.persistence.EntityNotFoundException;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -26,10 +28,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    // Missing ids and conflicts are normal traffic: warn about them, but not once per request
+    private static final int BUSINESS_WARNINGS_PER_SECOND = 10;
+
+    private final LogRateLimiter notFoundLog = new LogRateLimiter(BUSINESS_WARNINGS_PER_SECOND);
+    private final LogRateLimiter conflictLog = new LogRateLimiter(BUSINESS_WARNINGS_PER_SECOND);
+
     // 404 Not Found - Project not found
     @ExceptionHandler(ProjectNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleProjectNotFoundException(ProjectNotFoundException ex) {
-        log.warn("Project not found: {}", ex.getMessage());
+        if (notFoundLog.tryAcquire()) {
+            log.warn("Project not found: {} ({} similar suppressed)", ex.getMessage(), notFoundLog.takeSuppressed());
+        }
 
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
                 HttpStatus.NOT_FOUND, ex.getMessage());
@@ -65,6 +75,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
 
+    // 400 Bad Request - Unknown property in fields=
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidFieldsException(InvalidFieldsException ex) {
+        log.warn("Invalid fields requested: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setTitle("Invalid Fields");
+        problemDetail.setProperty("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
     // 400 Bad Request - Validation errors on request body (legacy)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ProblemDetail> handleValidationException(MethodArgumentNotValidException ex) {
@@ -190,7 +213,9 @@ public class GlobalExceptionHandler {
     // 409 Conflict - Business logic conflicts
     @ExceptionHandler(BusinessConflictException.class)
     public ResponseEntity<ProblemDetail> handleBusinessConflictException(BusinessConflictException ex) {
-        log.warn("Business conflict: {}", ex.getMessage());
+        if (conflictLog.tryAcquire()) {
+            log.warn("Business conflict: {} ({} similar suppressed)", ex.getMessage(), conflictLog.takeSuppressed());
+        }
 
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
                 HttpStatus.CONFLICT, ex.getMessage());
@@ -242,7 +267,10 @@ public class GlobalExceptionHandler {
     // 404 Not Found - External service dependency not found
     @ExceptionHandler(ExternalServiceNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleExternalServiceNotFoundException(ExternalServiceNotFoundException ex) {
-        log.warn("External service resource not found: {}", ex.getMessage());
+        if (notFoundLog.tryAcquire()) {
+            log.warn("External service resource not found: {} ({} similar suppressed)",
+                    ex.getMessage(), notFoundLog.takeSuppressed());
+        }
 
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
                 HttpStatus.NOT_FOUND, ex.getMessage());
@@ -270,19 +298,48 @@ public class GlobalExceptionHandler {
     // 404 Not Found - Project member not found
     @ExceptionHandler(ProjectMemberNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleProjectMemberNotFoundException(ProjectMemberNotFoundException ex) {
-        log.warn("Project member not found: {}", ex.getMessage());
+        if (notFoundLog.tryAcquire()) {
+            log.warn("Project member not found: {} ({} similar suppressed)", ex.getMessage(), notFoundLog.takeSuppressed());
+        }
 
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.NOT_FOUND,
-                ex.getMessage()
-        );
-
+                HttpStatus.NOT_FOUND, ex.getMessage());
         problemDetail.setTitle("Project Member Not Found");
         problemDetail.setProperty("timestamp", LocalDateTime.now());
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
     }
 
+    // 412 Precondition Failed - If-Match names a version the project has moved past
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ProblemDetail> handlePreconditionFailedException(PreconditionFailedException ex) {
+        if (conflictLog.tryAcquire()) {
+            log.warn("Precondition failed: {} ({} similar suppressed)", ex.getMessage(), conflictLog.takeSuppressed());
+        }
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+        problemDetail.setTitle("Project Changed");
+        problemDetail.setProperty("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(problemDetail);
+    }
+
+    // 409 Conflict - Another write committed between our read and our flush
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        if (conflictLog.tryAcquire()) {
+            log.warn("Concurrent update: {} ({} similar suppressed)", ex.getMessage(), conflictLog.takeSuppressed());
+        }
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT, "The project was changed by another request");
+        problemDetail.setTitle("Concurrent Update");
+        problemDetail.setProperty("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
     // 500 Internal Server Error - Catch-all for unexpected errors
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProblemDetail> handleGenericException(Exception ex) {
@@ -296,4 +353,4 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problemDetail);
     }
-}
\ No newline at end of file
+}
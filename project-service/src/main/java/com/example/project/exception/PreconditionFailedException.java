@@ -0,0 +1,8 @@
+package com.example.project.exception;
+
+public class PreconditionFailedException extends BusinessException {
+
+    public PreconditionFailedException(String ifMatch, long version) {
+        super("If-Match " + ifMatch + " does not match the current version \"" + version + "\"");
+    }
+}
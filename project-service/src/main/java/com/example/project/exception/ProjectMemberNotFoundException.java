@@ -1,6 +1,6 @@
 package com.example.project.exception;
 
-public class ProjectMemberNotFoundException extends RuntimeException {
+public class ProjectMemberNotFoundException extends BusinessException {
 
     public ProjectMemberNotFoundException(Long projectId, Long employeeId) {
         super(String.format("Employee %d is not a member of project %d", employeeId, projectId));
@@ -4,7 +4,7 @@ package com.example.project.exception;
 /**
  * Exception thrown when a project is not found by its ID.
  */
-public class ProjectNotFoundException extends RuntimeException {
+public class ProjectNotFoundException extends BusinessException {
 
     public ProjectNotFoundException(Long id) {
         super("Project not found");
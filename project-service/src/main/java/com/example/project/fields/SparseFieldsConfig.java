@@ -0,0 +1,31 @@
+package com.example.project.fields;
+
+import com.example.project.dto.ProjectDTO;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Puts {@link ProjectDTO} behind a Jackson property filter in the application's ObjectMapper only, so
+ * other mappers (tests, benchmarks) serialize it as before. The filter writes every property unless
+ * {@link SparseFieldsResponseAdvice} replaced it for the response.
+ */
+@Configuration
+public class SparseFieldsConfig {
+
+    static final String FILTER_ID = "sparseFields";
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+        return builder -> builder
+                .mixIn(ProjectDTO.class, SparseFieldsMixin.class)
+                .filters(new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @JsonFilter(FILTER_ID)
+    abstract static class SparseFieldsMixin {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.project.hedging;
+
+/**
+ * Token bucket refilled by primary requests: every call deposits {@code budgetPercent / 100}
+ * of a token and every hedge costs a whole one, so hedges can never exceed the configured share
+ * of traffic, no matter how slow the downstream gets.
+ */
+class HedgeBudget {
+
+    private final double tokensPerRequest;
+    private final double maxTokens;
+    private double tokens;
+
+    HedgeBudget(double budgetPercent, int maxBurst) {
+        this.tokensPerRequest = budgetPercent / 100.0;
+        this.maxTokens = Math.max(maxBurst, 1);
+    }
+
+    synchronized void deposit() {
+        tokens = Math.min(tokens + tokensPerRequest, maxTokens);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
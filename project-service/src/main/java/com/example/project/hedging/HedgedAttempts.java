@@ -0,0 +1,31 @@
+package com.example.project.hedging;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers which instance the primary attempt of a hedged call went to, so the load balancer
+ * can send the hedge somewhere else. Both attempts carry the same {@link #HEDGE_ID_HEADER}.
+ */
+@Component
+public class HedgedAttempts {
+
+    public static final String HEDGE_ID_HEADER = "X-Hedge-Id";
+
+    private final ConcurrentMap<String, ServiceInstance> primaryInstances = new ConcurrentHashMap<>();
+
+    public void attemptStarted(String hedgeId, ServiceInstance instance) {
+        primaryInstances.putIfAbsent(hedgeId, instance);
+    }
+
+    public ServiceInstance primaryInstance(String hedgeId) {
+        return hedgeId == null ? null : primaryInstances.get(hedgeId);
+    }
+
+    void release(String hedgeId) {
+        primaryInstances.remove(hedgeId);
+    }
+}
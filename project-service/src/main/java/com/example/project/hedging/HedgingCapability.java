@@ -0,0 +1,26 @@
+package com.example.project.hedging;
+
+import feign.Capability;
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Wraps the client of every Feign interface in a {@link HedgingClient}. Feign invokes
+ * {@code enrich} reflectively, so this has to be a public top-level class.
+ */
+@RequiredArgsConstructor
+public class HedgingCapability implements Capability {
+
+    private final HedgingProperties properties;
+    private final HedgedAttempts hedgedAttempts;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Client enrich(Client client) {
+        return new HedgingClient(client, properties, hedgedAttempts, executor, meterRegistry);
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.project.hedging;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wraps the load-balanced Feign client and hedges calls to {@link Hedged} methods. Everything
+ * else is passed straight through on the caller's thread.
+ */
+@Slf4j
+public class HedgingClient implements Client {
+
+    private final Client delegate;
+    private final HedgingProperties properties;
+    private final HedgedAttempts hedgedAttempts;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, MethodState> methodStates = new ConcurrentHashMap<>();
+
+    public HedgingClient(Client delegate, HedgingProperties properties, HedgedAttempts hedgedAttempts,
+                         ExecutorService executor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.hedgedAttempts = hedgedAttempts;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        MethodMetadata metadata = request.requestTemplate() != null ? request.requestTemplate().methodMetadata() : null;
+        if (!properties.isEnabled() || metadata == null || metadata.method() == null
+                || !metadata.method().isAnnotationPresent(Hedged.class)) {
+            return delegate.execute(request, options);
+        }
+
+        MethodState state = methodStates.computeIfAbsent(metadata.configKey(), this::createState);
+        state.calls.increment();
+        state.budget.deposit();
+
+        String hedgeId = UUID.randomUUID().toString();
+        Request tagged = withHeader(request, HedgedAttempts.HEDGE_ID_HEADER, hedgeId);
+        try {
+            long start = System.nanoTime();
+            CompletableFuture<Response> primary;
+            try {
+                primary = submit(tagged, options);
+            } catch (RejectedExecutionException e) {
+                // Every hedging thread is busy: make the call unhedged on the caller's thread
+                state.saturated.increment();
+                return delegate.execute(tagged, options);
+            }
+            primary.thenRun(() -> state.window.record(System.nanoTime() - start));
+
+            try {
+                return primary.get(hedgeDelayNanos(state), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // primary is slower than usual, fall through to hedging
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                primary.cancel(true);
+                throw new InterruptedIOException("Interrupted while waiting for response");
+            } catch (ExecutionException e) {
+                return await(primary);
+            }
+
+            if (!state.budget.tryWithdraw()) {
+                state.budgetExhausted.increment();
+                return await(primary);
+            }
+
+            log.debug("Hedging {} after {} ms", metadata.configKey(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            CompletableFuture<Response> hedge;
+            try {
+                hedge = submit(tagged, options);
+            } catch (RejectedExecutionException e) {
+                state.saturated.increment();
+                return await(primary);
+            }
+            state.hedges.increment();
+            return await(firstSuccessful(primary, hedge, state));
+        } finally {
+            hedgedAttempts.release(hedgeId);
+        }
+    }
+
+    private long hedgeDelayNanos(MethodState state) {
+        long percentile = state.window.percentile(properties.getDelayPercentile());
+        long delay = percentile > 0 ? percentile : properties.getInitialDelay().toNanos();
+        return Math.max(delay, properties.getMinDelay().toNanos());
+    }
+
+    private CompletableFuture<Response> submit(Request request, Request.Options options) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                Response response = delegate.execute(request, options);
+                // The caller may have given up on this attempt while it was in flight
+                if (!future.complete(response)) {
+                    closeQuietly(response);
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                MDC.clear();
+            }
+        });
+        return future;
+    }
+
+    private CompletableFuture<Response> firstSuccessful(CompletableFuture<Response> primary,
+                                                        CompletableFuture<Response> hedge,
+                                                        MethodState state) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((response, error) -> {
+            if (error != null) {
+                if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(error);
+                }
+            } else if (!result.complete(response)) {
+                closeQuietly(response);
+            }
+        });
+        hedge.whenComplete((response, error) -> {
+            if (error != null) {
+                if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(error);
+                }
+            } else if (result.complete(response)) {
+                state.hedgeWins.increment();
+            } else {
+                closeQuietly(response);
+            }
+        });
+        return result;
+    }
+
+    private static Response await(CompletableFuture<Response> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new InterruptedIOException("Interrupted while waiting for response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static Request withHeader(Request request, String name, String value) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(name, List.of(value));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+                request.charset(), request.requestTemplate());
+    }
+
+    private static void closeQuietly(Response response) {
+        try {
+            response.close();
+        } catch (Exception e) {
+            log.debug("Failed to close unused hedged response", e);
+        }
+    }
+
+    private MethodState createState(String configKey) {
+        return new MethodState(
+                new LatencyWindow(properties.getWindowSize(), properties.getMinSamples()),
+                new HedgeBudget(properties.getBudgetPercent(), properties.getMaxBurst()),
+                meterRegistry.counter("feign.hedging.calls", "method", configKey),
+                meterRegistry.counter("feign.hedging.hedges", "method", configKey),
+                meterRegistry.counter("feign.hedging.wins", "method", configKey),
+                meterRegistry.counter("feign.hedging.budget.exhausted", "method", configKey),
+                meterRegistry.counter("feign.hedging.saturated", "method", configKey));
+    }
+
+    private record MethodState(LatencyWindow window, HedgeBudget budget, Counter calls, Counter hedges,
+                               Counter hedgeWins, Counter budgetExhausted, Counter saturated) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.project.hedging;
+
+import feign.Capability;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableConfigurationProperties(HedgingProperties.class)
+public class HedgingConfig {
+
+    // Hedged attempts block on Feign I/O, so they follow the service's threading mode. The caller's
+    // observation (trace context and MDC) is carried over so every attempt stays in the request's trace
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService hedgingExecutor(Environment environment, HedgingProperties properties) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return ContextExecutorService.wrap(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("feign-hedge-", 0).factory()));
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("feign-hedge-");
+        threadFactory.setDaemon(true);
+        // No queue: an attempt either gets a thread now or is rejected, and HedgingClient then skips hedging
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(0, properties.getMaxThreads(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory);
+        return ContextExecutorService.wrap(executor);
+    }
+
+    // Picked up by every Feign client; only methods annotated with @Hedged are affected
+    @Bean
+    public Capability hedgingCapability(HedgingProperties properties, HedgedAttempts hedgedAttempts,
+                                        ExecutorService hedgingExecutor, MeterRegistry meterRegistry) {
+        return new HedgingCapability(properties, hedgedAttempts, hedgingExecutor, meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.project.hedging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "hedging")
+public class HedgingProperties {
+
+    private boolean enabled = true;
+
+    // Hedges may add at most this share of extra requests on top of the primary traffic
+    private double budgetPercent = 5;
+
+    // Unused budget that may accumulate, in hedges, to absorb short bursts of slow responses
+    private int maxBurst = 10;
+
+    private int delayPercentile = 95;
+
+    // Hedge delay used until the method has enough samples for a percentile
+    private Duration initialDelay = Duration.ofMillis(100);
+
+    private Duration minDelay = Duration.ofMillis(5);
+
+    private int windowSize = 1000;
+
+    private int minSamples = 50;
+
+    // Platform threads running attempts at once; calls beyond this are made unhedged by the caller
+    private int maxThreads = 200;
+}
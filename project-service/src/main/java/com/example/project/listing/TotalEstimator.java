@@ -0,0 +1,150 @@
+package com.example.project.listing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.Closeable;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate totals for listings served without a count query. An unfiltered listing gets the planner's
+ * row estimate for the table ({@code pg_class.reltuples}, kept current by autovacuum). Otherwise the count
+ * runs in the background, never on the request: the request that misses gets no total, later ones get the
+ * result for {@code listing.total-estimate.ttl}, and after that the old total while it is counted again.
+ */
+@Slf4j
+public class TotalEstimator implements Closeable {
+
+    public static final String HEADER = "X-Total-Count-Estimate";
+
+    private final TotalEstimateProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor countExecutor;
+    private final Map<List<Object>, CachedTotal> totals = new ConcurrentHashMap<>();
+    private final Set<List<Object>> counting = ConcurrentHashMap.newKeySet();
+    private volatile Boolean postgres;
+
+    public TotalEstimator(TotalEstimateProperties properties, JdbcTemplate jdbcTemplate) {
+        this(properties, jdbcTemplate, countExecutor(properties));
+    }
+
+    TotalEstimator(TotalEstimateProperties properties, JdbcTemplate jdbcTemplate, Executor countExecutor) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.countExecutor = countExecutor;
+    }
+
+    // No queue: a count either gets a thread now or is dropped, and a later request asks for it again
+    private static ExecutorService countExecutor(TotalEstimateProperties properties) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("total-count-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(0, properties.getCountThreads(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory);
+    }
+
+    public OptionalLong estimate(String table, List<Object> filters, LongSupplier count) {
+        if (!properties.isEnabled()) {
+            return OptionalLong.empty();
+        }
+        if (filters.stream().allMatch(Objects::isNull)) {
+            OptionalLong planned = plannerEstimate(table);
+            if (planned.isPresent()) {
+                return planned;
+            }
+        }
+
+        List<Object> key = new ArrayList<>(filters.size() + 1);
+        key.add(table);
+        key.addAll(filters);
+        CachedTotal cached = totals.get(key);
+        if (cached == null || System.nanoTime() - cached.expiresAt() >= 0) {
+            countInBackground(key, count);
+        }
+        return cached == null ? OptionalLong.empty() : OptionalLong.of(cached.total());
+    }
+
+    private void countInBackground(List<Object> key, LongSupplier count) {
+        if (!counting.add(key)) {
+            return;
+        }
+        try {
+            countExecutor.execute(() -> {
+                try {
+                    long total = count.getAsLong();
+                    long now = System.nanoTime();
+                    if (totals.size() >= properties.getMaxEntries()) {
+                        evict(now);
+                    }
+                    totals.put(key, new CachedTotal(total, now + properties.getTtl().toNanos()));
+                } catch (RuntimeException ex) {
+                    log.warn("Counting {} failed: {}", key.get(0), ex.getMessage());
+                } finally {
+                    counting.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            counting.remove(key);
+        }
+    }
+
+    private OptionalLong plannerEstimate(String table) {
+        if (!isPostgres()) {
+            return OptionalLong.empty();
+        }
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table);
+        // -1 until the table has been vacuumed or analyzed for the first time
+        return rows.isEmpty() || rows.get(0) < 0 ? OptionalLong.empty() : OptionalLong.of(rows.get(0));
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null && jdbcTemplate == null) {
+            postgres = false;
+        }
+        if (postgres == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                postgres = "PostgreSQL".equals(product);
+            } catch (MetaDataAccessException ex) {
+                log.debug("Could not determine the database product, planner estimates disabled: {}", ex.getMessage());
+                postgres = false;
+            }
+        }
+        return postgres;
+    }
+
+    private void evict(long now) {
+        totals.values().removeIf(cached -> now - cached.expiresAt() >= 0);
+        if (totals.size() >= properties.getMaxEntries()) {
+            totals.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (countExecutor instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private record CachedTotal(long total, long expiresAt) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.project.loadbalancer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loadbalancer.latency-aware")
+public class LatencyAwareLoadBalancerProperties {
+
+    private boolean enabled = true;
+
+    // Time constant of the latency EWMA; older samples fade out over roughly this window
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    // Latency assumed for instances that have not answered a request yet
+    private Duration initialLatency = Duration.ofMillis(50);
+
+    // Consecutive failures (5xx or I/O errors) before an instance is ejected
+    private int failureThreshold = 5;
+
+    // First ejection lasts baseEjectionTime, each repeated ejection adds another one up to maxEjectionTime
+    private Duration baseEjectionTime = Duration.ofSeconds(30);
+
+    private Duration maxEjectionTime = Duration.ofMinutes(5);
+
+    // Never eject more than this share of a service's instances at once
+    private int maxEjectionPercent = 50;
+}
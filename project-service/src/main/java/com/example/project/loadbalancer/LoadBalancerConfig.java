@@ -0,0 +1,22 @@
+package com.example.project.loadbalancer;
+
+import com.example.project.hedging.HedgedAttempts;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LatencyAwareLoadBalancerProperties.class)
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+
+    @Bean
+    @ConditionalOnProperty(value = "loadbalancer.latency-aware.enabled", havingValue = "true", matchIfMissing = true)
+    public LatencyTrackingLifecycle latencyTrackingLifecycle(InstanceStatsRegistry statsRegistry,
+                                                             LatencyAwareLoadBalancerProperties properties,
+                                                             HedgedAttempts hedgedAttempts) {
+        return new LatencyTrackingLifecycle(statsRegistry, properties, hedgedAttempts);
+    }
+}
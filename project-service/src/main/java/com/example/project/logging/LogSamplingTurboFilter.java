@@ -0,0 +1,56 @@
+package com.example.project.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one in N INFO events of the configured loggers, e.g.
+ * {@code com.example.project.web.EmployeeController=100}. Other levels are never sampled, and the
+ * decision is made before the event or its message is built, so dropped lines cost one counter increment.
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private final Map<String, Sampler> samplers = new HashMap<>();
+
+    // Comma-separated logger=N pairs; set from logging.sampling.rates in logback-spring.xml
+    public void setRates(String rates) {
+        for (String entry : rates.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator > 0) {
+                samplers.put(entry.substring(0, separator).trim(),
+                        new Sampler(Long.parseLong(entry.substring(separator + 1).trim())));
+            }
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isInfoEnabled() checks, which must not consume a sample
+        if (level != Level.INFO || format == null || samplers.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+        Sampler sampler = samplers.get(logger.getName());
+        return sampler == null || sampler.keep() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private static final class Sampler {
+
+        private final long rate;
+        private final AtomicLong events = new AtomicLong();
+
+        Sampler(long rate) {
+            this.rate = Math.max(rate, 1);
+        }
+
+        boolean keep() {
+            return events.getAndIncrement() % rate == 0;
+        }
+    }
+}
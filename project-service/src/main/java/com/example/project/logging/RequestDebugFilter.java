@@ -0,0 +1,36 @@
+package com.example.project.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Flags requests that ask for debug logging, so {@link RequestDebugTurboFilter} can enable DEBUG for
+ * just that request instead of the whole service.
+ */
+@RequiredArgsConstructor
+public class RequestDebugFilter extends OncePerRequestFilter {
+
+    private final RequestDebugProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!properties.isEnabled() || !"true".equalsIgnoreCase(request.getHeader(properties.getHeader()))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        MDC.put(RequestDebugTurboFilter.MDC_KEY, "true");
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(RequestDebugTurboFilter.MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.project.logging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "logging.request-debug")
+public class RequestDebugProperties {
+
+    private boolean enabled = false;
+
+    // Requests carrying this header with value "true" log at DEBUG, as do the calls they make downstream
+    private String header = "X-Debug-Logging";
+}
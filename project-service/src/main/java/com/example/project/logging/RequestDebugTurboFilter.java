@@ -0,0 +1,31 @@
+package com.example.project.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Lets DEBUG events of the application's own loggers through while {@link RequestDebugFilter} has
+ * flagged the current request, whatever the configured level. Everything else is left to the levels.
+ */
+public class RequestDebugTurboFilter extends TurboFilter {
+
+    public static final String MDC_KEY = "debugLogging";
+
+    private String loggerPrefix = "com.example";
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level != Level.DEBUG || !logger.getName().startsWith(loggerPrefix) || MDC.get(MDC_KEY) == null) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.ACCEPT;
+    }
+}
@@ -4,6 +4,8 @@ import com.example.project.domain.Project;
 import com.example.project.domain.ProjectMember;
 import com.example.project.dto.ProjectDTO;
 import com.example.project.dto.ProjectMemberDTO;
+import com.example.project.repo.ProjectMemberSummary;
+import com.example.project.repo.ProjectSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -15,12 +17,24 @@ public interface ProjectMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "members", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Project toEntity(ProjectDTO projectDTO);
 
+    // Members are added from a separate query; Project has no audit columns to fill createdAt/updatedAt,
+    // and the version is only sent as an ETag
+    @Mapping(target = "members", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    ProjectDTO summaryToDTO(ProjectSummary summary);
+
     // ProjectMember mappings
     @Mapping(source = "project.id", target = "projectId")
     @Mapping(target = "employee", ignore = true) // Set manually when enriching
     ProjectMemberDTO memberToDTO(ProjectMember projectMember);
 
+    @Mapping(target = "employee", ignore = true)
+    ProjectMemberDTO memberSummaryToDTO(ProjectMemberSummary member);
+
 
 }
\ No newline at end of file
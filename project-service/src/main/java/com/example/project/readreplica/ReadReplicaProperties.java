@@ -0,0 +1,42 @@
+package com.example.project.readreplica;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "read-replica")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // A replica further behind the primary than this gets no reads until it has caught up
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    // Returns the replica's lag in seconds; 0 when it has replayed everything it received
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    // After a client's write commits, its reads go to the primary for this long (carried in a cookie)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private String readYourWritesCookie = "read-primary-until";
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        // Default to the primary's credentials
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.project.readreplica;
+
+/**
+ * Per-request flag that sends reads to the primary. It is set when the request carries the
+ * read-your-writes cookie or has itself committed a write, and only exists while
+ * {@link ReadYourWritesFilter} is handling a request.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void begin(boolean pinned) {
+        PINNED.set(pinned);
+    }
+
+    static void end() {
+        PINNED.remove();
+    }
+
+    static boolean inRequest() {
+        return PINNED.get() != null;
+    }
+
+    static void pin() {
+        if (inRequest()) {
+            PINNED.set(Boolean.TRUE);
+        }
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+}
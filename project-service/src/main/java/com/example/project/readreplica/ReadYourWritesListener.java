@@ -0,0 +1,41 @@
+package com.example.project.readreplica;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Once a read-write transaction commits, the rest of the request reads from the primary, and so does
+ * the client for {@code read-replica.read-your-writes-window}: the commit time is handed back as a cookie
+ * that {@link ReadYourWritesFilter} honours on the client's next requests.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesListener implements TransactionExecutionListener {
+
+    private final ReadReplicaProperties properties;
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()
+                || !ReadYourWrites.inRequest()) {
+            return;
+        }
+        ReadYourWrites.pin();
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                long window = properties.getReadYourWritesWindow().toMillis();
+                Cookie cookie = new Cookie(properties.getReadYourWritesCookie(),
+                        Long.toString(System.currentTimeMillis() + window));
+                cookie.setMaxAge((int) Math.max(1, window / 1000));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                response.addCookie(cookie);
+            }
+        }
+    }
+}
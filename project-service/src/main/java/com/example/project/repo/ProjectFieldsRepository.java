@@ -0,0 +1,30 @@
+package com.example.project.repo;
+
+import com.example.project.domain.ProjectStatus;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads only the given attributes of {@code Project}, for requests that name their fields. Each tuple
+ * element is aliased with its attribute name.
+ */
+public interface ProjectFieldsRepository {
+
+    // The attributes a select list may name; nothing else is ever concatenated into the query
+    Set<String> ATTRIBUTES = Set.of("id", "code", "name", "description", "status", "startDate", "endDate");
+
+    Page<Tuple> findProjectFieldsWithFilters(Set<String> attributes, ProjectStatus status, LocalDate from,
+                                             LocalDate to, String code, String name, Pageable pageable);
+
+    // Fetches one row past the page to fill hasNext; no count query
+    Slice<Tuple> findProjectFieldSliceWithFilters(Set<String> attributes, ProjectStatus status, LocalDate from,
+                                                  LocalDate to, String code, String name, Pageable pageable);
+
+    Optional<Tuple> findProjectFieldsById(Set<String> attributes, Long id);
+}
@@ -0,0 +1,83 @@
+package com.example.project.repo;
+
+import com.example.project.domain.ProjectStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class ProjectFieldsRepositoryImpl implements ProjectFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Tuple> findProjectFieldsWithFilters(Set<String> attributes, ProjectStatus status, LocalDate from,
+                                                    LocalDate to, String code, String name, Pageable pageable) {
+        List<Tuple> rows = page(attributes, status, from, to, code, name, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(rows, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery(
+                    ProjectRepository.COUNT + ProjectRepository.FILTERS, Long.class);
+            return bindFilters(count, status, from, to, code, name).getSingleResult();
+        });
+    }
+
+    @Override
+    public Slice<Tuple> findProjectFieldSliceWithFilters(Set<String> attributes, ProjectStatus status, LocalDate from,
+                                                         LocalDate to, String code, String name, Pageable pageable) {
+        List<Tuple> rows = page(attributes, status, from, to, code, name, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public Optional<Tuple> findProjectFieldsById(Set<String> attributes, Long id) {
+        return entityManager.createQuery(select(attributes) + " WHERE p.id = :id", Tuple.class)
+                .setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    private List<Tuple> page(Set<String> attributes, ProjectStatus status, LocalDate from, LocalDate to,
+                             String code, String name, Pageable pageable, int rows) {
+        String jpql = QueryUtils.applySorting(select(attributes) + ProjectRepository.FILTERS, pageable.getSort(), "p");
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        return bindFilters(query, status, from, to, code, name)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(rows)
+                .getResultList();
+    }
+
+    private static String select(Set<String> attributes) {
+        if (attributes.isEmpty() || !ATTRIBUTES.containsAll(attributes)) {
+            throw new IllegalArgumentException("Cannot select " + attributes + ", known attributes are " + ATTRIBUTES);
+        }
+        return attributes.stream()
+                .map(attribute -> "p." + attribute + " AS " + attribute)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM Project p"));
+    }
+
+    private static <Q extends Query> Q bindFilters(Q query, ProjectStatus status, LocalDate from, LocalDate to,
+                                                   String code, String name) {
+        query.setParameter("status", status);
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+        query.setParameter("code", code);
+        query.setParameter("name", name);
+        return query;
+    }
+}
@@ -6,9 +6,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,5 +35,11 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     @Query("SELECT pm.employeeId FROM ProjectMember pm WHERE pm.project.id = ?1")
     List<Long> findEmployeeIdsByProjectId(Long projectId);
 
+    // Members of one listing page in a single query
+    @Query("SELECT new com.example.project.repo.ProjectMemberSummary(" +
+            "pm.id, pm.project.id, pm.employeeId, pm.role, pm.allocationPercent, pm.assignedAt) " +
+            "FROM ProjectMember pm WHERE pm.project.id IN :projectIds ORDER BY pm.id")
+    List<ProjectMemberSummary> findSummariesByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
 
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.example.project.repo;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model of a member of a listed project. The members of a whole listing page are selected into these
+ * in one query, keyed by {@code projectId}, instead of loading each project's lazy collection.
+ */
+public record ProjectMemberSummary(Long id, Long projectId, Long employeeId, String role, Integer allocationPercent,
+                                   LocalDateTime assignedAt) {
+}
@@ -2,9 +2,12 @@ package com.example.project.repo;
 
 import com.example.project.domain.Project;
 import com.example.project.domain.ProjectStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,15 +17,57 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectFieldsRepository {
 
-    @Query("SELECT p FROM Project p WHERE " +
+    // Shared by the paged, slice and count variants so they always agree on what matches
+    String FILTERS = " WHERE " +
             "(:status IS NULL OR p.status = :status) AND " +
             "(:from IS NULL OR p.startDate >= :from) AND " +
             "(:to IS NULL OR p.endDate <= :to) AND " +
             "(:code IS NULL OR UPPER(CAST(p.code AS string)) = UPPER(CAST(:code AS string))) AND " +
-            "(:name IS NULL OR UPPER(CAST(p.name AS string)) LIKE UPPER(CONCAT('%', CAST(:name AS string), '%')))")
-    Page<Project> findProjectsWithFilters(
+            "(:name IS NULL OR UPPER(CAST(p.name AS string)) LIKE UPPER(CONCAT('%', CAST(:name AS string), '%')))";
+
+    // Listings select straight into records instead of loading managed entities. The description
+    // (up to 2000 characters) is left out unless the caller asks for it
+    String SUMMARY = "SELECT new com.example.project.repo.ProjectSummary(" +
+            "p.id, p.code, p.name, p.status, p.startDate, p.endDate) FROM Project p";
+    String SUMMARY_WITH_DESCRIPTION = "SELECT new com.example.project.repo.ProjectSummary(" +
+            "p.id, p.code, p.name, p.description, p.status, p.startDate, p.endDate) FROM Project p";
+    String COUNT = "SELECT COUNT(p) FROM Project p";
+
+    @Query(value = SUMMARY + FILTERS, countQuery = COUNT + FILTERS)
+    Page<ProjectSummary> findProjectsWithFilters(
+            @Param("status") ProjectStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("code") String code,
+            @Param("name") String name,
+            Pageable pageable
+    );
+
+    @Query(value = SUMMARY_WITH_DESCRIPTION + FILTERS, countQuery = COUNT + FILTERS)
+    Page<ProjectSummary> findDescribedProjectsWithFilters(
+            @Param("status") ProjectStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("code") String code,
+            @Param("name") String name,
+            Pageable pageable
+    );
+
+    // Fetches one row past the page to fill hasNext; no count query
+    @Query(SUMMARY + FILTERS)
+    Slice<ProjectSummary> findProjectSliceWithFilters(
+            @Param("status") ProjectStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("code") String code,
+            @Param("name") String name,
+            Pageable pageable
+    );
+
+    @Query(SUMMARY_WITH_DESCRIPTION + FILTERS)
+    Slice<ProjectSummary> findDescribedProjectSliceWithFilters(
             @Param("status") ProjectStatus status,
             @Param("from") LocalDate from,
             @Param("to") LocalDate to,
@@ -31,6 +76,15 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             Pageable pageable
     );
 
+    @Query(COUNT + FILTERS)
+    long countProjectsWithFilters(
+            @Param("status") ProjectStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("code") String code,
+            @Param("name") String name
+    );
+
     boolean existsByCodeAndIdNot(String code, Long id);
 
 //    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.members WHERE p.id = :id")
@@ -40,12 +94,23 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p.code FROM Project p WHERE p.id = :id")
     Optional<String> findCodeById(@Param("id") Long id);
 
+    // Answers If-None-Match without loading the project or its members
+    @Query("SELECT p.version FROM Project p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Member rows are part of the project's representation, so adding or removing one moves its ETag.
+    // The bump goes through the managed entity at flush rather than a bulk UPDATE behind its back.
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findForMemberChange(@Param("id") Long id);
+
     @Query("SELECT p.status as label, COUNT(p) as count FROM Project p GROUP BY p.status ORDER BY p.status")
     List<ProjectStatProjection> countByStatus();
 
-    @Query("SELECT DATE_FORMAT(p.startDate, '%Y-%m') as label, COUNT(p) as count " +
+    // FORMAT renders per dialect (to_char on PostgreSQL); DATE_FORMAT only exists in MySQL
+    @Query("SELECT FORMAT(p.startDate AS 'yyyy-MM') as label, COUNT(p) as count " +
             "FROM Project p WHERE p.startDate IS NOT NULL " +
-            "GROUP BY DATE_FORMAT(p.startDate, '%Y-%m') " +
+            "GROUP BY FORMAT(p.startDate AS 'yyyy-MM') " +
             "ORDER BY MIN(p.startDate) DESC")
     List<ProjectStatProjection> countByStartMonth();
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.project.repo;
+
+import com.example.project.domain.ProjectStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Read model of a listed project, selected column by column with a JPQL constructor expression.
+ * Hibernate hands back plain records: nothing enters the persistence context and the lazy
+ * {@code members} collection is never touched. The description is only selected on request.
+ */
+public record ProjectSummary(Long id, String code, String name, String description, ProjectStatus status,
+                             LocalDate startDate, LocalDate endDate) {
+
+    public ProjectSummary(Long id, String code, String name, ProjectStatus status,
+                          LocalDate startDate, LocalDate endDate) {
+        this(id, code, name, null, status, startDate, endDate);
+    }
+}
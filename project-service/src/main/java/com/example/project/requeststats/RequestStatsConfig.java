@@ -0,0 +1,48 @@
+package com.example.project.requeststats;
+
+import feign.RequestInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RequestStatsProperties.class)
+public class RequestStatsConfig {
+
+    @Bean
+    public RequestStatsFilter requestStatsFilter(RequestStatsProperties properties, MeterRegistry meterRegistry) {
+        return new RequestStatsFilter(properties, meterRegistry);
+    }
+
+    // Hibernate prepares every statement it sends through the inspector and reports every entity it
+    // materialises to the interceptor, whether it comes from a query, a lazy load or a fetch join
+    @Bean
+    public HibernatePropertiesCustomizer requestStatsHibernateCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                RequestStats.statementPrepared(sql);
+                return sql;
+            });
+            hibernateProperties.put(AvailableSettings.INTERCEPTOR, new Interceptor() {
+                @Override
+                public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+                    RequestStats.entityLoaded();
+                    return false;
+                }
+            });
+        };
+    }
+
+    // Runs on the calling thread for every Feign request, before hedging fans it out
+    @Bean
+    public RequestInterceptor requestStatsFeignInterceptor() {
+        return template -> RequestStats.httpCallStarted(
+                template.methodMetadata() != null ? template.methodMetadata().configKey() : template.path());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.project.requeststats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Opens a {@link RequestStats} for every request and, once the response is done, records the counts
+ * per route, reports budget violations and statements or Feign methods that repeat often enough to
+ * look like an N+1.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestStatsFilter extends OncePerRequestFilter {
+
+    private final RequestStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        RequestStats stats = RequestStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStats stats) {
+        String uri = routeOf(request);
+        summary("request.jdbc.statements", request, uri).record(stats.getJdbcStatements());
+        summary("request.entity.loads", request, uri).record(stats.getEntityLoads());
+        summary("request.http.calls", request, uri).record(stats.getHttpCalls());
+
+        if (stats.getBudgetViolation() != null) {
+            log.warn(stats.getBudgetViolation());
+            meterRegistry.counter("request.budget.exceeded", "method", request.getMethod(), "uri", uri).increment();
+        }
+        reportRepeats(request, uri, "jdbc", stats.getStatementRepeats());
+        reportRepeats(request, uri, "http", stats.getHttpCallRepeats());
+    }
+
+    private void reportRepeats(HttpServletRequest request, String uri, String kind, Map<String, Integer> repeats) {
+        for (Map.Entry<String, Integer> repeat : repeats.entrySet()) {
+            if (repeat.getValue() >= properties.getRepeatThreshold()) {
+                log.warn("Suspected N+1 on {} {}: {} x {}", request.getMethod(), uri, repeat.getValue(), repeat.getKey());
+                meterRegistry.counter("request.n-plus-one", "method", request.getMethod(), "uri", uri, "kind", kind)
+                        .increment();
+            }
+        }
+    }
+
+    private DistributionSummary summary(String name, HttpServletRequest request, String uri) {
+        return DistributionSummary.builder(name)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+
+    static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -5,27 +5,62 @@ import com.example.project.dto.ProjectDTO;
 import com.example.project.dto.ProjectMemberDTO;
 import com.example.project.dto.ProjectPatchDTO;
 import com.example.project.dto.ProjectStatsDTO;
+import com.example.project.fields.FieldSet;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 public interface ProjectService {
-    Page<ProjectDTO> listProjects(ProjectStatus status, LocalDate from, LocalDate to, String code, String name, Pageable pageable);
+
+    // Properties of ProjectDTO a request may name in fields=; members only come with a single project
+    Set<String> FIELDS = Set.of("id", "code", "name", "description", "status", "startDate", "endDate");
+    Set<String> DETAIL_FIELDS = Set.of("id", "code", "name", "description", "status", "startDate", "endDate",
+            "members");
+
+    Page<ProjectDTO> listProjects(ProjectStatus status, LocalDate from, LocalDate to, String code, String name,
+                                  boolean includeDescription, Pageable pageable);
+
+    Slice<ProjectDTO> listProjectsSlice(ProjectStatus status, LocalDate from, LocalDate to, String code, String name,
+                                        boolean includeDescription, Pageable pageable);
+
+    // Select only the requested columns, whatever includeDescription would have chosen
+    Page<ProjectDTO> listProjects(ProjectStatus status, LocalDate from, LocalDate to, String code, String name,
+                                  FieldSet fields, Pageable pageable);
+
+    Slice<ProjectDTO> listProjectsSlice(ProjectStatus status, LocalDate from, LocalDate to, String code, String name,
+                                        FieldSet fields, Pageable pageable);
+
+    OptionalLong estimateTotal(ProjectStatus status, LocalDate from, LocalDate to, String code, String name);
 
     ProjectDTO getProjectById(Long id);
 
+    ProjectDTO getProjectById(Long id, FieldSet fields);
+
+    // The row version behind the ETag; empty when there is no such project
+    Optional<Long> getProjectVersion(Long id);
+
     @Transactional
     ProjectDTO createProject(ProjectDTO projectDTO);
 
     ProjectDTO updateProject(Long id, @Valid ProjectDTO projectDTO);
 
+    // ifMatch is the raw If-Match header; null writes unconditionally
+    ProjectDTO updateProject(Long id, @Valid ProjectDTO projectDTO, String ifMatch);
+
     @Transactional
     ProjectDTO patchProject(Long id, ProjectPatchDTO patchDTO);
 
+    @Transactional
+    ProjectDTO patchProject(Long id, ProjectPatchDTO patchDTO, String ifMatch);
+
     Page<ProjectMemberDTO> getProjectMembers(Long id, boolean enrich, Pageable pageable);
 
     @Transactional
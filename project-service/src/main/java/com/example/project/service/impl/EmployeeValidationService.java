@@ -7,6 +7,7 @@ import com.example.project.exception.ExternalServiceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class EmployeeValidationService {
 
+    @Lazy // built on the first call, see LazyInitBeanFactoryPostProcessor
     private final EmployeeServiceClient employeeServiceClient;
 
     /**
@@ -1,25 +1,38 @@
 package com.example.project.service.impl;
 
+import com.example.project.conditional.VersionTags;
 import com.example.project.domain.Project;
 import com.example.project.domain.ProjectMember;
 import com.example.project.domain.ProjectStatus;
 import com.example.project.dto.*;
 import com.example.project.exception.*;
+import com.example.project.fields.FieldSet;
+import com.example.project.listing.TotalEstimator;
 import com.example.project.mapper.ProjectMapper;
+import com.example.project.repo.ProjectFieldsRepository;
 import com.example.project.repo.ProjectMemberRepository;
+import com.example.project.repo.ProjectMemberSummary;
 import com.example.project.repo.ProjectRepository;
 import com.example.project.repo.ProjectStatProjection;
+import com.example.project.repo.ProjectSummary;
 import com.example.project.service.ProjectService;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -33,19 +46,79 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectMapper projectMapper;
     private final EmployeeValidationService employeeValidationService;
+    private final TotalEstimator totalEstimator;
 
     @Override
     public Page<ProjectDTO> listProjects(ProjectStatus status, LocalDate from, LocalDate to,
-                                         String code, String name, Pageable pageable) {
+                                         String code, String name, boolean includeDescription, Pageable pageable) {
 
-        log.debug("Service: Fetching projects with filters");
+        log.debug("Service: Fetching projects with filters, includeDescription={}", includeDescription);
 
-        Page<Project> projects = projectRepository.findProjectsWithFilters(
-                status, from, to, code, name, pageable);
+        // Records rather than entities: no persistence context entries and no lazy members to map
+        Page<ProjectSummary> projects = includeDescription
+                ? projectRepository.findDescribedProjectsWithFilters(status, from, to, code, name, pageable)
+                : projectRepository.findProjectsWithFilters(status, from, to, code, name, pageable);
 
         log.debug("Found {} projects", projects.getTotalElements());
 
-        return projects.map(projectMapper::toDTO);
+        Map<Long, List<ProjectMemberDTO>> members = membersOf(projects.getContent());
+        return projects.map(summary -> withMembers(summary, members));
+    }
+
+    @Override
+    public Slice<ProjectDTO> listProjectsSlice(ProjectStatus status, LocalDate from, LocalDate to,
+                                               String code, String name, boolean includeDescription,
+                                               Pageable pageable) {
+        log.debug("Service: Fetching project slice with filters, includeDescription={}", includeDescription);
+
+        Slice<ProjectSummary> projects = includeDescription
+                ? projectRepository.findDescribedProjectSliceWithFilters(status, from, to, code, name, pageable)
+                : projectRepository.findProjectSliceWithFilters(status, from, to, code, name, pageable);
+        Map<Long, List<ProjectMemberDTO>> members = membersOf(projects.getContent());
+        return projects.map(summary -> withMembers(summary, members));
+    }
+
+    // One query for the members of the whole page, where mapping entities loaded them project by project
+    private Map<Long, List<ProjectMemberDTO>> membersOf(List<ProjectSummary> projects) {
+        if (projects.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> projectIds = projects.stream().map(ProjectSummary::id).toList();
+        return projectMemberRepository.findSummariesByProjectIds(projectIds).stream()
+                .collect(Collectors.groupingBy(ProjectMemberSummary::projectId,
+                        Collectors.mapping(projectMapper::memberSummaryToDTO, Collectors.toList())));
+    }
+
+    private ProjectDTO withMembers(ProjectSummary summary, Map<Long, List<ProjectMemberDTO>> members) {
+        ProjectDTO project = projectMapper.summaryToDTO(summary);
+        project.setMembers(members.getOrDefault(summary.id(), new ArrayList<>()));
+        return project;
+    }
+
+    @Override
+    public Page<ProjectDTO> listProjects(ProjectStatus status, LocalDate from, LocalDate to,
+                                         String code, String name, FieldSet fields, Pageable pageable) {
+        log.debug("Service: Fetching projects with filters, fields={}", fields);
+
+        Set<String> columns = columns(fields);
+        return projectRepository.findProjectFieldsWithFilters(columns, status, from, to, code, name, pageable)
+                .map(row -> toDTO(row, columns));
+    }
+
+    @Override
+    public Slice<ProjectDTO> listProjectsSlice(ProjectStatus status, LocalDate from, LocalDate to,
+                                               String code, String name, FieldSet fields, Pageable pageable) {
+        log.debug("Service: Fetching project slice with filters, fields={}", fields);
+
+        Set<String> columns = columns(fields);
+        return projectRepository.findProjectFieldSliceWithFilters(columns, status, from, to, code, name, pageable)
+                .map(row -> toDTO(row, columns));
+    }
+
+    @Override
+    public OptionalLong estimateTotal(ProjectStatus status, LocalDate from, LocalDate to, String code, String name) {
+        return totalEstimator.estimate("project.projects", Arrays.asList(status, from, to, code, name),
+                () -> projectRepository.countProjectsWithFilters(status, from, to, code, name));
     }
 
     @Override
@@ -60,6 +133,31 @@ public class ProjectServiceImpl implements ProjectService {
         return projectMapper.toDTO(project);
     }
 
+    @Override
+    public ProjectDTO getProjectById(Long id, FieldSet fields) {
+        log.debug("Service: Fetching project with id: {}, fields: {}", id, fields);
+
+        // With only members requested the id is still read, to tell a missing project apart
+        Set<String> requested = columns(fields);
+        Set<String> columns = requested.isEmpty() ? Set.of("id") : requested;
+        ProjectDTO project = projectRepository.findProjectFieldsById(columns, id)
+                .map(row -> toDTO(row, columns))
+                .orElseThrow(() -> new ProjectNotFoundException(id));
+
+        // Members are their own query, run only when listed
+        if (fields.includes("members")) {
+            project.setMembers(projectMemberRepository.findByProject_Id(id, Pageable.unpaged())
+                    .map(projectMapper::memberToDTO)
+                    .getContent());
+        }
+        return project;
+    }
+
+    @Override
+    public Optional<Long> getProjectVersion(Long id) {
+        return projectRepository.findVersionById(id);
+    }
+
     @Transactional
     @Override
     public ProjectDTO createProject(ProjectDTO projectDTO) {
@@ -80,11 +178,18 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional
     public ProjectDTO updateProject(Long id, ProjectDTO projectDTO) {
+        return updateProject(id, projectDTO, null);
+    }
+
+    @Override
+    @Transactional
+    public ProjectDTO updateProject(Long id, ProjectDTO projectDTO, String ifMatch) {
         log.debug("Service: Updating project with id: {}", id);
 
-        // 1. Check if project exists
+        // 1. Check if project exists, in the version the client based its update on
         Project existingProject = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException(id));
+        checkIfMatch(ifMatch, existingProject);
 
         log.debug("Found existing project: {}", existingProject.getCode());
 
@@ -107,8 +212,8 @@ public class ProjectServiceImpl implements ProjectService {
         existingProject.setStartDate(projectDTO.getStartDate());
         existingProject.setEndDate(projectDTO.getEndDate());
 
-        // 4. Save updated project
-        Project updatedProject = projectRepository.save(existingProject);
+        // 4. Save updated project; flushed so the returned version is the new one
+        Project updatedProject = projectRepository.saveAndFlush(existingProject);
 
         log.info("Successfully updated project with id: {} and code: {}",
                 updatedProject.getId(), updatedProject.getCode());
@@ -119,11 +224,18 @@ public class ProjectServiceImpl implements ProjectService {
     @Transactional
     @Override
     public ProjectDTO patchProject(Long id, ProjectPatchDTO patchDTO) {
+        return patchProject(id, patchDTO, null);
+    }
+
+    @Transactional
+    @Override
+    public ProjectDTO patchProject(Long id, ProjectPatchDTO patchDTO, String ifMatch) {
         log.debug("Service: Patching project with id: {}", id);
 
-        // 1. Check if project exists
+        // 1. Check if project exists, in the version the client based its patch on
         Project existingProject = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException(id));
+        checkIfMatch(ifMatch, existingProject);
 
         log.debug("Found existing project: {}", existingProject.getCode());
 
@@ -172,7 +284,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         // 4. Save updated project
-        Project patchedProject = projectRepository.save(existingProject);
+        Project patchedProject = projectRepository.saveAndFlush(existingProject);
 
         log.info("Successfully patched project with id: {} and code: {}. Updated fields: [{}]",
                 patchedProject.getId(), patchedProject.getCode(), updatedFields.toString().trim());
@@ -277,8 +389,8 @@ public class ProjectServiceImpl implements ProjectService {
     public List<ProjectMemberDTO> addProjectMembers(Long projectId, List<ProjectMemberDTO> memberRequests) {
         log.debug("Service: Adding {} members to project {}", memberRequests.size(), projectId);
 
-        // 1. Validate project exists
-        Project project = projectRepository.findById(projectId)
+        // 1. Validate project exists; its version moves with the new members on commit
+        Project project = projectRepository.findForMemberChange(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
         // 2. Extract and validate unique employee IDs from request
@@ -362,10 +474,9 @@ public class ProjectServiceImpl implements ProjectService {
     public void removeProjectMember(Long projectId, Long employeeId) {
         log.debug("Service: Removing employee {} from project {}", employeeId, projectId);
 
-        // 1. Verify project exists (lightweight check)
-        if (!projectRepository.existsById(projectId)) {
-            throw new ProjectNotFoundException(projectId);
-        }
+        // 1. Verify project exists; its version moves with the removed member on commit
+        projectRepository.findForMemberChange(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
         // 2. Verify member exists in this project
         if (!projectMemberRepository.existsByProject_IdAndEmployeeId(projectId, employeeId)) {
@@ -462,4 +573,36 @@ public class ProjectServiceImpl implements ProjectService {
             return monthLabel; // Fallback to original label
         }
     }
-}
\ No newline at end of file
+
+    private static void checkIfMatch(String ifMatch, Project project) {
+        if (!VersionTags.matchHolds(ifMatch, project.getVersion())) {
+            throw new PreconditionFailedException(ifMatch, project.getVersion());
+        }
+    }
+
+    private static ProjectDTO toDTO(Tuple row, Set<String> columns) {
+        return ProjectDTO.builder()
+                .id(column(row, columns, "id", Long.class))
+                .code(column(row, columns, "code", String.class))
+                .name(column(row, columns, "name", String.class))
+                .description(column(row, columns, "description", String.class))
+                .status(column(row, columns, "status", ProjectStatus.class))
+                .startDate(column(row, columns, "startDate", LocalDate.class))
+                .endDate(column(row, columns, "endDate", LocalDate.class))
+                .build();
+    }
+
+    // The requested columns of the project row itself; members are not one of them
+    private static Set<String> columns(FieldSet fields) {
+        if (fields.isAll()) {
+            return ProjectFieldsRepository.ATTRIBUTES;
+        }
+        Set<String> columns = new HashSet<>(fields.names());
+        columns.retainAll(ProjectFieldsRepository.ATTRIBUTES);
+        return columns;
+    }
+
+    private static <T> T column(Tuple row, Set<String> columns, String attribute, Class<T> type) {
+        return columns.contains(attribute) ? row.get(attribute, type) : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.project.startup;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.MethodMetadata;
+
+/**
+ * Defers beans no request path needs at startup. springdoc's beans are created on the first
+ * {@code /v3/api-docs} or Swagger UI request. A Feign client, with its child context and the
+ * contract parsing of its interface, is built on the first remote call; the services inject the
+ * clients {@code @Lazy} so they do not pull them in early. Beans that declare {@code @Lazy(false)}
+ * are left alone.
+ */
+public class LazyInitBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (definition instanceof AbstractBeanDefinition bean && bean.getLazyInit() == null
+                    && (isSpringdoc(bean) || isFeignClient(bean))) {
+                bean.setLazyInit(true);
+            }
+        }
+    }
+
+    private static boolean isSpringdoc(AbstractBeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        if (className == null && definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            className = factoryMethod != null ? factoryMethod.getDeclaringClassName() : null;
+        }
+        return className != null && className.startsWith(SPRINGDOC_PACKAGE);
+    }
+
+    private static boolean isFeignClient(AbstractBeanDefinition definition) {
+        return definition.hasBeanClass()
+                && AnnotatedElementUtils.hasAnnotation(definition.getBeanClass(), FeignClient.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.project.startup;
+
+import com.example.project.client.EmployeeServiceClient;
+import com.example.project.dto.EmployeeDTO;
+import com.example.project.hedging.HedgingCapability;
+import com.example.project.logging.LogSamplingTurboFilter;
+import com.example.project.logging.RequestDebugTurboFilter;
+import com.example.project.repo.ProjectMemberSummary;
+import com.example.project.repo.ProjectSummary;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * Reachability metadata for the native image that the AOT engine cannot derive. Spring covers beans,
+ * controllers, configuration properties, the Feign client interfaces with their DTOs and the SQL
+ * migrations in the default Flyway location; the GraalVM metadata repository covers the libraries.
+ * Left are the types only ever reached reflectively. The MapStruct ProjectMapperImpl is an ordinary
+ * bean and Lombok builders are plain code, so neither needs any.
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    private static final String FLYWAY_PLUGINS = "META-INF/services/org.flywaydb.core.extensibility.Plugin";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // The @Lazy injection point resolves the Feign client through a JDK proxy
+        hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(EmployeeServiceClient.class));
+        // @Builder without @NoArgsConstructor: Jackson binds the package-private all-args constructor by parameter names
+        hints.reflection().registerType(EmployeeDTO.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        // Feign calls Capability.enrich reflectively
+        hints.reflection().registerType(HedgingCapability.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        // Hibernate instantiates the listing projections of the JPQL constructor expressions reflectively
+        hints.reflection().registerType(ProjectSummary.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(ProjectMemberSummary.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        // Logback creates the turbo filters of logback-spring.xml and calls their setters
+        hints.reflection().registerTypes(
+                TypeReference.listOf(LogSamplingTurboFilter.class, RequestDebugTurboFilter.class),
+                type -> type.withMembers(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        registerFlywayPlugins(hints, classLoader);
+    }
+
+    // Flyway finds its database support through ServiceLoader and binds configuration extensions reflectively
+    private static void registerFlywayPlugins(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern(FLYWAY_PLUGINS).registerPattern("org/flywaydb/core/internal/version.txt");
+        try {
+            for (URL url : Collections.list(classLoader.getResources(FLYWAY_PLUGINS))) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                            .forEach(plugin -> hints.reflection().registerType(TypeReference.of(plugin),
+                                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS,
+                                    MemberCategory.DECLARED_FIELDS));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + FLYWAY_PLUGINS, e);
+        }
+    }
+}
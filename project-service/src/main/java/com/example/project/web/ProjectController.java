@@ -1,7 +1,11 @@
 package com.example.project.web;
 
+import com.example.project.conditional.VersionTags;
 import com.example.project.dto.*;
 import com.example.project.domain.ProjectStatus;
+import com.example.project.fields.FieldSet;
+import com.example.project.fields.SparseFields;
+import com.example.project.listing.TotalEstimator;
 import com.example.project.service.ProjectService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 
 @RestController
@@ -36,8 +43,10 @@ public class ProjectController {
     private final ProjectService projectService;
 
     @GetMapping
+    @SparseFields
     @Operation(summary = "Get all projects with pagination and filtering",
-            description = "Retrieve a paginated list of projects with optional filtering by status, date range, code, and name")
+            description = "Retrieve a paginated list of projects with optional filtering by status, date range, code, and name. "
+                    + "Descriptions are only included with includeDescription=true; members are listed under /{id}/members")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved projects"),
             @ApiResponse(responseCode = "400", description = "Invalid request parameters")
@@ -53,16 +62,69 @@ public class ProjectController {
             @RequestParam(required = false) String code,
             @Parameter(description = "Filter by project name containing text", example = "Website")
             @RequestParam(required = false) String name,
+            @Parameter(description = "Include the project description (up to 2000 characters)", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            @Parameter(description = "Comma-separated properties to return, e.g. 'id,name'; overrides includeDescription",
+                    example = "id,code,name")
+            @RequestParam(required = false) String fields,
             @Parameter(description = "Pagination and sorting parameters (page, size, sort)",
                     example = "page=0&size=20&sort=id,asc")
             @PageableDefault(size = 20, sort = "id") Pageable pageable) {
 
-        log.debug("Listing projects with filters - status: {}, from: {}, to: {}, code: {}, name: {}",
-                status, from, to, code, name);
+        log.debug("Listing projects with filters - status: {}, from: {}, to: {}, code: {}, name: {}, fields: {}",
+                status, from, to, code, name, fields);
 
-        Page<ProjectDTO> projects = projectService.listProjects(status, from, to, code, name, pageable);
+        FieldSet selected = FieldSet.parse(fields, ProjectService.FIELDS);
+        Page<ProjectDTO> projects = selected.isAll()
+                ? projectService.listProjects(status, from, to, code, name, includeDescription, pageable)
+                : projectService.listProjects(status, from, to, code, name, selected, pageable);
         return ResponseEntity.ok(projects);
     }
+
+    @GetMapping(params = "count=false")
+    @SparseFields
+    @Operation(summary = "Get projects without a total count",
+            description = "Same filters as the paged listing, but skips the COUNT query and reports hasNext instead. "
+                    + "An approximate total, when available, is returned in the " + TotalEstimator.HEADER + " header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved projects"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    })
+    public ResponseEntity<SliceDTO<ProjectDTO>> listProjectsSliced(
+            @Parameter(description = "Filter by project status", example = "ACTIVE")
+            @RequestParam(required = false) ProjectStatus status,
+            @Parameter(description = "Filter by start date from (inclusive)", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Filter by start date to (inclusive)", example = "2024-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Filter by project code containing text", example = "WEB")
+            @RequestParam(required = false) String code,
+            @Parameter(description = "Filter by project name containing text", example = "Website")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Include the project description (up to 2000 characters)", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            @Parameter(description = "Set to false to skip the total count", example = "false")
+            @RequestParam boolean count,
+            @Parameter(description = "Comma-separated properties to return, e.g. 'id,name'; overrides includeDescription",
+                    example = "id,code,name")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Pagination and sorting parameters (page, size, sort)",
+                    example = "page=0&size=20&sort=id,asc")
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+
+        log.debug("Listing project slice with filters - status: {}, from: {}, to: {}, code: {}, name: {}, fields: {}",
+                status, from, to, code, name, fields);
+
+        FieldSet selected = FieldSet.parse(fields, ProjectService.FIELDS);
+        SliceDTO<ProjectDTO> projects = SliceDTO.of(selected.isAll()
+                ? projectService.listProjectsSlice(status, from, to, code, name, includeDescription, pageable)
+                : projectService.listProjectsSlice(status, from, to, code, name, selected, pageable));
+        OptionalLong total = projectService.estimateTotal(status, from, to, code, name);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        total.ifPresent(estimate -> response.header(TotalEstimator.HEADER, Long.toString(estimate)));
+        return response.body(projects);
+    }
     @PostMapping
     @Operation(summary = "Create new project", description = "Create a new project")
     @ApiResponses(value = {
@@ -83,18 +145,35 @@ public class ProjectController {
     }
 
     @GetMapping("/{id}")
+    @SparseFields
     @Operation(summary = "Get project by ID", description = "Retrieve a specific project by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved project"),
+            @ApiResponse(responseCode = "304", description = "Project unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Project not found")
     })
     public ResponseEntity<ProjectDTO> getProjectById(
             @Parameter(description = "Project ID", required = true, example = "1")
-            @PathVariable Long id) {
-        log.debug("Getting project with id: {}", id);
-
-        ProjectDTO project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to return, e.g. 'id,name'; members are only loaded when listed",
+                    example = "id,name,members")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "ETag of a copy the client holds; answered with 304 while it is current")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Getting project with id: {}, fields: {}", id, fields);
+
+        FieldSet selected = FieldSet.parse(fields, ProjectService.DETAIL_FIELDS);
+        // A sparse body differs from the full one at the same version, so only the full one is tagged
+        if (!selected.isAll()) {
+            return ResponseEntity.ok(projectService.getProjectById(id, selected));
+        }
+        if (ifNoneMatch != null) {
+            Optional<Long> version = projectService.getProjectVersion(id);
+            if (version.isPresent() && VersionTags.noneMatchHits(ifNoneMatch, version.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(VersionTags.of(version.get())).varyBy(HttpHeaders.ACCEPT).build();
+            }
+        }
+        return tagged(projectService.getProjectById(id));
     }
 
     @PutMapping("/{id}")
@@ -103,21 +182,24 @@ public class ProjectController {
             @ApiResponse(responseCode = "200", description = "Project updated successfully"),
             @ApiResponse(responseCode = "404", description = "Project not found"),
             @ApiResponse(responseCode = "400", description = "Invalid project data"),
-            @ApiResponse(responseCode = "409", description = "Project code conflicts with existing project")
+            @ApiResponse(responseCode = "409", description = "Project code conflicts with existing project"),
+            @ApiResponse(responseCode = "412", description = "Project changed since the ETag in If-Match")
     })
     public ResponseEntity<ProjectDTO> updateProject(
             @Parameter(description = "Project ID", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "Updated project data", required = true)
-            @Valid @RequestBody ProjectDTO projectDTO) {
+            @Valid @RequestBody ProjectDTO projectDTO,
+            @Parameter(description = "ETag the update is based on; without it the update is unconditional")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.debug("Updating project with id: {} and code: {}", id, projectDTO.getCode());
 
-        ProjectDTO updatedProject = projectService.updateProject(id, projectDTO);
+        ProjectDTO updatedProject = projectService.updateProject(id, projectDTO, ifMatch);
 
         log.info("Successfully updated project with id: {}", updatedProject.getId());
 
-        return ResponseEntity.ok(updatedProject);
+        return tagged(updatedProject);
     }
 
     @PatchMapping("/{id}")
@@ -126,21 +208,24 @@ public class ProjectController {
             @ApiResponse(responseCode = "200", description = "Project updated successfully"),
             @ApiResponse(responseCode = "404", description = "Project not found"),
             @ApiResponse(responseCode = "400", description = "Invalid data"),
-            @ApiResponse(responseCode = "409", description = "Project code conflicts")
+            @ApiResponse(responseCode = "409", description = "Project code conflicts"),
+            @ApiResponse(responseCode = "412", description = "Project changed since the ETag in If-Match")
     })
     public ResponseEntity<ProjectDTO> patchProject(
             @Parameter(description = "Project ID", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "Fields to update (null values are ignored)", required = true)
-            @Valid @RequestBody ProjectPatchDTO patchDTO){
+            @Valid @RequestBody ProjectPatchDTO patchDTO,
+            @Parameter(description = "ETag the patch is based on; without it the patch is unconditional")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
 
         log.debug("Patching project with id: {}", id);
 
-        ProjectDTO patchedProject = projectService.patchProject(id, patchDTO);
+        ProjectDTO patchedProject = projectService.patchProject(id, patchDTO, ifMatch);
 
         log.info("Successfully patched project with id: {}", patchedProject.getId());
 
-        return ResponseEntity.ok(patchedProject);
+        return tagged(patchedProject);
     }
     @GetMapping("/{id}/members")
     @Operation(summary = "Get project members",
@@ -277,4 +362,12 @@ public class ProjectController {
 
         return ResponseEntity.ok(stats);
     }
+
+    // The tag a client's next If-Match or If-None-Match names; untagged when the body has no version
+    private static ResponseEntity<ProjectDTO> tagged(ProjectDTO project) {
+        if (project.getVersion() == null) {
+            return ResponseEntity.ok(project);
+        }
+        return ResponseEntity.ok().eTag(VersionTags.of(project.getVersion())).varyBy(HttpHeaders.ACCEPT).body(project);
+    }
 }
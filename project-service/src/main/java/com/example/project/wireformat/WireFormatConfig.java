@@ -0,0 +1,41 @@
+package com.example.project.wireformat;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import feign.RequestInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CBOR as the body format between services. The converter serves {@code application/cbor} to requests
+ * that ask for it and is ordered after JSON, so browsers and the gateway's clients keep getting JSON.
+ * Feign decodes responses through the same converters, picking one by the response content type.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(WireFormatProperties.class)
+public class WireFormatConfig {
+
+    static final String ACCEPT = MediaType.APPLICATION_CBOR_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9";
+
+    // Built from Boot's builder so CBOR bodies get the same modules, mixins and date handling as JSON
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    // Picked up by every Feign client; a method that declares its own produces keeps it
+    @Bean
+    public RequestInterceptor cborAcceptHeader(WireFormatProperties properties) {
+        return template -> {
+            if (properties.isCbor() && !template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, ACCEPT);
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+-- V4__add_search_indexes.sql
+-- Indexes for the repository queries (checked by the query-plans module)
+
+-- Trigram index serves the UPPER(name) LIKE '%term%' filter; pg_trgm is a trusted extension
+-- The services share the database and migrate at the same time, so only one of them may create it at once
+SELECT pg_advisory_xact_lock(hashtext('pg_trgm'));
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+-- Exact code match in the duplicate check; uk_projects_code only covers UPPER(code)
+CREATE INDEX IF NOT EXISTS idx_projects_code ON project.projects (code);
+
+-- Name filter
+CREATE INDEX IF NOT EXISTS idx_projects_name_trgm ON project.projects USING gin (UPPER(name) public.gin_trgm_ops);
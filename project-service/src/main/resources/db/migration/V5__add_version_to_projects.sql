@@ -0,0 +1,5 @@
+-- V5__add_version_to_projects.sql
+-- Row version for optimistic locking; the API derives ETags from it
+-- Member changes bump it too, since the project representation lists the members
+ALTER TABLE project.projects
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
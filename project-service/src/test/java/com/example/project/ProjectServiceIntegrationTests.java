@@ -6,7 +6,9 @@ import com.example.project.domain.ProjectMember;
 import com.example.project.domain.ProjectStatus;
 import com.example.project.dto.*;
 import com.example.project.repo.ProjectMemberRepository;
+import com.example.project.repo.ProjectMemberSummary;
 import com.example.project.repo.ProjectRepository;
+import com.example.project.repo.ProjectSummary;
 import com.example.project.repo.ProjectStatProjection;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -161,6 +163,12 @@ class ProjectServiceIntegrationTest {
                 .build();
     }
 
+    private static List<ProjectSummary> summaries(List<Project> projects) {
+        return projects.stream()
+                .map(p -> new ProjectSummary(p.getId(), p.getCode(), p.getName(), p.getStatus(), p.getStartDate(), p.getEndDate()))
+                .toList();
+    }
+
     // ========================================
     // LIST PROJECTS TESTS
     // ========================================
@@ -170,11 +178,13 @@ class ProjectServiceIntegrationTest {
     void listProjects_ShouldReturnPaginatedResults() {
         // Arrange
         List<Project> projects = List.of(sampleProject1, sampleProject2, sampleProject3);
-        Page<Project> projectPage = new PageImpl<>(projects, PageRequest.of(0, 20), 3);
+        Page<ProjectSummary> projectPage = new PageImpl<>(summaries(projects), PageRequest.of(0, 20), 3);
 
         when(projectRepository.findProjectsWithFilters(
                 isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(projectPage);
+        when(projectMemberRepository.findSummariesByProjectIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new ProjectMemberSummary(10L, 1L, 100L, "Developer", 80, null)));
 
         // Act
         ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
@@ -199,6 +209,10 @@ class ProjectServiceIntegrationTest {
         assertThat(firstProject.get("code")).isEqualTo("WEB-2024");
         assertThat(firstProject.get("name")).isEqualTo("Website Redesign");
         assertThat(firstProject.get("status")).isEqualTo("ACTIVE");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> members = (List<Map<String, Object>>) firstProject.get("members");
+        assertThat(members).singleElement().satisfies(member -> assertThat(member.get("employeeId")).isEqualTo(100));
+        assertThat(content.get(1).get("members")).isEqualTo(List.of());
     }
 
     @Test
@@ -206,7 +220,7 @@ class ProjectServiceIntegrationTest {
     void listProjects_WithStatusFilter_ShouldReturnFilteredResults() {
         // Arrange
         List<Project> filteredProjects = List.of(sampleProject1);
-        Page<Project> projectPage = new PageImpl<>(filteredProjects, PageRequest.of(0, 20), 1);
+        Page<ProjectSummary> projectPage = new PageImpl<>(summaries(filteredProjects), PageRequest.of(0, 20), 1);
 
         when(projectRepository.findProjectsWithFilters(
                 eq(ProjectStatus.ACTIVE), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
@@ -233,7 +247,7 @@ class ProjectServiceIntegrationTest {
     void listProjects_WithDateRangeFilter_ShouldReturnFilteredResults() {
         // Arrange
         List<Project> filteredProjects = List.of(sampleProject1, sampleProject2);
-        Page<Project> projectPage = new PageImpl<>(filteredProjects, PageRequest.of(0, 20), 2);
+        Page<ProjectSummary> projectPage = new PageImpl<>(summaries(filteredProjects), PageRequest.of(0, 20), 2);
 
         LocalDate from = LocalDate.of(2024, 1, 1);
         LocalDate to = LocalDate.of(2024, 12, 31);
@@ -262,7 +276,7 @@ class ProjectServiceIntegrationTest {
     void listProjects_WithCodeFilter_ShouldReturnFilteredResults() {
         // Arrange
         List<Project> filteredProjects = List.of(sampleProject1);
-        Page<Project> projectPage = new PageImpl<>(filteredProjects, PageRequest.of(0, 20), 1);
+        Page<ProjectSummary> projectPage = new PageImpl<>(summaries(filteredProjects), PageRequest.of(0, 20), 1);
 
         when(projectRepository.findProjectsWithFilters(
                 isNull(), isNull(), isNull(), eq("WEB-2024"), isNull(), any(Pageable.class)))
@@ -349,7 +363,7 @@ class ProjectServiceIntegrationTest {
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(sampleProject1));
         when(projectRepository.existsByCodeAndIdNot("WEB-2024-UPDATED", 1L)).thenReturn(false);
-        when(projectRepository.save(any(Project.class))).thenReturn(updatedProject);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(updatedProject);
 
         ProjectDTO updateDto = ProjectDTO.builder()
                 .code("WEB-2024-UPDATED")
@@ -454,7 +468,7 @@ class ProjectServiceIntegrationTest {
                 .build();
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(sampleProject1));
-        when(projectRepository.save(any(Project.class))).thenReturn(patchedProject);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(patchedProject);
 
         ProjectPatchDTO patchDto = ProjectPatchDTO.builder()
                 .description("Updated description only")
@@ -656,7 +670,7 @@ class ProjectServiceIntegrationTest {
     @DisplayName("POST /projects/{id}/members - should add members successfully")
     void addProjectMembers_WithValidData_ShouldAddSuccessfully() {
         // Arrange
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(sampleProject1));
+        when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(sampleProject1));
         when(employeeServiceClient.getEmployeeBasic(101L)).thenReturn(sampleEmployee1);
         when(employeeServiceClient.getEmployeeBasic(102L)).thenReturn(sampleEmployee2);
         when(projectMemberRepository.existsByProject_IdAndEmployeeId(1L, 101L)).thenReturn(false);
@@ -724,7 +738,7 @@ class ProjectServiceIntegrationTest {
     @DisplayName("POST /projects/{id}/members - should return 409 when employee already member")
     void addProjectMembers_WithExistingMember_ShouldReturn409() {
         // Arrange
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(sampleProject1));
+        when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(sampleProject1));
         when(employeeServiceClient.getEmployeeBasic(101L)).thenReturn(sampleEmployee1);
         when(projectMemberRepository.existsByProject_IdAndEmployeeId(1L, 101L)).thenReturn(true);
 
@@ -761,7 +775,7 @@ class ProjectServiceIntegrationTest {
     @DisplayName("DELETE /projects/{id}/members/{employeeId} - should remove member successfully")
     void removeProjectMember_WhenMemberExists_ShouldRemoveSuccessfully() {
         // Arrange
-        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(sampleProject1));
         when(projectMemberRepository.existsByProject_IdAndEmployeeId(1L, 101L)).thenReturn(true);
 
         // Act
@@ -780,7 +794,7 @@ class ProjectServiceIntegrationTest {
     @DisplayName("DELETE /projects/{id}/members/{employeeId} - should return 404 when member not found")
     void removeProjectMember_WhenMemberNotExists_ShouldReturn404() {
         // Arrange
-        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(sampleProject1));
         when(projectMemberRepository.existsByProject_IdAndEmployeeId(1L, 999L)).thenReturn(false);
 
         // Act
@@ -0,0 +1,176 @@
+package com.example.project.requeststats;
+
+import com.example.project.domain.Project;
+import com.example.project.domain.ProjectMember;
+import com.example.project.domain.ProjectStatus;
+import com.example.project.repo.ProjectMemberRepository;
+import com.example.project.repo.ProjectRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the member endpoints on H2 and the real Feign client against a stub employee-service, with the budgets
+ * from project-service.yaml enforced, so a change that adds statements or remote calls fails here.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:request-stats;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS project",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "eureka.client.enabled=false",
+                "request-stats.response-headers=true",
+                "request-stats.fail-on-budget-exceeded=true",
+                "request-stats.budgets[0].endpoint=GET /api/v1/projects/{id}/members",
+                "request-stats.budgets[0].jdbc-statements=3",
+                "request-stats.budgets[0].http-calls=20",
+                "request-stats.budgets[1].endpoint=POST /api/v1/projects/{projectId}/members",
+                "request-stats.budgets[1].jdbc-statements=42",
+                "request-stats.budgets[1].http-calls=20"
+        }
+)
+@DisplayName("Request stats Integration Tests")
+class RequestStatsIntegrationTest {
+
+    private static final AtomicInteger employeeCalls = new AtomicInteger();
+    private static HttpServer employeeService;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    private Project apollo;
+
+    @DynamicPropertySource
+    static void employeeService(DynamicPropertyRegistry registry) throws IOException {
+        employeeService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        employeeService.createContext("/api/v1/employees/", exchange -> {
+            employeeCalls.incrementAndGet();
+            String id = exchange.getRequestURI().getPath().replaceAll(".*/", "");
+            byte[] body = ("{\"id\":" + id + ",\"firstName\":\"Employee\",\"lastName\":\"" + id
+                    + "\",\"email\":\"employee" + id + "@example.com\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        employeeService.start();
+        registry.add("spring.cloud.discovery.client.simple.instances.EMPLOYEE-SERVICE[0].uri",
+                () -> "http://localhost:" + employeeService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopEmployeeService() {
+        employeeService.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        projectMemberRepository.deleteAll();
+        projectRepository.deleteAll();
+        apollo = projectRepository.save(Project.builder()
+                .code("APOLLO")
+                .name("Apollo")
+                .status(ProjectStatus.ACTIVE)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .build());
+        for (long employeeId = 101; employeeId <= 105; employeeId++) {
+            projectMemberRepository.save(member(apollo, employeeId));
+        }
+        employeeCalls.set(0);
+    }
+
+    private static ProjectMember member(Project project, Long employeeId) {
+        return ProjectMember.builder()
+                .project(project)
+                .employeeId(employeeId)
+                .role("DEVELOPER")
+                .allocationPercent(50)
+                .build();
+    }
+
+    private static int header(ResponseEntity<?> response, String name) {
+        return Integer.parseInt(response.getHeaders().getFirst(name));
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/projects/{id}/members Budget Tests")
+    class GetMembersTests {
+
+        @Test
+        @DisplayName("Should check the project and read one page of members without remote calls")
+        void shouldReadMembersWithinBudget() {
+            ResponseEntity<String> response = restTemplate.getForEntity(
+                    "/api/v1/projects/" + apollo.getId() + "/members", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(header(response, RequestStatsResponseAdvice.JDBC_STATEMENTS_HEADER)).isEqualTo(2);
+            assertThat(header(response, RequestStatsResponseAdvice.HTTP_CALLS_HEADER)).isZero();
+            assertThat(employeeCalls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Should call employee-service once per member of the page when enriching")
+        void shouldEnrichMembersWithinBudget() {
+            ResponseEntity<String> response = restTemplate.getForEntity(
+                    "/api/v1/projects/" + apollo.getId() + "/members?enrich=true", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(header(response, RequestStatsResponseAdvice.JDBC_STATEMENTS_HEADER)).isEqualTo(2);
+            assertThat(header(response, RequestStatsResponseAdvice.HTTP_CALLS_HEADER)).isEqualTo(5);
+            assertThat(employeeCalls).hasValue(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/projects/{projectId}/members Budget Tests")
+    class AddMembersTests {
+
+        // Project read, a duplicate check and an insert per member, then the version bump
+        @Test
+        @DisplayName("Should add members within budget and move the project's version once")
+        void shouldAddMembersWithinBudget() {
+            long versionBefore = projectRepository.findVersionById(apollo.getId()).orElseThrow();
+            List<Map<String, Object>> request = List.of(
+                    Map.of("employeeId", 201, "role", "TESTER", "allocationPercent", 50),
+                    Map.of("employeeId", 202, "role", "TESTER", "allocationPercent", 50));
+
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    "/api/v1/projects/" + apollo.getId() + "/members", request, String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(header(response, RequestStatsResponseAdvice.JDBC_STATEMENTS_HEADER)).isEqualTo(6);
+            assertThat(header(response, RequestStatsResponseAdvice.HTTP_CALLS_HEADER)).isEqualTo(2);
+            assertThat(projectMemberRepository.count()).isEqualTo(7);
+            assertThat(projectRepository.findVersionById(apollo.getId())).contains(versionBefore + 1);
+        }
+    }
+}
@@ -5,11 +5,15 @@ import com.example.project.domain.ProjectMember;
 import com.example.project.domain.ProjectStatus;
 import com.example.project.dto.*;
 import com.example.project.exception.*;
+import com.example.project.fields.FieldSet;
 import com.example.project.mapper.ProjectMapper;
 import com.example.project.repo.ProjectMemberRepository;
 import com.example.project.repo.ProjectRepository;
 import com.example.project.repo.ProjectStatProjection;
+import com.example.project.repo.ProjectMemberSummary;
+import com.example.project.repo.ProjectSummary;
 import com.example.project.service.ProjectService;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -101,6 +105,11 @@ class ProjectServiceImplTest {
                 .build();
     }
 
+    private static ProjectSummary summary(Project p) {
+        return new ProjectSummary(p.getId(), p.getCode(), p.getName(), p.getDescription(), p.getStatus(),
+                p.getStartDate(), p.getEndDate());
+    }
+
     @Nested
     @DisplayName("listProjects() Tests")
     class ListProjectsTests {
@@ -110,17 +119,18 @@ class ProjectServiceImplTest {
         void shouldReturnPaginatedProjectsWithFilters() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Project> projectPage = new PageImpl<>(List.of(testProject));
+            ProjectSummary summary = summary(testProject);
+            Page<ProjectSummary> projectPage = new PageImpl<>(List.of(summary));
             when(projectRepository.findProjectsWithFilters(
                     eq(ProjectStatus.ACTIVE), any(LocalDate.class), any(LocalDate.class),
                     eq("PROJ-001"), eq("Test"), eq(pageable)
             )).thenReturn(projectPage);
-            when(projectMapper.toDTO(testProject)).thenReturn(testProjectDTO);
+            when(projectMapper.summaryToDTO(summary)).thenReturn(testProjectDTO);
 
             // When
             Page<ProjectDTO> result = projectService.listProjects(
                     ProjectStatus.ACTIVE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31),
-                    "PROJ-001", "Test", pageable
+                    "PROJ-001", "Test", false, pageable
             );
 
             // Then
@@ -130,7 +140,47 @@ class ProjectServiceImplTest {
                     eq(ProjectStatus.ACTIVE), any(LocalDate.class), any(LocalDate.class),
                     eq("PROJ-001"), eq("Test"), eq(pageable)
             );
-            verify(projectMapper).toDTO(testProject);
+            verify(projectMapper).summaryToDTO(summary);
+            verify(projectRepository, never()).findDescribedProjectsWithFilters(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should attach the members of the whole page from one query")
+        void shouldAttachMembersFromOneQuery() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            ProjectSummary summary = summary(testProject);
+            ProjectMemberSummary member = new ProjectMemberSummary(1L, 1L, 100L, "DEVELOPER", 80, null);
+            when(projectRepository.findProjectsWithFilters(any(), any(), any(), any(), any(), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(summary)));
+            when(projectMemberRepository.findSummariesByProjectIds(List.of(1L))).thenReturn(List.of(member));
+            when(projectMapper.summaryToDTO(summary)).thenReturn(testProjectDTO);
+            when(projectMapper.memberSummaryToDTO(member)).thenReturn(testProjectMemberDTO);
+
+            // When
+            Page<ProjectDTO> result = projectService.listProjects(null, null, null, null, null, false, pageable);
+
+            // Then
+            assertThat(result.getContent().get(0).getMembers()).containsExactly(testProjectMemberDTO);
+            verify(projectMemberRepository).findSummariesByProjectIds(List.of(1L));
+            verifyNoMoreInteractions(projectMemberRepository);
+        }
+
+        @Test
+        @DisplayName("Should select descriptions only when asked for")
+        void shouldSelectDescriptionsOnRequest() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            when(projectRepository.findDescribedProjectsWithFilters(any(), any(), any(), any(), any(), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(summary(testProject))));
+            when(projectMapper.summaryToDTO(any())).thenReturn(testProjectDTO);
+
+            // When
+            projectService.listProjects(null, null, null, null, null, true, pageable);
+
+            // Then
+            verify(projectRepository).findDescribedProjectsWithFilters(isNull(), isNull(), isNull(), isNull(), isNull(), eq(pageable));
+            verify(projectRepository, never()).findProjectsWithFilters(any(), any(), any(), any(), any(), any());
         }
 
         @Test
@@ -138,13 +188,13 @@ class ProjectServiceImplTest {
         void shouldReturnEmptyPageWhenNoProjectsFound() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Project> emptyPage = new PageImpl<>(Collections.emptyList());
+            Page<ProjectSummary> emptyPage = new PageImpl<>(Collections.emptyList());
             when(projectRepository.findProjectsWithFilters(any(), any(), any(), any(), any(), any()))
                     .thenReturn(emptyPage);
 
             // When
             Page<ProjectDTO> result = projectService.listProjects(
-                    null, null, null, null, null, pageable
+                    null, null, null, null, null, false, pageable
             );
 
             // Then
@@ -185,6 +235,54 @@ class ProjectServiceImplTest {
                     .isInstanceOf(ProjectNotFoundException.class);
             verify(projectRepository).findById(999L);
         }
+
+        @Test
+        @DisplayName("Should read only the requested columns and leave members alone")
+        void shouldReadRequestedColumnsOnly() {
+            // Given
+            Tuple row = mock(Tuple.class);
+            when(row.get("name", String.class)).thenReturn("Test Project");
+            when(projectRepository.findProjectFieldsById(Set.of("name"), 1L)).thenReturn(Optional.of(row));
+
+            // When
+            ProjectDTO result = projectService.getProjectById(1L, FieldSet.parse("name", ProjectService.DETAIL_FIELDS));
+
+            // Then
+            assertThat(result.getName()).isEqualTo("Test Project");
+            assertThat(result.getCode()).isNull();
+            assertThat(result.getMembers()).isNull();
+            verify(projectRepository, never()).findById(any());
+            verifyNoInteractions(projectMemberRepository);
+        }
+
+        @Test
+        @DisplayName("Should load members only when they are requested")
+        void shouldLoadMembersWhenRequested() {
+            // Given
+            when(projectRepository.findProjectFieldsById(Set.of("id"), 1L)).thenReturn(Optional.of(mock(Tuple.class)));
+            when(projectMemberRepository.findByProject_Id(1L, Pageable.unpaged()))
+                    .thenReturn(new PageImpl<>(List.of(testProjectMember)));
+            when(projectMapper.memberToDTO(testProjectMember)).thenReturn(testProjectMemberDTO);
+
+            // When
+            ProjectDTO result = projectService.getProjectById(1L, FieldSet.parse("members", ProjectService.DETAIL_FIELDS));
+
+            // Then
+            assertThat(result.getMembers()).containsExactly(testProjectMemberDTO);
+        }
+
+        @Test
+        @DisplayName("Should throw ProjectNotFoundException when a sparse read finds no project")
+        void shouldThrowWhenSparseReadFindsNothing() {
+            // Given
+            when(projectRepository.findProjectFieldsById(Set.of("id"), 999L)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> projectService.getProjectById(999L,
+                    FieldSet.parse("members", ProjectService.DETAIL_FIELDS)))
+                    .isInstanceOf(ProjectNotFoundException.class);
+            verifyNoInteractions(projectMemberRepository);
+        }
     }
 
     @Nested
@@ -288,7 +386,7 @@ class ProjectServiceImplTest {
 
             when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
             when(projectRepository.existsByCodeAndIdNot("PROJ-001-UPDATED", 1L)).thenReturn(false);
-            when(projectRepository.save(any(Project.class))).thenReturn(updatedProject);
+            when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(updatedProject);
             when(projectMapper.toDTO(updatedProject)).thenReturn(updatedProjectDTO);
 
             // When
@@ -300,7 +398,7 @@ class ProjectServiceImplTest {
             assertThat(result.getName()).isEqualTo("Updated Project");
             verify(projectRepository).findById(1L);
             verify(projectRepository).existsByCodeAndIdNot("PROJ-001-UPDATED", 1L);
-            verify(projectRepository).save(any(Project.class));
+            verify(projectRepository).saveAndFlush(any(Project.class));
         }
 
         @Test
@@ -313,7 +411,7 @@ class ProjectServiceImplTest {
             assertThatThrownBy(() -> projectService.updateProject(999L, testProjectDTO))
                     .isInstanceOf(ProjectNotFoundException.class);
             verify(projectRepository).findById(999L);
-            verify(projectRepository, never()).save(any(Project.class));
+            verify(projectRepository, never()).saveAndFlush(any(Project.class));
         }
 
         @Test
@@ -334,7 +432,7 @@ class ProjectServiceImplTest {
                     .hasMessageContaining("Project code already exists");
             verify(projectRepository).findById(1L);
             verify(projectRepository).existsByCodeAndIdNot("EXISTING-CODE", 1L);
-            verify(projectRepository, never()).save(any(Project.class));
+            verify(projectRepository, never()).saveAndFlush(any(Project.class));
         }
     }
 
@@ -371,7 +469,7 @@ class ProjectServiceImplTest {
                     .build();
 
             when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-            when(projectRepository.save(any(Project.class))).thenReturn(patchedProject);
+            when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(patchedProject);
             when(projectMapper.toDTO(patchedProject)).thenReturn(patchedProjectDTO);
 
             // When
@@ -383,7 +481,7 @@ class ProjectServiceImplTest {
             assertThat(result.getStatus()).isEqualTo(ProjectStatus.ON_HOLD);
             assertThat(result.getCode()).isEqualTo("PROJ-001"); // unchanged
             verify(projectRepository).findById(1L);
-            verify(projectRepository).save(any(Project.class));
+            verify(projectRepository).saveAndFlush(any(Project.class));
         }
 
         @Test
@@ -418,6 +516,42 @@ class ProjectServiceImplTest {
             verify(projectRepository).findById(1L);
             verify(projectRepository).existsByCodeAndIdNot("EXISTING-CODE", 1L);
         }
+
+        @Test
+        @DisplayName("Should patch when If-Match names the current version")
+        void shouldPatchWhenIfMatchIsCurrent() {
+            // Given
+            ProjectPatchDTO patchDTO = new ProjectPatchDTO();
+            patchDTO.setName("Patched Name");
+            testProject.setVersion(3L);
+
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+            when(projectRepository.saveAndFlush(testProject)).thenReturn(testProject);
+            when(projectMapper.toDTO(testProject)).thenReturn(testProjectDTO);
+
+            // When
+            projectService.patchProject(1L, patchDTO, "\"3\"");
+
+            // Then
+            verify(projectRepository).saveAndFlush(testProject);
+        }
+
+        @Test
+        @DisplayName("Should throw PreconditionFailedException when If-Match names an older version")
+        void shouldThrowPreconditionFailedWhenIfMatchIsStale() {
+            // Given
+            ProjectPatchDTO patchDTO = new ProjectPatchDTO();
+            patchDTO.setName("Patched Name");
+            testProject.setVersion(4L);
+
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+
+            // When & Then
+            assertThatThrownBy(() -> projectService.patchProject(1L, patchDTO, "\"3\""))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasMessageContaining("\"4\"");
+            verify(projectRepository, never()).saveAndFlush(any(Project.class));
+        }
     }
 
     @Nested
@@ -582,7 +716,7 @@ class ProjectServiceImplTest {
                     ProjectMemberDTO.builder().id(2L).employeeId(200L).build()
             );
 
-            when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+            when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(testProject));
             when(employeeValidationService.validateEmployeesExist(employeeIds))
                     .thenReturn(validatedEmployees);
             when(projectMemberRepository.existsByProject_IdAndEmployeeId(1L, 100L)).thenReturn(false);
@@ -598,7 +732,7 @@ class ProjectServiceImplTest {
             assertThat(result).hasSize(2);
             assertThat(result.get(0).getEmployeeId()).isEqualTo(100L);
             assertThat(result.get(1).getEmployeeId()).isEqualTo(200L);
-            verify(projectRepository).findById(1L);
+            verify(projectRepository).findForMemberChange(1L);
             verify(employeeValidationService).validateEmployeesExist(employeeIds);
             verify(projectMemberRepository).saveAll(any());
         }
@@ -608,12 +742,12 @@ class ProjectServiceImplTest {
         void shouldThrowProjectNotFoundExceptionWhenProjectDoesNotExist() {
             // Given
             List<ProjectMemberDTO> memberRequests = List.of(testProjectMemberDTO);
-            when(projectRepository.findById(999L)).thenReturn(Optional.empty());
+            when(projectRepository.findForMemberChange(999L)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> projectService.addProjectMembers(999L, memberRequests))
                     .isInstanceOf(ProjectNotFoundException.class);
-            verify(projectRepository).findById(999L);
+            verify(projectRepository).findForMemberChange(999L);
         }
 
         @Test
@@ -625,13 +759,13 @@ class ProjectServiceImplTest {
                     ProjectMemberDTO.builder().employeeId(100L).build() // duplicate
             );
 
-            when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+            when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(testProject));
 
             // When & Then
             assertThatThrownBy(() -> projectService.addProjectMembers(1L, memberRequests))
                     .isInstanceOf(BusinessConflictException.class)
                     .hasMessageContaining("Duplicate employee IDs in request");
-            verify(projectRepository).findById(1L);
+            verify(projectRepository).findForMemberChange(1L);
         }
 
         @Test
@@ -642,7 +776,7 @@ class ProjectServiceImplTest {
             Set<Long> employeeIds = Set.of(100L);
             List<EmployeeDTO> validatedEmployees = List.of(testEmployeeDTO);
 
-            when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+            when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(testProject));
             when(employeeValidationService.validateEmployeesExist(employeeIds))
                     .thenReturn(validatedEmployees);
             when(projectMemberRepository.existsByProject_IdAndEmployeeId(1L, 100L)).thenReturn(true);
@@ -660,7 +794,7 @@ class ProjectServiceImplTest {
             List<ProjectMemberDTO> memberRequests = List.of(testProjectMemberDTO);
             Set<Long> employeeIds = Set.of(100L);
 
-            when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+            when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(testProject));
             when(employeeValidationService.validateEmployeesExist(employeeIds))
                     .thenThrow(new ExternalServiceNotFoundException("Employee not found", "EmployeeService"));
 
@@ -679,14 +813,14 @@ class ProjectServiceImplTest {
         @DisplayName("Should remove project member successfully")
         void shouldRemoveProjectMemberSuccessfully() {
             // Given
-            when(projectRepository.existsById(1L)).thenReturn(true);
+            when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(testProject));
             when(projectMemberRepository.existsByProject_IdAndEmployeeId(1L, 100L)).thenReturn(true);
 
             // When
             projectService.removeProjectMember(1L, 100L);
 
             // Then
-            verify(projectRepository).existsById(1L);
+            verify(projectRepository).findForMemberChange(1L);
             verify(projectMemberRepository).existsByProject_IdAndEmployeeId(1L, 100L);
             verify(projectMemberRepository).deleteByProject_IdAndEmployeeId(1L, 100L);
         }
@@ -695,25 +829,25 @@ class ProjectServiceImplTest {
         @DisplayName("Should throw ProjectNotFoundException when project does not exist")
         void shouldThrowProjectNotFoundExceptionWhenProjectDoesNotExist() {
             // Given
-            when(projectRepository.existsById(999L)).thenReturn(false);
+            when(projectRepository.findForMemberChange(999L)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> projectService.removeProjectMember(999L, 100L))
                     .isInstanceOf(ProjectNotFoundException.class);
-            verify(projectRepository).existsById(999L);
+            verify(projectRepository).findForMemberChange(999L);
         }
 
         @Test
         @DisplayName("Should throw ProjectMemberNotFoundException when member does not exist")
         void shouldThrowProjectMemberNotFoundExceptionWhenMemberDoesNotExist() {
             // Given
-            when(projectRepository.existsById(1L)).thenReturn(true);
+            when(projectRepository.findForMemberChange(1L)).thenReturn(Optional.of(testProject));
             when(projectMemberRepository.existsByProject_IdAndEmployeeId(1L, 999L)).thenReturn(false);
 
             // When & Then
             assertThatThrownBy(() -> projectService.removeProjectMember(1L, 999L))
                     .isInstanceOf(ProjectMemberNotFoundException.class);
-            verify(projectRepository).existsById(1L);
+            verify(projectRepository).findForMemberChange(1L);
             verify(projectMemberRepository).existsByProject_IdAndEmployeeId(1L, 999L);
         }
     }
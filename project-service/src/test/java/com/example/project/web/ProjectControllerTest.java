@@ -22,10 +22,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -89,7 +92,7 @@ class ProjectControllerTest {
                     PageRequest.of(0, 20),
                     1
             );
-            when(projectService.listProjects(any(), any(), any(), any(), any(), any(Pageable.class)))
+            when(projectService.listProjects(any(), any(), any(), any(), any(), anyBoolean(), any(Pageable.class)))
                     .thenReturn(projectPage);
 
             // When & Then
@@ -105,7 +108,7 @@ class ProjectControllerTest {
                     .andExpect(jsonPath("$.totalElements").value(1))
                     .andExpect(jsonPath("$.size").value(20));
 
-            verify(projectService).listProjects(any(), any(), any(), any(), any(), any(Pageable.class));
+            verify(projectService).listProjects(any(), any(), any(), any(), any(), eq(false), any(Pageable.class));
         }
 
         @Test
@@ -113,7 +116,7 @@ class ProjectControllerTest {
         void shouldFilterProjectsByStatus() throws Exception {
             // Given
             PageImpl<ProjectDTO> projectPage = new PageImpl<>(List.of(sampleProject));
-            when(projectService.listProjects(eq(ProjectStatus.ACTIVE), any(), any(), any(), any(), any(Pageable.class)))
+            when(projectService.listProjects(eq(ProjectStatus.ACTIVE), any(), any(), any(), any(), anyBoolean(), any(Pageable.class)))
                     .thenReturn(projectPage);
 
             // When & Then
@@ -122,7 +125,7 @@ class ProjectControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.content[0].status").value("ACTIVE"));
 
-            verify(projectService).listProjects(eq(ProjectStatus.ACTIVE), any(), any(), any(), any(), any(Pageable.class));
+            verify(projectService).listProjects(eq(ProjectStatus.ACTIVE), any(), any(), any(), any(), anyBoolean(), any(Pageable.class));
         }
 
         @Test
@@ -130,7 +133,7 @@ class ProjectControllerTest {
         void shouldFilterProjectsByDateRange() throws Exception {
             // Given
             PageImpl<ProjectDTO> projectPage = new PageImpl<>(List.of(sampleProject));
-            when(projectService.listProjects(any(), any(LocalDate.class), any(LocalDate.class), any(), any(), any(Pageable.class)))
+            when(projectService.listProjects(any(), any(LocalDate.class), any(LocalDate.class), any(), any(), anyBoolean(), any(Pageable.class)))
                     .thenReturn(projectPage);
 
             // When & Then
@@ -143,7 +146,7 @@ class ProjectControllerTest {
                     any(),
                     eq(LocalDate.of(2024, 1, 1)),
                     eq(LocalDate.of(2024, 12, 31)),
-                    any(), any(), any(Pageable.class)
+                    any(), any(), anyBoolean(), any(Pageable.class)
             );
         }
 
@@ -152,7 +155,7 @@ class ProjectControllerTest {
         void shouldFilterProjectsByCodeAndName() throws Exception {
             // Given
             PageImpl<ProjectDTO> projectPage = new PageImpl<>(List.of(sampleProject));
-            when(projectService.listProjects(any(), any(), any(), eq("TEST"), eq("Project"), any(Pageable.class)))
+            when(projectService.listProjects(any(), any(), any(), eq("TEST"), eq("Project"), anyBoolean(), any(Pageable.class)))
                     .thenReturn(projectPage);
 
             // When & Then
@@ -161,7 +164,24 @@ class ProjectControllerTest {
                             .param("name", "Project"))
                     .andExpect(status().isOk());
 
-            verify(projectService).listProjects(any(), any(), any(), eq("TEST"), eq("Project"), any(Pageable.class));
+            verify(projectService).listProjects(any(), any(), any(), eq("TEST"), eq("Project"), anyBoolean(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should include descriptions only when asked for")
+        void shouldPassIncludeDescription() throws Exception {
+            // Given
+            PageImpl<ProjectDTO> projectPage = new PageImpl<>(List.of(sampleProject));
+            when(projectService.listProjects(any(), any(), any(), any(), any(), eq(true), any(Pageable.class)))
+                    .thenReturn(projectPage);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/projects")
+                            .param("includeDescription", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].description").value(sampleProject.getDescription()));
+
+            verify(projectService).listProjects(any(), any(), any(), any(), any(), eq(true), any(Pageable.class));
         }
     }
 
@@ -201,6 +221,51 @@ class ProjectControllerTest {
 
             verify(projectService).getProjectById(999L);
         }
+
+        @Test
+        @DisplayName("Should tag the project with its version")
+        void shouldTagProjectWithVersion() throws Exception {
+            // Given
+            sampleProject.setVersion(2L);
+            when(projectService.getProjectById(1L)).thenReturn(sampleProject);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/projects/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"2\""))
+                    .andExpect(header().string("Vary", "Accept"))
+                    .andExpect(jsonPath("$.version").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return 304 from the version alone when If-None-Match is current")
+        void shouldReturn304WhenIfNoneMatchIsCurrent() throws Exception {
+            // Given
+            when(projectService.getProjectVersion(1L)).thenReturn(Optional.of(2L));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/projects/1").header("If-None-Match", "W/\"2\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"2\""))
+                    .andExpect(header().string("Vary", "Accept"))
+                    .andExpect(content().string(""));
+
+            verify(projectService, never()).getProjectById(1L);
+        }
+
+        @Test
+        @DisplayName("Should return the project when If-None-Match is stale")
+        void shouldReturnProjectWhenIfNoneMatchIsStale() throws Exception {
+            // Given
+            sampleProject.setVersion(3L);
+            when(projectService.getProjectVersion(1L)).thenReturn(Optional.of(3L));
+            when(projectService.getProjectById(1L)).thenReturn(sampleProject);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/projects/1").header("If-None-Match", "\"2\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"3\""));
+        }
     }
 
     @Nested
@@ -221,7 +286,7 @@ class ProjectControllerTest {
                     .endDate(LocalDate.of(2024, 6, 30))
                     .build();
 
-            when(projectService.updateProject(eq(1L), any(ProjectDTO.class)))
+            when(projectService.updateProject(eq(1L), any(ProjectDTO.class), isNull()))
                     .thenReturn(updatedProject);
 
             // When & Then
@@ -233,7 +298,7 @@ class ProjectControllerTest {
                     .andExpect(jsonPath("$.code").value("UPDATED-2024"))
                     .andExpect(jsonPath("$.name").value("Updated Project"));
 
-            verify(projectService).updateProject(eq(1L), any(ProjectDTO.class));
+            verify(projectService).updateProject(eq(1L), any(ProjectDTO.class), isNull());
         }
 
         @Test
@@ -255,14 +320,14 @@ class ProjectControllerTest {
                     .andExpect(jsonPath("$.title").value("Validation Error"))
                     .andExpect(jsonPath("$.errors").isArray());
 
-            verify(projectService, never()).updateProject(any(), any());
+            verify(projectService, never()).updateProject(any(), any(), any());
         }
 
         @Test
         @DisplayName("Should return 409 for duplicate project code")
         void shouldReturn409ForDuplicateProjectCode() throws Exception {
             // Given
-            when(projectService.updateProject(eq(1L), any(ProjectDTO.class)))
+            when(projectService.updateProject(eq(1L), any(ProjectDTO.class), isNull()))
                     .thenThrow(new BusinessConflictException("Project with code 'TEST-2024' already exists"));
 
             // When & Then
@@ -273,7 +338,40 @@ class ProjectControllerTest {
                     .andExpect(jsonPath("$.title").value("Conflict"))
                     .andExpect(jsonPath("$.detail").value("Project with code 'TEST-2024' already exists"));
 
-            verify(projectService).updateProject(eq(1L), any(ProjectDTO.class));
+            verify(projectService).updateProject(eq(1L), any(ProjectDTO.class), isNull());
+        }
+
+        @Test
+        @DisplayName("Should pass If-Match through and tag the updated project")
+        void shouldPassIfMatchAndTagUpdatedProject() throws Exception {
+            // Given
+            ProjectDTO updatedProject = ProjectDTO.builder().id(1L).code("TEST-2024").name("Test Project").version(5L).build();
+            when(projectService.updateProject(eq(1L), any(ProjectDTO.class), eq("\"4\"")))
+                    .thenReturn(updatedProject);
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/projects/1")
+                            .header("If-Match", "\"4\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(sampleProject)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"5\""));
+        }
+
+        @Test
+        @DisplayName("Should return 412 when If-Match is stale")
+        void shouldReturn412WhenIfMatchIsStale() throws Exception {
+            // Given
+            when(projectService.updateProject(eq(1L), any(ProjectDTO.class), eq("\"3\"")))
+                    .thenThrow(new PreconditionFailedException("\"3\"", 4L));
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/projects/1")
+                            .header("If-Match", "\"3\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(sampleProject)))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.title").value("Project Changed"));
         }
     }
 
@@ -295,7 +393,7 @@ class ProjectControllerTest {
                     .endDate(LocalDate.of(2024, 6, 30))
                     .build();
 
-            when(projectService.patchProject(eq(1L), any(ProjectPatchDTO.class)))
+            when(projectService.patchProject(eq(1L), any(ProjectPatchDTO.class), isNull()))
                     .thenReturn(patchedProject);
 
             // When & Then
@@ -307,7 +405,7 @@ class ProjectControllerTest {
                     .andExpect(jsonPath("$.name").value("Updated Project Name"))
                     .andExpect(jsonPath("$.description").value("Updated description"));
 
-            verify(projectService).patchProject(eq(1L), any(ProjectPatchDTO.class));
+            verify(projectService).patchProject(eq(1L), any(ProjectPatchDTO.class), isNull());
         }
 
         @Test
@@ -325,7 +423,7 @@ class ProjectControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.title").value("Validation Error"));
 
-            verify(projectService, never()).patchProject(any(), any());
+            verify(projectService, never()).patchProject(any(), any(), any());
         }
     }
 
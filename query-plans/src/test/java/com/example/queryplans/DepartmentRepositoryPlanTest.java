@@ -0,0 +1,114 @@
+package com.example.queryplans;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+
+@DisplayName("DepartmentRepository query plans")
+class DepartmentRepositoryPlanTest extends QueryPlanTestSupport {
+
+    private static final String COLUMNS = "d1_0.id,d1_0.code,d1_0.description,d1_0.name,d1_0.version";
+    // DepartmentSummary constructor order
+    private static final String SUMMARY_COLUMNS = "d1_0.id,d1_0.name,d1_0.code,d1_0.description";
+    private static final String FILTERS = " where (? is null or lower(d1_0.name) like lower(('%'||?||'%')))"
+            + " and (? is null or lower(d1_0.code) like lower(('%'||?||'%')))";
+    private static final String FIND_WITH_FILTERS = "select " + SUMMARY_COLUMNS + " from department.departments d1_0" + FILTERS;
+    private static final String COUNT_WITH_FILTERS = "select count(d1_0.id) from department.departments d1_0" + FILTERS;
+
+    private static final Object NO_STRING = nullOf(Types.VARCHAR);
+
+    @Test
+    @DisplayName("findById")
+    void findById() throws Exception {
+        assertIndexed("department.findById",
+                "select " + COLUMNS + " from department.departments d1_0 where d1_0.id=?", 42L);
+    }
+
+    @Test
+    @DisplayName("findVersionById")
+    void findVersionById() throws Exception {
+        assertIndexed("department.findVersionById",
+                "select d1_0.version from department.departments d1_0 where d1_0.id=?", 42L);
+    }
+
+    @Test
+    @DisplayName("existsByName")
+    void existsByName() throws Exception {
+        assertIndexed("department.existsByName",
+                "select d1_0.id from department.departments d1_0 where d1_0.name=? fetch first ? rows only",
+                "Engineering 42", 1);
+    }
+
+    @Test
+    @DisplayName("existsByNameAndIdNot")
+    void existsByNameAndIdNot() throws Exception {
+        assertIndexed("department.existsByNameAndIdNot",
+                "select d1_0.id from department.departments d1_0 where d1_0.name=? and d1_0.id<>? fetch first ? rows only",
+                "Engineering 42", 42L, 1);
+    }
+
+    @Test
+    @DisplayName("existsByCode")
+    void existsByCode() throws Exception {
+        assertIndexed("department.existsByCode",
+                "select d1_0.id from department.departments d1_0 where d1_0.code=? fetch first ? rows only",
+                "ENG00042", 1);
+    }
+
+    @Test
+    @DisplayName("existsByCodeAndIdNot")
+    void existsByCodeAndIdNot() throws Exception {
+        assertIndexed("department.existsByCodeAndIdNot",
+                "select d1_0.id from department.departments d1_0 where d1_0.code=? and d1_0.id<>? fetch first ? rows only",
+                "ENG00042", 42L, 1);
+    }
+
+    @Test
+    @DisplayName("findByCode")
+    void findByCode() throws Exception {
+        assertIndexed("department.findByCode",
+                "select " + COLUMNS + " from department.departments d1_0 where d1_0.code=?", "ENG00042");
+    }
+
+    @Test
+    @DisplayName("findVersionByCode")
+    void findVersionByCode() throws Exception {
+        assertIndexed("department.findVersionByCode",
+                "select d1_0.version from department.departments d1_0 where d1_0.code=?", "ENG00042");
+    }
+
+    @Nested
+    @DisplayName("findWithFilters")
+    class FindWithFilters {
+
+        @Test
+        @DisplayName("by name fragment")
+        void byName() throws Exception {
+            assertIndexed("department.findWithFilters.name", FIND_WITH_FILTERS + " fetch first ? rows only",
+                    "engineering 12", "engineering 12", NO_STRING, NO_STRING, 20);
+            assertIndexed("department.findWithFilters.name.count", COUNT_WITH_FILTERS,
+                    "engineering 12", "engineering 12", NO_STRING, NO_STRING);
+        }
+
+        @Test
+        @DisplayName("by code fragment")
+        void byCode() throws Exception {
+            assertIndexed("department.findWithFilters.code", FIND_WITH_FILTERS + " fetch first ? rows only",
+                    NO_STRING, NO_STRING, "fin001", "fin001", 20);
+            assertIndexed("department.findWithFilters.code.count", COUNT_WITH_FILTERS,
+                    NO_STRING, NO_STRING, "fin001", "fin001");
+        }
+
+        @Test
+        @DisplayName("unfiltered, sorted by name")
+        void sortedByName() throws Exception {
+            assertIndexed("department.findWithFilters.sortedByName",
+                    FIND_WITH_FILTERS + " order by d1_0.name offset ? rows fetch first ? rows only",
+                    NO_STRING, NO_STRING, NO_STRING, NO_STRING, 100, 20);
+            assertFullScan("department.findWithFilters.unfiltered.count", COUNT_WITH_FILTERS,
+                    NO_STRING, NO_STRING, NO_STRING, NO_STRING);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.queryplans;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+
+@DisplayName("EmployeeRepository query plans")
+class EmployeeRepositoryPlanTest extends QueryPlanTestSupport {
+
+    private static final String COLUMNS = "e1_0.id,e1_0.department_id,e1_0.email,e1_0.first_name,e1_0.last_name,e1_0.version";
+    // EmployeeSummary constructor order
+    private static final String SUMMARY_COLUMNS = "e1_0.id,e1_0.first_name,e1_0.last_name,e1_0.email,e1_0.department_id";
+    private static final String FILTERS = " where (? is null or lower(e1_0.email)=lower(cast(? as varchar)))"
+            + " and (? is null or lower(e1_0.last_name) like lower(('%'||cast(? as varchar)||'%')))"
+            + " and (? is null or e1_0.department_id=?)";
+    private static final String FIND_WITH_FILTERS = "select " + SUMMARY_COLUMNS + " from employee.employees e1_0" + FILTERS;
+    private static final String COUNT_WITH_FILTERS = "select count(e1_0.id) from employee.employees e1_0" + FILTERS;
+
+    private static final Object NO_STRING = nullOf(Types.VARCHAR);
+    private static final Object NO_ID = nullOf(Types.BIGINT);
+
+    @Test
+    @DisplayName("findById")
+    void findById() throws Exception {
+        assertIndexed("employee.findById",
+                "select " + COLUMNS + " from employee.employees e1_0 where e1_0.id=?", 4711L);
+    }
+
+    @Test
+    @DisplayName("findVersionById")
+    void findVersionById() throws Exception {
+        assertIndexed("employee.findVersionById",
+                "select e1_0.version from employee.employees e1_0 where e1_0.id=?", 4711L);
+    }
+
+    @Test
+    @DisplayName("existsByEmail")
+    void existsByEmail() throws Exception {
+        assertIndexed("employee.existsByEmail",
+                "select e1_0.id from employee.employees e1_0 where e1_0.email=? fetch first ? rows only",
+                "grace.schmidtwood.4711@example.com", 1);
+    }
+
+    @Test
+    @DisplayName("existsByEmailAndIdNot")
+    void existsByEmailAndIdNot() throws Exception {
+        assertIndexed("employee.existsByEmailAndIdNot",
+                "select e1_0.id from employee.employees e1_0 where e1_0.email=? and e1_0.id<>? fetch first ? rows only",
+                "grace.schmidtwood.4711@example.com", 4711L, 1);
+    }
+
+    @Test
+    @DisplayName("searchByNameOrEmail")
+    void searchByNameOrEmail() throws Exception {
+        assertIndexed("employee.searchByNameOrEmail",
+                "select " + COLUMNS + " from employee.employees e1_0"
+                        + " where lower(e1_0.first_name) like lower(('%'||?||'%'))"
+                        + " or lower(e1_0.last_name) like lower(('%'||?||'%'))"
+                        + " or lower(e1_0.email) like lower(('%'||?||'%'))",
+                "kowalskiho", "kowalskiho", "kowalskiho");
+    }
+
+    @Test
+    @DisplayName("countByDepartmentId")
+    void countByDepartmentId() throws Exception {
+        assertIndexed("employee.countByDepartmentId",
+                "select count(e1_0.id) from employee.employees e1_0 where e1_0.department_id=?", 42L);
+    }
+
+    @Test
+    @DisplayName("countByDepartment")
+    void countByDepartment() throws Exception {
+        assertFullScan("employee.countByDepartment",
+                "select e1_0.department_id,count(e1_0.id) from employee.employees e1_0 group by e1_0.department_id");
+    }
+
+    @Test
+    @DisplayName("countDistinctDepartments")
+    void countDistinctDepartments() throws Exception {
+        assertFullScan("employee.countDistinctDepartments",
+                "select count(distinct e1_0.department_id) from employee.employees e1_0 where e1_0.department_id is not null");
+    }
+
+    @Nested
+    @DisplayName("findWithFilters")
+    class FindWithFilters {
+
+        @Test
+        @DisplayName("by email, ignoring case")
+        void byEmail() throws Exception {
+            assertIndexed("employee.findWithFilters.email", FIND_WITH_FILTERS + " fetch first ? rows only",
+                    "Grace.Schmidtwood.4711@example.com", "Grace.Schmidtwood.4711@example.com",
+                    NO_STRING, NO_STRING, NO_ID, NO_ID, 20);
+        }
+
+        @Test
+        @DisplayName("by last name fragment")
+        void byLastName() throws Exception {
+            assertIndexed("employee.findWithFilters.lastName", FIND_WITH_FILTERS + " fetch first ? rows only",
+                    NO_STRING, NO_STRING, "kowalskiho", "kowalskiho", NO_ID, NO_ID, 20);
+            assertIndexed("employee.findWithFilters.lastName.count", COUNT_WITH_FILTERS,
+                    NO_STRING, NO_STRING, "kowalskiho", "kowalskiho", NO_ID, NO_ID);
+        }
+
+        @Test
+        @DisplayName("by department")
+        void byDepartment() throws Exception {
+            assertIndexed("employee.findWithFilters.department", FIND_WITH_FILTERS + " fetch first ? rows only",
+                    NO_STRING, NO_STRING, NO_STRING, NO_STRING, 42L, 42L, 20);
+            assertIndexed("employee.findWithFilters.department.count", COUNT_WITH_FILTERS,
+                    NO_STRING, NO_STRING, NO_STRING, NO_STRING, 42L, 42L);
+        }
+
+        @Test
+        @DisplayName("unfiltered, sorted by last name")
+        void sortedByLastName() throws Exception {
+            assertIndexed("employee.findWithFilters.sortedByLastName",
+                    FIND_WITH_FILTERS + " order by e1_0.last_name offset ? rows fetch first ? rows only",
+                    NO_STRING, NO_STRING, NO_STRING, NO_STRING, NO_ID, NO_ID, 200, 20);
+            assertFullScan("employee.findWithFilters.unfiltered.count", COUNT_WITH_FILTERS,
+                    NO_STRING, NO_STRING, NO_STRING, NO_STRING, NO_ID, NO_ID);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.queryplans;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Planner cost of every checked query, keyed by query name, in {@code plan-costs.properties}. Costs only
+ * depend on the plan and the table statistics, so with the fixed seed they are stable across machines.
+ * With {@code -Dqueryplans.updateBaseline=true} the file is rewritten from the current plans instead.
+ */
+final class PlanBaseline {
+
+    private static final Path FILE = Path.of(System.getProperty("queryplans.baselineFile",
+            "src/test/resources/plan-costs.properties"));
+    private static final Map<String, Double> COSTS = load();
+
+    private PlanBaseline() {
+    }
+
+    static boolean updating() {
+        return Boolean.getBoolean("queryplans.updateBaseline");
+    }
+
+    static synchronized OptionalDouble cost(String query) {
+        Double cost = COSTS.get(query);
+        return cost == null ? OptionalDouble.empty() : OptionalDouble.of(cost);
+    }
+
+    static synchronized void record(String query, double cost) {
+        COSTS.put(query, cost);
+        List<String> lines = new ArrayList<>();
+        lines.add("# Planner total cost per repository query; refresh with -Dqueryplans.updateBaseline=true");
+        COSTS.forEach((name, value) -> lines.add(name + "=" + String.format("%.2f", value)));
+        try {
+            Files.write(FILE, lines);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Map<String, Double> load() {
+        Map<String, Double> costs = new TreeMap<>();
+        if (Files.exists(FILE)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(FILE)) {
+                properties.load(reader);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            properties.forEach((name, value) -> costs.put((String) name, Double.parseDouble((String) value)));
+        }
+        return costs;
+    }
+}
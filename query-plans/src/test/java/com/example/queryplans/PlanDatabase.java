@@ -0,0 +1,71 @@
+package com.example.queryplans;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * One embedded Postgres for the whole suite, migrated with each service's own Flyway scripts (read from
+ * the service modules, with the schema and history table settings of the service files) and seeded by
+ * {@link PlanSeeder}. Started by the first test class that needs it and stopped when the JVM exits.
+ */
+final class PlanDatabase {
+
+    private static final Logger log = LoggerFactory.getLogger(PlanDatabase.class);
+
+    private static DataSource dataSource;
+
+    private PlanDatabase() {
+    }
+
+    static synchronized DataSource get() {
+        if (dataSource == null) {
+            dataSource = start();
+        }
+        return dataSource;
+    }
+
+    private static DataSource start() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ex) {
+                    log.warn("Could not stop embedded Postgres: {}", ex.getMessage());
+                }
+            }));
+            DataSource database = postgres.getPostgresDatabase();
+            Path root = Path.of(System.getProperty("queryplans.migrationsRoot", ".."));
+            migrate(database, root.resolve("employee-service"), "employee", "flyway_schema_history_employees");
+            migrate(database, root.resolve("department-service"), "department", "flyway_schema_history_departments");
+            migrate(database, root.resolve("project-service"), "project", "flyway_schema_history_projects");
+            new PlanSeeder(database).seed();
+            return database;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Seeding the query plan database failed", ex);
+        }
+    }
+
+    private static void migrate(DataSource database, Path module, String schema, String table) {
+        Path migrations = module.resolve("src/main/resources/db/migration").toAbsolutePath().normalize();
+        Flyway.configure()
+                .dataSource(database)
+                .locations("filesystem:" + migrations)
+                .schemas(schema)
+                .defaultSchema(schema)
+                .table(table)
+                .createSchemas(true)
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.queryplans;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Production-sized data on top of the Flyway seeds, generated from a fixed seed so every run plans
+ * against the same dataset. Sizes come from the {@code queryplans.*} system properties.
+ */
+final class PlanSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(PlanSeeder.class);
+
+    private static final String[] FIRST_NAMES = {
+            "Alice", "Bob", "Carla", "David", "Elena", "Farid", "Grace", "Hiro", "Ines", "Jonas",
+            "Kemal", "Lena", "Marco", "Nadia", "Oscar", "Priya", "Quinn", "Rosa", "Sven", "Tara"};
+    private static final String[] SURNAME_STEMS = {
+            "Nguyen", "Martinez", "Singh", "Kowalski", "Okafor", "Tanaka", "Schmidt", "Rossi", "Dubois", "Silva",
+            "Novak", "Haddad", "Larsen", "Moreau", "Petrov", "Yilmaz", "Costa", "Fischer", "Ito", "Brennan"};
+    private static final String[] SURNAME_SUFFIXES = {
+            "berg", "field", "ley", "man", "ova", "stone", "ton", "wood", "worth",
+            "ford", "hill", "lund", "mark", "quist", "rud", "sen", "shaw", "well", "win", "dale", "gard", "holm", "ridge", "by"};
+    private static final String[] DEPARTMENT_AREAS = {
+            "Engineering", "Finance", "Marketing", "Sales", "Support", "Legal", "Operations", "Research"};
+    private static final String[] ROLES = {"Developer", "Tester", "Architect", "Analyst", "Designer", "Manager"};
+    private static final String[] STATUSES = {"PLANNED", "ACTIVE", "ACTIVE", "ACTIVE", "ON_HOLD", "COMPLETED"};
+
+    private final DataSource dataSource;
+    private final Random random = new Random(42);
+
+    PlanSeeder(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    void seed() throws SQLException {
+        int departments = Integer.getInteger("queryplans.departments", 2_000);
+        int employees = Integer.getInteger("queryplans.employees", 100_000);
+        int projects = Integer.getInteger("queryplans.projects", 5_000);
+        int membersPerProject = Integer.getInteger("queryplans.membersPerProject", 20);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            insertDepartments(connection, departments);
+            List<Long> departmentIds = ids(connection, "SELECT id FROM department.departments");
+            insertEmployees(connection, employees, departmentIds);
+            List<Long> employeeIds = ids(connection, "SELECT id FROM employee.employees");
+            insertProjects(connection, projects);
+            List<Long> projectIds = ids(connection, "SELECT id FROM project.projects");
+            insertMembers(connection, projectIds, employeeIds, membersPerProject);
+            connection.commit();
+
+            try (Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                // Large enough for ANALYZE to read every row instead of a random sample, so the statistics,
+                // and with them the plan costs, come out the same on every run
+                statement.execute("SET default_statistics_target = 1000");
+                statement.execute("VACUUM ANALYZE");
+            }
+            log.info("Seeded {} departments, {} employees, {} projects x {} members", departmentIds.size(),
+                    employeeIds.size(), projectIds.size(), membersPerProject);
+        }
+    }
+
+    private void insertDepartments(Connection connection, int count) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO department.departments (name, description, code) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                String area = DEPARTMENT_AREAS[random.nextInt(DEPARTMENT_AREAS.length)];
+                insert.setString(1, area + " " + i);
+                insert.setString(2, area + " department " + i);
+                insert.setString(3, String.format("%s%05d", area.substring(0, 3).toUpperCase(), i));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void insertEmployees(Connection connection, int count, List<Long> departmentIds) throws SQLException {
+        List<String> lastNames = new ArrayList<>(SURNAME_STEMS.length * SURNAME_SUFFIXES.length);
+        for (String stem : SURNAME_STEMS) {
+            for (String suffix : SURNAME_SUFFIXES) {
+                lastNames.add(stem + suffix);
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO employee.employees (first_name, last_name, email, department_id) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String lastName = lastNames.get(random.nextInt(lastNames.size()));
+                insert.setString(1, firstName);
+                insert.setString(2, lastName);
+                insert.setString(3, (firstName + "." + lastName + "." + i + "@example.com").toLowerCase());
+                insert.setLong(4, departmentIds.get(random.nextInt(departmentIds.size())));
+                insert.addBatch();
+                if (i % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void insertProjects(Connection connection, int count) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO project.projects (code, name, description, status, start_date, end_date) VALUES (?, ?, ?, ?, ?, ?)")) {
+            LocalDate start = LocalDate.of(2020, 1, 1);
+            for (int i = 1; i <= count; i++) {
+                LocalDate startDate = start.plusDays(random.nextInt(5 * 365));
+                insert.setString(1, String.format("PRJ-%05d", i));
+                insert.setString(2, "Project " + SURNAME_STEMS[random.nextInt(SURNAME_STEMS.length)] + " " + i);
+                insert.setString(3, "Generated project " + i);
+                insert.setString(4, STATUSES[random.nextInt(STATUSES.length)]);
+                insert.setDate(5, Date.valueOf(startDate));
+                insert.setDate(6, Date.valueOf(startDate.plusDays(30 + random.nextInt(365))));
+                insert.addBatch();
+                if (i % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void insertMembers(Connection connection, List<Long> projectIds, List<Long> employeeIds,
+                               int membersPerProject) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO project.project_members (project_id, employee_id, role, allocation_percent, assigned_at) "
+                        + "VALUES (?, ?, ?, ?, now() - make_interval(days => ?)) ON CONFLICT DO NOTHING")) {
+            for (Long projectId : projectIds) {
+                for (int i = 0; i < membersPerProject; i++) {
+                    insert.setLong(1, projectId);
+                    insert.setLong(2, employeeIds.get(random.nextInt(employeeIds.size())));
+                    insert.setString(3, ROLES[random.nextInt(ROLES.length)]);
+                    insert.setInt(4, 10 + random.nextInt(10) * 10);
+                    insert.setInt(5, random.nextInt(1000));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private static List<Long> ids(Connection connection, String query) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery(query)) {
+            while (rows.next()) {
+                ids.add(rows.getLong(1));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.queryplans;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+@DisplayName("ProjectMemberRepository query plans")
+class ProjectMemberRepositoryPlanTest extends QueryPlanTestSupport {
+
+    private static final String COLUMNS = "pm1_0.id,pm1_0.allocation_percent,pm1_0.assigned_at,pm1_0.employee_id,pm1_0.project_id,pm1_0.role";
+
+    @Test
+    @DisplayName("findByProject_Id")
+    void findByProjectId() throws Exception {
+        // @PageableDefault(size = 50, sort = "assignedAt") on the controller
+        assertIndexed("projectMember.findByProject_Id",
+                "select " + COLUMNS + " from project.project_members pm1_0 where pm1_0.project_id=?"
+                        + " order by pm1_0.assigned_at fetch first ? rows only", 42L, 50);
+    }
+
+    @Test
+    @DisplayName("countByProject_Id")
+    void countByProjectId() throws Exception {
+        assertIndexed("projectMember.countByProject_Id",
+                "select count(pm1_0.id) from project.project_members pm1_0 where pm1_0.project_id=?", 42L);
+    }
+
+    // Also the lookup deleteByProject_IdAndEmployeeId runs before deleting
+    @Test
+    @DisplayName("findByProject_IdAndEmployeeId")
+    void findByProjectIdAndEmployeeId() throws Exception {
+        assertIndexed("projectMember.findByProject_IdAndEmployeeId",
+                "select " + COLUMNS + " from project.project_members pm1_0 where pm1_0.project_id=? and pm1_0.employee_id=?",
+                42L, 4711L);
+    }
+
+    @Test
+    @DisplayName("existsByProject_IdAndEmployeeId")
+    void existsByProjectIdAndEmployeeId() throws Exception {
+        assertIndexed("projectMember.existsByProject_IdAndEmployeeId",
+                "select pm1_0.id from project.project_members pm1_0 where pm1_0.project_id=? and pm1_0.employee_id=?"
+                        + " fetch first ? rows only", 42L, 4711L, 1);
+    }
+
+    @Test
+    @DisplayName("findEmployeeIdsByProjectId")
+    void findEmployeeIdsByProjectId() throws Exception {
+        assertIndexed("projectMember.findEmployeeIdsByProjectId",
+                "select pm1_0.employee_id from project.project_members pm1_0 where pm1_0.project_id=?", 42L);
+    }
+
+    @Test
+    @DisplayName("findSummariesByProjectIds")
+    void findSummariesByProjectIds() throws Exception {
+        // The members of one listing page of 20 projects
+        Object[] projectIds = LongStream.rangeClosed(41, 60).boxed().toArray();
+        assertIndexed("projectMember.findSummariesByProjectIds",
+                "select pm1_0.id,pm1_0.project_id,pm1_0.employee_id,pm1_0.role,pm1_0.allocation_percent,pm1_0.assigned_at"
+                        + " from project.project_members pm1_0 where pm1_0.project_id in (" + "?,".repeat(19) + "?)"
+                        + " order by pm1_0.id", projectIds);
+    }
+
+    @Test
+    @DisplayName("deleteByProject_Id")
+    void deleteByProjectId() throws Exception {
+        // Derived deletes load the members first, then remove them one by one
+        assertIndexed("projectMember.deleteByProject_Id.select",
+                "select " + COLUMNS + " from project.project_members pm1_0 where pm1_0.project_id=?", 42L);
+        assertIndexed("projectMember.deleteByProject_Id.delete",
+                "delete from project.project_members where id=?", 4711L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.queryplans;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.time.LocalDate;
+
+@DisplayName("ProjectRepository query plans")
+class ProjectRepositoryPlanTest extends QueryPlanTestSupport {
+
+    private static final String COLUMNS = "p1_0.id,p1_0.code,p1_0.description,p1_0.end_date,p1_0.name,p1_0.start_date,p1_0.status,p1_0.version";
+    // ProjectSummary constructor order, description only when the caller asks for it
+    private static final String SUMMARY_COLUMNS = "p1_0.id,p1_0.code,p1_0.name,p1_0.status,p1_0.start_date,p1_0.end_date";
+    private static final String DESCRIBED_COLUMNS = "p1_0.id,p1_0.code,p1_0.name,p1_0.description,p1_0.status,p1_0.start_date,p1_0.end_date";
+    private static final String FILTERS = " where (? is null or p1_0.status=?)"
+            + " and (? is null or p1_0.start_date>=?)"
+            + " and (? is null or p1_0.end_date<=?)"
+            + " and (? is null or upper(cast(p1_0.code as varchar))=upper(cast(? as varchar)))"
+            + " and (? is null or upper(cast(p1_0.name as varchar)) like upper(('%'||cast(? as varchar)||'%')))";
+    // @PageableDefault(size = 20, sort = "id") on the controller
+    private static final String FIND_WITH_FILTERS = "select " + SUMMARY_COLUMNS + " from project.projects p1_0" + FILTERS
+            + " order by p1_0.id fetch first ? rows only";
+    private static final String FIND_DESCRIBED_WITH_FILTERS = "select " + DESCRIBED_COLUMNS + " from project.projects p1_0"
+            + FILTERS + " order by p1_0.id fetch first ? rows only";
+    private static final String COUNT_WITH_FILTERS = "select count(p1_0.id) from project.projects p1_0" + FILTERS;
+
+    private static final Object NO_STRING = nullOf(Types.VARCHAR);
+    private static final Object NO_DATE = nullOf(Types.DATE);
+
+    @Test
+    @DisplayName("findById")
+    void findById() throws Exception {
+        assertIndexed("project.findById",
+                "select " + COLUMNS + " from project.projects p1_0 where p1_0.id=?", 42L);
+    }
+
+    @Test
+    @DisplayName("findVersionById")
+    void findVersionById() throws Exception {
+        assertIndexed("project.findVersionById",
+                "select p1_0.version from project.projects p1_0 where p1_0.id=?", 42L);
+    }
+
+    @Test
+    @DisplayName("findCodeById")
+    void findCodeById() throws Exception {
+        assertIndexed("project.findCodeById",
+                "select p1_0.code from project.projects p1_0 where p1_0.id=?", 42L);
+    }
+
+    @Test
+    @DisplayName("existsByCodeAndIdNot")
+    void existsByCodeAndIdNot() throws Exception {
+        assertIndexed("project.existsByCodeAndIdNot",
+                "select p1_0.id from project.projects p1_0 where p1_0.code=? and p1_0.id<>? fetch first ? rows only",
+                "PRJ-00042", 42L, 1);
+    }
+
+    @Test
+    @DisplayName("countByStatus")
+    void countByStatus() throws Exception {
+        assertFullScan("project.countByStatus",
+                "select p1_0.status,count(p1_0.id) from project.projects p1_0 group by p1_0.status order by p1_0.status");
+    }
+
+    @Test
+    @DisplayName("countByStartMonth")
+    void countByStartMonth() throws Exception {
+        assertFullScan("project.countByStartMonth",
+                "select to_char(p1_0.start_date,'YYYY-MM'),count(p1_0.id) from project.projects p1_0"
+                        + " where p1_0.start_date is not null"
+                        + " group by to_char(p1_0.start_date,'YYYY-MM') order by min(p1_0.start_date) desc");
+    }
+
+    @Nested
+    @DisplayName("findProjectsWithFilters")
+    class FindProjectsWithFilters {
+
+        @Test
+        @DisplayName("unfiltered")
+        void unfiltered() throws Exception {
+            assertIndexed("project.findProjectsWithFilters.unfiltered", FIND_WITH_FILTERS,
+                    NO_STRING, NO_STRING, NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_STRING, NO_STRING, NO_STRING, NO_STRING, 20);
+            assertFullScan("project.findProjectsWithFilters.unfiltered.count", COUNT_WITH_FILTERS,
+                    NO_STRING, NO_STRING, NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_STRING, NO_STRING, NO_STRING, NO_STRING);
+        }
+
+        @Test
+        @DisplayName("unfiltered, with descriptions")
+        void unfilteredDescribed() throws Exception {
+            assertIndexed("project.findDescribedProjectsWithFilters.unfiltered", FIND_DESCRIBED_WITH_FILTERS,
+                    NO_STRING, NO_STRING, NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_STRING, NO_STRING, NO_STRING, NO_STRING, 20);
+        }
+
+        @Test
+        @DisplayName("by code, ignoring case")
+        void byCode() throws Exception {
+            assertIndexed("project.findProjectsWithFilters.code", FIND_WITH_FILTERS,
+                    NO_STRING, NO_STRING, NO_DATE, NO_DATE, NO_DATE, NO_DATE, "prj-00042", "prj-00042", NO_STRING, NO_STRING, 20);
+        }
+
+        @Test
+        @DisplayName("by name fragment")
+        void byName() throws Exception {
+            assertIndexed("project.findProjectsWithFilters.name", FIND_WITH_FILTERS,
+                    NO_STRING, NO_STRING, NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_STRING, NO_STRING, "okafor 12", "okafor 12", 20);
+            assertIndexed("project.findProjectsWithFilters.name.count", COUNT_WITH_FILTERS,
+                    NO_STRING, NO_STRING, NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_STRING, NO_STRING, "okafor 12", "okafor 12");
+        }
+
+        @Test
+        @DisplayName("by start date range")
+        void byStartDate() throws Exception {
+            LocalDate from = LocalDate.of(2024, 6, 1);
+            assertIndexed("project.findProjectsWithFilters.from.count", COUNT_WITH_FILTERS,
+                    NO_STRING, NO_STRING, from, from, NO_DATE, NO_DATE, NO_STRING, NO_STRING, NO_STRING, NO_STRING);
+        }
+
+        @Test
+        @DisplayName("by status")
+        void byStatus() throws Exception {
+            assertIndexed("project.findProjectsWithFilters.status.count", COUNT_WITH_FILTERS,
+                    "ON_HOLD", "ON_HOLD", NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_STRING, NO_STRING, NO_STRING, NO_STRING);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.queryplans;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The parts of an {@code EXPLAIN (FORMAT JSON)} result the suite checks. Buffers and execution time are
+ * only present when the plan was explained with {@code ANALYZE, BUFFERS}.
+ */
+record QueryPlan(double totalCost, long sharedBuffers, double executionMillis, List<String> seqScans, String json) {
+
+    static QueryPlan parse(JsonNode explain) {
+        JsonNode root = explain.get(0);
+        JsonNode plan = root.get("Plan");
+        List<String> seqScans = new ArrayList<>();
+        collectSeqScans(plan, seqScans);
+        return new QueryPlan(
+                plan.get("Total Cost").asDouble(),
+                plan.path("Shared Hit Blocks").asLong() + plan.path("Shared Read Blocks").asLong(),
+                root.path("Execution Time").asDouble(),
+                seqScans,
+                explain.toPrettyString());
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            seqScans.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, seqScans);
+        }
+    }
+}
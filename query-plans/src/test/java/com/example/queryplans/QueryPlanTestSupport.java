@@ -0,0 +1,117 @@
+package com.example.queryplans;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.OptionalDouble;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Explains the SQL Hibernate generates for a repository method against the seeded database. Every query
+ * is explained twice, inside a transaction that is rolled back so deletes leave the data alone:
+ * <ul>
+ *     <li>{@code EXPLAIN (ANALYZE, BUFFERS)} with default planner settings. Its total cost has to stay
+ *     within {@code queryplans.costTolerance} of the baseline.</li>
+ *     <li>{@code EXPLAIN} with {@code enable_seqscan} off, for queries that should be served by an index.
+ *     Postgres still picks a sequential scan when no index applies, so a seq scan here means a missing
+ *     index, while a small table that is rightly scanned in the first plan does not fail the check.</li>
+ * </ul>
+ * The SQL is kept as Hibernate renders it for PostgreSQL, so a change to a repository query has to be
+ * mirrored here.
+ */
+abstract class QueryPlanTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanTestSupport.class);
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final double COST_TOLERANCE = Double.parseDouble(System.getProperty("queryplans.costTolerance", "0.25"));
+    private static final Path OUTPUT_DIR = Path.of(System.getProperty("queryplans.outputDir", "target/query-plans"));
+
+    private final DataSource dataSource = PlanDatabase.get();
+
+    protected static Object nullOf(int sqlType) {
+        return new TypedNull(sqlType);
+    }
+
+    // Selective queries: an index has to be able to serve them
+    protected void assertIndexed(String query, String sql, Object... params) throws Exception {
+        QueryPlan plan = check(query, sql, params);
+        QueryPlan withoutSeqScans = explainWithoutSeqScans(sql, params);
+        assertThat(withoutSeqScans.seqScans())
+                .as("%s has no index for %s:%n%s", query, withoutSeqScans.seqScans(), plan.json())
+                .isEmpty();
+    }
+
+    // Whole-table aggregates and unfiltered counts read every row by design, only the cost is checked
+    protected void assertFullScan(String query, String sql, Object... params) throws Exception {
+        check(query, sql, params);
+    }
+
+    private QueryPlan check(String query, String sql, Object... params) throws Exception {
+        QueryPlan plan = explain("ANALYZE, BUFFERS, FORMAT JSON", false, sql, params);
+        Files.createDirectories(OUTPUT_DIR);
+        Files.writeString(OUTPUT_DIR.resolve(query + ".json"), plan.json());
+        log.info("{}: cost {}, {} shared buffers, {} ms", query, plan.totalCost(), plan.sharedBuffers(),
+                plan.executionMillis());
+
+        if (PlanBaseline.updating()) {
+            PlanBaseline.record(query, plan.totalCost());
+            return plan;
+        }
+        OptionalDouble baseline = PlanBaseline.cost(query);
+        assertThat(baseline)
+                .as("No baseline cost for %s, run with -Dqueryplans.updateBaseline=true", query)
+                .isPresent();
+        assertThat(plan.totalCost())
+                .as("%s cost %.2f exceeds the baseline %.2f by more than %.0f%%:%n%s", query, plan.totalCost(),
+                        baseline.getAsDouble(), COST_TOLERANCE * 100, plan.json())
+                .isLessThanOrEqualTo(baseline.getAsDouble() * (1 + COST_TOLERANCE));
+        return plan;
+    }
+
+    private QueryPlan explainWithoutSeqScans(String sql, Object... params) throws SQLException, IOException {
+        return explain("FORMAT JSON", true, sql, params);
+    }
+
+    private QueryPlan explain(String options, boolean disableSeqScan, String sql, Object... params)
+            throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (disableSeqScan) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("SET LOCAL enable_seqscan = off");
+                    }
+                }
+                try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (" + options + ") " + sql)) {
+                    for (int i = 0; i < params.length; i++) {
+                        if (params[i] instanceof TypedNull typedNull) {
+                            statement.setNull(i + 1, typedNull.sqlType());
+                        } else {
+                            statement.setObject(i + 1, params[i]);
+                        }
+                    }
+                    try (ResultSet result = statement.executeQuery()) {
+                        result.next();
+                        return QueryPlan.parse(JSON.readTree(result.getString(1)));
+                    }
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private record TypedNull(int sqlType) {
+    }
+}